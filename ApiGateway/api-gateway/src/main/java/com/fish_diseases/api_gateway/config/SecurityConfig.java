@@ -61,19 +61,40 @@ public class SecurityConfig {
                 .pathMatchers(HttpMethod.DELETE,"/auth-service/users/{userId}").hasAuthority("ROLE_ADMIN")
                     
                 // Endpoints de Parasites
-                .pathMatchers(HttpMethod.GET, "/biodata-service/parasites", "/biodata-service/parasites/{parasiteId}", "/biodata-service/parasites/sn/{scientificName}").permitAll()
+                .pathMatchers(HttpMethod.GET, "/biodata-service/parasites/export").hasAuthority("ROLE_ADMIN")
+                .pathMatchers(HttpMethod.GET, "/biodata-service/parasites", "/biodata-service/parasites/{parasiteId}", "/biodata-service/parasites/sn/{scientificName}", "/biodata-service/parasites/search", "/biodata-service/parasites/suggest").permitAll()
                 .pathMatchers(HttpMethod.GET, "/biodata-service/parasites/fetch/{scientificName}").hasAuthority("ROLE_ADMIN")
+                .pathMatchers(HttpMethod.POST, "/biodata-service/parasites/fetch/batch").hasAuthority("ROLE_ADMIN")
+                .pathMatchers(HttpMethod.POST, "/biodata-service/parasites/import").hasAuthority("ROLE_ADMIN")
                 .pathMatchers(HttpMethod.POST, "/biodata-service/parasites").hasAuthority("ROLE_ADMIN")
                 .pathMatchers(HttpMethod.PATCH, "/biodata-service/parasites/{scientificName}").hasAuthority("ROLE_ADMIN")
                 .pathMatchers(HttpMethod.DELETE, "/biodata-service/parasites/{scientificName}").hasAuthority("ROLE_ADMIN")
                 
                 // Endpoints de Fishes
-                .pathMatchers(HttpMethod.GET, "/biodata-service/fishes", "/biodata-service/fishes/{fishId}", "/biodata-service/fishes/sn/{scientificName}").permitAll()
+                .pathMatchers(HttpMethod.GET, "/biodata-service/fishes/export").hasAuthority("ROLE_ADMIN")
+                .pathMatchers(HttpMethod.GET, "/biodata-service/fishes", "/biodata-service/fishes/{fishId}", "/biodata-service/fishes/sn/{scientificName}", "/biodata-service/fishes/suggest").permitAll()
                 .pathMatchers(HttpMethod.GET, "/biodata-service/fishes/fetch/{scientificName}").hasAuthority("ROLE_ADMIN")
+                .pathMatchers(HttpMethod.POST, "/biodata-service/fishes/fetch/batch").hasAuthority("ROLE_ADMIN")
+                .pathMatchers(HttpMethod.POST, "/biodata-service/fishes/import").hasAuthority("ROLE_ADMIN")
                 .pathMatchers(HttpMethod.POST, "/biodata-service/fishes").hasAuthority("ROLE_ADMIN")
                 .pathMatchers(HttpMethod.PATCH, "/biodata-service/fishes/{scientificName}").hasAuthority("ROLE_ADMIN")
                 .pathMatchers(HttpMethod.DELETE, "/biodata-service/fishes/{scientificName}").hasAuthority("ROLE_ADMIN")
                 
+                // Endpoints de Taxonomy
+                .pathMatchers(HttpMethod.GET, "/biodata-service/taxonomy/stats").permitAll()
+                
+                // Endpoints de Graph
+                .pathMatchers(HttpMethod.GET, "/biodata-service/graph/fishes/{scientificName}/{relation}", "/biodata-service/graph/parasites/{scientificName}/{relation}").permitAll()
+                
+                // Endpoints de Changes
+                .pathMatchers(HttpMethod.GET, "/biodata-service/changes").permitAll()
+                
+                // Endpoints de Enrichment
+                .pathMatchers(HttpMethod.GET, "/biodata-service/enrichment/{taskId}").hasAuthority("ROLE_ADMIN")
+                
+                // Endpoints de Changes de Treatment Service
+                .pathMatchers(HttpMethod.GET, "/treatment-service/changes").hasAnyAuthority("ROLE_TREATMENT", "ROLE_ADMIN")
+                
                 // Endpoints de Treatments
                 .pathMatchers(HttpMethod.GET, "/treatment-service/treatments", "/treatment-service/treatments/{id}", "/treatment-service/treatments/name/{treatmentName}").hasAnyAuthority("ROLE_TREATMENT", "ROLE_ADMIN")
                 .pathMatchers(HttpMethod.POST, "/treatment-service/treatments").hasAuthority("ROLE_ADMIN")
@@ -1,27 +1,91 @@
 package com.fish_diseases.biodata_service;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
 /**
  * Clase de configuración que carga las propiedades desde el archivo
  * `messages.properties`para ser utilizadas en toda la aplicación.
+ * También habilita la ejecución de tareas programadas.
  */
 @Configuration
+@EnableScheduling
 @PropertySource("classpath:messages.properties")
 public class AppConfig {
 
     /**
-     * Crea y configura un bean {@link WebClient} con la URL base de WoRMS.
+     * Crea el pool de conexiones dedicado a WoRMS. Las conexiones inactivas se cierran en segundo
+     * plano y el pool publica sus métricas de ocupación (conexiones activas, inactivas y pendientes)
+     * con el prefijo {@code reactor.netty.connection.provider}.
+     *
+     * @param maxConnections         Número máximo de conexiones abiertas.
+     * @param pendingAcquireMaxCount Número máximo de peticiones en espera de una conexión.
+     * @param pendingAcquireTimeout  Tiempo máximo de espera para obtener una conexión.
+     * @param maxIdleTime            Tiempo máximo que una conexión puede permanecer inactiva.
+     * @param maxLifeTime            Tiempo máximo de vida de una conexión.
+     * @param evictionInterval       Intervalo de la limpieza en segundo plano de conexiones caducadas.
+     * @return el {@link ConnectionProvider} de WoRMS.
+     */
+    @Bean(destroyMethod = "dispose")
+    ConnectionProvider wormsConnectionProvider(
+            @Value("${worms.client.max-connections:16}") int maxConnections,
+            @Value("${worms.client.pending-acquire-max-count:256}") int pendingAcquireMaxCount,
+            @Value("${worms.client.pending-acquire-timeout:5s}") Duration pendingAcquireTimeout,
+            @Value("${worms.client.max-idle-time:30s}") Duration maxIdleTime,
+            @Value("${worms.client.max-life-time:5m}") Duration maxLifeTime,
+            @Value("${worms.client.eviction-interval:30s}") Duration evictionInterval) {
+        return ConnectionProvider.builder("worms")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictionInterval)
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * Crea y configura un bean {@link WebClient} para WoRMS, con su propio pool de conexiones,
+     * límites de tiempo de conexión y de respuesta, keep-alive y un tamaño máximo de respuesta
+     * en memoria. Las latencias de cada endpoint se publican en la métrica {@code http.client.requests},
+     * etiquetadas con la plantilla de URI de la petición.
      *
-     * @param builder Constructor de {@link WebClient}.
+     * @param builder            Constructor de {@link WebClient}.
+     * @param connectionProvider Pool de conexiones de WoRMS.
+     * @param baseUrl            URL base de la API de WoRMS.
+     * @param connectTimeout     Tiempo máximo para establecer una conexión.
+     * @param responseTimeout    Tiempo máximo sin recibir datos de la respuesta.
+     * @param maxInMemorySize    Tamaño máximo de una respuesta decodificada en memoria.
      * @return una instancia de {@link WebClient} lista para hacer peticiones HTTP.
      */
     @Bean
-    WebClient webClient(WebClient.Builder builder) {
-        return builder.baseUrl("https://www.marinespecies.org/rest")
+    WebClient webClient(WebClient.Builder builder, ConnectionProvider connectionProvider,
+            @Value("${worms.client.base-url:https://www.marinespecies.org/rest}") String baseUrl,
+            @Value("${worms.client.connect-timeout:5s}") Duration connectTimeout,
+            @Value("${worms.client.response-timeout:20s}") Duration responseTimeout,
+            @Value("${worms.client.max-in-memory-size:4MB}") DataSize maxInMemorySize) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(responseTimeout);
+
+        return builder.baseUrl(baseUrl)
+                      .clientConnector(new ReactorClientHttpConnector(httpClient))
+                      .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize((int) maxInMemorySize.toBytes()))
                       .build();
     }
 }
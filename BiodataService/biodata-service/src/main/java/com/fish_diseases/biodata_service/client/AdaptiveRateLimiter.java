@@ -0,0 +1,158 @@
+package com.fish_diseases.biodata_service.client;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.fish_diseases.biodata_service.exceptions.WormsUnavailableException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Limitador de peticiones a WoRMS que adapta su ritmo a las respuestas de throttling del servidor.
+ *
+ * <p>Sigue una política AIMD: cada respuesta correcta aumenta el ritmo permitido en una cantidad fija
+ * y cada respuesta 429 (Too Many Requests) o 503 (Service Unavailable) lo reduce multiplicándolo por un
+ * factor. Si la respuesta incluye la cabecera {@code Retry-After} (en segundos), no se concede ningún
+ * turno hasta que pase ese tiempo. Las peticiones que tendrían que esperar más del máximo configurado
+ * se rechazan con {@link WormsUnavailableException} en lugar de quedar en cola.</p>
+ *
+ * <p>El ritmo actual se publica en la métrica {@code worms.client.rate-limit} (peticiones por segundo).</p>
+ */
+@Component
+public class AdaptiveRateLimiter {
+
+	private static final Logger log = LoggerFactory.getLogger(AdaptiveRateLimiter.class);
+	private final boolean isTraceEnabled = log.isTraceEnabled();
+
+	private final double minRate;
+	private final double maxRate;
+	private final double additiveIncrease;
+	private final double multiplicativeDecrease;
+	private final long maxWaitNanos;
+
+	private double rate;
+	private long nextSlotNanos = System.nanoTime();
+
+	/**
+	 * Constructor de {@code AdaptiveRateLimiter}.
+	 *
+	 * @param meterRegistry          registro de métricas donde se publica el ritmo actual
+	 * @param initialRate            ritmo inicial, en peticiones por segundo
+	 * @param minRate                ritmo mínimo, en peticiones por segundo
+	 * @param maxRate                ritmo máximo, en peticiones por segundo
+	 * @param additiveIncrease       aumento del ritmo tras cada respuesta correcta
+	 * @param multiplicativeDecrease factor por el que se multiplica el ritmo tras una respuesta de throttling
+	 * @param maxWait                tiempo máximo que una petición puede esperar su turno
+	 */
+	public AdaptiveRateLimiter(MeterRegistry meterRegistry,
+			@Value("${worms.rate-limiter.initial-rate:10}") double initialRate,
+			@Value("${worms.rate-limiter.min-rate:1}") double minRate,
+			@Value("${worms.rate-limiter.max-rate:20}") double maxRate,
+			@Value("${worms.rate-limiter.additive-increase:0.5}") double additiveIncrease,
+			@Value("${worms.rate-limiter.multiplicative-decrease:0.5}") double multiplicativeDecrease,
+			@Value("${worms.rate-limiter.max-wait:2s}") Duration maxWait) {
+		this.minRate = minRate;
+		this.maxRate = maxRate;
+		this.additiveIncrease = additiveIncrease;
+		this.multiplicativeDecrease = multiplicativeDecrease;
+		this.maxWaitNanos = maxWait.toNanos();
+		this.rate = Math.max(minRate, Math.min(maxRate, initialRate));
+
+		Gauge.builder("worms.client.rate-limit", this, AdaptiveRateLimiter::currentRate)
+				.description("Ritmo de peticiones permitido hacia WoRMS")
+				.baseUnit("requests/s")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Espera el turno de la siguiente petición.
+	 *
+	 * @return Mono que se completa cuando la petición puede enviarse, o falla con
+	 *         {@link WormsUnavailableException} si tendría que esperar más del máximo configurado.
+	 */
+	public Mono<Void> acquire() {
+		return Mono.defer(() -> {
+			long waitNanos = reserve();
+			if (waitNanos < 0) {
+				return Mono.error(new WormsUnavailableException());
+			}
+			return waitNanos == 0 ? Mono.empty() : Mono.delay(Duration.ofNanos(waitNanos)).then();
+		});
+	}
+
+	/**
+	 * Registra una respuesta correcta de WoRMS y aumenta el ritmo permitido.
+	 */
+	public synchronized void onSuccess() {
+		rate = Math.min(maxRate, rate + additiveIncrease);
+	}
+
+	/**
+	 * Registra un error de una petición a WoRMS. Solo las respuestas 429 y 503 reducen el ritmo.
+	 *
+	 * @param error Error de la petición.
+	 */
+	public void onError(Throwable error) {
+		if (error instanceof WebClientResponseException response
+				&& (response.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)
+						|| response.getStatusCode().isSameCodeAs(HttpStatus.SERVICE_UNAVAILABLE))) {
+			onThrottled(retryAfter(response));
+		}
+	}
+
+	/**
+	 * Reduce el ritmo permitido y, si WoRMS lo indica, aplaza el siguiente turno.
+	 *
+	 * @param retryAfter Tiempo indicado en la cabecera {@code Retry-After}, o {@code null} si no hay.
+	 */
+	private synchronized void onThrottled(Duration retryAfter) {
+		rate = Math.max(minRate, rate * multiplicativeDecrease);
+		if (retryAfter != null) {
+			nextSlotNanos = Math.max(nextSlotNanos, System.nanoTime() + retryAfter.toNanos());
+		}
+		if (isTraceEnabled) {
+			log.trace("WoRMS ha limitado las peticiones; nuevo ritmo: {} peticiones/s", rate);
+		}
+	}
+
+	/**
+	 * Reserva el siguiente turno libre.
+	 *
+	 * @return Nanosegundos que hay que esperar hasta el turno, o -1 si la espera supera el máximo.
+	 */
+	private synchronized long reserve() {
+		long now = System.nanoTime();
+		long slot = Math.max(now, nextSlotNanos);
+		long waitNanos = slot - now;
+		if (waitNanos > maxWaitNanos) {
+			return -1;
+		}
+		nextSlotNanos = slot + (long) (1_000_000_000L / rate);
+		return waitNanos;
+	}
+
+	private synchronized double currentRate() {
+		return rate;
+	}
+
+	private static Duration retryAfter(WebClientResponseException response) {
+		String value = response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+		if (value == null) {
+			return null;
+		}
+		try {
+			return Duration.ofSeconds(Long.parseLong(value.trim()));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
@@ -1,81 +1,192 @@
 package com.fish_diseases.biodata_service.client;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fish_diseases.biodata_service.dtos.ApiTaxonomyDTO;
-import com.fish_diseases.biodata_service.mapper.TaxonomyMapper;
+import com.fish_diseases.biodata_service.exceptions.WormsUnavailableException;
 import com.fish_diseases.biodata_service.utils.ResponseUtil;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 @Component
 public class BioDataClient {
 
+    private static final Logger log = LoggerFactory.getLogger(BioDataClient.class);
+
+    private static final TypeReference<ApiTaxonomyDTO> TAXONOMY_TYPE = new TypeReference<>() {};
+    private static final TypeReference<List<String>> IDS_TYPE = new TypeReference<>() {};
+    private static final TypeReference<String> NAME_TYPE = new TypeReference<>() {};
+    private static final WormsFailurePredicate FAILURE = new WormsFailurePredicate();
+
     private final WebClient webClient;
-    private final TaxonomyMapper taxonomyMapper;
+    private final WormsResponseCache wormsCache;
+    private final WormsLocalMirror localMirror;
+    private final WormsResiliencePolicy resilience;
+    private final int maxConcurrency;
+    private final int batchSize;
+    private final boolean streamingAttributes;
+    private final Duration requestTimeout;
 
-    public BioDataClient(WebClient webClient, ResponseUtil responseUtil, TaxonomyMapper taxonomyMapper) {
+    public BioDataClient(WebClient webClient, ResponseUtil responseUtil, WormsResponseCache wormsCache,
+            WormsLocalMirror localMirror, WormsResiliencePolicy resilience,
+            @Value("${worms.client.max-concurrency:8}") int maxConcurrency,
+            @Value("${worms.client.batch-size:50}") int batchSize,
+            @Value("${worms.client.streaming-attributes:true}") boolean streamingAttributes,
+            @Value("${worms.client.request-timeout:30s}") Duration requestTimeout) {
         this.webClient = webClient;
-        this.taxonomyMapper = taxonomyMapper;
+        this.wormsCache = wormsCache;
+        this.localMirror = localMirror;
+        this.resilience = resilience;
+        this.maxConcurrency = maxConcurrency;
+        this.batchSize = batchSize;
+        this.streamingAttributes = streamingAttributes;
+        this.requestTimeout = requestTimeout;
     }
 
     /**
-     * Obtiene los datos taxonómicos de WoRMS a partir del nombre científico.
+     * Obtiene los datos taxonómicos de WoRMS como un ApiTaxonomyDTO, consultando primero la réplica local.
+     * Si el nombre no está en la réplica se llama a la API de WoRMS; sus respuestas, incluidas las
+     * negativas, se sirven desde la caché cuando están disponibles.
      *
-     * @param scientificName Nombre científico del organismo a buscar.
-     * @return Un Optional con Map<String, Object> que representa los datos de taxonomía, o vacío si no se encuentran datos.
+     * @param scientificName Nombre científico del organismo.
+     * @return Optional<ApiTaxonomyDTO> si hay resultados, vacío en caso contrario.
      */
-    public Optional<Map<String, Object>> fetchBioData(String scientificName) {
-        Optional<ApiTaxonomyDTO> taxonomyOpt = fetchFromWoRMS(scientificName);
-        return taxonomyOpt.map(taxonomyMapper::convertApiTaxonomyDtoToMap);
+    public Optional<ApiTaxonomyDTO> fetchFromWoRMS(String scientificName) {
+        return localMirror
+                .findTaxonomy(scientificName)
+                .or(() -> wormsCache.get("name:" + scientificName, TAXONOMY_TYPE,
+                        () -> requestTaxonomy(scientificName).blockOptional()));
     }
 
     /**
-     * Llama a la API de WoRMS y obtiene los datos taxonómicos como un ApiTaxonomyDTO.
+     * Obtiene los datos taxonómicos de varios organismos, consultando primero la réplica local.
+     * Los nombres que no están en la réplica ni en caché se
+     * consultan en lotes al endpoint AphiaRecordsByNames de WoRMS, lanzando los lotes en paralelo
+     * con un número máximo de peticiones simultáneas.
      *
-     * @param scientificName Nombre científico del organismo.
-     * @return Optional<ApiTaxonomyDTO> si hay resultados, vacío en caso contrario.
+     * @param scientificNames Nombres científicos de los organismos.
+     * @return Mapa de nombre científico a taxonomía, solo con los nombres encontrados en WoRMS.
      */
-    public Optional<ApiTaxonomyDTO> fetchFromWoRMS(String scientificName) {
+    public Map<String, ApiTaxonomyDTO> fetchFromWoRMS(Collection<String> scientificNames) {
+        Map<String, ApiTaxonomyDTO> taxonomies = new HashMap<>(localMirror.findTaxonomies(scientificNames));
+        List<String> remoteNames = scientificNames.stream().filter(name -> !taxonomies.containsKey(name)).toList();
+        if (!remoteNames.isEmpty()) {
+            taxonomies.putAll(wormsCache
+                    .getAllAsync("name:", remoteNames, TAXONOMY_TYPE,
+                            missingNames -> inBatches(missingNames, this::requestTaxonomies))
+                    .map(BioDataClient::presentValues)
+                    .block());
+        }
+        return taxonomies;
+    }
 
-        String uri = "/AphiaRecordsByName/" + scientificName + "?marine_only=false";
+    /**
+     * Consulta directamente el endpoint AphiaRecordsByName de WoRMS, sin pasar por la caché.
+     *
+     * @param scientificName Nombre científico del organismo.
+     * @return Mono con el ApiTaxonomyDTO si hay resultados, vacío en caso contrario.
+     */
+    private Mono<ApiTaxonomyDTO> requestTaxonomy(String scientificName) {
 
-        Map<String, Object>[] response = webClient.get()
-            .uri(uri)
+        return callWorms(webClient.get()
+            .uri("/AphiaRecordsByName/{scientificName}?marine_only=false", scientificName)
             .retrieve()
-            .bodyToMono(new ParameterizedTypeReference<Map<String, Object>[]>() {})
-            .block();
-
-        if (response != null && response.length > 0) {
-            Map<String, Object> data = response[0];
-            ApiTaxonomyDTO taxonomy = TaxonomyMapper.convertMapToApiTaxonomyDto(data);
-            return Optional.of(taxonomy);
-        }
+            .bodyToMono(ApiTaxonomyDTO[].class))
+            .filter(response -> response.length > 0)
+            .map(response -> response[0]);
+    }
 
-        return Optional.empty();
+    /**
+     * Consulta directamente el endpoint AphiaRecordsByNames de WoRMS con un lote de nombres,
+     * sin pasar por la caché. WoRMS devuelve una lista de coincidencias por cada nombre, en el
+     * mismo orden de la petición; se toma la primera coincidencia de cada una.
+     *
+     * @param scientificNames Lote de nombres científicos.
+     * @return Mono con el mapa de nombre a taxonomía, vacío para los nombres sin coincidencias.
+     */
+    private Mono<Map<String, Optional<ApiTaxonomyDTO>>> requestTaxonomies(List<String> scientificNames) {
+        return callWorms(webClient.get()
+            .uri("/AphiaRecordsByNames", uriBuilder -> uriBuilder
+                    .queryParam("scientificnames[]", scientificNames)
+                    .queryParam("marine_only", false)
+                    .build())
+            .retrieve()
+            .bodyToMono(new ParameterizedTypeReference<List<List<ApiTaxonomyDTO>>>() {}))
+            .defaultIfEmpty(List.of())
+            .map(response -> {
+                Map<String, Optional<ApiTaxonomyDTO>> taxonomies = new HashMap<>();
+                for (int i = 0; i < scientificNames.size(); i++) {
+                    List<ApiTaxonomyDTO> matches = i < response.size() ? response.get(i) : null;
+                    taxonomies.put(scientificNames.get(i), matches == null || matches.isEmpty()
+                            ? Optional.empty()
+                            : Optional.ofNullable(matches.get(0)));
+                }
+                return taxonomies;
+            });
     }
 
     /**
      * Obtiene los IDs (measurementValue) a partir de un AphiaID usando el endpoint AphiaAttributesByAphiaID,
-     * filtrando por el measurementType especificado.
+     * filtrando por el measurementType especificado. Si la réplica local contiene el taxón y el tipo
+     * de atributo, se responde desde ella sin consultar WoRMS.
      *
      * @param aphiaID              El AphiaID a consultar.
      * @param measurementTypeFilter El measurementType que se desea filtrar (por ejemplo, "Host/prey").
      * @return Una lista de IDs (como String) que cumplen con el filtro.
      */
     public List<String> fetchBiodataIdsByAphiaID(String aphiaID, String measurementTypeFilter) {
-        String uri = "/AphiaAttributesByAphiaID/" + aphiaID;
-        List<Map<String, Object>> response = webClient.get()
-                .uri(uri)
+        Optional<List<String>> localIds = localMirror.findAttributeValues(aphiaID, measurementTypeFilter);
+        if (localIds.isPresent()) {
+            return localIds.get();
+        }
+        return wormsCache
+                .get("attributes:" + aphiaID + ":" + measurementTypeFilter, IDS_TYPE,
+                        () -> Optional.of(requestBiodataIds(aphiaID, measurementTypeFilter)).filter(ids -> !ids.isEmpty()))
+                .orElseGet(List::of);
+    }
+
+    /**
+     * Consulta directamente el endpoint AphiaAttributesByAphiaID de WoRMS, sin pasar por la caché.
+     * Por defecto la respuesta se procesa en streaming y solo se conservan los valores que cumplen
+     * el filtro; con {@code worms.client.streaming-attributes=false} se decodifica la respuesta completa.
+     *
+     * @param aphiaID              El AphiaID a consultar.
+     * @param measurementTypeFilter El measurementType que se desea filtrar.
+     * @return Una lista de IDs (como String) que cumplen con el filtro.
+     */
+    private List<String> requestBiodataIds(String aphiaID, String measurementTypeFilter) {
+        String uri = "/AphiaAttributesByAphiaID/{aphiaID}";
+        if (streamingAttributes) {
+            return MeasurementValueExtractor
+                    .extract(callWorms(webClient.get().uri(uri, aphiaID).retrieve().bodyToFlux(DataBuffer.class)),
+                            measurementTypeFilter)
+                    .collectList()
+                    .block();
+        }
+
+        List<Map<String, Object>> response = callWorms(webClient.get()
+                .uri(uri, aphiaID)
                 .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<List<Map<String, Object>>>(){})
+                .bodyToMono(new ParameterizedTypeReference<List<Map<String, Object>>>(){}))
                 .block();
         List<String> ids = new ArrayList<>();
         if (response != null) {
@@ -117,29 +228,121 @@ public class BioDataClient {
 
 
     /**
-     * Obtiene el scientificName a partir de un AphiaID usando la API de WoRMS.
+     * Obtiene los nombres científicos de varios AphiaIDs, consultando primero la réplica local.
+     * Los AphiaIDs que no están en la réplica ni en caché se
+     * consultan en lotes al endpoint AphiaRecordsByAphiaIDs de WoRMS, lanzando los lotes en paralelo
+     * con un número máximo de peticiones simultáneas. Los AphiaIDs que WoRMS no conoce se descartan;
+     * si WoRMS no está disponible la consulta falla, en lugar de devolver una lista incompleta.
      *
-     * @param aphiaID El identificador de WoRMS.
-     * @return ResponseEntity con el nombre científico o un error si no se encuentra.
+     * @param aphiaIDs Identificadores de WoRMS.
+     * @return Lista de nombres científicos resueltos, sin duplicados.
      */
-    public ResponseEntity<String> getScientificNameByAphiaID(String aphiaID) {
-        String uri = "/AphiaRecordByAphiaID/" + aphiaID;
-        try {
-            Map<String, Object> response = webClient.get()
-                .uri(uri)
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                .block();
+    public List<String> getScientificNamesByAphiaIDs(Collection<String> aphiaIDs) {
+        Map<String, String> names = new HashMap<>(localMirror.findScientificNames(aphiaIDs));
+        List<String> remoteIds = aphiaIDs.stream().filter(aphiaID -> !names.containsKey(aphiaID)).toList();
+        if (!remoteIds.isEmpty()) {
+            names.putAll(wormsCache
+                    .getAllAsync("aphia:", remoteIds, NAME_TYPE,
+                            missingIds -> inBatches(missingIds, this::requestScientificNames))
+                    .map(BioDataClient::presentValues)
+                    .block());
+        }
+        return names.values().stream().distinct().toList();
+    }
 
-            if (response != null) {
-                String scientificName = (String) response.getOrDefault("scientificname", response.get("scientificName"));
-                if (scientificName != null) {
-                    return ResponseEntity.ok(scientificName);
+    /**
+     * Consulta directamente el endpoint AphiaRecordsByAphiaIDs de WoRMS con un lote de AphiaIDs,
+     * sin pasar por la caché.
+     *
+     * Una respuesta 4xx distinta de 429 depende de la petición (por ejemplo, un AphiaID mal formado) y
+     * se trata como que WoRMS no conoce ninguno de los AphiaIDs del lote; el resto de errores se propagan.
+     *
+     * @param aphiaIDs Lote de identificadores de WoRMS.
+     * @return Mono con el mapa de AphiaID a nombre científico, vacío para los AphiaIDs desconocidos.
+     */
+    private Mono<Map<String, Optional<String>>> requestScientificNames(List<String> aphiaIDs) {
+        return callWorms(webClient.get()
+            .uri("/AphiaRecordsByAphiaIDs", uriBuilder -> uriBuilder
+                    .queryParam("aphiaids[]", aphiaIDs)
+                    .build())
+            .retrieve()
+            .bodyToMono(new ParameterizedTypeReference<List<ApiTaxonomyDTO>>() {}))
+            .onErrorResume(e -> !FAILURE.test(e) && e instanceof WebClientResponseException, e -> {
+                log.warn("WoRMS no reconoce los AphiaIDs {}: {}", aphiaIDs, e.getMessage());
+                return Mono.empty();
+            })
+            .defaultIfEmpty(List.of())
+            .map(response -> {
+                Map<String, Optional<String>> names = new HashMap<>();
+                aphiaIDs.forEach(aphiaID -> names.put(aphiaID, Optional.empty()));
+                for (ApiTaxonomyDTO record : response) {
+                    if (record != null && record.getAphiaID() != null) {
+                        names.put(String.valueOf(record.getAphiaID()), Optional.ofNullable(record.getScientificName()));
+                    }
                 }
-            }
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("error.parasiteNotFound");
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("error.fetchingData");
-        }
+                return names;
+            });
+    }
+
+    /**
+     * Lanza una petición a WoRMS con las políticas de resiliencia y un tiempo máximo para la respuesta
+     * completa ({@code worms.client.request-timeout}). El {@code response-timeout} del cliente HTTP solo
+     * limita el tiempo sin recibir datos, por lo que una respuesta que llega poco a poco no lo supera;
+     * este plazo sí. Al agotarse, la petición se cancela, cuenta como fallo para el circuit breaker y
+     * falla con {@link WormsUnavailableException}.
+     *
+     * @param request Petición, que se ejecuta al suscribirse.
+     * @return La petición protegida.
+     */
+    private <T> Mono<T> callWorms(Mono<T> request) {
+        return resilience
+                .protect(request.timeout(requestTimeout))
+                .onErrorMap(TimeoutException.class, e -> new WormsUnavailableException());
+    }
+
+    /**
+     * Lanza una petición a WoRMS cuya respuesta se recibe en streaming, con las mismas políticas y el
+     * mismo tiempo máximo que {@link #callWorms(Mono)}. El plazo se cuenta desde la suscripción para
+     * toda la respuesta, no entre elementos.
+     *
+     * @param request Petición, que se ejecuta al suscribirse.
+     * @return La petición protegida.
+     */
+    private <T> Flux<T> callWorms(Flux<T> request) {
+        return resilience
+                .protect(Flux.defer(() -> {
+                    long deadline = System.nanoTime() + requestTimeout.toNanos();
+                    return request.timeout(Mono.delay(requestTimeout),
+                            item -> Mono.delay(Duration.ofNanos(Math.max(0, deadline - System.nanoTime()))));
+                }))
+                .onErrorMap(TimeoutException.class, e -> new WormsUnavailableException());
+    }
+
+    /**
+     * Divide los identificadores en lotes del tamaño admitido por los endpoints múltiples de WoRMS
+     * y lanza las consultas en paralelo, respetando el límite de peticiones simultáneas.
+     *
+     * @param ids     Identificadores a consultar.
+     * @param request Consulta de un lote.
+     * @return Mono con la unión de los resultados de todos los lotes.
+     */
+    private <T> Mono<Map<String, Optional<T>>> inBatches(List<String> ids,
+            Function<List<String>, Mono<Map<String, Optional<T>>>> request) {
+        return Flux.fromIterable(ids)
+                .buffer(batchSize)
+                .flatMap(request, maxConcurrency)
+                .collect(HashMap::new, Map::putAll);
+    }
+
+    /**
+     * Descarta las respuestas negativas de un mapa de resultados.
+     *
+     * @param results Mapa de identificador a respuesta.
+     * @return Mapa solo con las respuestas que contienen datos.
+     */
+    private static <T> Map<String, T> presentValues(Map<String, Optional<T>> results) {
+        Map<String, T> values = new HashMap<>();
+        results.forEach((id, value) -> value.ifPresent(v -> values.put(id, v)));
+        return values;
     }
 }
@@ -0,0 +1,152 @@
+package com.fish_diseases.biodata_service.client;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Extrae los {@code measurementValue} de una respuesta de AphiaAttributesByAphiaID a medida que
+ * llega, sin construir el árbol de mapas de la respuesta completa.
+ *
+ * <p>Usa el parser no bloqueante de Jackson: cada fragmento del cuerpo se entrega al parser y solo
+ * se conserva el estado de los objetos abiertos (su measurementType y measurementValue), de modo que
+ * la memoria usada depende de la profundidad del árbol de {@code children} y no de su tamaño.
+ * Cada valor se emite en cuanto se conocen su tipo y su valor; como WoRMS incluye ambos campos antes
+ * de {@code children}, el orden coincide con el del recorrido recursivo de la respuesta completa.</p>
+ */
+class MeasurementValueExtractor {
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	private final String measurementTypeFilter;
+	private final JsonParser parser;
+	private final ByteArrayFeeder feeder;
+	private final Deque<AttributeFrame> openObjects = new ArrayDeque<>();
+
+	/**
+	 * Crea un extractor para una única respuesta.
+	 *
+	 * @param measurementTypeFilter El measurementType cuyos valores se extraen.
+	 */
+	private MeasurementValueExtractor(String measurementTypeFilter) {
+		this.measurementTypeFilter = measurementTypeFilter;
+		try {
+			this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+	}
+
+	/**
+	 * Extrae los valores del measurementType indicado de un cuerpo de respuesta recibido por fragmentos.
+	 * Los fragmentos se liberan una vez procesados.
+	 *
+	 * @param body                  Cuerpo de la respuesta.
+	 * @param measurementTypeFilter El measurementType cuyos valores se extraen, sin distinguir mayúsculas.
+	 * @return Flux con los valores encontrados.
+	 */
+	static Flux<String> extract(Flux<DataBuffer> body, String measurementTypeFilter) {
+		return Flux.defer(() -> {
+			MeasurementValueExtractor extractor = new MeasurementValueExtractor(measurementTypeFilter);
+			return body
+					.concatMapIterable(extractor::feed)
+					.concatWith(Flux.defer(() -> Flux.fromIterable(extractor.finish())))
+					.doFinally(signal -> extractor.close());
+		});
+	}
+
+	/**
+	 * Entrega un fragmento al parser y procesa los tokens completos disponibles.
+	 *
+	 * @param buffer Fragmento del cuerpo.
+	 * @return Valores encontrados en el fragmento.
+	 */
+	private List<String> feed(DataBuffer buffer) {
+		try {
+			byte[] bytes = new byte[buffer.readableByteCount()];
+			buffer.read(bytes);
+			feeder.feedInput(bytes, 0, bytes.length);
+			return drain();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			DataBufferUtils.release(buffer);
+		}
+	}
+
+	/**
+	 * Indica al parser el final del cuerpo y procesa los tokens restantes.
+	 *
+	 * @return Valores encontrados en los tokens restantes.
+	 */
+	private List<String> finish() {
+		try {
+			feeder.endOfInput();
+			return drain();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void close() {
+		try {
+			parser.close();
+		} catch (IOException e) {
+			// El parser no tiene recursos externos; se ignora el error al cerrarlo
+		}
+	}
+
+	/**
+	 * Procesa los tokens disponibles y devuelve los valores de los atributos que cumplen el filtro.
+	 *
+	 * @return Valores encontrados.
+	 * @throws IOException si la respuesta no es un JSON válido.
+	 */
+	private List<String> drain() throws IOException {
+		List<String> values = new ArrayList<>();
+		JsonToken token;
+		while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+			if (token == JsonToken.START_OBJECT) {
+				openObjects.push(new AttributeFrame());
+			} else if (token == JsonToken.END_OBJECT) {
+				openObjects.pop();
+			} else if (token.isScalarValue() && parser.getParsingContext().inObject() && !openObjects.isEmpty()) {
+				AttributeFrame frame = openObjects.peek();
+				String field = parser.currentName();
+				if ("measurementType".equals(field)) {
+					frame.type = parser.getText();
+				} else if ("measurementValue".equals(field) && token != JsonToken.VALUE_NULL) {
+					frame.value = parser.getText();
+				}
+				if (!frame.emitted && frame.value != null && measurementTypeFilter.equalsIgnoreCase(frame.type)) {
+					frame.emitted = true;
+					values.add(frame.value);
+				}
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Estado de un objeto abierto de la respuesta.
+	 */
+	private static class AttributeFrame {
+		private String type;
+		private String value;
+		private boolean emitted;
+	}
+}
@@ -0,0 +1,25 @@
+package com.fish_diseases.biodata_service.client;
+
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Decide qué errores de WoRMS cuentan como fallos para el circuit breaker: errores de conexión
+ * o de tiempo de espera, respuestas 5xx y respuestas 429. Los errores 4xx restantes (por ejemplo,
+ * un nombre mal formado) dependen de la petición y no indican que WoRMS esté caído.
+ */
+public class WormsFailurePredicate implements Predicate<Throwable> {
+
+	@Override
+	public boolean test(Throwable error) {
+		if (error instanceof WebClientResponseException response) {
+			return response.getStatusCode().is5xxServerError()
+					|| response.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+		}
+		return error instanceof WebClientRequestException || error instanceof TimeoutException;
+	}
+}
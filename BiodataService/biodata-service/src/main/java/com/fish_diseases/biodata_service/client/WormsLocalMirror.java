@@ -0,0 +1,162 @@
+package com.fish_diseases.biodata_service.client;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fish_diseases.biodata_service.dtos.ApiTaxonomyDTO;
+import com.fish_diseases.biodata_service.entities.WormsTaxon;
+import com.fish_diseases.biodata_service.mapper.TaxonomyMapper;
+import com.fish_diseases.biodata_service.repositories.WormsTaxonAttributeRepository;
+import com.fish_diseases.biodata_service.repositories.WormsTaxonRepository;
+
+/**
+ * Consultas a la réplica local de WoRMS importada desde un Darwin Core Archive.
+ *
+ * <p>{@link BioDataClient} consulta primero esta réplica y solo recurre a la API de WoRMS
+ * para los datos que no encuentra en ella. Cuando varios taxones comparten nombre científico
+ * se prefiere el nombre aceptado.</p>
+ *
+ * <p>Los atributos solo se consultan en la réplica cuando la última importación de su tipo de
+ * medición terminó (ver {@code worms_attribute_imports}); mientras se importa el archive, o si la
+ * importación se interrumpió, las consultas de atributos recurren a la caché o a WoRMS.</p>
+ */
+@Component
+public class WormsLocalMirror {
+
+	private static final Comparator<WormsTaxon> PREFERRED_FIRST = Comparator
+			.comparing(WormsTaxon::isAccepted)
+			.reversed()
+			.thenComparing(WormsTaxon::getAphiaId);
+
+	private final WormsTaxonRepository taxonRepository;
+	private final WormsTaxonAttributeRepository attributeRepository;
+	private final TaxonomyMapper taxonomyMapper;
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Constructor de {@code WormsLocalMirror}.
+	 *
+	 * @param taxonRepository     repositorio de taxones de la réplica
+	 * @param attributeRepository repositorio de atributos de la réplica
+	 * @param taxonomyMapper      mapper para convertir los taxones en DTOs
+	 * @param jdbcTemplate        plantilla JDBC para consultar las importaciones de atributos completadas
+	 */
+	public WormsLocalMirror(WormsTaxonRepository taxonRepository, WormsTaxonAttributeRepository attributeRepository,
+			TaxonomyMapper taxonomyMapper, JdbcTemplate jdbcTemplate) {
+		this.taxonRepository = taxonRepository;
+		this.attributeRepository = attributeRepository;
+		this.taxonomyMapper = taxonomyMapper;
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Busca la taxonomía de un nombre científico en la réplica.
+	 *
+	 * @param scientificName Nombre científico del organismo.
+	 * @return Optional con la taxonomía, o vacío si la réplica no contiene el nombre.
+	 */
+	public Optional<ApiTaxonomyDTO> findTaxonomy(String scientificName) {
+		return taxonRepository
+				.findByScientificNameOrderByAcceptedDescAphiaIdAsc(scientificName)
+				.stream()
+				.findFirst()
+				.map(taxonomyMapper::convertWormsTaxonToApiTaxonomyDto);
+	}
+
+	/**
+	 * Busca la taxonomía de varios nombres científicos en la réplica con una única consulta.
+	 *
+	 * @param scientificNames Nombres científicos de los organismos.
+	 * @return Mapa de nombre científico a taxonomía, solo con los nombres que contiene la réplica.
+	 */
+	public Map<String, ApiTaxonomyDTO> findTaxonomies(Collection<String> scientificNames) {
+		if (scientificNames.isEmpty()) {
+			return Map.of();
+		}
+
+		Map<String, WormsTaxon> preferred = new HashMap<>();
+		for (WormsTaxon taxon : taxonRepository.findByScientificNameIn(scientificNames)) {
+			preferred.merge(taxon.getScientificName(), taxon,
+					(current, candidate) -> PREFERRED_FIRST.compare(candidate, current) < 0 ? candidate : current);
+		}
+
+		Map<String, ApiTaxonomyDTO> taxonomies = new HashMap<>();
+		preferred.forEach((name, taxon) -> taxonomies.put(name, taxonomyMapper.convertWormsTaxonToApiTaxonomyDto(taxon)));
+		return taxonomies;
+	}
+
+	/**
+	 * Obtiene los valores de un tipo de atributo de un taxón. La réplica solo responde cuando
+	 * contiene el taxón y la última importación de ese tipo de atributo se completó; en ese caso
+	 * una lista vacía significa que el taxón no tiene atributos de ese tipo.
+	 *
+	 * @param aphiaID         El AphiaID a consultar.
+	 * @param measurementType El tipo de medición (por ejemplo, "Host/prey").
+	 * @return Optional con los valores, o vacío si la réplica no puede responder.
+	 */
+	public Optional<List<String>> findAttributeValues(String aphiaID, String measurementType) {
+		Integer id = parseAphiaId(aphiaID);
+		if (id == null || !isAttributeImportComplete(measurementType) || !taxonRepository.existsById(id)) {
+			return Optional.empty();
+		}
+		return Optional.of(attributeRepository.findMeasurementValues(id, measurementType));
+	}
+
+	/**
+	 * Busca los nombres científicos de varios AphiaIDs en la réplica con una única consulta.
+	 *
+	 * @param aphiaIDs Identificadores de WoRMS.
+	 * @return Mapa de AphiaID a nombre científico, solo con los AphiaIDs que contiene la réplica.
+	 */
+	public Map<String, String> findScientificNames(Collection<String> aphiaIDs) {
+		List<Integer> ids = aphiaIDs
+				.stream()
+				.map(WormsLocalMirror::parseAphiaId)
+				.filter(Objects::nonNull)
+				.distinct()
+				.toList();
+		if (ids.isEmpty()) {
+			return Map.of();
+		}
+
+		Map<String, String> names = new HashMap<>();
+		taxonRepository
+				.findAllById(ids)
+				.forEach(taxon -> names.put(String.valueOf(taxon.getAphiaId()), taxon.getScientificName()));
+		return names;
+	}
+
+	/**
+	 * Indica si la réplica contiene los atributos de un tipo de medición, es decir, si la última
+	 * importación de ese tipo terminó.
+	 *
+	 * @param measurementType El tipo de medición.
+	 * @return {@code true} si los atributos del tipo están cargados por completo.
+	 */
+	private boolean isAttributeImportComplete(String measurementType) {
+		Boolean complete = jdbcTemplate.queryForObject(
+				"SELECT EXISTS (SELECT 1 FROM worms_attribute_imports WHERE measurement_type = ?)", Boolean.class,
+				measurementType.trim().toLowerCase(Locale.ROOT));
+		return Boolean.TRUE.equals(complete);
+	}
+
+	private static Integer parseAphiaId(String aphiaID) {
+		if (aphiaID == null) {
+			return null;
+		}
+		try {
+			return Integer.valueOf(aphiaID.trim());
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package com.fish_diseases.biodata_service.client;
+
+import org.springframework.stereotype.Component;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Políticas de resiliencia que se aplican a todas las peticiones a WoRMS.
+ *
+ * <ul>
+ *   <li>Circuit breaker ({@code resilience4j.circuitbreaker.instances.worms}): rechaza las peticiones
+ *   de inmediato mientras WoRMS falla, en lugar de esperar a cada tiempo de espera.</li>
+ *   <li>Bulkhead ({@code resilience4j.bulkhead.instances.worms}): limita las peticiones simultáneas a
+ *   WoRMS, y con ellas los hilos que pueden quedar bloqueados esperándolas.</li>
+ *   <li>{@link AdaptiveRateLimiter}: adapta el ritmo de peticiones a las respuestas de throttling.</li>
+ * </ul>
+ *
+ * <p>Las peticiones rechazadas fallan con {@code CallNotPermittedException}, {@code BulkheadFullException}
+ * o {@code WormsUnavailableException}, que se responden con 503. Las consultas que se resuelven con la
+ * réplica local o la caché no pasan por estas políticas.</p>
+ *
+ * <p>El turno del limitador se obtiene antes de entrar en el bulkhead y el circuit breaker: la espera
+ * no ocupa una plaza del bulkhead ni cuenta en la duración de la llamada para el umbral de llamadas lentas.</p>
+ */
+@Component
+public class WormsResiliencePolicy {
+
+	private static final String INSTANCE = "worms";
+
+	private final CircuitBreaker circuitBreaker;
+	private final Bulkhead bulkhead;
+	private final AdaptiveRateLimiter rateLimiter;
+
+	/**
+	 * Constructor de {@code WormsResiliencePolicy}.
+	 *
+	 * @param circuitBreakerRegistry registro de circuit breakers de Resilience4j
+	 * @param bulkheadRegistry       registro de bulkheads de Resilience4j
+	 * @param rateLimiter            limitador adaptativo de peticiones a WoRMS
+	 */
+	public WormsResiliencePolicy(CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry,
+			AdaptiveRateLimiter rateLimiter) {
+		this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE);
+		this.bulkhead = bulkheadRegistry.bulkhead(INSTANCE);
+		this.rateLimiter = rateLimiter;
+	}
+
+	/**
+	 * Aplica las políticas a una petición a WoRMS.
+	 *
+	 * @param request Petición, que se ejecuta al suscribirse.
+	 * @return La petición protegida.
+	 */
+	public <T> Mono<T> protect(Mono<T> request) {
+		Mono<T> call = request
+				.doOnSuccess(response -> rateLimiter.onSuccess())
+				.doOnError(rateLimiter::onError)
+				.transformDeferred(BulkheadOperator.of(bulkhead))
+				.transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+		return rateLimiter.acquire().then(call);
+	}
+
+	/**
+	 * Aplica las políticas a una petición a WoRMS cuya respuesta se recibe en streaming.
+	 *
+	 * @param request Petición, que se ejecuta al suscribirse.
+	 * @return La petición protegida.
+	 */
+	public <T> Flux<T> protect(Flux<T> request) {
+		Flux<T> call = request
+				.doOnComplete(rateLimiter::onSuccess)
+				.doOnError(rateLimiter::onError)
+				.transformDeferred(BulkheadOperator.of(bulkhead))
+				.transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+		return rateLimiter.acquire().thenMany(call);
+	}
+
+	/**
+	 * Indica si WoRMS tiene capacidad libre para peticiones en segundo plano: el circuit breaker está
+	 * cerrado y el bulkhead tiene más peticiones simultáneas disponibles que las reservadas para el
+	 * tráfico interactivo.
+	 *
+	 * @param reservedCalls Peticiones simultáneas reservadas para el tráfico interactivo.
+	 * @return {@code true} si se pueden lanzar peticiones en segundo plano.
+	 */
+	public boolean hasSpareCapacity(int reservedCalls) {
+		return circuitBreaker.getState() == CircuitBreaker.State.CLOSED
+				&& bulkhead.getMetrics().getAvailableConcurrentCalls() > reservedCalls;
+	}
+}
@@ -0,0 +1,277 @@
+package com.fish_diseases.biodata_service.client;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fish_diseases.biodata_service.repositories.WormsCacheEntryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Caché de dos niveles para las respuestas de WoRMS.
+ *
+ * <p>El primer nivel es una caché en memoria acotada por tamaño y con expiración por entrada.
+ * El segundo nivel es la tabla {@code worms_cache} de PostgreSQL, que conserva las respuestas
+ * entre reinicios. Las respuestas negativas (sin resultados) también se almacenan, con un
+ * tiempo de vida más corto que las positivas.</p>
+ */
+@Component
+public class WormsResponseCache {
+
+	private static final Logger log = LoggerFactory.getLogger(WormsResponseCache.class);
+	private final boolean isTraceEnabled = log.isTraceEnabled();
+
+	private final WormsCacheEntryRepository cacheEntryRepository;
+	private final ObjectMapper objectMapper;
+	private final Duration ttl;
+	private final Duration negativeTtl;
+	private final Cache<String, CachedResponse> memoryCache;
+
+	/**
+	 * Constructor de {@code WormsResponseCache}.
+	 *
+	 * @param cacheEntryRepository repositorio del nivel persistente de la caché
+	 * @param objectMapper         serializador JSON de las respuestas
+	 * @param maxSize              número máximo de entradas en memoria
+	 * @param ttl                  tiempo de vida de las respuestas positivas
+	 * @param negativeTtl          tiempo de vida de las respuestas negativas
+	 */
+	public WormsResponseCache(WormsCacheEntryRepository cacheEntryRepository, ObjectMapper objectMapper,
+			@Value("${worms.cache.max-size:10000}") long maxSize,
+			@Value("${worms.cache.ttl:7d}") Duration ttl,
+			@Value("${worms.cache.negative-ttl:1h}") Duration negativeTtl) {
+		this.cacheEntryRepository = cacheEntryRepository;
+		this.objectMapper = objectMapper;
+		this.ttl = ttl;
+		this.negativeTtl = negativeTtl;
+		this.memoryCache = Caffeine
+				.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfter(new CachedResponseExpiry())
+				.build();
+	}
+
+	/**
+	 * Devuelve la respuesta asociada a la clave, consultando primero la memoria, después la
+	 * base de datos y, como último recurso, el cargador proporcionado. El resultado del cargador
+	 * se guarda en ambos niveles, tanto si contiene datos como si está vacío. Las excepciones
+	 * del cargador no se almacenan y se propagan al llamante.
+	 *
+	 * @param key    Clave de la consulta.
+	 * @param type   Tipo de la respuesta.
+	 * @param loader Función que consulta WoRMS cuando no hay respuesta en caché.
+	 * @return Un {@link Optional} con la respuesta, o vacío si la respuesta es negativa.
+	 */
+	public <T> Optional<T> get(String key, TypeReference<T> type, Supplier<Optional<T>> loader) {
+		CachedResponse cached = lookup(key);
+		if (cached != null) {
+			return deserialize(cached.payload(), type);
+		}
+
+		Optional<T> loaded = loader.get();
+		store(key, loaded.orElse(null));
+		return loaded;
+	}
+
+	/**
+	 * Variante por lotes y no bloqueante de {@link #get(String, TypeReference, Supplier)}. Las claves
+	 * se buscan en memoria y las que falten en la base de datos con una única consulta, en el planificador
+	 * {@code boundedElastic}; solo las restantes se entregan al cargador. El cargador devuelve, para cada identificador que haya podido consultar,
+	 * un {@link Optional} con la respuesta o vacío si es negativa; los identificadores que no devuelva
+	 * no se almacenan ni se incluyen en el resultado. Los errores del cargador no se almacenan y se
+	 * propagan al llamante.
+	 *
+	 * @param keyPrefix Prefijo del tipo de consulta, que se antepone a cada identificador.
+	 * @param ids       Identificadores a consultar.
+	 * @param type      Tipo de la respuesta.
+	 * @param loader    Función que consulta WoRMS con los identificadores que no están en caché.
+	 * @return Mono con el mapa de identificador a respuesta.
+	 */
+	public <T> Mono<Map<String, Optional<T>>> getAllAsync(String keyPrefix, Collection<String> ids,
+			TypeReference<T> type, Function<List<String>, Mono<Map<String, Optional<T>>>> loader) {
+		return Mono
+				.fromCallable(() -> lookupAll(keyPrefix, ids))
+				.subscribeOn(Schedulers.boundedElastic())
+				.flatMap(cached -> {
+					Map<String, Optional<T>> result = new HashMap<>();
+					cached.forEach((id, response) -> result.put(id, deserialize(response.payload(), type)));
+
+					List<String> missingIds = ids
+							.stream()
+							.distinct()
+							.filter(id -> !cached.containsKey(id))
+							.toList();
+					if (missingIds.isEmpty()) {
+						return Mono.just(result);
+					}
+
+					return loader
+							.apply(missingIds)
+							.publishOn(Schedulers.boundedElastic())
+							.map(loaded -> {
+								loaded.forEach((id, value) -> store(keyPrefix + id, value.orElse(null)));
+								result.putAll(loaded);
+								return result;
+							});
+				});
+	}
+
+	/**
+	 * Busca varias respuestas en memoria y, las que falten, en la base de datos con una única consulta.
+	 *
+	 * @param keyPrefix Prefijo del tipo de consulta.
+	 * @param ids       Identificadores a consultar.
+	 * @return Mapa de identificador a respuesta, solo con las respuestas vigentes encontradas.
+	 */
+	private Map<String, CachedResponse> lookupAll(String keyPrefix, Collection<String> ids) {
+		Map<String, CachedResponse> found = new HashMap<>();
+		List<String> missingKeys = ids
+				.stream()
+				.distinct()
+				.filter(id -> {
+					CachedResponse cached = memoryCache.getIfPresent(keyPrefix + id);
+					if (cached != null) {
+						found.put(id, cached);
+						return false;
+					}
+					return true;
+				})
+				.map(id -> keyPrefix + id)
+				.toList();
+
+		if (!missingKeys.isEmpty()) {
+			cacheEntryRepository
+					.findByCacheKeyInAndExpiresAtAfter(missingKeys, LocalDateTime.now())
+					.forEach(entry -> {
+						CachedResponse response = new CachedResponse(entry.getPayload(),
+								entry.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant());
+						memoryCache.put(entry.getCacheKey(), response);
+						found.put(entry.getCacheKey().substring(keyPrefix.length()), response);
+					});
+		}
+
+		return found;
+	}
+
+	/**
+	 * Busca una respuesta en memoria y, si no está, en la base de datos.
+	 *
+	 * @param key Clave de la consulta.
+	 * @return La respuesta almacenada, o {@code null} si no hay ninguna vigente.
+	 */
+	private CachedResponse lookup(String key) {
+		CachedResponse cached = memoryCache.getIfPresent(key);
+		if (cached != null) {
+			return cached;
+		}
+
+		return cacheEntryRepository
+				.findByCacheKeyAndExpiresAtAfter(key, LocalDateTime.now())
+				.map(entry -> {
+					CachedResponse response = new CachedResponse(entry.getPayload(),
+							entry.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant());
+					memoryCache.put(key, response);
+					return response;
+				})
+				.orElse(null);
+	}
+
+	/**
+	 * Guarda una respuesta en ambos niveles de la caché.
+	 *
+	 * @param key   Clave de la consulta.
+	 * @param value Respuesta a guardar, o {@code null} si es negativa.
+	 */
+	private void store(String key, Object value) {
+		String payload = serialize(value);
+		Instant expiresAt = Instant.now().plus(payload != null ? ttl : negativeTtl);
+
+		memoryCache.put(key, new CachedResponse(payload, expiresAt));
+		cacheEntryRepository.upsert(key, payload, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()));
+	}
+
+	/**
+	 * Elimina periódicamente las entradas expiradas del nivel persistente.
+	 */
+	@Scheduled(fixedDelayString = "${worms.cache.purge-interval:PT1H}")
+	public void purgeExpired() {
+		int deleted = cacheEntryRepository.deleteExpired(LocalDateTime.now());
+		if (isTraceEnabled) {
+			log.trace("Entradas de caché de WoRMS expiradas eliminadas: {}", deleted);
+		}
+	}
+
+	private String serialize(Object value) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return objectMapper.writeValueAsString(value);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("No se pudo serializar la respuesta de WoRMS", e);
+		}
+	}
+
+	private <T> Optional<T> deserialize(String payload, TypeReference<T> type) {
+		if (payload == null) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(objectMapper.readValue(payload, type));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("No se pudo leer la respuesta de WoRMS almacenada en caché", e);
+		}
+	}
+
+	/**
+	 * Respuesta almacenada en memoria junto con su instante de expiración.
+	 *
+	 * @param payload   Respuesta serializada, o {@code null} si es negativa.
+	 * @param expiresAt Instante de expiración.
+	 */
+	private record CachedResponse(String payload, Instant expiresAt) {
+	}
+
+	/**
+	 * Política de expiración por entrada, basada en el instante de expiración de cada respuesta.
+	 */
+	private static class CachedResponseExpiry implements Expiry<String, CachedResponse> {
+
+		@Override
+		public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+			return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, CachedResponse value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, CachedResponse value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package com.fish_diseases.biodata_service.config;
+
+import java.util.Set;
+
+import org.hibernate.boot.model.relational.Namespace;
+import org.hibernate.boot.model.relational.Sequence;
+import org.hibernate.mapping.Table;
+import org.hibernate.tool.schema.spi.SchemaFilter;
+import org.hibernate.tool.schema.spi.SchemaFilterProvider;
+
+/**
+ * Filtro de esquema de Hibernate que excluye de la creación y el borrado automáticos
+ * las tablas que deben conservarse entre reinicios (caché y réplica local de WoRMS).
+ *
+ * Con {@code spring.jpa.hibernate.ddl-auto=create} Hibernate elimina y vuelve a crear todas
+ * las tablas mapeadas en cada arranque. Estas tablas se crean en {@code schema.sql} con
+ * {@code CREATE TABLE IF NOT EXISTS} y Hibernate solo las usa, sin gestionarlas.
+ */
+public class DurableTablesSchemaFilterProvider implements SchemaFilterProvider {
+
+	/**
+	 * Tablas cuyo esquema se define en {@code schema.sql}.
+	 */
+	public static final Set<String> DURABLE_TABLES = Set.of("worms_cache", "worms_taxa", "worms_taxon_attributes");
+
+	private static final SchemaFilter EXCLUDE_DURABLE_TABLES = new SchemaFilter() {
+
+		@Override
+		public boolean includeNamespace(Namespace namespace) {
+			return true;
+		}
+
+		@Override
+		public boolean includeTable(Table table) {
+			return !DURABLE_TABLES.contains(table.getName());
+		}
+
+		@Override
+		public boolean includeSequence(Sequence sequence) {
+			return true;
+		}
+	};
+
+	@Override
+	public SchemaFilter getCreateFilter() {
+		return EXCLUDE_DURABLE_TABLES;
+	}
+
+	@Override
+	public SchemaFilter getDropFilter() {
+		return EXCLUDE_DURABLE_TABLES;
+	}
+
+	@Override
+	public SchemaFilter getTruncatorFilter() {
+		return EXCLUDE_DURABLE_TABLES;
+	}
+
+	@Override
+	public SchemaFilter getMigrateFilter() {
+		return SchemaFilter.ALL;
+	}
+
+	@Override
+	public SchemaFilter getValidateFilter() {
+		return SchemaFilter.ALL;
+	}
+}
@@ -0,0 +1,85 @@
+package com.fish_diseases.biodata_service.config;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.springframework.stereotype.Component;
+
+import com.fish_diseases.biodata_service.entities.Fish;
+import com.fish_diseases.biodata_service.entities.Parasite;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Invalida la caché de segundo nivel de {@code Fish.parasites} cuando cambia {@code Parasite.fishes}.
+ *
+ * <p>La relación entre peces y parásitos se guarda desde el lado del parásito; {@code Fish.parasites} es el
+ * lado inverso y Hibernate no invalida su caché cuando se añaden o eliminan filas de {@code parasite_fishes}.
+ * Al crear, modificar o eliminar la colección de un parásito se desconoce qué peces la tenían en caché, por
+ * lo que se vacía la región completa: una vez antes del commit, para la propia transacción, y otra después,
+ * para descartar lo que otras transacciones hayan cargado mientras tanto.</p>
+ */
+@Component
+public class HostCollectionCacheInvalidator implements PostCollectionRecreateEventListener,
+		PostCollectionUpdateEventListener, PostCollectionRemoveEventListener {
+
+	private static final String OWNING_ROLE = Parasite.class.getName() + ".fishes";
+	private static final String INVERSE_ROLE = Fish.class.getName() + ".parasites";
+
+	private final SessionFactoryImplementor sessionFactory;
+
+	/**
+	 * Constructor de la clase {@link HostCollectionCacheInvalidator}.
+	 *
+	 * @param entityManagerFactory Factoría de la unidad de persistencia.
+	 */
+	public HostCollectionCacheInvalidator(EntityManagerFactory entityManagerFactory) {
+		this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+	}
+
+	/**
+	 * Registra el listener en los eventos de colecciones de Hibernate.
+	 */
+	@PostConstruct
+	void register() {
+		EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+		registry.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+		registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+		registry.appendListeners(EventType.POST_COLLECTION_REMOVE, this);
+	}
+
+	@Override
+	public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+		evictHostCollections(event);
+	}
+
+	@Override
+	public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+		evictHostCollections(event);
+	}
+
+	@Override
+	public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+		evictHostCollections(event);
+	}
+
+	private void evictHostCollections(AbstractCollectionEvent event) {
+		if (!OWNING_ROLE.equals(event.getCollection().getRole())) {
+			return;
+		}
+		CacheImplementor cache = sessionFactory.getCache();
+		cache.evictCollectionData(INVERSE_ROLE);
+		AfterTransactionCompletionProcess evictAfterCompletion = (success, session) -> cache.evictCollectionData(INVERSE_ROLE);
+		event.getSession().getActionQueue().registerProcess(evictAfterCompletion);
+	}
+}
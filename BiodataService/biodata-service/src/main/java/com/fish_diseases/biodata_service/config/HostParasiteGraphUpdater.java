@@ -0,0 +1,120 @@
+package com.fish_diseases.biodata_service.config;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.springframework.stereotype.Component;
+
+import com.fish_diseases.biodata_service.dtos.HostParasiteEdgeDTO;
+import com.fish_diseases.biodata_service.entities.Fish;
+import com.fish_diseases.biodata_service.entities.Parasite;
+import com.fish_diseases.biodata_service.services.HostParasiteGraphService;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Mantiene al día el grafo de {@link HostParasiteGraphService} con los cambios de {@code Parasite.fishes}, el
+ * lado propietario de {@code parasite_fishes}.
+ *
+ * <p>Por cada parásito cuya colección se crea, modifica o elimina se guardan sus hospedadores actuales. Los
+ * cambios de una transacción se acumulan y, si se confirma, se aplican al grafo de una vez, de modo que una
+ * carga masiva produce un único grafo nuevo.</p>
+ */
+@Component
+public class HostParasiteGraphUpdater implements PostCollectionRecreateEventListener,
+		PostCollectionUpdateEventListener, PostCollectionRemoveEventListener {
+
+	private static final String OWNING_ROLE = Parasite.class.getName() + ".fishes";
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final HostParasiteGraphService graphService;
+	private final Map<EventSource, Map<Long, List<HostParasiteEdgeDTO>>> pendingBySession = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructor de la clase {@link HostParasiteGraphUpdater}.
+	 *
+	 * @param entityManagerFactory Factoría de la unidad de persistencia.
+	 * @param graphService         Servicio propietario del grafo de hospedadores.
+	 */
+	public HostParasiteGraphUpdater(EntityManagerFactory entityManagerFactory, HostParasiteGraphService graphService) {
+		this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+		this.graphService = graphService;
+	}
+
+	/**
+	 * Registra el listener en los eventos de colecciones de Hibernate.
+	 */
+	@PostConstruct
+	void register() {
+		EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+		registry.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+		registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+		registry.appendListeners(EventType.POST_COLLECTION_REMOVE, this);
+	}
+
+	@Override
+	public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+		recordHosts(event, true);
+	}
+
+	@Override
+	public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+		recordHosts(event, true);
+	}
+
+	@Override
+	public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+		recordHosts(event, false);
+	}
+
+	private void recordHosts(AbstractCollectionEvent event, boolean hasHosts) {
+		if (!OWNING_ROLE.equals(event.getCollection().getRole())
+				|| !(event.getAffectedOwnerOrNull() instanceof Parasite parasite)) {
+			return;
+		}
+		List<HostParasiteEdgeDTO> edges = new ArrayList<>();
+		if (hasHosts) {
+			for (Object host : (Collection<?>) event.getCollection()) {
+				Fish fish = (Fish) host;
+				edges.add(new HostParasiteEdgeDTO(parasite.getId(), parasite.getScientificName(), fish.getId(),
+						fish.getScientificName()));
+			}
+		}
+		pendingFor(event.getSession()).put(parasite.getId(), edges);
+	}
+
+	private Map<Long, List<HostParasiteEdgeDTO>> pendingFor(EventSource session) {
+		Map<Long, List<HostParasiteEdgeDTO>> pending = pendingBySession.get(session);
+		if (pending == null) {
+			Map<Long, List<HostParasiteEdgeDTO>> newPending = new LinkedHashMap<>();
+			pending = newPending;
+			pendingBySession.put(session, newPending);
+			AfterTransactionCompletionProcess applyOnCommit = (success, completedSession) -> {
+				pendingBySession.remove(session);
+				if (success) {
+					graphService.replaceParasiteHosts(newPending.keySet(),
+							newPending.values().stream().flatMap(List::stream).toList());
+				}
+			};
+			session.getActionQueue().registerProcess(applyOnCommit);
+		}
+		return pending;
+	}
+}
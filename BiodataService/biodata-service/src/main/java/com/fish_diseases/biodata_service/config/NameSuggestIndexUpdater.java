@@ -0,0 +1,106 @@
+package com.fish_diseases.biodata_service.config;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import com.fish_diseases.biodata_service.dtos.NameSuggestionDTO;
+import com.fish_diseases.biodata_service.entities.Fish;
+import com.fish_diseases.biodata_service.entities.Parasite;
+import com.fish_diseases.biodata_service.services.NameSuggestService;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Mantiene al día los índices de autocompletado de {@link NameSuggestService} con las altas, modificaciones
+ * y bajas de peces y parásitos.
+ *
+ * <p>Escucha los eventos de entidad de Hibernate, de modo que recoge los cambios de cualquier servicio o
+ * importación que use JPA. Los nombres se copian al producirse el evento y se aplican al índice al terminar
+ * la transacción, solo si se ha confirmado, para no sugerir nombres que se han deshecho.</p>
+ */
+@Component
+public class NameSuggestIndexUpdater implements PostInsertEventListener, PostUpdateEventListener,
+		PostDeleteEventListener {
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final NameSuggestService nameSuggestService;
+
+	/**
+	 * Constructor de la clase {@link NameSuggestIndexUpdater}.
+	 *
+	 * @param entityManagerFactory Factoría de la unidad de persistencia.
+	 * @param nameSuggestService   Servicio propietario de los índices de autocompletado.
+	 */
+	public NameSuggestIndexUpdater(EntityManagerFactory entityManagerFactory, NameSuggestService nameSuggestService) {
+		this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+		this.nameSuggestService = nameSuggestService;
+	}
+
+	/**
+	 * Registra el listener en los eventos de entidad de Hibernate.
+	 */
+	@PostConstruct
+	void register() {
+		EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+		registry.appendListeners(EventType.POST_INSERT, this);
+		registry.appendListeners(EventType.POST_UPDATE, this);
+		registry.appendListeners(EventType.POST_DELETE, this);
+	}
+
+	@Override
+	public void onPostInsert(PostInsertEvent event) {
+		index(event.getSession(), event.getEntity());
+	}
+
+	@Override
+	public void onPostUpdate(PostUpdateEvent event) {
+		index(event.getSession(), event.getEntity());
+	}
+
+	@Override
+	public void onPostDelete(PostDeleteEvent event) {
+		Object id = event.getId();
+		if (event.getEntity() instanceof Fish) {
+			afterCommit(event.getSession(), () -> nameSuggestService.removeFish((Long) id));
+		} else if (event.getEntity() instanceof Parasite) {
+			afterCommit(event.getSession(), () -> nameSuggestService.removeParasite((Long) id));
+		}
+	}
+
+	@Override
+	public boolean requiresPostCommitHandling(EntityPersister persister) {
+		return false;
+	}
+
+	private void index(EventSource session, Object entity) {
+		if (entity instanceof Fish fish) {
+			NameSuggestionDTO names = new NameSuggestionDTO(fish.getId(), fish.getScientificName(), fish.getCommonName());
+			afterCommit(session, () -> nameSuggestService.indexFish(names));
+		} else if (entity instanceof Parasite parasite) {
+			NameSuggestionDTO names = new NameSuggestionDTO(parasite.getId(), parasite.getScientificName(),
+					parasite.getCommonName());
+			afterCommit(session, () -> nameSuggestService.indexParasite(names));
+		}
+	}
+
+	private void afterCommit(EventSource session, Runnable change) {
+		AfterTransactionCompletionProcess applyOnCommit = (success, completedSession) -> {
+			if (success) {
+				change.run();
+			}
+		};
+		session.getActionQueue().registerProcess(applyOnCommit);
+	}
+}
@@ -0,0 +1,56 @@
+package com.fish_diseases.biodata_service.controllers;
+
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.BAD_REQUEST_CODE;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.BAD_REQUEST_DESCRIPTION;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.INTERNAL_SERVER_ERROR_CODE;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.INTERNAL_SERVER_ERROR_DESCRIPTION;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.OK_CODE;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.OK_DESCRIPTION;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fish_diseases.biodata_service.dtos.ChangeFeedDTO;
+import com.fish_diseases.biodata_service.services.ChangeFeedService;
+
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/changes")
+@Tag(name = "Cambios", description = "Feed de altas, modificaciones y bajas de peces y parásitos para sincronizar copias del catálogo.")
+public class ChangeController {
+
+	@Autowired
+	private ChangeFeedService changeFeedService;
+
+	/////////////////////////////
+	//// MÉTODOS DE CONSULTA ////
+	/////////////////////////////
+
+	/**
+	 * Devuelve los cambios de peces y parásitos posteriores al cursor, con el estado actual de cada registro y
+	 * las bajas como lápidas. Sin cursor empieza desde el primer cambio registrado. La respuesta siempre lleva el
+	 * cursor desde el que continuar, aunque no haya cambios nuevos.
+	 *
+	 * @param since Cursor devuelto por la página anterior
+	 * @param limit Número máximo de cambios que se leen (por defecto, 500)
+	 * @return ResponseEntity
+	 */
+	@ApiResponses({
+			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(schema = @Schema(implementation = ChangeFeedDTO.class), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = BAD_REQUEST_CODE, description = BAD_REQUEST_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = INTERNAL_SERVER_ERROR_CODE, description = INTERNAL_SERVER_ERROR_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))) })
+	@GetMapping
+	public ResponseEntity<ChangeFeedDTO> getChanges(@RequestParam(required = false) String since,
+			@RequestParam(defaultValue = "500") int limit) {
+		return ResponseEntity.ok(changeFeedService.getChanges(since, limit));
+	}
+}
@@ -0,0 +1,53 @@
+package com.fish_diseases.biodata_service.controllers;
+
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.INTERNAL_SERVER_ERROR_CODE;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.INTERNAL_SERVER_ERROR_DESCRIPTION;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.NOT_FOUND_CODE;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.NOT_FOUND_DESCRIPTION;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.OK_CODE;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.OK_DESCRIPTION;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fish_diseases.biodata_service.entities.EnrichmentTask;
+import com.fish_diseases.biodata_service.services.EnrichmentService;
+
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/enrichment")
+@Tag(name = "Enriquecimiento", description = "Estado de las tareas de enriquecimiento con WoRMS.")
+public class EnrichmentController {
+
+	@Autowired
+	private EnrichmentService enrichmentService;
+
+	/////////////////////////////
+	//// MÉTODOS DE CONSULTA ////
+	/////////////////////////////
+
+	/**
+	 * Devuelve el estado de una tarea de enriquecimiento
+	 * 
+	 * @param taskId de la tarea
+	 * @return ResponseEntity
+	 */
+	@ApiResponses({
+			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(schema = @Schema(implementation = EnrichmentTask.class), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = NOT_FOUND_CODE, description = NOT_FOUND_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = INTERNAL_SERVER_ERROR_CODE, description = INTERNAL_SERVER_ERROR_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))) })
+	@GetMapping("/{taskId}")
+	public ResponseEntity<?> getEnrichmentTask(@PathVariable Long taskId) {
+		EnrichmentTask task = enrichmentService.findTask(taskId);
+		return ResponseEntity.ok(task);
+	}
+}
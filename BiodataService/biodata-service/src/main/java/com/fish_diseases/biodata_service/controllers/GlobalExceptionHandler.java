@@ -13,11 +13,23 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 
+import com.fish_diseases.biodata_service.exceptions.EnrichmentTaskNotFoundException;
 import com.fish_diseases.biodata_service.exceptions.FishNotFoundException;
+import com.fish_diseases.biodata_service.exceptions.InvalidCatalogFormatException;
+import com.fish_diseases.biodata_service.exceptions.InvalidChangeFeedQueryException;
+import com.fish_diseases.biodata_service.exceptions.InvalidGraphQueryException;
+import com.fish_diseases.biodata_service.exceptions.InvalidPaginationException;
+import com.fish_diseases.biodata_service.exceptions.InvalidSearchQueryException;
+import com.fish_diseases.biodata_service.exceptions.InvalidTaxonomyQueryException;
 import com.fish_diseases.biodata_service.exceptions.ParasiteNotFoundException;
+import com.fish_diseases.biodata_service.exceptions.WormsUnavailableException;
 import com.fish_diseases.biodata_service.utils.ResponseUtil;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+
 /**
  * Manejador global de excepciones para el servicio de datos biológicos.
  * Esta clase gestiona las excepciones lanzadas por los controladores relacionados con peces y parásitos,
@@ -51,6 +63,69 @@ public class GlobalExceptionHandler {
 		return responseUtil.error("error.fishNotFound", HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Maneja excepciones de tipo {@link EnrichmentTaskNotFoundException}.
+     * Devuelve un mensaje de error con código 404 (NOT_FOUND).
+     */
+    @ExceptionHandler(EnrichmentTaskNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleEnrichmentTaskNotFoundException() {
+		return responseUtil.error("error.enrichmentTaskNotFound", HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Maneja excepciones de tipo {@link InvalidPaginationException}.
+     * Devuelve un mensaje de error con código 400 (BAD_REQUEST).
+     */
+    @ExceptionHandler(InvalidPaginationException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidPaginationException() {
+		return responseUtil.error("error.invalidPagination", HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Maneja excepciones de tipo {@link InvalidSearchQueryException}.
+     * Devuelve un mensaje de error con código 400 (BAD_REQUEST).
+     */
+    @ExceptionHandler(InvalidSearchQueryException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidSearchQueryException() {
+		return responseUtil.error("error.invalidSearchQuery", HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Maneja excepciones de tipo {@link InvalidTaxonomyQueryException}.
+     * Devuelve un mensaje de error con código 400 (BAD_REQUEST).
+     */
+    @ExceptionHandler(InvalidTaxonomyQueryException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidTaxonomyQueryException() {
+		return responseUtil.error("error.invalidTaxonomyQuery", HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Maneja excepciones de tipo {@link InvalidChangeFeedQueryException}.
+     * Devuelve un mensaje de error con código 400 (BAD_REQUEST).
+     */
+    @ExceptionHandler(InvalidChangeFeedQueryException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidChangeFeedQueryException() {
+		return responseUtil.error("error.invalidChangeFeedQuery", HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Maneja excepciones de tipo {@link InvalidGraphQueryException}.
+     * Devuelve un mensaje de error con código 400 (BAD_REQUEST).
+     */
+    @ExceptionHandler(InvalidGraphQueryException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidGraphQueryException() {
+		return responseUtil.error("error.invalidGraphQuery", HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Maneja excepciones de tipo {@link InvalidCatalogFormatException}.
+     * Devuelve un mensaje de error con código 400 (BAD_REQUEST).
+     */
+    @ExceptionHandler(InvalidCatalogFormatException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidCatalogFormatException() {
+		return responseUtil.error("error.invalidCatalogFormat", HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * Maneja violaciones de integridad de datos (como claves duplicadas o restricciones únicas).
      * Devuelve un mensaje de error con código 409 (CONFLICT).
@@ -60,6 +135,17 @@ public class GlobalExceptionHandler {
         return responseUtil.error("error.dataIntegrityViolation", HttpStatus.CONFLICT);
     }
     
+    /**
+     * Maneja los rechazos de las políticas de resiliencia de WoRMS (circuit breaker abierto, bulkhead
+     * completo o limitador de peticiones saturado) y los errores de conexión con WoRMS.
+     * Devuelve un mensaje de error con código 503 (SERVICE_UNAVAILABLE).
+     */
+    @ExceptionHandler({ CallNotPermittedException.class, BulkheadFullException.class,
+            WormsUnavailableException.class, WebClientRequestException.class })
+    public ResponseEntity<Map<String, String>> handleWormsUnavailable() {
+        return responseUtil.error("error.wormsUnavailable", HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     /**
      * Maneja excepciones causadas por argumentos ilegales (por ejemplo, IDs con formato inválido).
      * Devuelve un mensaje de error con código 400 (BAD_REQUEST).
@@ -0,0 +1,155 @@
+package com.fish_diseases.biodata_service.controllers;
+
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.BAD_REQUEST_CODE;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.BAD_REQUEST_DESCRIPTION;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.INTERNAL_SERVER_ERROR_CODE;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.INTERNAL_SERVER_ERROR_DESCRIPTION;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.NO_CONTENT_CODE;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.NO_CONTENT_DESCRIPTION;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.OK_CODE;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.OK_DESCRIPTION;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fish_diseases.biodata_service.dtos.GraphNodeDTO;
+import com.fish_diseases.biodata_service.dtos.SharedNeighboursDTO;
+import com.fish_diseases.biodata_service.services.HostParasiteGraphService;
+import com.fish_diseases.biodata_service.utils.ResponseUtil;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/graph")
+@Tag(name = "Grafo de hospedadores", description = "Consultas sobre las relaciones entre peces y parásitos.")
+public class GraphController {
+
+	@Autowired
+	private HostParasiteGraphService graphService;
+
+	@Autowired
+	private ResponseUtil responseUtil;
+
+	/////////////////////////////
+	//// MÉTODOS DE CONSULTA ////
+	/////////////////////////////
+
+	/**
+	 * Devuelve los parásitos de un pez
+	 * 
+	 * @param scientificName del pez
+	 * @return ResponseEntity
+	 */
+	@ApiResponses({
+			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(array = @ArraySchema(schema = @Schema(implementation = GraphNodeDTO.class)), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = NO_CONTENT_CODE, description = NO_CONTENT_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = INTERNAL_SERVER_ERROR_CODE, description = INTERNAL_SERVER_ERROR_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))) })
+	@GetMapping("/fishes/{scientificName}/parasites")
+	public ResponseEntity<?> getParasitesOfFish(@PathVariable String scientificName) {
+		List<GraphNodeDTO> nodes = graphService.getParasitesOfFish(scientificName);
+		return responseUtil.page(nodes, null, Optional.empty());
+	}
+
+	/**
+	 * Devuelve los peces hospedadores de un parásito
+	 * 
+	 * @param scientificName del parásito
+	 * @return ResponseEntity
+	 */
+	@ApiResponses({
+			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(array = @ArraySchema(schema = @Schema(implementation = GraphNodeDTO.class)), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = NO_CONTENT_CODE, description = NO_CONTENT_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = INTERNAL_SERVER_ERROR_CODE, description = INTERNAL_SERVER_ERROR_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))) })
+	@GetMapping("/parasites/{scientificName}/hosts")
+	public ResponseEntity<?> getHostsOfParasite(@PathVariable String scientificName) {
+		List<GraphNodeDTO> nodes = graphService.getHostsOfParasite(scientificName);
+		return responseUtil.page(nodes, null, Optional.empty());
+	}
+
+	/**
+	 * Devuelve los peces que comparten al menos {@code minShared} parásitos con un pez
+	 * 
+	 * @param scientificName del pez
+	 * @param minShared número mínimo de parásitos comunes (por defecto, 2)
+	 * @return ResponseEntity
+	 */
+	@ApiResponses({
+			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(array = @ArraySchema(schema = @Schema(implementation = SharedNeighboursDTO.class)), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = NO_CONTENT_CODE, description = NO_CONTENT_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = BAD_REQUEST_CODE, description = BAD_REQUEST_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = INTERNAL_SERVER_ERROR_CODE, description = INTERNAL_SERVER_ERROR_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))) })
+	@GetMapping("/fishes/{scientificName}/related")
+	public ResponseEntity<?> getFishesSharingParasites(@PathVariable String scientificName,
+			@RequestParam(defaultValue = "2") int minShared) {
+		List<SharedNeighboursDTO> nodes = graphService.getFishesSharingParasites(scientificName, minShared);
+		return responseUtil.page(nodes, null, Optional.empty());
+	}
+
+	/**
+	 * Devuelve los parásitos que comparten al menos {@code minShared} hospedadores con un parásito
+	 * 
+	 * @param scientificName del parásito
+	 * @param minShared número mínimo de hospedadores comunes (por defecto, 2)
+	 * @return ResponseEntity
+	 */
+	@ApiResponses({
+			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(array = @ArraySchema(schema = @Schema(implementation = SharedNeighboursDTO.class)), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = NO_CONTENT_CODE, description = NO_CONTENT_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = BAD_REQUEST_CODE, description = BAD_REQUEST_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = INTERNAL_SERVER_ERROR_CODE, description = INTERNAL_SERVER_ERROR_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))) })
+	@GetMapping("/parasites/{scientificName}/related")
+	public ResponseEntity<?> getParasitesSharingHosts(@PathVariable String scientificName,
+			@RequestParam(defaultValue = "2") int minShared) {
+		List<SharedNeighboursDTO> nodes = graphService.getParasitesSharingHosts(scientificName, minShared);
+		return responseUtil.page(nodes, null, Optional.empty());
+	}
+
+	/**
+	 * Devuelve los peces y parásitos a como mucho {@code k} saltos de un pez (entre 1 y 4)
+	 * 
+	 * @param scientificName del pez
+	 * @param k número máximo de saltos (por defecto, 2)
+	 * @return ResponseEntity
+	 */
+	@ApiResponses({
+			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(array = @ArraySchema(schema = @Schema(implementation = GraphNodeDTO.class)), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = NO_CONTENT_CODE, description = NO_CONTENT_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = BAD_REQUEST_CODE, description = BAD_REQUEST_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = INTERNAL_SERVER_ERROR_CODE, description = INTERNAL_SERVER_ERROR_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))) })
+	@GetMapping("/fishes/{scientificName}/hops")
+	public ResponseEntity<?> getWithinHopsOfFish(@PathVariable String scientificName, @RequestParam(defaultValue = "2") int k) {
+		List<GraphNodeDTO> nodes = graphService.getWithinHopsOfFish(scientificName, k);
+		return responseUtil.page(nodes, null, Optional.empty());
+	}
+
+	/**
+	 * Devuelve los peces y parásitos a como mucho {@code k} saltos de un parásito (entre 1 y 4)
+	 * 
+	 * @param scientificName del parásito
+	 * @param k número máximo de saltos (por defecto, 2)
+	 * @return ResponseEntity
+	 */
+	@ApiResponses({
+			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(array = @ArraySchema(schema = @Schema(implementation = GraphNodeDTO.class)), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = NO_CONTENT_CODE, description = NO_CONTENT_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = BAD_REQUEST_CODE, description = BAD_REQUEST_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = INTERNAL_SERVER_ERROR_CODE, description = INTERNAL_SERVER_ERROR_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))) })
+	@GetMapping("/parasites/{scientificName}/hops")
+	public ResponseEntity<?> getWithinHopsOfParasite(@PathVariable String scientificName, @RequestParam(defaultValue = "2") int k) {
+		List<GraphNodeDTO> nodes = graphService.getWithinHopsOfParasite(scientificName, k);
+		return responseUtil.page(nodes, null, Optional.empty());
+	}
+}
@@ -1,5 +1,7 @@
 package com.fish_diseases.biodata_service.controllers;
 
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.ACCEPTED_CODE;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.ACCEPTED_DESCRIPTION;
 import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.BAD_REQUEST_CODE;
 import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.BAD_REQUEST_DESCRIPTION;
 import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.CONFLICT_CODE;
@@ -10,14 +12,25 @@ import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.I
 import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.INTERNAL_SERVER_ERROR_DESCRIPTION;
 import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.NOT_FOUND_CODE;
 import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.NOT_FOUND_DESCRIPTION;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.NOT_MODIFIED_CODE;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.NOT_MODIFIED_DESCRIPTION;
 import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.NO_CONTENT_CODE;
 import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.NO_CONTENT_DESCRIPTION;
 import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.OK_CODE;
 import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.OK_DESCRIPTION;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.SERVICE_UNAVAILABLE_CODE;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.SERVICE_UNAVAILABLE_DESCRIPTION;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -28,12 +41,30 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fish_diseases.biodata_service.dtos.BatchFetchResultDTO;
+import com.fish_diseases.biodata_service.dtos.BulkImportResultDTO;
 import com.fish_diseases.biodata_service.dtos.CreateParasiteDTO;
+import com.fish_diseases.biodata_service.dtos.NameSuggestionDTO;
+import com.fish_diseases.biodata_service.dtos.ParasiteDetailDTO;
+import com.fish_diseases.biodata_service.dtos.ParasiteSearchResultDTO;
+import com.fish_diseases.biodata_service.dtos.ParasiteSummaryDTO;
 import com.fish_diseases.biodata_service.dtos.UpdateParasiteDTO;
+import com.fish_diseases.biodata_service.entities.EnrichmentStatus;
+import com.fish_diseases.biodata_service.entities.EnrichmentTask;
 import com.fish_diseases.biodata_service.entities.Parasite;
+import com.fish_diseases.biodata_service.exceptions.InvalidCatalogFormatException;
+import com.fish_diseases.biodata_service.services.BulkImportService;
+import com.fish_diseases.biodata_service.services.CatalogExportService;
+import com.fish_diseases.biodata_service.services.NameSuggestService;
 import com.fish_diseases.biodata_service.services.ParasiteService;
+import com.fish_diseases.biodata_service.utils.CatalogFormat;
+import com.fish_diseases.biodata_service.utils.InFlightRequestRegistry;
+import com.fish_diseases.biodata_service.utils.KeysetCursor;
 import com.fish_diseases.biodata_service.utils.ResponseUtil;
 import com.fish_diseases.biodata_service.utils.ValidationUtils;
 
@@ -53,46 +84,138 @@ public class ParasiteController {
 	@Autowired
 	private ParasiteService parasiteService;
 
+	@Autowired
+	private NameSuggestService nameSuggestService;
+
+	@Autowired
+	private CatalogExportService catalogExportService;
+
+	@Autowired
+	private BulkImportService bulkImportService;
+
 	@Autowired
 	private ResponseUtil responseUtil;
 
+	@Autowired
+	private InFlightRequestRegistry inFlightRequests;
+
+	@Value("${worms.batch.max-names:1000}")
+	private int maxBatchNames;
+
 	/////////////////////////////
 	//// MÉTODOS DE CONSULTA ////
 	/////////////////////////////
 
 	/**
-	 * Devuelve todos los parásitos
+	 * Devuelve una página de parásitos. Sin cursor usa paginación por desplazamiento ({@code page}, {@code size}
+	 * y {@code sort} por {@code id} o {@code scientificName}) e incluye el total en {@code X-Total-Count}.
+	 * Con {@code cursor} devuelve la página siguiente a la del cursor sin calcular el total, con un coste
+	 * que no depende de la profundidad. Si la página está completa, {@code X-Next-Cursor} lleva el cursor
+	 * de la siguiente.
 	 * 
+	 * @param pageable Página, tamaño y ordenación (por defecto, 50 por nombre científico)
+	 * @param cursor   Cursor devuelto en {@code X-Next-Cursor} por la página anterior
+	 * @param request  Petición en curso, con sus cabeceras condicionales
 	 * @return ResponseEntity
 	 */
 	@ApiResponses({
-			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(array = @ArraySchema(schema = @Schema(implementation = Parasite.class)), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(array = @ArraySchema(schema = @Schema(implementation = ParasiteSummaryDTO.class)), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = NOT_MODIFIED_CODE, description = NOT_MODIFIED_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = NO_CONTENT_CODE, description = NO_CONTENT_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
-			@ApiResponse(responseCode = NOT_FOUND_CODE, description = NOT_FOUND_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = BAD_REQUEST_CODE, description = BAD_REQUEST_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = INTERNAL_SERVER_ERROR_CODE, description = INTERNAL_SERVER_ERROR_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))) })
 	@GetMapping
-	public ResponseEntity<?> list() {
-		List<Parasite> parasites = parasiteService.findAll();
-		if (parasites.isEmpty()) {
-			return ResponseEntity.noContent().build();
+	public ResponseEntity<?> list(@PageableDefault(size = 50, sort = KeysetCursor.SCIENTIFIC_NAME) Pageable pageable,
+			@RequestParam(required = false) String cursor, WebRequest request) {
+		if (responseUtil.notModified(request, "parasites:" + pageable + ":" + cursor, Optional.of(parasiteService.getCatalogVersion()))) {
+			return null;
+		}
+		if (cursor != null) {
+			KeysetCursor after = KeysetCursor.decode(cursor);
+			List<ParasiteSummaryDTO> parasites = parasiteService.findAllAfter(after, pageable.getPageSize());
+			return responseUtil.page(parasites, null, nextCursor(after.sort(), pageable.getPageSize(), parasites));
 		}
-		return ResponseEntity.ok(parasites);
+		Page<ParasiteSummaryDTO> page = parasiteService.findAll(pageable);
+		return responseUtil.page(page.getContent(), page.getTotalElements(),
+				nextCursor(page.getSort(), page.getSize(), page.getContent()));
+	}
+
+	/**
+	 * Autocompleta nombres de parásitos: devuelve los que tienen un nombre científico o común que empieza
+	 * por el prefijo, sin distinguir mayúsculas ni tildes. Se sirve desde un índice en memoria.
+	 *
+	 * @param prefix Prefijo escrito por el usuario
+	 * @param size   Número máximo de sugerencias (por defecto, 10; máximo, 100)
+	 * @return ResponseEntity
+	 */
+	@ApiResponses({
+			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(array = @ArraySchema(schema = @Schema(implementation = NameSuggestionDTO.class)), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = NO_CONTENT_CODE, description = NO_CONTENT_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = BAD_REQUEST_CODE, description = BAD_REQUEST_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = INTERNAL_SERVER_ERROR_CODE, description = INTERNAL_SERVER_ERROR_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))) })
+	@GetMapping("/suggest")
+	public ResponseEntity<?> suggest(@RequestParam String prefix, @RequestParam(defaultValue = "10") int size) {
+		List<NameSuggestionDTO> suggestions = nameSuggestService.suggestParasites(prefix, size);
+		return responseUtil.page(suggestions, null, Optional.empty());
+	}
+
+	/**
+	 * Busca parásitos por texto libre en sus nombres y campos descriptivos, en español y en inglés.
+	 * Admite frases entre comillas, {@code or} y exclusiones con {@code -}. Los resultados se ordenan
+	 * por relevancia e incluyen los fragmentos en los que aparecen los términos, en HTML escapado y
+	 * marcados con {@code <mark>}.
+	 *
+	 * @param q    Texto de la búsqueda
+	 * @param size Número máximo de resultados (por defecto, 20; máximo, 100)
+	 * @return ResponseEntity
+	 */
+	@ApiResponses({
+			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(array = @ArraySchema(schema = @Schema(implementation = ParasiteSearchResultDTO.class)), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = NO_CONTENT_CODE, description = NO_CONTENT_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = BAD_REQUEST_CODE, description = BAD_REQUEST_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = INTERNAL_SERVER_ERROR_CODE, description = INTERNAL_SERVER_ERROR_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))) })
+	@GetMapping("/search")
+	public ResponseEntity<?> search(@RequestParam String q, @RequestParam(defaultValue = "20") int size) {
+		List<ParasiteSearchResultDTO> parasites = parasiteService.search(q, size);
+		return responseUtil.page(parasites, null, Optional.empty());
+	}
+
+	/**
+	 * Exporta todos los parásitos en NDJSON o CSV, con la taxonomía aplanada y los nombres de sus
+	 * peces hospedadores. Las filas se escriben en la respuesta a medida que se leen de la base de datos.
+	 *
+	 * @param format Formato de la exportación: {@code ndjson} (por defecto) o {@code csv}
+	 * @return ResponseEntity
+	 */
+	@ApiResponses({
+			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(mediaType = org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE)),
+			@ApiResponse(responseCode = BAD_REQUEST_CODE, description = BAD_REQUEST_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = INTERNAL_SERVER_ERROR_CODE, description = INTERNAL_SERVER_ERROR_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))) })
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format) {
+		CatalogFormat catalogFormat = CatalogFormat.fromExtension(format).orElseThrow(InvalidCatalogFormatException::new);
+		return responseUtil.export("parasites", catalogFormat, out -> catalogExportService.exportParasites(catalogFormat, out));
 	}
 
 	/**
 	 * Devuelve parásito por Id
 	 * 
 	 * @param id del parásito
+	 * @param request Petición en curso, con sus cabeceras condicionales
 	 * @return ResponseEntity
 	 */
 	@ApiResponses({
-			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(array = @ArraySchema(schema = @Schema(implementation = Parasite.class)), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(schema = @Schema(implementation = ParasiteDetailDTO.class), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = NOT_MODIFIED_CODE, description = NOT_MODIFIED_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = NO_CONTENT_CODE, description = NO_CONTENT_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = NOT_FOUND_CODE, description = NOT_FOUND_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = INTERNAL_SERVER_ERROR_CODE, description = INTERNAL_SERVER_ERROR_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))) })
 	@GetMapping("/{id}")
-	public ResponseEntity<?> getParasiteById(@PathVariable Long id) {
-		Parasite parasite = parasiteService.findById(id);
+	public ResponseEntity<?> getParasiteById(@PathVariable Long id, WebRequest request) {
+		if (responseUtil.notModified(request, "parasite:" + id, parasiteService.getDetailVersionById(id))) {
+			return null;
+		}
+		ParasiteDetailDTO parasite = parasiteService.findDetailById(id);
 		return ResponseEntity.ok(parasite);
 	}
 
@@ -100,16 +223,21 @@ public class ParasiteController {
 	 * Devuelve parásito por scientificName
 	 * 
 	 * @param scientificName del parásito
+	 * @param request Petición en curso, con sus cabeceras condicionales
 	 * @return ResponseEntity
 	 */
 	@ApiResponses({
-			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(array = @ArraySchema(schema = @Schema(implementation = Parasite.class)), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(schema = @Schema(implementation = ParasiteDetailDTO.class), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = NOT_MODIFIED_CODE, description = NOT_MODIFIED_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = NO_CONTENT_CODE, description = NO_CONTENT_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = NOT_FOUND_CODE, description = NOT_FOUND_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = INTERNAL_SERVER_ERROR_CODE, description = INTERNAL_SERVER_ERROR_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))) })
 	@GetMapping("/sn/{scientificName}")
-	public ResponseEntity<?> getParasiteByScientificName(@PathVariable String scientificName) {
-		Parasite parasite = parasiteService.findByScientificName(scientificName);
+	public ResponseEntity<?> getParasiteByScientificName(@PathVariable String scientificName, WebRequest request) {
+		if (responseUtil.notModified(request, "parasite:" + scientificName, parasiteService.getDetailVersionByScientificName(scientificName))) {
+			return null;
+		}
+		ParasiteDetailDTO parasite = parasiteService.findDetailByScientificName(scientificName);
 		return ResponseEntity.ok(parasite);
 	}
 
@@ -118,23 +246,50 @@ public class ParasiteController {
 	/////////////////////////////
 
 	/**
-	 * Obtiene datos de parásito desde API externa por scientificName
+	 * Obtiene datos de parásito desde API externa por scientificName. Las peticiones
+	 * concurrentes para el mismo scientificName, síncronas o asíncronas, comparten una única ejecución.
+	 * Con {@code async=true} el parásito se guarda como pendiente y se completa en segundo plano;
+	 * la respuesta 202 incluye la tarea y la URL de consulta de su estado. Si el parásito ya está pendiente,
+	 * la petición síncrona también responde 202 en lugar de devolver el registro sin completar.
 	 * 
 	 * @param scientificName del parásito
+	 * @param async si se completa en segundo plano
 	 * @return ResponseEntity
 	 */
 	@ApiResponses({
-			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(array = @ArraySchema(schema = @Schema(implementation = Parasite.class)), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(schema = @Schema(implementation = ParasiteDetailDTO.class), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = ACCEPTED_CODE, description = ACCEPTED_DESCRIPTION, content = @Content(schema = @Schema(implementation = EnrichmentTask.class), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
 			@ApiResponse(responseCode = NO_CONTENT_CODE, description = NO_CONTENT_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = NOT_FOUND_CODE, description = NOT_FOUND_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = CONFLICT_CODE, description = CONFLICT_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
-			@ApiResponse(responseCode = INTERNAL_SERVER_ERROR_CODE, description = INTERNAL_SERVER_ERROR_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))) })
+			@ApiResponse(responseCode = INTERNAL_SERVER_ERROR_CODE, description = INTERNAL_SERVER_ERROR_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = SERVICE_UNAVAILABLE_CODE, description = SERVICE_UNAVAILABLE_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))) })
 	@GetMapping("/fetch/{scientificName}")
-	public ResponseEntity<?> fetchParasiteData(@PathVariable String scientificName) {
-		return parasiteService
-				.findOrFetchAndPrepareParasite(scientificName)
-				.<ResponseEntity<?>>map(ResponseEntity::ok)
-				.orElseGet(() -> responseUtil.error("error.parasiteNotFound", HttpStatus.NOT_FOUND));
+	public ResponseEntity<?> fetchParasiteData(@PathVariable String scientificName,
+			@RequestParam(defaultValue = "false") boolean async) {
+		return inFlightRequests.execute("parasites:" + scientificName,
+				() -> async ? requestParasiteEnrichment(scientificName) : fetchParasite(scientificName));
+	}
+
+	/**
+	 * Obtiene datos de varios parásitos desde API externa por scientificName. Los existentes
+	 * no se consultan a WoRMS. La respuesta es NDJSON con una línea por nombre (EXISTING, CREATED,
+	 * NOT_FOUND o FAILED), que se envía en cuanto se conoce su resultado.
+	 * 
+	 * @param scientificNames de los parásitos
+	 * @return ResponseEntity
+	 */
+	@ApiResponses({
+			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(array = @ArraySchema(schema = @Schema(implementation = BatchFetchResultDTO.class)), mediaType = org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE)),
+			@ApiResponse(responseCode = BAD_REQUEST_CODE, description = BAD_REQUEST_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = INTERNAL_SERVER_ERROR_CODE, description = INTERNAL_SERVER_ERROR_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))) })
+	@PostMapping("/fetch/batch")
+	public ResponseEntity<?> fetchParasitesBatch(@RequestBody List<String> scientificNames) {
+		if (scientificNames.isEmpty() || scientificNames.size() > maxBatchNames) {
+			return responseUtil.error("error.invalidBatchSize", HttpStatus.BAD_REQUEST);
+		}
+
+		return responseUtil.<BatchFetchResultDTO>ndjson(onResult -> parasiteService.fetchAndPrepareParasites(scientificNames, onResult));
 	}
 
 	/**
@@ -161,6 +316,27 @@ public class ParasiteController {
 		return responseUtil.success("message.parasiteCreated", HttpStatus.CREATED);
 	}
 
+	/**
+	 * Carga masiva de parásitos desde un fichero NDJSON o CSV con la forma de la exportación. Los existentes se
+	 * actualizan, los nuevos se insertan y los peces hospedadores que no existan se crean solo con su nombre. Las filas
+	 * no válidas se rechazan sin impedir la carga del resto.
+	 *
+	 * @param format Formato del fichero: {@code ndjson} (por defecto) o {@code csv}
+	 * @param enrich Si los registros nuevos se encolan para completarlos con WoRMS (por defecto no)
+	 * @param body   Contenido del fichero
+	 * @return ResponseEntity
+	 */
+	@ApiResponses({
+			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(schema = @Schema(implementation = BulkImportResultDTO.class), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = BAD_REQUEST_CODE, description = BAD_REQUEST_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = INTERNAL_SERVER_ERROR_CODE, description = INTERNAL_SERVER_ERROR_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))) })
+	@PostMapping("/import")
+	public ResponseEntity<BulkImportResultDTO> importParasites(@RequestParam(defaultValue = "ndjson") String format,
+			@RequestParam(defaultValue = "false") boolean enrich, InputStream body) {
+		CatalogFormat catalogFormat = CatalogFormat.fromExtension(format).orElseThrow(InvalidCatalogFormatException::new);
+		return ResponseEntity.ok(bulkImportService.importParasites(catalogFormat, body, enrich));
+	}
+
 	//////////////////////////////////
 	//// MÉTODOS DE ACTUALIZACIÓN ////
 	//////////////////////////////////
@@ -213,4 +389,42 @@ public class ParasiteController {
 
 	}
 
+	/**
+	 * Registra el parásito para completarlo en segundo plano: responde 202 con la tarea en curso o, si
+	 * ya está completo, 200 con el parásito.
+	 */
+	private ResponseEntity<?> requestParasiteEnrichment(String scientificName) {
+		return parasiteService
+				.requestParasiteEnrichment(scientificName)
+				.<ResponseEntity<?>>map(responseUtil::accepted)
+				.orElseGet(() -> ResponseEntity.ok(parasiteService.findDetailByScientificName(scientificName)));
+	}
+
+	/**
+	 * Obtiene el parásito de la base de datos o de WoRMS. Un parásito pendiente de completar en segundo
+	 * plano se responde igual que una petición asíncrona.
+	 */
+	private ResponseEntity<?> fetchParasite(String scientificName) {
+		Optional<Parasite> parasite = parasiteService.findOrFetchAndPrepareParasite(scientificName);
+		if (parasite.isPresent() && parasite.get().getEnrichmentStatus() == EnrichmentStatus.PENDING) {
+			return requestParasiteEnrichment(scientificName);
+		}
+
+		return parasite
+				.map(Parasite::getId)
+				.map(parasiteService::findDetailById)
+				.<ResponseEntity<?>>map(ResponseEntity::ok)
+				.orElseGet(() -> responseUtil.error("error.parasiteNotFound", HttpStatus.NOT_FOUND));
+	}
+
+	/**
+	 * Cursor de la página siguiente a una página de parásitos.
+	 */
+	private static Optional<KeysetCursor> nextCursor(Sort sort, int pageSize, List<ParasiteSummaryDTO> parasites) {
+		if (parasites.isEmpty()) {
+			return Optional.empty();
+		}
+		ParasiteSummaryDTO last = parasites.get(parasites.size() - 1);
+		return KeysetCursor.next(sort, pageSize, parasites.size(), last.id(), last.scientificName());
+	}
 }
@@ -0,0 +1,91 @@
+package com.fish_diseases.biodata_service.controllers;
+
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.BAD_REQUEST_CODE;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.BAD_REQUEST_DESCRIPTION;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.INTERNAL_SERVER_ERROR_CODE;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.INTERNAL_SERVER_ERROR_DESCRIPTION;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.NO_CONTENT_CODE;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.NO_CONTENT_DESCRIPTION;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.OK_CODE;
+import static com.fish_diseases.biodata_service.featurehelper.SwaggerConstants.OK_DESCRIPTION;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fish_diseases.biodata_service.dtos.TaxonomyCountDTO;
+import com.fish_diseases.biodata_service.services.TaxonomyStatsService;
+import com.fish_diseases.biodata_service.utils.ResponseUtil;
+import com.fish_diseases.biodata_service.utils.TaxonomyRank;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/taxonomy")
+@Tag(name = "Taxonomía", description = "Recuentos de peces y parásitos por rango taxonómico.")
+public class TaxonomyController {
+
+	@Autowired
+	private TaxonomyStatsService taxonomyStatsService;
+
+	@Autowired
+	private ResponseUtil responseUtil;
+
+	/////////////////////////////
+	//// MÉTODOS DE CONSULTA ////
+	/////////////////////////////
+
+	/**
+	 * Devuelve el número de peces o parásitos por cada valor de un rango taxonómico (kingdom, phylum,
+	 * className, orderName, family o genus). Para bajar un nivel se filtra por los rangos superiores,
+	 * por ejemplo las familias de un orden con {@code rank=family&orderName=Perciformes}.
+	 *
+	 * @param entity    fish o parasite
+	 * @param rank      Rango por el que se agrega (por defecto, family)
+	 * @param kingdom   Reino por el que se filtra
+	 * @param phylum    Filo por el que se filtra
+	 * @param className Clase por la que se filtra
+	 * @param orderName Orden por el que se filtra
+	 * @param family    Familia por la que se filtra
+	 * @return ResponseEntity
+	 */
+	@ApiResponses({
+			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(array = @ArraySchema(schema = @Schema(implementation = TaxonomyCountDTO.class)), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = NO_CONTENT_CODE, description = NO_CONTENT_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = BAD_REQUEST_CODE, description = BAD_REQUEST_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = INTERNAL_SERVER_ERROR_CODE, description = INTERNAL_SERVER_ERROR_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))) })
+	@GetMapping("/stats")
+	public ResponseEntity<?> stats(@RequestParam String entity, @RequestParam(defaultValue = "family") String rank,
+			@RequestParam(required = false) String kingdom, @RequestParam(required = false) String phylum,
+			@RequestParam(required = false) String className, @RequestParam(required = false) String orderName,
+			@RequestParam(required = false) String family) {
+		Map<TaxonomyRank, String> filters = new EnumMap<>(TaxonomyRank.class);
+		putIfPresent(filters, TaxonomyRank.KINGDOM, kingdom);
+		putIfPresent(filters, TaxonomyRank.PHYLUM, phylum);
+		putIfPresent(filters, TaxonomyRank.CLASS, className);
+		putIfPresent(filters, TaxonomyRank.ORDER, orderName);
+		putIfPresent(filters, TaxonomyRank.FAMILY, family);
+
+		List<TaxonomyCountDTO> counts = taxonomyStatsService.countByRank(entity, rank, filters);
+		return responseUtil.page(counts, null, Optional.empty());
+	}
+
+	private static void putIfPresent(Map<TaxonomyRank, String> filters, TaxonomyRank rank, String value) {
+		if (value != null) {
+			filters.put(rank, value);
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package com.fish_diseases.biodata_service.dtos;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import lombok.AllArgsConstructor;
@@ -9,8 +10,11 @@ import lombok.NoArgsConstructor;
 
 /**
  * DTO que representa la información taxonómica obtenida desde una API externa,
- * como WoRMS (World Register of Marine Species). Mapea directamente campos relevantes del JSON.
+ * como WoRMS (World Register of Marine Species). Mapea directamente campos relevantes del JSON,
+ * de modo que las respuestas de WoRMS se decodifican en este DTO sin pasar por mapas intermedios.
+ * El resto de campos de la respuesta se ignoran.
  */
+@JsonIgnoreProperties(ignoreUnknown = true)
 @Data
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,54 @@
+package com.fish_diseases.biodata_service.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el resultado de un nombre científico en una importación por lotes desde WoRMS.
+ * Se emite una línea por nombre en cuanto se conoce su resultado.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchFetchResultDTO {
+
+	/**
+	 * Resultado de la importación de un nombre científico.
+	 */
+	public enum Outcome {
+		/** El registro ya existía en la base de datos. */
+		EXISTING,
+		/** El registro se ha creado con los datos de WoRMS. */
+		CREATED,
+		/** WoRMS no contiene el nombre científico. */
+		NOT_FOUND,
+		/** No se pudo completar la importación del nombre científico. */
+		FAILED
+	}
+
+    /**
+     * Nombre científico solicitado.
+     */
+	private String scientificName;
+
+    /**
+     * Resultado de la importación.
+     */
+	private Outcome outcome;
+
+    /**
+     * Identificador del registro existente o creado.
+     */
+	private Long id;
+
+    /**
+     * Motivo del fallo, si la importación no se pudo completar.
+     */
+	private String error;
+}
@@ -0,0 +1,11 @@
+package com.fish_diseases.biodata_service.dtos;
+
+/**
+ * Fila rechazada en una carga masiva.
+ *
+ * @param line           Línea del fichero en la que empieza la fila.
+ * @param scientificName Nombre científico de la fila, si se pudo leer.
+ * @param message        Motivo del rechazo.
+ */
+public record BulkImportErrorDTO(long line, String scientificName, String message) {
+}
@@ -0,0 +1,26 @@
+package com.fish_diseases.biodata_service.dtos;
+
+import java.util.List;
+
+/**
+ * Resultado de una carga masiva de peces o parásitos.
+ *
+ * @param received       Filas leídas del fichero.
+ * @param rejected       Filas rechazadas, que no se han cargado.
+ * @param inserted       Registros nuevos.
+ * @param updated        Registros existentes con algún cambio.
+ * @param relatedCreated Peces o parásitos relacionados que no existían y se han creado solo con su nombre.
+ * @param linked         Relaciones nuevas entre peces y parásitos.
+ * @param enqueued       Tareas de enriquecimiento con WoRMS encoladas.
+ * @param errors         Motivo del rechazo de cada fila, hasta {@code import.max-reported-errors}.
+ */
+public record BulkImportResultDTO(
+		long received,
+		long rejected,
+		long inserted,
+		long updated,
+		long relatedCreated,
+		long linked,
+		long enqueued,
+		List<BulkImportErrorDTO> errors) {
+}
@@ -0,0 +1,19 @@
+package com.fish_diseases.biodata_service.dtos;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Cambio de un pez o parásito en el feed de sincronización.
+ *
+ * @param entity         {@code fish} o {@code parasite}.
+ * @param id             ID del registro.
+ * @param scientificName Nombre científico del registro.
+ * @param operation      {@code CREATED}, {@code UPDATED} o {@code DELETED}.
+ * @param changedAt      Fecha de la transacción que hizo el cambio.
+ * @param data           Estado actual del registro, con la forma de la exportación; null en las bajas o si el
+ *                       registro ya no existe, en cuyo caso su baja llega más adelante en el feed.
+ */
+public record ChangeDTO(String entity, Long id, String scientificName, String operation, LocalDateTime changedAt,
+		Map<String, Object> data) {
+}
@@ -0,0 +1,14 @@
+package com.fish_diseases.biodata_service.dtos;
+
+import java.util.List;
+
+/**
+ * Página del feed de cambios.
+ *
+ * @param changes Cambios de la página, ordenados por transacción y, dentro de ella, por secuencia, con un
+ *                único elemento por registro: su último cambio de la página.
+ * @param cursor  Cursor desde el que pedir la página siguiente; es el recibido si no hay cambios nuevos.
+ * @param hasMore Si quedan cambios disponibles después de esta página.
+ */
+public record ChangeFeedDTO(List<ChangeDTO> changes, String cursor, boolean hasMore) {
+}
@@ -0,0 +1,34 @@
+package com.fish_diseases.biodata_service.dtos;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fish_diseases.biodata_service.entities.EnrichmentStatus;
+import com.fish_diseases.biodata_service.entities.Taxonomy;
+
+/**
+ * Vista completa de un pez para las consultas individuales, con la vista resumida de sus parásitos.
+ *
+ * @param id                ID del pez.
+ * @param scientificName    Nombre científico del pez.
+ * @param commonName        Nombre común del pez.
+ * @param taxonomy          Información taxonómica del pez.
+ * @param faoDistribution   Distribución geográfica según la clasificación de la FAO.
+ * @param parasites         Parásitos asociados al pez.
+ * @param enrichmentStatus  Estado del enriquecimiento con WoRMS, o null si el pez se creó manualmente.
+ * @param taxonomyFetchedAt Fecha en la que se obtuvo la taxonomía de WoRMS.
+ * @param createdAt         Fecha de creación del registro.
+ * @param updatedAt         Fecha de la última modificación del registro.
+ */
+public record FishDetailDTO(
+		Long id,
+		String scientificName,
+		String commonName,
+		Taxonomy taxonomy,
+		String faoDistribution,
+		List<ParasiteSummaryDTO> parasites,
+		EnrichmentStatus enrichmentStatus,
+		LocalDateTime taxonomyFetchedAt,
+		LocalDateTime createdAt,
+		LocalDateTime updatedAt) {
+}
@@ -0,0 +1,15 @@
+package com.fish_diseases.biodata_service.dtos;
+
+import com.fish_diseases.biodata_service.entities.Taxonomy;
+
+/**
+ * Vista resumida de un pez para listados y relaciones. Se obtiene con una proyección que solo
+ * lee estas columnas, sin las columnas de texto largo ni los parásitos asociados.
+ *
+ * @param id             ID del pez.
+ * @param scientificName Nombre científico del pez.
+ * @param commonName     Nombre común del pez.
+ * @param taxonomy       Información taxonómica del pez.
+ */
+public record FishSummaryDTO(Long id, String scientificName, String commonName, Taxonomy taxonomy) {
+}
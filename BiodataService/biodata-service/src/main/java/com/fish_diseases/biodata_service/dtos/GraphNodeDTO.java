@@ -0,0 +1,12 @@
+package com.fish_diseases.biodata_service.dtos;
+
+/**
+ * Pez o parásito alcanzado en una consulta del grafo de hospedadores.
+ *
+ * @param type           Tipo de nodo: {@code fish} o {@code parasite}.
+ * @param id             ID del pez o parásito.
+ * @param scientificName Nombre científico.
+ * @param distance       Número de saltos desde el nodo de partida.
+ */
+public record GraphNodeDTO(String type, Long id, String scientificName, int distance) {
+}
@@ -0,0 +1,12 @@
+package com.fish_diseases.biodata_service.dtos;
+
+/**
+ * Relación entre un parásito y uno de sus peces hospedadores (una fila de {@code parasite_fishes}).
+ *
+ * @param parasiteId             ID del parásito.
+ * @param parasiteScientificName Nombre científico del parásito.
+ * @param fishId                 ID del pez.
+ * @param fishScientificName     Nombre científico del pez.
+ */
+public record HostParasiteEdgeDTO(Long parasiteId, String parasiteScientificName, Long fishId, String fishScientificName) {
+}
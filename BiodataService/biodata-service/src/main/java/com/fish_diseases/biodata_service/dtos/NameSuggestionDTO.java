@@ -0,0 +1,11 @@
+package com.fish_diseases.biodata_service.dtos;
+
+/**
+ * Sugerencia del autocompletado de nombres de peces y parásitos.
+ *
+ * @param id             ID del pez o parásito.
+ * @param scientificName Nombre científico.
+ * @param commonName     Nombre común.
+ */
+public record NameSuggestionDTO(Long id, String scientificName, String commonName) {
+}
@@ -0,0 +1,49 @@
+package com.fish_diseases.biodata_service.dtos;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fish_diseases.biodata_service.entities.EnrichmentStatus;
+import com.fish_diseases.biodata_service.entities.Taxonomy;
+
+/**
+ * Vista completa de un parásito para las consultas individuales, con la vista resumida de sus
+ * peces hospedadores.
+ *
+ * @param id                       ID del parásito.
+ * @param scientificName           Nombre científico del parásito.
+ * @param commonName               Nombre común del parásito.
+ * @param taxonomy                 Información taxonómica del parásito.
+ * @param diagnosticFeatures       Características diagnósticas del parásito.
+ * @param size                     Tamaño del parásito.
+ * @param geographicalDistribution Distribución geográfica del parásito.
+ * @param biologicalCycle          Ciclo biológico del parásito.
+ * @param hostSpecificity          Especificidad del hospedador.
+ * @param fishes                   Peces hospedadores del parásito.
+ * @param locationOnHost           Ubicación del parásito en el hospedador.
+ * @param damagesOnHost            Daños que causa en el hospedador.
+ * @param detection                Métodos de detección del parásito.
+ * @param enrichmentStatus         Estado del enriquecimiento con WoRMS, o null si el parásito se creó manualmente.
+ * @param taxonomyFetchedAt        Fecha en la que se obtuvo la taxonomía de WoRMS.
+ * @param createdAt                Fecha de creación del registro.
+ * @param updatedAt                Fecha de la última modificación del registro.
+ */
+public record ParasiteDetailDTO(
+		Long id,
+		String scientificName,
+		String commonName,
+		Taxonomy taxonomy,
+		String diagnosticFeatures,
+		String size,
+		String geographicalDistribution,
+		String biologicalCycle,
+		String hostSpecificity,
+		List<FishSummaryDTO> fishes,
+		String locationOnHost,
+		String damagesOnHost,
+		String detection,
+		EnrichmentStatus enrichmentStatus,
+		LocalDateTime taxonomyFetchedAt,
+		LocalDateTime createdAt,
+		LocalDateTime updatedAt) {
+}
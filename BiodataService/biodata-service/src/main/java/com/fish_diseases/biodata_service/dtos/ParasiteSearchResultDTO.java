@@ -0,0 +1,35 @@
+package com.fish_diseases.biodata_service.dtos;
+
+/**
+ * Resultado de la búsqueda de texto completo de parásitos. Proyección de la consulta nativa de búsqueda,
+ * que solo devuelve los datos de identificación, la relevancia y los fragmentos en los que aparecen los
+ * términos buscados.
+ */
+public interface ParasiteSearchResultDTO {
+
+	/**
+	 * ID del parásito.
+	 */
+	Long getId();
+
+	/**
+	 * Nombre científico del parásito.
+	 */
+	String getScientificName();
+
+	/**
+	 * Nombre común del parásito.
+	 */
+	String getCommonName();
+
+	/**
+	 * Relevancia del parásito para la búsqueda ({@code ts_rank}); mayor cuanto más relevante.
+	 */
+	Float getRank();
+
+	/**
+	 * Fragmentos de los campos descriptivos con los términos encontrados entre {@code <mark>} y {@code </mark>}.
+	 * Es HTML: el texto de los campos va escapado y las marcas son las únicas etiquetas.
+	 */
+	String getHighlight();
+}
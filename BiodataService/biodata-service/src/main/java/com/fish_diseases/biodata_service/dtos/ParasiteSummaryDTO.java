@@ -0,0 +1,15 @@
+package com.fish_diseases.biodata_service.dtos;
+
+import com.fish_diseases.biodata_service.entities.Taxonomy;
+
+/**
+ * Vista resumida de un parásito para listados y relaciones. Se obtiene con una proyección que solo
+ * lee estas columnas, sin las columnas de texto largo ni los peces hospedadores.
+ *
+ * @param id             ID del parásito.
+ * @param scientificName Nombre científico del parásito.
+ * @param commonName     Nombre común del parásito.
+ * @param taxonomy       Información taxonómica del parásito.
+ */
+public record ParasiteSummaryDTO(Long id, String scientificName, String commonName, Taxonomy taxonomy) {
+}
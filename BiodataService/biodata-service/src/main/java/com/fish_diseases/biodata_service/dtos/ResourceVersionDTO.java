@@ -0,0 +1,31 @@
+package com.fish_diseases.biodata_service.dtos;
+
+import java.time.LocalDateTime;
+
+/**
+ * Versión de un recurso para las peticiones condicionales (a partir de la cual se calcula su {@code ETag}). Se obtiene
+ * con una consulta de agregación, sin cargar las entidades.
+ *
+ * <p>Para un listado describe la tabla completa: fecha de la última modificación, número de filas y suma de
+ * sus IDs, de modo que cualquier alta, baja o modificación cambia la versión. Para la vista completa de un pez
+ * o parásito describe el registro y sus relaciones: su fecha de modificación y la de sus relacionados, cuántos
+ * son y la suma de sus IDs.</p>
+ *
+ * @param lastModified        Fecha de la última modificación (o de creación, si no se ha modificado).
+ * @param relatedLastModified Fecha de la última modificación de los registros relacionados, o null.
+ * @param count               Número de filas, o de registros relacionados.
+ * @param idSum               Suma de los IDs de esas filas, o null si no hay ninguna.
+ */
+public record ResourceVersionDTO(LocalDateTime lastModified, LocalDateTime relatedLastModified, Long count, Long idSum) {
+
+	/**
+	 * Versión de un listado.
+	 *
+	 * @param lastModified Fecha de la última modificación de la tabla.
+	 * @param count        Número de filas.
+	 * @param idSum        Suma de los IDs.
+	 */
+	public ResourceVersionDTO(LocalDateTime lastModified, Long count, Long idSum) {
+		this(lastModified, null, count, idSum);
+	}
+}
@@ -0,0 +1,12 @@
+package com.fish_diseases.biodata_service.dtos;
+
+/**
+ * Pez o parásito que comparte vecinos en el grafo de hospedadores con el consultado: parásitos con
+ * hospedadores comunes o peces con parásitos comunes.
+ *
+ * @param id             ID del pez o parásito.
+ * @param scientificName Nombre científico.
+ * @param shared         Número de vecinos comunes.
+ */
+public record SharedNeighboursDTO(Long id, String scientificName, int shared) {
+}
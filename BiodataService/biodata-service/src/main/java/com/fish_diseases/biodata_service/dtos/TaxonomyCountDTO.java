@@ -0,0 +1,10 @@
+package com.fish_diseases.biodata_service.dtos;
+
+/**
+ * Número de peces o parásitos con un valor de un rango taxonómico.
+ *
+ * @param value Valor del rango (por ejemplo, el nombre de la familia), o null si no tienen taxonomía asignada.
+ * @param count Número de peces o parásitos.
+ */
+public record TaxonomyCountDTO(String value, long count) {
+}
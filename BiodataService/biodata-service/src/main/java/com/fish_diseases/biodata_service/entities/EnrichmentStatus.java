@@ -0,0 +1,28 @@
+package com.fish_diseases.biodata_service.entities;
+
+/**
+ * Estado del enriquecimiento de un pez o parásito con los datos de WoRMS.
+ * Es nulo en los registros creados manualmente, que no se enriquecen.
+ */
+public enum EnrichmentStatus {
+
+	/**
+	 * El registro se ha creado y está pendiente de completar con los datos de WoRMS.
+	 */
+	PENDING,
+
+	/**
+	 * El registro se ha completado con la taxonomía y las relaciones obtenidas de WoRMS.
+	 */
+	COMPLETED,
+
+	/**
+	 * WoRMS no contiene el nombre científico del registro.
+	 */
+	NOT_FOUND,
+
+	/**
+	 * No se pudo completar el registro tras agotar los reintentos.
+	 */
+	FAILED
+}
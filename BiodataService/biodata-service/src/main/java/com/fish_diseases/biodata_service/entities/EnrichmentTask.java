@@ -0,0 +1,131 @@
+package com.fish_diseases.biodata_service.entities;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entidad que representa una tarea de la cola de enriquecimiento con WoRMS.
+ * Cada tarea completa un pez o parásito creado como pendiente; los trabajadores
+ * las reclaman de la tabla con {@code FOR UPDATE SKIP LOCKED}.
+ */
+@Entity
+@Table(name = "enrichment_tasks", indexes = @Index(name = "idx_enrichment_tasks_status_available_at", columnList = "status, available_at"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrichmentTask {
+
+	/**
+	 * Tipo de registro que completa la tarea.
+	 */
+	public enum TargetType {
+		FISH, PARASITE
+	}
+
+	/**
+	 * Estado de la tarea en la cola.
+	 */
+	public enum Status {
+		PENDING, RUNNING, COMPLETED, FAILED
+	}
+
+	/**
+	 * Identificador único de la tarea.
+	 */
+	@Id
+	@Column(name = "task_id")
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	/**
+	 * Tipo de registro que completa la tarea.
+	 */
+	@Enumerated(EnumType.STRING)
+	@Column(name = "target_type", nullable = false, length = 16)
+	private TargetType targetType;
+
+	/**
+	 * Identificador del pez o parásito que completa la tarea.
+	 */
+	@Column(name = "target_id", nullable = false)
+	private Long targetId;
+
+	/**
+	 * Nombre científico del pez o parásito.
+	 */
+	@Column(name = "scientific_name", nullable = false)
+	private String scientificName;
+
+	/**
+	 * Estado de la tarea.
+	 */
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, length = 16)
+	private Status status;
+
+	/**
+	 * Número de intentos realizados.
+	 */
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	/**
+	 * Último error producido al procesar la tarea.
+	 */
+	@Column(name = "last_error", columnDefinition = "TEXT")
+	private String lastError;
+
+	/**
+	 * Fecha y hora a partir de la cual la tarea puede procesarse.
+	 */
+	@Column(name = "available_at", nullable = false)
+	private LocalDateTime availableAt;
+
+	/**
+	 * Fecha y hora en que se creó la tarea.
+	 */
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	/**
+	 * Fecha y hora de la última actualización de la tarea.
+	 */
+	@Column(name = "updated_at")
+	private LocalDateTime updatedAt;
+
+	/**
+	 * Asigna las fechas de creación y disponibilidad antes de insertar la tarea.
+	 */
+	@PrePersist
+	protected void onCreate() {
+		createdAt = LocalDateTime.now();
+		updatedAt = createdAt;
+		if (availableAt == null) {
+			availableAt = createdAt;
+		}
+	}
+
+	/**
+	 * Actualiza la fecha de modificación antes de cada actualización.
+	 */
+	@PreUpdate
+	protected void onUpdate() {
+		updatedAt = LocalDateTime.now();
+	}
+}
@@ -4,17 +4,27 @@ import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -28,12 +38,15 @@ import lombok.NoArgsConstructor;
  * así como su relación con los parásitos que puede hospedar.
  */
 @Entity
-@Table(name = "fishes")
+@Table(name = "fishes", indexes = @Index(name = "idx_fishes_taxonomy_fetched_at", columnList = "taxonomy_fetched_at"))
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "fishes")
+@NaturalIdCache(region = "fishes-natural-id")
 public class Fish {
 
 	/**
@@ -41,13 +54,15 @@ public class Fish {
 	 */
 	@Id
 	@Column(name = "fish_id")
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fishes_seq")
+	@SequenceGenerator(name = "fishes_seq", sequenceName = "fishes_seq", allocationSize = 50)
 	private Long id;
 
 	/**
 	 * Nombre científico del pez. Debe ser único y no nulo.
 	 */
 	@EqualsAndHashCode.Include
+	@NaturalId
 	@Column(name = "scientific_name", unique = true, nullable = false)
 	private String scientificName;
 
@@ -73,10 +88,26 @@ public class Fish {
 	 * Conjunto de parásitos asociados a este pez como hospedador.
 	 */
 	@ManyToMany(mappedBy = "fishes")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "fish-parasites")
 	@JsonIgnoreProperties({ "fishes", "handler", "hibernateLazyInitializer" })
 	@Builder.Default
 	private Set<Parasite> parasites = new HashSet<>();
 
+	/**
+	 * Estado del enriquecimiento del pez con los datos de WoRMS. Es nulo si el registro
+	 * se ha creado manualmente.
+	 */
+	@Enumerated(EnumType.STRING)
+	@Column(name = "enrichment_status", length = 16)
+	private EnrichmentStatus enrichmentStatus;
+
+	/**
+	 * Fecha y hora en que se obtuvo de WoRMS la taxonomía del pez. Es nula si la taxonomía
+	 * no procede de WoRMS; el refresco periódico de taxonomías parte de los valores más antiguos.
+	 */
+	@Column(name = "taxonomy_fetched_at")
+	private LocalDateTime taxonomyFetchedAt;
+
 	/**
 	 * Fecha y hora en que se creó el registro. Se asigna automáticamente antes de
 	 * persistir.
@@ -4,20 +4,30 @@ import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
@@ -31,12 +41,15 @@ import lombok.NoArgsConstructor;
  * Contiene información científica, taxonómica, y biológica, además de su relación con peces hospedadores.
  */
 @Entity
-@Table(name = "parasites")
+@Table(name = "parasites", indexes = @Index(name = "idx_parasites_taxonomy_fetched_at", columnList = "taxonomy_fetched_at"))
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "parasites")
+@NaturalIdCache(region = "parasites-natural-id")
 public class Parasite {
 
     /**
@@ -44,13 +57,15 @@ public class Parasite {
      */
 	@Id
 	@Column(name = "parasite_id")
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "parasites_seq")
+	@SequenceGenerator(name = "parasites_seq", sequenceName = "parasites_seq", allocationSize = 50)
 	private Long id;
 
     /**
      * Nombre científico del parásito. Debe ser único y no nulo.
      */
 	@EqualsAndHashCode.Include
+	@NaturalId
 	@Column(name = "scientific_name", unique = true, nullable = false)
 	private String scientificName;
 
@@ -99,9 +114,10 @@ public class Parasite {
      * Conjunto de peces asociados como hospedadores de este parásito.
      */
 	@ManyToMany(fetch = FetchType.LAZY)
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "parasite-fishes")
 	@JsonIgnoreProperties({ "parasites", "handler", "hibernateLazyInitializer" })
 	@JoinTable(name = "parasite_fishes", joinColumns = @JoinColumn(name = "parasite_id"), inverseJoinColumns = @JoinColumn(name = "fish_id"), uniqueConstraints = @UniqueConstraint(columnNames = {
-			"parasite_id", "fish_id" }))
+			"parasite_id", "fish_id" }), indexes = @Index(name = "idx_parasite_fishes_fish_id", columnList = "fish_id"))
 	@Builder.Default
 	private Set<Fish> fishes = new HashSet<>();
 
@@ -123,6 +139,21 @@ public class Parasite {
     @Column(columnDefinition = "TEXT")
     private String detection;
 
+    /**
+     * Estado del enriquecimiento del parásito con los datos de WoRMS. Es nulo si el registro
+     * se ha creado manualmente.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "enrichment_status", length = 16)
+    private EnrichmentStatus enrichmentStatus;
+
+    /**
+     * Fecha y hora en que se obtuvo de WoRMS la taxonomía del parásito. Es nula si la taxonomía
+     * no procede de WoRMS; el refresco periódico de taxonomías parte de los valores más antiguos.
+     */
+    @Column(name = "taxonomy_fetched_at")
+    private LocalDateTime taxonomyFetchedAt;
+
     /**
      * Fecha y hora en que se creó el registro. Se asigna automáticamente antes de persistir.
      */
@@ -0,0 +1,46 @@
+package com.fish_diseases.biodata_service.entities;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entidad que representa una respuesta de WoRMS almacenada en caché persistente.
+ * Permite conservar las consultas ya resueltas entre reinicios del servicio, incluidas
+ * las respuestas negativas (por ejemplo, "nombre no encontrado").
+ * La tabla se define en {@code schema.sql} para que Hibernate no la elimine al arrancar.
+ */
+@Entity
+@Table(name = "worms_cache")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WormsCacheEntry {
+
+	/**
+	 * Clave de la consulta (tipo de consulta más su parámetro).
+	 */
+	@Id
+	@Column(name = "cache_key", length = 512)
+	private String cacheKey;
+
+	/**
+	 * Respuesta serializada en JSON. Es nula cuando la respuesta es negativa.
+	 */
+	@Column(name = "payload", columnDefinition = "TEXT")
+	private String payload;
+
+	/**
+	 * Fecha y hora a partir de la cual la entrada deja de ser válida.
+	 */
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt;
+}
@@ -0,0 +1,85 @@
+package com.fish_diseases.biodata_service.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entidad que representa un taxón de la réplica local de WoRMS, importada desde un
+ * Darwin Core Archive. La tabla se define en {@code schema.sql} para que Hibernate
+ * no la elimine al arrancar.
+ */
+@Entity
+@Table(name = "worms_taxa")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WormsTaxon {
+
+	/**
+	 * Identificador del taxón en WoRMS (AphiaID).
+	 */
+	@Id
+	@Column(name = "aphia_id")
+	private Integer aphiaId;
+
+	/**
+	 * Nombre científico del taxón.
+	 */
+	@Column(name = "scientific_name", nullable = false)
+	private String scientificName;
+
+	/**
+	 * Reino del taxón.
+	 */
+	@Column(name = "kingdom")
+	private String kingdom;
+
+	/**
+	 * Filo del taxón.
+	 */
+	@Column(name = "phylum")
+	private String phylum;
+
+	/**
+	 * Clase del taxón.
+	 */
+	@Column(name = "class_name")
+	private String className;
+
+	/**
+	 * Orden del taxón.
+	 */
+	@Column(name = "order_name")
+	private String orderName;
+
+	/**
+	 * Familia del taxón.
+	 */
+	@Column(name = "family")
+	private String family;
+
+	/**
+	 * Género del taxón.
+	 */
+	@Column(name = "genus")
+	private String genus;
+
+	/**
+	 * URL de referencia del taxón en WoRMS.
+	 */
+	@Column(name = "url", columnDefinition = "TEXT")
+	private String url;
+
+	/**
+	 * Indica si el nombre está aceptado en WoRMS.
+	 */
+	@Column(name = "accepted", nullable = false)
+	private boolean accepted;
+}
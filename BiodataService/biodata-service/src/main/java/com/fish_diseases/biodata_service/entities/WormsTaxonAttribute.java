@@ -0,0 +1,51 @@
+package com.fish_diseases.biodata_service.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entidad que representa un atributo de un taxón (measurementOrFact) de la réplica local
+ * de WoRMS, como la relación Host/prey. La tabla se define en {@code schema.sql} para que
+ * Hibernate no la elimine al arrancar.
+ */
+@Entity
+@Table(name = "worms_taxon_attributes")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WormsTaxonAttribute {
+
+	/**
+	 * Identificador único del atributo.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	/**
+	 * AphiaID del taxón al que pertenece el atributo.
+	 */
+	@Column(name = "aphia_id", nullable = false)
+	private Integer aphiaId;
+
+	/**
+	 * Tipo de medición (measurementType), por ejemplo "Host/prey".
+	 */
+	@Column(name = "measurement_type", nullable = false)
+	private String measurementType;
+
+	/**
+	 * Valor de la medición (measurementValue).
+	 */
+	@Column(name = "measurement_value")
+	private String measurementValue;
+}
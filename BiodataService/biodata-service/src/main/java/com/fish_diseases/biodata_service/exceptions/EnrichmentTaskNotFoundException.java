@@ -0,0 +1,19 @@
+package com.fish_diseases.biodata_service.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Excepción lanzada cuando no se encuentra una tarea de enriquecimiento.
+ * 
+ * Se lanza típicamente cuando se consulta el estado de una tarea que no existe
+ * en la cola. Esta excepción retorna un código de estado HTTP 404 (NOT FOUND).
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class EnrichmentTaskNotFoundException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public EnrichmentTaskNotFoundException() {
+	}
+}
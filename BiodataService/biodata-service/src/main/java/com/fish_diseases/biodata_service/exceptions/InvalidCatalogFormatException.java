@@ -0,0 +1,19 @@
+package com.fish_diseases.biodata_service.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Excepción lanzada cuando se pide una exportación o importación del catálogo en un formato no soportado.
+ *
+ * Se lanza típicamente cuando el parámetro {@code format} no es {@code ndjson} ni {@code csv}.
+ * Esta excepción retorna un código de estado HTTP 400 (BAD REQUEST).
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCatalogFormatException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public InvalidCatalogFormatException() {
+	}
+}
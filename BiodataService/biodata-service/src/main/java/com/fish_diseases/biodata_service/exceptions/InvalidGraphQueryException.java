@@ -0,0 +1,19 @@
+package com.fish_diseases.biodata_service.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Excepción lanzada cuando los parámetros de una consulta del grafo de hospedadores no son válidos.
+ *
+ * Se lanza típicamente cuando el número de saltos está fuera de rango o el mínimo de vecinos
+ * comunes es menor que uno. Esta excepción retorna un código de estado HTTP 400 (BAD REQUEST).
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidGraphQueryException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public InvalidGraphQueryException() {
+	}
+}
@@ -0,0 +1,19 @@
+package com.fish_diseases.biodata_service.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Excepción lanzada cuando los parámetros de paginación de un listado no son válidos.
+ *
+ * Se lanza típicamente cuando se ordena por una propiedad no admitida o se recibe un
+ * cursor mal formado. Esta excepción retorna un código de estado HTTP 400 (BAD REQUEST).
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidPaginationException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public InvalidPaginationException() {
+	}
+}
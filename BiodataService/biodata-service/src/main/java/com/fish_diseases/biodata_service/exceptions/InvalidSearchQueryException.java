@@ -0,0 +1,19 @@
+package com.fish_diseases.biodata_service.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Excepción lanzada cuando el texto de una búsqueda no es válido.
+ *
+ * Se lanza típicamente cuando la búsqueda está vacía, es demasiado larga o se pide un
+ * número de resultados fuera de rango. Esta excepción retorna un código de estado HTTP 400 (BAD REQUEST).
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidSearchQueryException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public InvalidSearchQueryException() {
+	}
+}
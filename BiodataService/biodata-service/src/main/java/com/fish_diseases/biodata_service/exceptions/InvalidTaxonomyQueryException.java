@@ -0,0 +1,19 @@
+package com.fish_diseases.biodata_service.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Excepción lanzada cuando los parámetros de una consulta de recuentos taxonómicos no son válidos.
+ *
+ * Se lanza típicamente cuando el rango o el tipo de entidad no existen, o cuando se filtra por un
+ * rango que no es superior al agregado. Esta excepción retorna un código de estado HTTP 400 (BAD REQUEST).
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidTaxonomyQueryException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public InvalidTaxonomyQueryException() {
+	}
+}
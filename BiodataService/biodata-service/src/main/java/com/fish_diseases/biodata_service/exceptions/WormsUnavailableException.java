@@ -0,0 +1,20 @@
+package com.fish_diseases.biodata_service.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Excepción lanzada cuando no se puede consultar WoRMS en este momento.
+ * 
+ * Se lanza típicamente cuando el limitador de peticiones a WoRMS no puede conceder
+ * un turno dentro del tiempo máximo de espera. Esta excepción retorna un código
+ * de estado HTTP 503 (SERVICE UNAVAILABLE).
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class WormsUnavailableException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+    public WormsUnavailableException() {
+    }
+}
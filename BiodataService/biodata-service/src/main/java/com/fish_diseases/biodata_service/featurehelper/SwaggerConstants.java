@@ -18,10 +18,18 @@ public class SwaggerConstants {
 	
 	public static final String CREATED_DESCRIPTION = "Elemento creado";
 	
+	public static final String ACCEPTED_CODE = "202";
+	
+	public static final String ACCEPTED_DESCRIPTION = "Petición aceptada, se procesa en segundo plano";
+	
 	public static final String NO_CONTENT_CODE = "204";
 	
 	public static final String NO_CONTENT_DESCRIPTION = "Sin contenido";
 	
+	public static final String NOT_MODIFIED_CODE = "304";
+	
+	public static final String NOT_MODIFIED_DESCRIPTION = "Sin cambios desde la versión del cliente";
+	
 	public static final String NOT_FOUND_CODE = "404";
 	
 	public static final String NOT_FOUND_DESCRIPTION = "No encontrado";
@@ -38,4 +46,8 @@ public class SwaggerConstants {
 	
 	public static final String INTERNAL_SERVER_ERROR_DESCRIPTION = "Error de sistema";
 
+	public static final String SERVICE_UNAVAILABLE_CODE = "503";
+	
+	public static final String SERVICE_UNAVAILABLE_DESCRIPTION = "Fuente externa no disponible";
+
 }
@@ -0,0 +1,174 @@
+package com.fish_diseases.biodata_service.init;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Crea el registro de cambios {@code change_log} del que se sirve el feed de sincronización, con una fila por
+ * cada alta, modificación o baja de un pez o parásito.
+ *
+ * <p>Las filas las escriben triggers de PostgreSQL por sentencia, con tablas de transición, de modo que una carga
+ * masiva registra todos sus cambios con un único {@code INSERT ... SELECT}. Cada fila guarda el identificador de
+ * la transacción ({@code pg_current_xact_id()}) y un número de secuencia; las bajas quedan como lápidas con el
+ * ID y el nombre del registro eliminado. Añadir o quitar un hospedador registra una modificación del pez y del
+ * parásito, ya que ambos muestran la relación.</p>
+ *
+ * <p>La tabla se conserva entre reinicios, pero Hibernate recrea {@code fishes} y {@code parasites}
+ * ({@code ddl-auto=create}) sin ejecutar los triggers. Por eso, tras volver a crearlos, se concilia el registro
+ * con las tablas: se añade una baja por cada registro vivo en el registro que ya no existe y un alta por cada
+ * fila que el registro no conoce. Los consumidores con un cursor anterior reciben así el reinicio como cambios
+ * normales.</p>
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class ChangeLogInitializer {
+
+	private static final Logger log = LoggerFactory.getLogger(ChangeLogInitializer.class);
+
+	public static final String FISH = "fish";
+	public static final String PARASITE = "parasite";
+
+	public static final String CREATED = "CREATED";
+	public static final String UPDATED = "UPDATED";
+	public static final String DELETED = "DELETED";
+
+	private static final String CREATE_TABLE = """
+			CREATE TABLE IF NOT EXISTS change_log (
+			    tx_id XID8 NOT NULL DEFAULT pg_current_xact_id(),
+			    change_id BIGINT GENERATED ALWAYS AS IDENTITY,
+			    entity VARCHAR(16) NOT NULL,
+			    entity_id BIGINT NOT NULL,
+			    scientific_name VARCHAR(255) NOT NULL,
+			    operation VARCHAR(8) NOT NULL,
+			    changed_at TIMESTAMP(6) NOT NULL DEFAULT localtimestamp,
+			    PRIMARY KEY (tx_id, change_id)
+			)
+			""";
+
+	/**
+	 * Registra las filas de la tabla de transición {@code changed_rows}. Los argumentos son la entidad, la
+	 * columna del ID y la operación; en las modificaciones se descartan las filas que no cambian.
+	 */
+	private static final String CREATE_ROWS_FUNCTION = """
+			CREATE OR REPLACE FUNCTION change_log_rows() RETURNS TRIGGER AS $$
+			BEGIN
+			    IF TG_OP = 'UPDATE' THEN
+			        EXECUTE format('INSERT INTO change_log (entity, entity_id, scientific_name, operation) '
+			                || 'SELECT %L, n.%I, n.scientific_name, %L FROM changed_rows n '
+			                || 'JOIN previous_rows o ON o.%I = n.%I WHERE o IS DISTINCT FROM n ORDER BY n.%I',
+			                TG_ARGV[0], TG_ARGV[1], TG_ARGV[2], TG_ARGV[1], TG_ARGV[1], TG_ARGV[1]);
+			    ELSE
+			        EXECUTE format('INSERT INTO change_log (entity, entity_id, scientific_name, operation) '
+			                || 'SELECT %L, %I, scientific_name, %L FROM changed_rows ORDER BY %I',
+			                TG_ARGV[0], TG_ARGV[1], TG_ARGV[2], TG_ARGV[1]);
+			    END IF;
+			    RETURN NULL;
+			END;
+			$$ LANGUAGE plpgsql
+			""";
+
+	/**
+	 * Registra como modificados los peces y parásitos de las relaciones de la tabla de transición
+	 * {@code changed_links}.
+	 */
+	private static final String CREATE_LINKS_FUNCTION = """
+			CREATE OR REPLACE FUNCTION change_log_links() RETURNS TRIGGER AS $$
+			BEGIN
+			    INSERT INTO change_log (entity, entity_id, scientific_name, operation)
+			    SELECT 'parasite', p.parasite_id, p.scientific_name, 'UPDATED' FROM parasites p
+			    WHERE p.parasite_id IN (SELECT parasite_id FROM changed_links)
+			    UNION ALL
+			    SELECT 'fish', f.fish_id, f.scientific_name, 'UPDATED' FROM fishes f
+			    WHERE f.fish_id IN (SELECT fish_id FROM changed_links);
+			    RETURN NULL;
+			END;
+			$$ LANGUAGE plpgsql
+			""";
+
+	/**
+	 * Última operación registrada de cada registro de una entidad.
+	 */
+	private static final String LATEST = "SELECT DISTINCT ON (entity_id) entity_id, scientific_name, operation "
+			+ "FROM change_log WHERE entity = ? ORDER BY entity_id, tx_id DESC, change_id DESC";
+
+	private static final String LOG_MISSING_AS_DELETED = "INSERT INTO change_log (entity, entity_id, scientific_name, operation) "
+			+ "SELECT ?, l.entity_id, l.scientific_name, '" + DELETED + "' FROM (" + LATEST + ") l "
+			+ "WHERE l.operation <> '" + DELETED + "' AND NOT EXISTS (SELECT 1 FROM %1$s t "
+			+ "WHERE t.%2$s = l.entity_id AND t.scientific_name = l.scientific_name) ORDER BY l.entity_id";
+
+	private static final String LOG_UNKNOWN_AS_CREATED = "INSERT INTO change_log (entity, entity_id, scientific_name, operation) "
+			+ "SELECT ?, t.%2$s, t.scientific_name, '" + CREATED + "' FROM %1$s t WHERE NOT EXISTS (SELECT 1 FROM ("
+			+ LATEST + ") l WHERE l.entity_id = t.%2$s AND l.scientific_name = t.scientific_name "
+			+ "AND l.operation <> '" + DELETED + "') ORDER BY t.%2$s";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	/**
+	 * Constructor de la clase {@link ChangeLogInitializer}.
+	 *
+	 * @param jdbcTemplate        Plantilla JDBC para ejecutar las sentencias.
+	 * @param transactionTemplate Plantilla para conciliar el registro en una única transacción.
+	 */
+	public ChangeLogInitializer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+	}
+
+	/**
+	 * Crea la tabla, las funciones y los triggers, y concilia el registro con las tablas.
+	 */
+	@PostConstruct
+	void createChangeLog() {
+		jdbcTemplate.execute(CREATE_TABLE);
+		jdbcTemplate.execute(CREATE_ROWS_FUNCTION);
+		jdbcTemplate.execute(CREATE_LINKS_FUNCTION);
+		createTriggers("fishes", "fish_id", FISH);
+		createTriggers("parasites", "parasite_id", PARASITE);
+		createLinkTriggers();
+		transactionTemplate.executeWithoutResult(status -> {
+			reconcile("fishes", "fish_id", FISH);
+			reconcile("parasites", "parasite_id", PARASITE);
+		});
+		log.info("Registro de cambios preparado");
+	}
+
+	private void createTriggers(String table, String idColumn, String entity) {
+		createTrigger(table, "insert", "AFTER INSERT", "NEW TABLE AS changed_rows", entity, idColumn, CREATED);
+		createTrigger(table, "update", "AFTER UPDATE", "OLD TABLE AS previous_rows NEW TABLE AS changed_rows",
+				entity, idColumn, UPDATED);
+		createTrigger(table, "delete", "AFTER DELETE", "OLD TABLE AS changed_rows", entity, idColumn, DELETED);
+	}
+
+	private void createTrigger(String table, String suffix, String event, String transitionTables, String entity,
+			String idColumn, String operation) {
+		String trigger = "trg_" + table + "_change_log_" + suffix;
+		jdbcTemplate.execute("DROP TRIGGER IF EXISTS " + trigger + " ON " + table);
+		jdbcTemplate.execute("CREATE TRIGGER " + trigger + " " + event + " ON " + table + " REFERENCING "
+				+ transitionTables + " FOR EACH STATEMENT EXECUTE FUNCTION change_log_rows('" + entity + "', '"
+				+ idColumn + "', '" + operation + "')");
+	}
+
+	private void createLinkTriggers() {
+		jdbcTemplate.execute("DROP TRIGGER IF EXISTS trg_parasite_fishes_change_log_insert ON parasite_fishes");
+		jdbcTemplate.execute("DROP TRIGGER IF EXISTS trg_parasite_fishes_change_log_delete ON parasite_fishes");
+		jdbcTemplate.execute("CREATE TRIGGER trg_parasite_fishes_change_log_insert AFTER INSERT ON parasite_fishes "
+				+ "REFERENCING NEW TABLE AS changed_links FOR EACH STATEMENT EXECUTE FUNCTION change_log_links()");
+		jdbcTemplate.execute("CREATE TRIGGER trg_parasite_fishes_change_log_delete AFTER DELETE ON parasite_fishes "
+				+ "REFERENCING OLD TABLE AS changed_links FOR EACH STATEMENT EXECUTE FUNCTION change_log_links()");
+	}
+
+	private void reconcile(String table, String idColumn, String entity) {
+		int deleted = jdbcTemplate.update(LOG_MISSING_AS_DELETED.formatted(table, idColumn), entity, entity);
+		int created = jdbcTemplate.update(LOG_UNKNOWN_AS_CREATED.formatted(table, idColumn), entity, entity);
+		if (deleted + created > 0) {
+			log.info("Registro de cambios de {} conciliado: {} bajas y {} altas", table, deleted, created);
+		}
+	}
+}
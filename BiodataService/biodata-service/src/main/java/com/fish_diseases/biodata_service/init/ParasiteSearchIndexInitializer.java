@@ -0,0 +1,64 @@
+package com.fish_diseases.biodata_service.init;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Crea el índice de búsqueda de texto completo de los parásitos.
+ *
+ * <p>Añade a {@code parasites} la columna generada {@code search_vector}, un {@code tsvector} con los nombres
+ * (configuración {@code simple}, sin lematizar, peso A) y los campos descriptivos analizados en español y en
+ * inglés (pesos B y C), y un índice GIN sobre ella. PostgreSQL mantiene la columna en cada inserción o
+ * actualización, por lo que Hibernate no necesita conocerla.</p>
+ *
+ * <p>La tabla la crea Hibernate al arrancar ({@code ddl-auto=create}), así que el índice se crea después, al
+ * inicializar este componente, que depende ({@code @DependsOn}) de la factoría de JPA. Las sentencias son
+ * idempotentes y la columna se calcula también para las filas existentes.</p>
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class ParasiteSearchIndexInitializer {
+
+	private static final Logger log = LoggerFactory.getLogger(ParasiteSearchIndexInitializer.class);
+
+	private static final String ADD_SEARCH_VECTOR = """
+			ALTER TABLE parasites ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+			    setweight(to_tsvector('simple', coalesce(scientific_name, '') || ' ' || coalesce(common_name, '')), 'A')
+			 || setweight(to_tsvector('spanish', coalesce(diagnostic_features, '') || ' ' || coalesce(damages_on_host, '')), 'B')
+			 || setweight(to_tsvector('english', coalesce(diagnostic_features, '') || ' ' || coalesce(damages_on_host, '')), 'B')
+			 || setweight(to_tsvector('spanish', coalesce(location_on_host, '') || ' ' || coalesce(geographical_distribution, '')
+			        || ' ' || coalesce(detection, '')), 'C')
+			 || setweight(to_tsvector('english', coalesce(location_on_host, '') || ' ' || coalesce(geographical_distribution, '')
+			        || ' ' || coalesce(detection, '')), 'C')
+			) STORED
+			""";
+
+	private static final String CREATE_SEARCH_INDEX =
+			"CREATE INDEX IF NOT EXISTS idx_parasites_search_vector ON parasites USING GIN (search_vector)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Constructor de la clase {@link ParasiteSearchIndexInitializer}.
+	 *
+	 * @param jdbcTemplate Plantilla JDBC para ejecutar las sentencias DDL.
+	 */
+	public ParasiteSearchIndexInitializer(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Crea la columna de búsqueda y su índice si no existen.
+	 */
+	@PostConstruct
+	void createSearchIndex() {
+		jdbcTemplate.execute(ADD_SEARCH_VECTOR);
+		jdbcTemplate.execute(CREATE_SEARCH_INDEX);
+		log.info("Índice de búsqueda de texto completo de parásitos preparado");
+	}
+}
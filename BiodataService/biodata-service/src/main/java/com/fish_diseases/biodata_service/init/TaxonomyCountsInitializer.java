@@ -0,0 +1,136 @@
+package com.fish_diseases.biodata_service.init;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Crea y sincroniza la tabla resumen {@code taxonomy_counts}, con el número de peces y de parásitos por
+ * linaje taxonómico (reino, filo, clase, orden, familia y género).
+ *
+ * <p>La tabla la mantienen triggers de PostgreSQL sobre {@code fishes} y {@code parasites}: cada alta suma uno
+ * al linaje del registro, cada baja resta uno, y cada cambio de taxonomía resta uno al linaje anterior y suma
+ * uno al nuevo. Los triggers se ejecutan en la misma transacción que el cambio, por lo que los recuentos son
+ * siempre coherentes con los datos confirmados, también para las cargas que no pasan por JPA.</p>
+ *
+ * <p>Hibernate recrea {@code fishes} y {@code parasites} al arrancar ({@code ddl-auto=create}) y con ellas
+ * desaparecen sus triggers, así que este componente, que depende de la factoría de JPA, los vuelve a crear y
+ * recalcula la tabla a partir de los datos existentes.</p>
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class TaxonomyCountsInitializer {
+
+	private static final Logger log = LoggerFactory.getLogger(TaxonomyCountsInitializer.class);
+
+	public static final String FISH = "fish";
+	public static final String PARASITE = "parasite";
+
+	private static final String CREATE_TABLE = """
+			CREATE TABLE IF NOT EXISTS taxonomy_counts (
+			    entity VARCHAR(16) NOT NULL,
+			    kingdom VARCHAR(255) NOT NULL,
+			    phylum VARCHAR(255) NOT NULL,
+			    class_name VARCHAR(255) NOT NULL,
+			    order_name VARCHAR(255) NOT NULL,
+			    family VARCHAR(255) NOT NULL,
+			    genus VARCHAR(255) NOT NULL,
+			    total BIGINT NOT NULL,
+			    PRIMARY KEY (entity, kingdom, phylum, class_name, order_name, family, genus)
+			)
+			""";
+
+	private static final String CREATE_ADJUST_FUNCTION = """
+			CREATE OR REPLACE FUNCTION taxonomy_counts_adjust(p_entity VARCHAR, p_kingdom VARCHAR, p_phylum VARCHAR,
+			        p_class_name VARCHAR, p_order_name VARCHAR, p_family VARCHAR, p_genus VARCHAR, p_delta BIGINT)
+			RETURNS VOID AS $$
+			BEGIN
+			    INSERT INTO taxonomy_counts AS tc (entity, kingdom, phylum, class_name, order_name, family, genus, total)
+			    VALUES (p_entity, coalesce(p_kingdom, ''), coalesce(p_phylum, ''), coalesce(p_class_name, ''),
+			            coalesce(p_order_name, ''), coalesce(p_family, ''), coalesce(p_genus, ''), p_delta)
+			    ON CONFLICT (entity, kingdom, phylum, class_name, order_name, family, genus)
+			    DO UPDATE SET total = tc.total + EXCLUDED.total;
+			END;
+			$$ LANGUAGE plpgsql
+			""";
+
+	private static final String CREATE_TRIGGER_FUNCTION = """
+			CREATE OR REPLACE FUNCTION taxonomy_counts_trigger() RETURNS TRIGGER AS $$
+			BEGIN
+			    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+			        PERFORM taxonomy_counts_adjust(TG_ARGV[0], OLD.kingdom, OLD.phylum, OLD.class_name, OLD.order_name,
+			                OLD.family, OLD.genus, -1);
+			    END IF;
+			    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+			        PERFORM taxonomy_counts_adjust(TG_ARGV[0], NEW.kingdom, NEW.phylum, NEW.class_name, NEW.order_name,
+			                NEW.family, NEW.genus, 1);
+			    END IF;
+			    RETURN NULL;
+			END;
+			$$ LANGUAGE plpgsql
+			""";
+
+	private static final String LINEAGE_CHANGED = "OLD.kingdom IS DISTINCT FROM NEW.kingdom OR OLD.phylum IS DISTINCT FROM NEW.phylum "
+			+ "OR OLD.class_name IS DISTINCT FROM NEW.class_name OR OLD.order_name IS DISTINCT FROM NEW.order_name "
+			+ "OR OLD.family IS DISTINCT FROM NEW.family OR OLD.genus IS DISTINCT FROM NEW.genus";
+
+	private static final String RECOUNT = "INSERT INTO taxonomy_counts (entity, kingdom, phylum, class_name, order_name, family, genus, total) "
+			+ "SELECT ?, coalesce(kingdom, ''), coalesce(phylum, ''), coalesce(class_name, ''), coalesce(order_name, ''), "
+			+ "coalesce(family, ''), coalesce(genus, ''), count(*) FROM %s GROUP BY 2, 3, 4, 5, 6, 7";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	/**
+	 * Constructor de la clase {@link TaxonomyCountsInitializer}.
+	 *
+	 * @param jdbcTemplate        Plantilla JDBC para ejecutar las sentencias.
+	 * @param transactionTemplate Plantilla para recalcular los recuentos en una única transacción.
+	 */
+	public TaxonomyCountsInitializer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+	}
+
+	/**
+	 * Crea la tabla, las funciones y los triggers, y recalcula los recuentos.
+	 */
+	@PostConstruct
+	void createTaxonomyCounts() {
+		jdbcTemplate.execute(CREATE_TABLE);
+		jdbcTemplate.execute(CREATE_ADJUST_FUNCTION);
+		jdbcTemplate.execute(CREATE_TRIGGER_FUNCTION);
+		createTriggers("fishes", FISH);
+		createTriggers("parasites", PARASITE);
+		recount();
+		log.info("Recuentos taxonómicos preparados");
+	}
+
+	/**
+	 * Recalcula la tabla completa a partir de {@code fishes} y {@code parasites}. Solo es necesario si se han
+	 * modificado las tablas sin ejecutar los triggers.
+	 */
+	public void recount() {
+		transactionTemplate.executeWithoutResult(status -> {
+			jdbcTemplate.update("DELETE FROM taxonomy_counts");
+			jdbcTemplate.update(RECOUNT.formatted("fishes"), FISH);
+			jdbcTemplate.update(RECOUNT.formatted("parasites"), PARASITE);
+		});
+	}
+
+	private void createTriggers(String table, String entity) {
+		String insertDeleteTrigger = "trg_" + table + "_taxonomy_counts";
+		String updateTrigger = "trg_" + table + "_taxonomy_counts_update";
+		jdbcTemplate.execute("DROP TRIGGER IF EXISTS " + insertDeleteTrigger + " ON " + table);
+		jdbcTemplate.execute("DROP TRIGGER IF EXISTS " + updateTrigger + " ON " + table);
+		jdbcTemplate.execute("CREATE TRIGGER " + insertDeleteTrigger + " AFTER INSERT OR DELETE ON " + table
+				+ " FOR EACH ROW EXECUTE FUNCTION taxonomy_counts_trigger('" + entity + "')");
+		jdbcTemplate.execute("CREATE TRIGGER " + updateTrigger + " AFTER UPDATE ON " + table
+				+ " FOR EACH ROW WHEN (" + LINEAGE_CHANGED + ") EXECUTE FUNCTION taxonomy_counts_trigger('" + entity + "')");
+	}
+}
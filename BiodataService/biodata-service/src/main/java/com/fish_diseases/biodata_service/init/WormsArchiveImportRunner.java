@@ -0,0 +1,63 @@
+package com.fish_diseases.biodata_service.init;
+
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.fish_diseases.biodata_service.services.WormsArchiveImportService;
+
+/**
+ * Clase que implementa {@link ApplicationRunner} para importar un Darwin Core Archive de WoRMS
+ * al arrancar la aplicación. Solo se activa cuando se configura {@code worms.archive.path}.
+ *
+ * <p>La importación se ejecuta en segundo plano para no retrasar el arranque; mientras dura,
+ * las consultas que no encuentran datos en la réplica local se resuelven contra WoRMS.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "worms.archive.path")
+public class WormsArchiveImportRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(WormsArchiveImportRunner.class);
+
+    private final WormsArchiveImportService importService;
+    private final TaskExecutor taskExecutor;
+    private final Path archivePath;
+
+    /**
+     * Constructor de la clase {@link WormsArchiveImportRunner}.
+     *
+     * @param importService Servicio de importación del archive.
+     * @param taskExecutor  Ejecutor de tareas de la aplicación.
+     * @param archivePath   Ruta al fichero ZIP del archive o al directorio con su contenido.
+     */
+    public WormsArchiveImportRunner(WormsArchiveImportService importService,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) TaskExecutor taskExecutor,
+            @Value("${worms.archive.path}") Path archivePath) {
+        this.importService = importService;
+        this.taskExecutor = taskExecutor;
+        this.archivePath = archivePath;
+    }
+
+    /**
+     * Lanza la importación del archive en segundo plano.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        taskExecutor.execute(() -> {
+            try {
+                importService.importArchive(archivePath);
+            } catch (RuntimeException e) {
+                log.error("No se pudo importar el archive de WoRMS {}: {}", archivePath, e.getMessage(), e);
+            }
+        });
+    }
+}
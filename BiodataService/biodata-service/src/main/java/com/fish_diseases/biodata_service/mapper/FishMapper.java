@@ -1,20 +1,20 @@
 package com.fish_diseases.biodata_service.mapper;
 
-import java.util.*;
-
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
 import com.fish_diseases.biodata_service.dtos.ApiFishDTO;
 import com.fish_diseases.biodata_service.dtos.CreateFishDTO;
+import com.fish_diseases.biodata_service.dtos.FishDetailDTO;
+import com.fish_diseases.biodata_service.dtos.ParasiteSummaryDTO;
 import com.fish_diseases.biodata_service.entities.Fish;
-import com.fish_diseases.biodata_service.entities.Taxonomy;
+import com.fish_diseases.biodata_service.entities.Parasite;
 
 /**
  * Mapper interface para convertir entre entidades {@link Fish} y los DTOs asociados.
  * Utiliza MapStruct para generar la implementación en tiempo de compilación.
  */
-@Mapper(componentModel = "spring", imports = {com.fish_diseases.biodata_service.entities.Parasite.class, java.util.stream.Collectors.class})
+@Mapper(componentModel = "spring", uses = TaxonomyMapper.class, imports = {com.fish_diseases.biodata_service.entities.Parasite.class, java.util.stream.Collectors.class})
 public interface FishMapper {
 
     /**
@@ -28,6 +28,8 @@ public interface FishMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "enrichmentStatus", ignore = true)
+    @Mapping(target = "taxonomyFetchedAt", ignore = true)
     Fish convertCreateFishDtoToFishEntity(CreateFishDTO createFishDTO);
 
     /**
@@ -41,6 +43,8 @@ public interface FishMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "enrichmentStatus", ignore = true)
+    @Mapping(target = "taxonomyFetchedAt", ignore = true)
     Fish convertApiFishDtoToFishEntity(ApiFishDTO apiFishDTO);
 
     /**
@@ -54,36 +58,19 @@ public interface FishMapper {
     CreateFishDTO convertFishToCreateFishDto(Fish entity);
 
     /**
-     * Convierte un {@link Map} de tipo {@link String} a un DTO {@link ApiFishDTO}.
+     * Convierte una entidad {@link Fish} a su vista completa {@link FishDetailDTO}. Los parásitos
+     * deben estar cargados.
      * 
-     * @param fishData El mapa que contiene los datos a convertir.
-     * @return El DTO {@link ApiFishDTO} generado a partir del mapa.
+     * @param entity La entidad {@link Fish}.
+     * @return El DTO {@link FishDetailDTO} convertido.
      */
-    @Mapping(target = "taxonomy", expression = "java(fishData.get(\"taxonomy\") != null ? TaxonomyMapper.convertMapToApiTaxonomyDto((Map<String, Object>) fishData.get(\"taxonomy\")) : null)")
-    ApiFishDTO convertMapToApiFishDto(Map<String, Object> fishData);
+    FishDetailDTO convertFishToFishDetailDto(Fish entity);
 
     /**
-     * Convierte un objeto a su representación como {@link String}.
-     * 
-     * @param value El objeto a convertir.
-     * @return La representación en {@link String} del objeto.
-     */
-    default String mapObjectToString(Object value) {
-        return value != null ? value.toString() : null;
-    }
-    
-    /**
-     * Convierte un objeto {@link Map} a {@link Taxonomy} si es posible.
+     * Convierte una entidad {@link Parasite} a su vista resumida {@link ParasiteSummaryDTO}.
      * 
-     * @param taxonomyData Los datos del mapa para convertir.
-     * @return La entidad {@link Taxonomy} convertida, o null si los datos no son del tipo adecuado.
+     * @param parasite La entidad {@link Parasite}.
+     * @return El DTO {@link ParasiteSummaryDTO} convertido.
      */
-    @Mapping(target = "taxonomy", expression = "java(convertTaxonomy(fishData.get(\"taxonomy\")))")
-    @SuppressWarnings("unchecked")
-    default Taxonomy convertTaxonomy(Object taxonomyData) {
-        if (taxonomyData instanceof Map) {
-            return TaxonomyMapper.convertMapToTaxonomy((Map<String, Object>) taxonomyData);
-        }
-        return null;
-    }
+    ParasiteSummaryDTO convertParasiteToParasiteSummaryDto(Parasite parasite);
 }
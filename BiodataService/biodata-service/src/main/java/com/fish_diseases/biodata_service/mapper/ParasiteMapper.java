@@ -1,14 +1,14 @@
 package com.fish_diseases.biodata_service.mapper;
 
-import java.util.Map;
-
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
 import com.fish_diseases.biodata_service.dtos.ApiParasiteDTO;
 import com.fish_diseases.biodata_service.dtos.CreateParasiteDTO;
+import com.fish_diseases.biodata_service.dtos.FishSummaryDTO;
+import com.fish_diseases.biodata_service.dtos.ParasiteDetailDTO;
+import com.fish_diseases.biodata_service.entities.Fish;
 import com.fish_diseases.biodata_service.entities.Parasite;
-import com.fish_diseases.biodata_service.entities.Taxonomy;
 
 /**
  * Mapper interface para convertir entre entidades {@link Parasite} y los DTOs asociados.
@@ -28,6 +28,8 @@ public interface ParasiteMapper {
 	@Mapping(target = "id", ignore = true)
 	@Mapping(target = "createdAt", ignore = true)
 	@Mapping(target = "updatedAt", ignore = true)
+	@Mapping(target = "enrichmentStatus", ignore = true)
+	@Mapping(target = "taxonomyFetchedAt", ignore = true)
 	Parasite convertApiParasiteDtoToParasiteEntity(ApiParasiteDTO apiParasiteDTO);
 
     /**
@@ -41,6 +43,8 @@ public interface ParasiteMapper {
 	@Mapping(target = "id", ignore = true)
 	@Mapping(target = "createdAt", ignore = true)
 	@Mapping(target = "updatedAt", ignore = true)
+	@Mapping(target = "enrichmentStatus", ignore = true)
+	@Mapping(target = "taxonomyFetchedAt", ignore = true)
 	Parasite convertCreateParasiteDtoToParasiteEntity(CreateParasiteDTO createParasiteDTO);
 
     /**
@@ -54,37 +58,19 @@ public interface ParasiteMapper {
 	CreateParasiteDTO convertParasiteToCreateParasiteDto(Parasite entity);
 
     /**
-     * Convierte un {@link Map} de tipo {@link String} a un DTO {@link ApiParasiteDTO}.
+     * Convierte una entidad {@link Parasite} a su vista completa {@link ParasiteDetailDTO}. Los peces
+     * hospedadores deben estar cargados.
      * 
-     * @param parasiteData El mapa que contiene los datos a convertir.
-     * @return El DTO {@link ApiParasiteDTO} generado a partir del mapa.
-     */
-	@Mapping(target = "taxonomy", expression = "java(parasiteData.get(\"taxonomy\") != null ? TaxonomyMapper.convertMapToApiTaxonomyDto((Map<String, Object>) parasiteData.get(\"taxonomy\")) : null)")
-	ApiParasiteDTO convertMapToApiParasiteDto(Map<String, Object> parasiteData);
-
-    /**
-     * Convierte un objeto a su representación como {@link String}.
-     * 
-     * @param value El objeto a convertir.
-     * @return La representación en {@link String} del objeto.
+     * @param entity La entidad {@link Parasite}.
+     * @return El DTO {@link ParasiteDetailDTO} convertido.
      */
-	default String mapObjectToString(Object value) {
-		return value != null ? value.toString() : null;
-	}
+	ParasiteDetailDTO convertParasiteToParasiteDetailDto(Parasite entity);
 
     /**
-     * Convierte un objeto {@link Map} a {@link Taxonomy} si es posible.
+     * Convierte una entidad {@link Fish} a su vista resumida {@link FishSummaryDTO}.
      * 
-     * @param taxonomyData Los datos del mapa para convertir.
-     * @return La entidad {@link Taxonomy} convertida.
+     * @param fish La entidad {@link Fish}.
+     * @return El DTO {@link FishSummaryDTO} convertido.
      */
-	@Mapping(target = "taxonomy", expression = "java(convertTaxonomy(parasiteData.get(\"taxonomy\")))")
-	@SuppressWarnings("unchecked")
-	default Taxonomy convertTaxonomy(Object taxonomyData) {
-		if (taxonomyData instanceof Map) {
-			return TaxonomyMapper.convertMapToTaxonomy((Map<String, Object>) taxonomyData);
-		}
-		return null;
-	}
-
+	FishSummaryDTO convertFishToFishSummaryDto(Fish fish);
 }
@@ -1,12 +1,11 @@
 package com.fish_diseases.biodata_service.mapper;
 
-import java.util.Map;
-
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
 import com.fish_diseases.biodata_service.dtos.ApiTaxonomyDTO;
 import com.fish_diseases.biodata_service.entities.Taxonomy;
+import com.fish_diseases.biodata_service.entities.WormsTaxon;
 
 /**
  * Mapper interface para convertir entre entidades {@link Taxonomy} y los DTOs asociados.
@@ -45,68 +44,12 @@ public interface TaxonomyMapper {
 	ApiTaxonomyDTO convertTaxonomyToApiTaxonomyDTO(Taxonomy taxonomy);
 
     /**
-     * Convierte un {@link Map} de tipo {@link String} a {@link Taxonomy}.
-     * Este mapeo es manual, ya que MapStruct no lo soporta de forma nativa.
-     * 
-     * @param data El mapa que contiene los datos a convertir.
-     * @return La entidad {@link Taxonomy} generada a partir del mapa.
-     */
-	static Taxonomy convertMapToTaxonomy(Map<String, Object> data) {
-		return Taxonomy
-				.builder()
-				.kingdom((String) data.get("kingdom"))
-				.phylum((String) data.get("phylum"))
-				.className((String) data.get("class"))
-				.orderName((String) data.get("order"))
-				.family((String) data.get("family"))
-				.genus((String) data.get("genus"))
-				.species((String) data.get("scientificname"))
-				.build();
-	}
-
-    /**
-     * Convierte un {@link Map} de tipo {@link String} a {@link ApiTaxonomyDTO}.
-     * Este mapeo es manual.
+     * Convierte un taxón de la réplica local de WoRMS ({@link WormsTaxon}) a un {@link ApiTaxonomyDTO}.
+     * Mapea el campo "aphiaId" a "aphiaID".
      * 
-     * @param data El mapa que contiene los datos a convertir.
-     * @return El {@link ApiTaxonomyDTO} generado a partir del mapa.
-     */
-	static ApiTaxonomyDTO convertMapToApiTaxonomyDto(Map<String, Object> data) {
-		return ApiTaxonomyDTO
-				.builder()
-				.aphiaID((Integer) data.get("AphiaID"))
-				.scientificName((String) data.get("scientificname"))
-				.kingdom((String) data.get("kingdom"))
-				.phylum((String) data.get("phylum"))
-				.className((String) data.get("class"))
-				.orderName((String) data.get("order"))
-				.family((String) data.get("family"))
-				.genus((String) data.get("genus"))
-				.url((String) data.get("url"))
-				.build();
-	}
-
-    /**
-     * Convierte un {@link ApiTaxonomyDTO} a un {@link Map}.
-     * 
-     * @param dto El {@link ApiTaxonomyDTO} que se convertirá a un mapa.
-     * @return El mapa que contiene los datos de {@link ApiTaxonomyDTO}.
+     * @param taxon El taxón de la réplica local.
+     * @return El DTO de tipo {@link ApiTaxonomyDTO} convertido.
      */
-	default Map<String, Object> convertApiTaxonomyDtoToMap(ApiTaxonomyDTO dto) {
-		if (dto == null) {
-			return null;
-		}
-		Map<String, Object> taxonomyMap = Map
-				.of(
-						"aphiaID", dto.getAphiaID(), 
-						"scientificName", dto.getScientificName(),
-						"kingdom", dto.getKingdom(), 
-						"phylum", dto.getPhylum(), 
-						"class_name", dto.getClassName(), 
-						"order_name", dto.getOrderName(), 
-						"family", dto.getFamily(), 
-						"genus", dto.getGenus());
-
-		return Map.of("scientificName", dto.getScientificName(), "taxonomy", taxonomyMap);
-	}
+	@Mapping(source = "aphiaId", target = "aphiaID")
+	ApiTaxonomyDTO convertWormsTaxonToApiTaxonomyDto(WormsTaxon taxon);
 }
@@ -0,0 +1,52 @@
+package com.fish_diseases.biodata_service.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.fish_diseases.biodata_service.entities.EnrichmentTask;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Repositorio para la entidad {@link EnrichmentTask}, usado como cola persistente
+ * de las tareas de enriquecimiento con WoRMS.
+ */
+@Repository
+@Transactional
+public interface EnrichmentTaskRepository extends JpaRepository<EnrichmentTask, Long> {
+
+    /**
+     * Reclama tareas disponibles y las marca como en curso en una única sentencia.
+     * Se reclaman las tareas pendientes cuya fecha de disponibilidad ha pasado y las tareas en
+     * curso cuyo trabajador no ha terminado antes de {@code staleBefore} (por ejemplo, por una caída).
+     * {@code FOR UPDATE SKIP LOCKED} permite que varias instancias reclamen tareas a la vez sin
+     * bloquearse ni repetir tareas.
+     *
+     * @param now         Fecha y hora actual.
+     * @param staleBefore Fecha y hora anterior a la cual una tarea en curso se considera abandonada.
+     * @param limit       Número máximo de tareas a reclamar.
+     * @return Tareas reclamadas.
+     */
+	@Query(value = "UPDATE enrichment_tasks SET status = 'RUNNING', attempts = attempts + 1, updated_at = :now "
+			+ "WHERE task_id IN (SELECT task_id FROM enrichment_tasks "
+			+ "WHERE (status = 'PENDING' AND available_at <= :now) OR (status = 'RUNNING' AND updated_at < :staleBefore) "
+			+ "ORDER BY task_id LIMIT :limit FOR UPDATE SKIP LOCKED) RETURNING *", nativeQuery = true)
+	List<EnrichmentTask> claimAvailable(@Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore,
+			@Param("limit") int limit);
+
+    /**
+     * Busca la última tarea de un pez o parásito.
+     *
+     * @param targetType Tipo de registro.
+     * @param targetId   Identificador del registro.
+     * @return {@link Optional} con la última tarea, si existe.
+     */
+    Optional<EnrichmentTask> findFirstByTargetTypeAndTargetIdOrderByIdDesc(EnrichmentTask.TargetType targetType,
+            Long targetId);
+}
@@ -0,0 +1,21 @@
+package com.fish_diseases.biodata_service.repositories;
+
+import java.util.Optional;
+
+import com.fish_diseases.biodata_service.entities.Fish;
+
+/**
+ * Fragmento de {@link FishRepository} con las búsquedas por el identificador natural del pez
+ * (su nombre científico), resueltas por Hibernate a través de la caché de segundo nivel.
+ */
+public interface FishNaturalIdRepository {
+
+    /**
+     * Busca un pez por su nombre científico. La búsqueda consulta primero la caché de identificadores
+     * naturales y la caché de entidades, y solo accede a la base de datos si no lo encuentra en ellas.
+     *
+     * @param scientificName Nombre científico del pez.
+     * @return {@link Optional} conteniendo el pez si existe.
+     */
+    Optional<Fish> findByScientificName(String scientificName);
+}
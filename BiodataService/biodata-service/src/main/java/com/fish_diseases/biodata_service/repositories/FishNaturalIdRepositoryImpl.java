@@ -0,0 +1,26 @@
+package com.fish_diseases.biodata_service.repositories;
+
+import java.util.Optional;
+
+import org.hibernate.Session;
+
+import com.fish_diseases.biodata_service.entities.Fish;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Implementación de {@link FishNaturalIdRepository} con la API de identificadores naturales de Hibernate.
+ */
+class FishNaturalIdRepositoryImpl implements FishNaturalIdRepository {
+
+    private final EntityManager entityManager;
+
+    FishNaturalIdRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<Fish> findByScientificName(String scientificName) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(Fish.class).loadOptional(scientificName);
+    }
+}
@@ -1,17 +1,27 @@
 package com.fish_diseases.biodata_service.repositories;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.fish_diseases.biodata_service.dtos.FishSummaryDTO;
+import com.fish_diseases.biodata_service.dtos.NameSuggestionDTO;
+import com.fish_diseases.biodata_service.dtos.ResourceVersionDTO;
 import com.fish_diseases.biodata_service.entities.Fish;
 
+import jakarta.persistence.LockModeType;
 import jakarta.transaction.Transactional;
 
 /**
@@ -20,15 +30,26 @@ import jakarta.transaction.Transactional;
  */
 @Repository
 @Transactional
-public interface FishRepository extends JpaRepository<Fish, Long> {
+public interface FishRepository extends JpaRepository<Fish, Long>, FishNaturalIdRepository {
 
     /**
-     * Busca un pez por su nombre científico.
+     * Comprueba si existe un pez con el nombre científico indicado.
      *
      * @param scientificName Nombre científico del pez.
-     * @return {@link Optional} conteniendo el pez si se encuentra.
+     * @return true si existe.
      */
-    Optional<Fish> findByScientificName(String scientificName);
+    boolean existsByScientificName(String scientificName);
+
+    /**
+     * Busca los peces hospedadores de un parásito con sus parásitos ya cargados, en una única consulta.
+     *
+     * @param parasiteScientificName Nombre científico del parásito.
+     * @return Lista de peces hospedadores del parásito, ordenada por nombre científico.
+     */
+	@Query("SELECT f FROM Fish f LEFT JOIN FETCH f.parasites WHERE f.id IN "
+			+ "(SELECT hf.id FROM Parasite p JOIN p.fishes hf WHERE p.scientificName = :parasiteScientificName) "
+			+ "ORDER BY f.scientificName")
+	List<Fish> findHostsOfParasite(@Param("parasiteScientificName") String parasiteScientificName);
 
     /**
      * Busca todos los peces cuyos nombres científicos estén en la lista proporcionada.
@@ -48,4 +69,156 @@ public interface FishRepository extends JpaRepository<Fish, Long> {
 	@Query("UPDATE Fish f SET f.updatedAt = :updatedAt WHERE f.id = :id")
 	void updateUpdatedAt(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt);
 
+    /**
+     * Nombres científicos y comunes de todos los peces, para construir el índice de autocompletado.
+     *
+     * @return Lista con el ID y los nombres de cada uno.
+     */
+	@Query("SELECT new com.fish_diseases.biodata_service.dtos.NameSuggestionDTO(f.id, f.scientificName, f.commonName) FROM Fish f")
+	List<NameSuggestionDTO> findAllNames();
+
+    /**
+     * Página de peces en su vista resumida (paginación por desplazamiento). Solo lee las columnas de la vista.
+     *
+     * @param pageable Página, tamaño y ordenación.
+     * @return Página de peces en su vista resumida.
+     */
+	@Query(value = "SELECT new com.fish_diseases.biodata_service.dtos.FishSummaryDTO(f.id, f.scientificName, f.commonName, f.taxonomy) "
+			+ "FROM Fish f", countQuery = "SELECT count(f) FROM Fish f")
+	Page<FishSummaryDTO> findSummaries(Pageable pageable);
+
+    /**
+     * Página de peces en su vista resumida ordenada por ID ascendente a partir del ID indicado (paginación por clave).
+     *
+     * @param id    ID del último elemento de la página anterior.
+     * @param limit Tamaño de la página.
+     * @return Peces con ID mayor que el indicado.
+     */
+	@Query("SELECT new com.fish_diseases.biodata_service.dtos.FishSummaryDTO(f.id, f.scientificName, f.commonName, f.taxonomy) "
+			+ "FROM Fish f WHERE f.id > :id ORDER BY f.id ASC")
+	List<FishSummaryDTO> findSummariesAfterId(@Param("id") Long id, Limit limit);
+
+    /**
+     * Página de peces en su vista resumida ordenada por ID descendente a partir del ID indicado (paginación por clave).
+     *
+     * @param id    ID del último elemento de la página anterior.
+     * @param limit Tamaño de la página.
+     * @return Peces con ID menor que el indicado.
+     */
+	@Query("SELECT new com.fish_diseases.biodata_service.dtos.FishSummaryDTO(f.id, f.scientificName, f.commonName, f.taxonomy) "
+			+ "FROM Fish f WHERE f.id < :id ORDER BY f.id DESC")
+	List<FishSummaryDTO> findSummariesBeforeId(@Param("id") Long id, Limit limit);
+
+    /**
+     * Página de peces en su vista resumida ordenada por nombre científico ascendente a partir del nombre indicado
+     * (paginación por clave).
+     *
+     * @param scientificName Nombre científico del último elemento de la página anterior.
+     * @param limit          Tamaño de la página.
+     * @return Peces con nombre científico posterior al indicado.
+     */
+	@Query("SELECT new com.fish_diseases.biodata_service.dtos.FishSummaryDTO(f.id, f.scientificName, f.commonName, f.taxonomy) "
+			+ "FROM Fish f WHERE f.scientificName > :scientificName ORDER BY f.scientificName ASC")
+	List<FishSummaryDTO> findSummariesAfterScientificName(@Param("scientificName") String scientificName, Limit limit);
+
+    /**
+     * Página de peces en su vista resumida ordenada por nombre científico descendente a partir del nombre indicado
+     * (paginación por clave).
+     *
+     * @param scientificName Nombre científico del último elemento de la página anterior.
+     * @param limit          Tamaño de la página.
+     * @return Peces con nombre científico anterior al indicado.
+     */
+	@Query("SELECT new com.fish_diseases.biodata_service.dtos.FishSummaryDTO(f.id, f.scientificName, f.commonName, f.taxonomy) "
+			+ "FROM Fish f WHERE f.scientificName < :scientificName ORDER BY f.scientificName DESC")
+	List<FishSummaryDTO> findSummariesBeforeScientificName(@Param("scientificName") String scientificName, Limit limit);
+
+    /**
+     * Busca un pez por su ID con sus parásitos ya cargados, en una única consulta.
+     *
+     * @param id ID del pez.
+     * @return {@link Optional} conteniendo el pez si existe.
+     */
+	@EntityGraph(attributePaths = "parasites")
+	Optional<Fish> findWithParasitesById(Long id);
+
+    /**
+     * Busca un pez por su nombre científico con sus parásitos ya cargados, en una única consulta.
+     *
+     * @param scientificName Nombre científico del pez.
+     * @return {@link Optional} conteniendo el pez si existe.
+     */
+	@EntityGraph(attributePaths = "parasites")
+	Optional<Fish> findWithParasitesByScientificName(String scientificName);
+
+    /**
+     * Versión del listado de peces: fecha de la última modificación, número de filas y suma de sus IDs.
+     * Solo lee la tabla, sin cargar entidades.
+     *
+     * @return Versión del listado.
+     */
+	@Query("SELECT new com.fish_diseases.biodata_service.dtos.ResourceVersionDTO(max(coalesce(f.updatedAt, f.createdAt)), count(f), sum(f.id)) "
+			+ "FROM Fish f")
+	ResourceVersionDTO findCatalogVersion();
+
+    /**
+     * Versión de la vista completa de un pez: su fecha de modificación y la de sus parásitos, cuántos son y la
+     * suma de sus IDs.
+     *
+     * @param id ID del pez.
+     * @return {@link Optional} conteniendo la versión si el pez existe.
+     */
+	@Query("SELECT new com.fish_diseases.biodata_service.dtos.ResourceVersionDTO(greatest(coalesce(f.updatedAt, f.createdAt), f.taxonomyFetchedAt), "
+			+ "max(coalesce(p.updatedAt, p.createdAt)), count(p), sum(p.id)) "
+			+ "FROM Fish f LEFT JOIN f.parasites p WHERE f.id = :id "
+			+ "GROUP BY f.id, f.updatedAt, f.createdAt, f.taxonomyFetchedAt")
+	Optional<ResourceVersionDTO> findDetailVersionById(@Param("id") Long id);
+
+    /**
+     * Versión de la vista completa de un pez por su nombre científico.
+     *
+     * @param scientificName Nombre científico del pez.
+     * @return {@link Optional} conteniendo la versión si el pez existe.
+     */
+	@Query("SELECT new com.fish_diseases.biodata_service.dtos.ResourceVersionDTO(greatest(coalesce(f.updatedAt, f.createdAt), f.taxonomyFetchedAt), "
+			+ "max(coalesce(p.updatedAt, p.createdAt)), count(p), sum(p.id)) "
+			+ "FROM Fish f LEFT JOIN f.parasites p WHERE f.scientificName = :scientificName "
+			+ "GROUP BY f.id, f.updatedAt, f.createdAt, f.taxonomyFetchedAt")
+	Optional<ResourceVersionDTO> findDetailVersionByScientificName(@Param("scientificName") String scientificName);
+
+    /**
+     * Busca los peces cuya taxonomía se obtuvo de WoRMS antes de la fecha indicada, empezando por la más antigua.
+     *
+     * @param staleBefore Fecha a partir de la cual la taxonomía se considera actual.
+     * @param pageable    Número máximo de resultados.
+     * @return Lista de peces con la taxonomía más antigua.
+     */
+    List<Fish> findByTaxonomyFetchedAtBeforeOrderByTaxonomyFetchedAtAsc(LocalDateTime staleBefore, Pageable pageable);
+
+    /**
+     * Obtiene varios peces bloqueando sus filas hasta el final de la transacción, para que una edición
+     * concurrente no pueda intercalarse entre la comprobación de su taxonomía y su actualización.
+     *
+     * @param ids IDs de los peces.
+     * @return Lista de peces encontrados.
+     */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT f FROM Fish f WHERE f.id IN :ids")
+	List<Fish> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Actualiza la fecha de obtención de la taxonomía de varios peces sin modificar el resto de campos
+     * ni su fecha de modificación. Solo se actualizan los que siguen teniendo una taxonomía de WoRMS
+     * anterior a {@code staleBefore}; los editados mientras tanto (fecha nula) o ya refrescados se omiten.
+     *
+     * @param ids         IDs de los peces.
+     * @param staleBefore Fecha con la que se seleccionaron los peces a refrescar.
+     * @param fetchedAt   Fecha de obtención de la taxonomía.
+     */
+	@Modifying
+	@Query("UPDATE Fish f SET f.taxonomyFetchedAt = :fetchedAt WHERE f.id IN :ids "
+			+ "AND f.taxonomyFetchedAt IS NOT NULL AND f.taxonomyFetchedAt < :staleBefore")
+	void updateTaxonomyFetchedAt(@Param("ids") Collection<Long> ids, @Param("staleBefore") LocalDateTime staleBefore,
+			@Param("fetchedAt") LocalDateTime fetchedAt);
+
 }
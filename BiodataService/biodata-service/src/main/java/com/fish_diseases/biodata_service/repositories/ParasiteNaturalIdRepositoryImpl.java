@@ -0,0 +1,26 @@
+package com.fish_diseases.biodata_service.repositories;
+
+import java.util.Optional;
+
+import org.hibernate.Session;
+
+import com.fish_diseases.biodata_service.entities.Parasite;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Implementación de {@link ParasiteNaturalIdRepository} con la API de identificadores naturales de Hibernate.
+ */
+class ParasiteNaturalIdRepositoryImpl implements ParasiteNaturalIdRepository {
+
+    private final EntityManager entityManager;
+
+    ParasiteNaturalIdRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<Parasite> findByScientificName(String scientificName) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(Parasite.class).loadOptional(scientificName);
+    }
+}
@@ -1,17 +1,29 @@
 package com.fish_diseases.biodata_service.repositories;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.fish_diseases.biodata_service.dtos.HostParasiteEdgeDTO;
+import com.fish_diseases.biodata_service.dtos.NameSuggestionDTO;
+import com.fish_diseases.biodata_service.dtos.ParasiteSearchResultDTO;
+import com.fish_diseases.biodata_service.dtos.ParasiteSummaryDTO;
+import com.fish_diseases.biodata_service.dtos.ResourceVersionDTO;
 import com.fish_diseases.biodata_service.entities.Parasite;
 
+import jakarta.persistence.LockModeType;
 import jakarta.transaction.Transactional;
 
 /**
@@ -20,15 +32,26 @@ import jakarta.transaction.Transactional;
  */
 @Repository
 @Transactional
-public interface ParasiteRepository extends JpaRepository<Parasite, Long> {
+public interface ParasiteRepository extends JpaRepository<Parasite, Long>, ParasiteNaturalIdRepository {
 
     /**
-     * Busca un parásito por su nombre científico.
+     * Comprueba si existe un parásito con el nombre científico indicado.
      *
      * @param scientificName Nombre científico del parásito.
-     * @return {@link Optional} conteniendo el parásito si existe.
+     * @return true si existe.
+     */
+    boolean existsByScientificName(String scientificName);
+
+    /**
+     * Busca los parásitos de un pez con sus peces hospedadores ya cargados, en una única consulta.
+     *
+     * @param fishScientificName Nombre científico del pez.
+     * @return Lista de parásitos del pez, ordenada por nombre científico.
      */
-    Optional<Parasite> findByScientificName(String scientificName);
+	@Query("SELECT p FROM Parasite p LEFT JOIN FETCH p.fishes WHERE p.id IN "
+			+ "(SELECT hp.id FROM Parasite hp JOIN hp.fishes f WHERE f.scientificName = :fishScientificName) "
+			+ "ORDER BY p.scientificName")
+	List<Parasite> findParasitesOfFish(@Param("fishScientificName") String fishScientificName);
 
     /**
      * Busca todos los parásitos cuyos nombres científicos estén en la lista proporcionada.
@@ -47,4 +70,190 @@ public interface ParasiteRepository extends JpaRepository<Parasite, Long> {
 	@Modifying
 	@Query("UPDATE Parasite p SET p.updatedAt = :updatedAt WHERE p.id = :id")
 	void updateUpdatedAt(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Nombres científicos y comunes de todos los parásitos, para construir el índice de autocompletado.
+     *
+     * @return Lista con el ID y los nombres de cada uno.
+     */
+	@Query("SELECT new com.fish_diseases.biodata_service.dtos.NameSuggestionDTO(p.id, p.scientificName, p.commonName) FROM Parasite p")
+	List<NameSuggestionDTO> findAllNames();
+
+    /**
+     * Página de parásitos en su vista resumida (paginación por desplazamiento). Solo lee las columnas de la vista.
+     *
+     * @param pageable Página, tamaño y ordenación.
+     * @return Página de parásitos en su vista resumida.
+     */
+	@Query(value = "SELECT new com.fish_diseases.biodata_service.dtos.ParasiteSummaryDTO(p.id, p.scientificName, p.commonName, p.taxonomy) "
+			+ "FROM Parasite p", countQuery = "SELECT count(p) FROM Parasite p")
+	Page<ParasiteSummaryDTO> findSummaries(Pageable pageable);
+
+    /**
+     * Página de parásitos en su vista resumida ordenada por ID ascendente a partir del ID indicado (paginación por clave).
+     *
+     * @param id    ID del último elemento de la página anterior.
+     * @param limit Tamaño de la página.
+     * @return Parásitos con ID mayor que el indicado.
+     */
+	@Query("SELECT new com.fish_diseases.biodata_service.dtos.ParasiteSummaryDTO(p.id, p.scientificName, p.commonName, p.taxonomy) "
+			+ "FROM Parasite p WHERE p.id > :id ORDER BY p.id ASC")
+	List<ParasiteSummaryDTO> findSummariesAfterId(@Param("id") Long id, Limit limit);
+
+    /**
+     * Página de parásitos en su vista resumida ordenada por ID descendente a partir del ID indicado (paginación por clave).
+     *
+     * @param id    ID del último elemento de la página anterior.
+     * @param limit Tamaño de la página.
+     * @return Parásitos con ID menor que el indicado.
+     */
+	@Query("SELECT new com.fish_diseases.biodata_service.dtos.ParasiteSummaryDTO(p.id, p.scientificName, p.commonName, p.taxonomy) "
+			+ "FROM Parasite p WHERE p.id < :id ORDER BY p.id DESC")
+	List<ParasiteSummaryDTO> findSummariesBeforeId(@Param("id") Long id, Limit limit);
+
+    /**
+     * Página de parásitos en su vista resumida ordenada por nombre científico ascendente a partir del nombre indicado
+     * (paginación por clave).
+     *
+     * @param scientificName Nombre científico del último elemento de la página anterior.
+     * @param limit          Tamaño de la página.
+     * @return Parásitos con nombre científico posterior al indicado.
+     */
+	@Query("SELECT new com.fish_diseases.biodata_service.dtos.ParasiteSummaryDTO(p.id, p.scientificName, p.commonName, p.taxonomy) "
+			+ "FROM Parasite p WHERE p.scientificName > :scientificName ORDER BY p.scientificName ASC")
+	List<ParasiteSummaryDTO> findSummariesAfterScientificName(@Param("scientificName") String scientificName, Limit limit);
+
+    /**
+     * Página de parásitos en su vista resumida ordenada por nombre científico descendente a partir del nombre indicado
+     * (paginación por clave).
+     *
+     * @param scientificName Nombre científico del último elemento de la página anterior.
+     * @param limit          Tamaño de la página.
+     * @return Parásitos con nombre científico anterior al indicado.
+     */
+	@Query("SELECT new com.fish_diseases.biodata_service.dtos.ParasiteSummaryDTO(p.id, p.scientificName, p.commonName, p.taxonomy) "
+			+ "FROM Parasite p WHERE p.scientificName < :scientificName ORDER BY p.scientificName DESC")
+	List<ParasiteSummaryDTO> findSummariesBeforeScientificName(@Param("scientificName") String scientificName, Limit limit);
+
+    /**
+     * Todas las relaciones entre parásitos y peces hospedadores, para construir el grafo de hospedadores.
+     *
+     * @return Lista con una relación por fila de {@code parasite_fishes}.
+     */
+	@Query("SELECT new com.fish_diseases.biodata_service.dtos.HostParasiteEdgeDTO(p.id, p.scientificName, f.id, f.scientificName) "
+			+ "FROM Parasite p JOIN p.fishes f")
+	List<HostParasiteEdgeDTO> findAllHostEdges();
+
+    /**
+     * Búsqueda de texto completo sobre los nombres y campos descriptivos de los parásitos, usando el índice GIN
+     * de {@code search_vector}. La consulta se interpreta con la sintaxis de {@code websearch_to_tsquery}
+     * (frases entre comillas, {@code or}, {@code -término}) y se analiza a la vez en español, en inglés y sin
+     * lematizar. Los fragmentos resaltados solo se calculan para los parásitos devueltos y son HTML: el texto
+     * almacenado se escapa ({@code &}, {@code <}, {@code >} y {@code "}) antes de insertar las marcas
+     * {@code <mark>}, que son las únicas etiquetas del resultado.
+     *
+     * @param query Texto de la búsqueda.
+     * @param limit Número máximo de resultados.
+     * @return Parásitos encontrados ordenados por relevancia descendente.
+     */
+	@Query(value = "SELECT r.parasite_id AS \"id\", r.scientific_name AS \"scientificName\", r.common_name AS \"commonName\", "
+			+ "r.rank AS \"rank\", ts_headline('spanish', replace(replace(replace(replace(concat_ws(' … ', "
+			+ "r.diagnostic_features, r.damages_on_host, r.location_on_host, r.geographical_distribution, r.detection), "
+			+ "'&', '&amp;'), '<', '&lt;'), '>', '&gt;'), '\"', '&quot;'), r.query, "
+			+ "'StartSel=<mark>, StopSel=</mark>, MaxFragments=3, MaxWords=25, MinWords=8, FragmentDelimiter=\" … \"') AS \"highlight\" "
+			+ "FROM (SELECT p.*, ts_rank(p.search_vector, q.query) AS rank, q.query "
+			+ "FROM parasites p, (SELECT websearch_to_tsquery('simple', :query) || websearch_to_tsquery('spanish', :query) "
+			+ "|| websearch_to_tsquery('english', :query) AS query) q "
+			+ "WHERE p.search_vector @@ q.query ORDER BY rank DESC, p.parasite_id LIMIT :limit) r "
+			+ "ORDER BY r.rank DESC, r.parasite_id", nativeQuery = true)
+	List<ParasiteSearchResultDTO> search(@Param("query") String query, @Param("limit") int limit);
+
+    /**
+     * Busca un parásito por su ID con sus peces hospedadores ya cargados, en una única consulta.
+     *
+     * @param id ID del parásito.
+     * @return {@link Optional} conteniendo el parásito si existe.
+     */
+	@EntityGraph(attributePaths = "fishes")
+	Optional<Parasite> findWithFishesById(Long id);
+
+    /**
+     * Busca un parásito por su nombre científico con sus peces hospedadores ya cargados, en una única consulta.
+     *
+     * @param scientificName Nombre científico del parásito.
+     * @return {@link Optional} conteniendo el parásito si existe.
+     */
+	@EntityGraph(attributePaths = "fishes")
+	Optional<Parasite> findWithFishesByScientificName(String scientificName);
+
+    /**
+     * Versión del listado de parásitos: fecha de la última modificación, número de filas y suma de sus IDs.
+     * Solo lee la tabla, sin cargar entidades.
+     *
+     * @return Versión del listado.
+     */
+	@Query("SELECT new com.fish_diseases.biodata_service.dtos.ResourceVersionDTO(max(coalesce(p.updatedAt, p.createdAt)), count(p), sum(p.id)) "
+			+ "FROM Parasite p")
+	ResourceVersionDTO findCatalogVersion();
+
+    /**
+     * Versión de la vista completa de un parásito: su fecha de modificación y la de sus hospedadores, cuántos son y la
+     * suma de sus IDs.
+     *
+     * @param id ID del parásito.
+     * @return {@link Optional} conteniendo la versión si el parásito existe.
+     */
+	@Query("SELECT new com.fish_diseases.biodata_service.dtos.ResourceVersionDTO(greatest(coalesce(p.updatedAt, p.createdAt), p.taxonomyFetchedAt), "
+			+ "max(coalesce(f.updatedAt, f.createdAt)), count(f), sum(f.id)) "
+			+ "FROM Parasite p LEFT JOIN p.fishes f WHERE p.id = :id "
+			+ "GROUP BY p.id, p.updatedAt, p.createdAt, p.taxonomyFetchedAt")
+	Optional<ResourceVersionDTO> findDetailVersionById(@Param("id") Long id);
+
+    /**
+     * Versión de la vista completa de un parásito por su nombre científico.
+     *
+     * @param scientificName Nombre científico del parásito.
+     * @return {@link Optional} conteniendo la versión si el parásito existe.
+     */
+	@Query("SELECT new com.fish_diseases.biodata_service.dtos.ResourceVersionDTO(greatest(coalesce(p.updatedAt, p.createdAt), p.taxonomyFetchedAt), "
+			+ "max(coalesce(f.updatedAt, f.createdAt)), count(f), sum(f.id)) "
+			+ "FROM Parasite p LEFT JOIN p.fishes f WHERE p.scientificName = :scientificName "
+			+ "GROUP BY p.id, p.updatedAt, p.createdAt, p.taxonomyFetchedAt")
+	Optional<ResourceVersionDTO> findDetailVersionByScientificName(@Param("scientificName") String scientificName);
+
+    /**
+     * Busca los parásitos cuya taxonomía se obtuvo de WoRMS antes de la fecha indicada, empezando por la más antigua.
+     *
+     * @param staleBefore Fecha a partir de la cual la taxonomía se considera actual.
+     * @param pageable    Número máximo de resultados.
+     * @return Lista de parásitos con la taxonomía más antigua.
+     */
+    List<Parasite> findByTaxonomyFetchedAtBeforeOrderByTaxonomyFetchedAtAsc(LocalDateTime staleBefore, Pageable pageable);
+
+    /**
+     * Obtiene varios parásitos bloqueando sus filas hasta el final de la transacción, para que una edición
+     * concurrente no pueda intercalarse entre la comprobación de su taxonomía y su actualización.
+     *
+     * @param ids IDs de los parásitos.
+     * @return Lista de parásitos encontrados.
+     */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT p FROM Parasite p WHERE p.id IN :ids")
+	List<Parasite> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Actualiza la fecha de obtención de la taxonomía de varios parásitos sin modificar el resto de campos
+     * ni su fecha de modificación. Solo se actualizan los que siguen teniendo una taxonomía de WoRMS
+     * anterior a {@code staleBefore}; los editados mientras tanto (fecha nula) o ya refrescados se omiten.
+     *
+     * @param ids         IDs de los parásitos.
+     * @param staleBefore Fecha con la que se seleccionaron los parásitos a refrescar.
+     * @param fetchedAt   Fecha de obtención de la taxonomía.
+     */
+	@Modifying
+	@Query("UPDATE Parasite p SET p.taxonomyFetchedAt = :fetchedAt WHERE p.id IN :ids "
+			+ "AND p.taxonomyFetchedAt IS NOT NULL AND p.taxonomyFetchedAt < :staleBefore")
+	void updateTaxonomyFetchedAt(@Param("ids") Collection<Long> ids, @Param("staleBefore") LocalDateTime staleBefore,
+			@Param("fetchedAt") LocalDateTime fetchedAt);
+
 }
@@ -0,0 +1,67 @@
+package com.fish_diseases.biodata_service.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.fish_diseases.biodata_service.entities.WormsCacheEntry;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Repositorio para la entidad {@link WormsCacheEntry}, usado como nivel persistente
+ * de la caché de respuestas de WoRMS.
+ */
+@Repository
+@Transactional
+public interface WormsCacheEntryRepository extends JpaRepository<WormsCacheEntry, String> {
+
+    /**
+     * Busca una entrada de caché que siga vigente.
+     *
+     * @param cacheKey Clave de la consulta.
+     * @param now      Fecha y hora actual.
+     * @return {@link Optional} con la entrada si existe y no ha expirado.
+     */
+    Optional<WormsCacheEntry> findByCacheKeyAndExpiresAtAfter(String cacheKey, LocalDateTime now);
+
+    /**
+     * Busca las entradas de caché vigentes para un conjunto de claves.
+     *
+     * @param cacheKeys Claves de las consultas.
+     * @param now       Fecha y hora actual.
+     * @return Lista de entradas encontradas que no han expirado.
+     */
+    List<WormsCacheEntry> findByCacheKeyInAndExpiresAtAfter(Collection<String> cacheKeys, LocalDateTime now);
+
+    /**
+     * Inserta o reemplaza una entrada de caché. Se usa un upsert nativo para que dos
+     * consultas concurrentes sobre la misma clave no provoquen una violación de clave primaria.
+     *
+     * @param cacheKey  Clave de la consulta.
+     * @param payload   Respuesta serializada, o {@code null} si es negativa.
+     * @param expiresAt Fecha y hora de expiración.
+     */
+	@Modifying
+	@Query(value = "INSERT INTO worms_cache (cache_key, payload, expires_at) VALUES (:cacheKey, CAST(:payload AS TEXT), :expiresAt) "
+			+ "ON CONFLICT (cache_key) DO UPDATE SET payload = EXCLUDED.payload, expires_at = EXCLUDED.expires_at", nativeQuery = true)
+	void upsert(@Param("cacheKey") String cacheKey, @Param("payload") String payload,
+			@Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Elimina las entradas de caché expiradas.
+     *
+     * @param now Fecha y hora actual.
+     * @return Número de entradas eliminadas.
+     */
+	@Modifying
+	@Query("DELETE FROM WormsCacheEntry e WHERE e.expiresAt <= :now")
+	int deleteExpired(@Param("now") LocalDateTime now);
+}
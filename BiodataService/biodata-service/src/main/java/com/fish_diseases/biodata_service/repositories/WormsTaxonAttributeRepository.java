@@ -0,0 +1,32 @@
+package com.fish_diseases.biodata_service.repositories;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.fish_diseases.biodata_service.entities.WormsTaxonAttribute;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Repositorio para la entidad {@link WormsTaxonAttribute}, usado para consultar los atributos
+ * de la réplica local de WoRMS.
+ */
+@Repository
+@Transactional
+public interface WormsTaxonAttributeRepository extends JpaRepository<WormsTaxonAttribute, Long> {
+
+    /**
+     * Obtiene los valores de un tipo de atributo para un taxón.
+     *
+     * @param aphiaId         AphiaID del taxón.
+     * @param measurementType Tipo de medición (por ejemplo, "Host/prey"), sin distinguir mayúsculas.
+     * @return Lista de valores de la medición.
+     */
+	@Query("SELECT a.measurementValue FROM WormsTaxonAttribute a WHERE a.aphiaId = :aphiaId "
+			+ "AND LOWER(a.measurementType) = LOWER(:measurementType) AND a.measurementValue IS NOT NULL")
+	List<String> findMeasurementValues(@Param("aphiaId") Integer aphiaId, @Param("measurementType") String measurementType);
+}
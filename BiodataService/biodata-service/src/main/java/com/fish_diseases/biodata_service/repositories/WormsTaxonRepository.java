@@ -0,0 +1,35 @@
+package com.fish_diseases.biodata_service.repositories;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.fish_diseases.biodata_service.entities.WormsTaxon;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Repositorio para la entidad {@link WormsTaxon}, usado para consultar la réplica local de WoRMS.
+ */
+@Repository
+@Transactional
+public interface WormsTaxonRepository extends JpaRepository<WormsTaxon, Integer> {
+
+    /**
+     * Busca los taxones con un nombre científico, con los nombres aceptados en primer lugar.
+     *
+     * @param scientificName Nombre científico del taxón.
+     * @return Lista de taxones coincidentes.
+     */
+    List<WormsTaxon> findByScientificNameOrderByAcceptedDescAphiaIdAsc(String scientificName);
+
+    /**
+     * Busca los taxones cuyos nombres científicos estén en la lista proporcionada.
+     *
+     * @param scientificNames Nombres científicos.
+     * @return Lista de taxones coincidentes.
+     */
+    List<WormsTaxon> findByScientificNameIn(Collection<String> scientificNames);
+}
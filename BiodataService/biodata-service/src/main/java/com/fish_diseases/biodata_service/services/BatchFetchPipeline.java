@@ -0,0 +1,162 @@
+package com.fish_diseases.biodata_service.services;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fish_diseases.biodata_service.client.BioDataClient;
+import com.fish_diseases.biodata_service.dtos.ApiTaxonomyDTO;
+import com.fish_diseases.biodata_service.dtos.BatchFetchResultDTO;
+import com.fish_diseases.biodata_service.dtos.BatchFetchResultDTO.Outcome;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Canalización de la importación por lotes de peces o parásitos desde WoRMS.
+ *
+ * <p>La taxonomía de todos los nombres se consulta de una vez con los endpoints múltiples de WoRMS.
+ * A continuación, los organismos relacionados de cada nombre se obtienen en paralelo, con un número
+ * máximo de consultas simultáneas, y los nombres resueltos se agrupan en bloques que se guardan en
+ * una transacción cada uno mientras siguen llegando los siguientes. El guardado se hace en el hilo
+ * que invoca la canalización, que es también el único que emite los resultados.</p>
+ */
+@Component
+public class BatchFetchPipeline {
+
+	private static final Logger log = LoggerFactory.getLogger(BatchFetchPipeline.class);
+
+	private final BioDataClient bioDataClient;
+	private final int concurrency;
+	private final int chunkSize;
+	private final Duration flushInterval;
+
+	/**
+	 * Constructor de {@code BatchFetchPipeline}.
+	 *
+	 * @param bioDataClient cliente para comunicarse con WoRMS
+	 * @param concurrency   número máximo de nombres cuyos organismos relacionados se consultan a la vez
+	 * @param chunkSize     número máximo de registros guardados en cada transacción
+	 * @param flushInterval tiempo máximo que un bloque incompleto espera antes de guardarse
+	 */
+	public BatchFetchPipeline(BioDataClient bioDataClient,
+			@Value("${worms.batch.concurrency:8}") int concurrency,
+			@Value("${worms.batch.chunk-size:50}") int chunkSize,
+			@Value("${worms.batch.flush-interval:500ms}") Duration flushInterval) {
+		this.bioDataClient = bioDataClient;
+		this.concurrency = concurrency;
+		this.chunkSize = chunkSize;
+		this.flushInterval = flushInterval;
+	}
+
+	/**
+	 * Importa los nombres científicos indicados, que no deben existir en la base de datos.
+	 *
+	 * @param scientificNames Nombres científicos sin repetir.
+	 * @param relatedNames    Obtiene de WoRMS los nombres de los organismos relacionados con una taxonomía.
+	 * @param save            Guarda un bloque de nombres resueltos en una transacción y devuelve el ID
+	 *                        de cada registro creado por nombre científico.
+	 * @param onResult        Recibe el resultado de cada nombre en cuanto se conoce.
+	 */
+	void run(Collection<String> scientificNames, Function<ApiTaxonomyDTO, List<String>> relatedNames,
+			Function<List<Resolved>, Map<String, Long>> save, Consumer<BatchFetchResultDTO> onResult) {
+
+		if (scientificNames.isEmpty()) {
+			return;
+		}
+
+		Map<String, ApiTaxonomyDTO> taxonomies;
+		try {
+			taxonomies = bioDataClient.fetchFromWoRMS(scientificNames);
+		} catch (RuntimeException e) {
+			log.warn("No se pudo obtener la taxonomía de los nombres del lote: {}", e.getMessage());
+			scientificNames.forEach(name -> onResult.accept(failed(name, e)));
+			return;
+		}
+
+		List<String> found = new ArrayList<>();
+		for (String name : scientificNames) {
+			if (taxonomies.containsKey(name)) {
+				found.add(name);
+			} else {
+				onResult.accept(BatchFetchResultDTO.builder().scientificName(name).outcome(Outcome.NOT_FOUND).build());
+			}
+		}
+
+		Iterable<List<Resolved>> chunks = Flux
+				.fromIterable(found)
+				.flatMap(name -> Mono
+						.fromCallable(() -> new Resolved(name, taxonomies.get(name),
+								relatedNames.apply(taxonomies.get(name)), null))
+						.subscribeOn(Schedulers.boundedElastic())
+						.onErrorResume(e -> Mono.just(new Resolved(name, null, null, e))), concurrency)
+				.bufferTimeout(chunkSize, flushInterval, true)
+				.toIterable(1);
+
+		for (List<Resolved> chunk : chunks) {
+			List<Resolved> resolved = new ArrayList<>();
+			for (Resolved item : chunk) {
+				if (item.error() != null) {
+					onResult.accept(failed(item.scientificName(), item.error()));
+				} else {
+					resolved.add(item);
+				}
+			}
+			if (!resolved.isEmpty()) {
+				saveChunk(resolved, save, onResult);
+			}
+		}
+	}
+
+	/**
+	 * Guarda un bloque de nombres resueltos y emite su resultado. Si el guardado falla, todos los
+	 * nombres del bloque se emiten como fallidos.
+	 */
+	private void saveChunk(List<Resolved> resolved, Function<List<Resolved>, Map<String, Long>> save,
+			Consumer<BatchFetchResultDTO> onResult) {
+		Map<String, Long> ids;
+		try {
+			ids = save.apply(resolved);
+		} catch (RuntimeException e) {
+			log.warn("No se pudo guardar un bloque de {} registros: {}", resolved.size(), e.getMessage());
+			resolved.forEach(item -> onResult.accept(failed(item.scientificName(), e)));
+			return;
+		}
+		resolved.forEach(item -> onResult.accept(BatchFetchResultDTO
+				.builder()
+				.scientificName(item.scientificName())
+				.outcome(Outcome.CREATED)
+				.id(ids.get(item.scientificName()))
+				.build()));
+	}
+
+	private static BatchFetchResultDTO failed(String scientificName, Throwable error) {
+		return BatchFetchResultDTO
+				.builder()
+				.scientificName(scientificName)
+				.outcome(Outcome.FAILED)
+				.error(String.valueOf(error.getMessage()))
+				.build();
+	}
+
+	/**
+	 * Nombre científico resuelto en WoRMS, listo para guardarse.
+	 *
+	 * @param scientificName Nombre científico solicitado.
+	 * @param taxonomy       Taxonomía obtenida de WoRMS.
+	 * @param relatedNames   Nombres científicos de los organismos relacionados.
+	 * @param error          Error producido al resolverlo, o {@code null} si se resolvió.
+	 */
+	record Resolved(String scientificName, ApiTaxonomyDTO taxonomy, List<String> relatedNames, Throwable error) {
+	}
+}
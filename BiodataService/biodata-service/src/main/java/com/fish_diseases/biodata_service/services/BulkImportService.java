@@ -0,0 +1,653 @@
+package com.fish_diseases.biodata_service.services;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.fish_diseases.biodata_service.dtos.BulkImportErrorDTO;
+import com.fish_diseases.biodata_service.dtos.BulkImportResultDTO;
+import com.fish_diseases.biodata_service.dtos.CreateFishDTO;
+import com.fish_diseases.biodata_service.dtos.CreateParasiteDTO;
+import com.fish_diseases.biodata_service.entities.EnrichmentStatus;
+import com.fish_diseases.biodata_service.entities.EnrichmentTask;
+import com.fish_diseases.biodata_service.entities.Fish;
+import com.fish_diseases.biodata_service.entities.Parasite;
+import com.fish_diseases.biodata_service.entities.Taxonomy;
+import com.fish_diseases.biodata_service.utils.CatalogFormat;
+import com.fish_diseases.biodata_service.utils.CsvRecordReader;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Servicio de carga masiva de peces y parásitos desde ficheros NDJSON o CSV.
+ *
+ * <p>Cada fila tiene la forma de {@link CreateFishDTO} o {@link CreateParasiteDTO}, con la taxonomía anidada o
+ * aplanada en columnas, y los peces o parásitos relacionados en un array o separados por {@code |}; el fichero
+ * de la exportación se puede volver a cargar tal cual. Las filas se validan a medida que se leen y las válidas
+ * se envían con {@code COPY} a una tabla temporal, sin pasar por Hibernate. Desde ella se actualizan los
+ * registros existentes, se insertan los nuevos, se crean los relacionados que falten y se añaden las
+ * relaciones, con una sentencia para todas las filas en cada paso y todo en una única transacción.</p>
+ *
+ * <p>Las filas rechazadas se devuelven con su línea y el motivo, sin impedir la carga del resto. No se hace
+ * ninguna llamada a WoRMS: si se pide el enriquecimiento, los registros nuevos quedan pendientes y se encolan
+ * para {@link EnrichmentWorker}.</p>
+ */
+@Service
+public class BulkImportService {
+
+	private static final Logger log = LoggerFactory.getLogger(BulkImportService.class);
+	private final boolean isTraceEnabled = log.isTraceEnabled();
+
+	/**
+	 * Incremento de {@code fishes_seq} y {@code parasites_seq}: cada valor de la secuencia reserva este número
+	 * de IDs, igual que hace Hibernate con {@code allocationSize}.
+	 */
+	private static final int ALLOCATION_SIZE = 50;
+	private static final int MAX_VARCHAR_LENGTH = 255;
+	private static final String CSV_LIST_SEPARATOR = "\\|";
+	private static final String STAGING_TABLE = "catalog_import";
+	private static final String RELATED_STAGING_TABLE = "catalog_import_related";
+
+	/**
+	 * Columnas de la taxonomía aplanada, como las escribe la exportación, y su propiedad en {@link Taxonomy}.
+	 */
+	private static final Map<String, String> FLAT_TAXONOMY_PROPERTIES = Map.of(
+			"aphiaID", "aphiaID", "kingdom", "kingdom", "phylum", "phylum", "className", "className",
+			"orderName", "orderName", "family", "family", "genus", "genus", "species", "species",
+			"taxonomyUrl", "url");
+
+	/**
+	 * Columnas de la taxonomía. Si la carga cambia alguna, la taxonomía deja de proceder de WoRMS.
+	 */
+	private static final List<String> TAXONOMY_COLUMNS = List.of("aphiaid", "kingdom", "phylum", "class_name",
+			"order_name", "family", "genus", "species", "taxonomy_url");
+
+	private static final Set<String> TEXT_COLUMNS = Set.of("fao_distribution", "diagnostic_features",
+			"geographical_distribution", "biological_cycle", "host_specificity", "location_on_host", "damages_on_host",
+			"detection");
+
+	private static final String INTEGER_COLUMN = "aphiaid";
+
+	private static final CatalogTable FISH_TABLE = new CatalogTable("fishes", "fish_id", "fishes_seq",
+			EnrichmentTask.TargetType.FISH);
+	private static final CatalogTable PARASITE_TABLE = new CatalogTable("parasites", "parasite_id", "parasites_seq",
+			EnrichmentTask.TargetType.PARASITE);
+
+	private static final ImportTarget<CreateFishDTO> FISH_IMPORT = new ImportTarget<>(CreateFishDTO.class,
+			FISH_TABLE, PARASITE_TABLE, "parasites", "r.parasite_id, m.fish_id",
+			List.of("common_name", "aphiaid", "kingdom", "phylum", "class_name", "order_name", "family", "genus",
+					"species", "taxonomy_url", "fao_distribution"),
+			dto -> new StagedRow(dto.getScientificName(),
+					values(dto.getCommonName(), dto.getTaxonomy(), dto.getFaoDistribution()), dto.getParasites()));
+
+	private static final ImportTarget<CreateParasiteDTO> PARASITE_IMPORT = new ImportTarget<>(CreateParasiteDTO.class,
+			PARASITE_TABLE, FISH_TABLE, "fishes", "m.parasite_id, r.fish_id",
+			List.of("common_name", "aphiaid", "kingdom", "phylum", "class_name", "order_name", "family", "genus",
+					"species", "taxonomy_url", "diagnostic_features", "size", "geographical_distribution",
+					"biological_cycle", "host_specificity", "location_on_host", "damages_on_host", "detection"),
+			dto -> new StagedRow(dto.getScientificName(),
+					values(dto.getCommonName(), dto.getTaxonomy(), dto.getDiagnosticFeatures(), dto.getSize(),
+							dto.getGeographicalDistribution(), dto.getBiologicalCycle(), dto.getHostSpecificity(),
+							dto.getLocationOnHost(), dto.getDamagesOnHost(), dto.getDetection()),
+					dto.getFishes()));
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final ObjectMapper objectMapper;
+	private final Validator validator;
+	private final NameSuggestService nameSuggestService;
+	private final HostParasiteGraphService graphService;
+	private final SessionFactoryImplementor sessionFactory;
+	private final int maxReportedErrors;
+
+	/**
+	 * Constructor de {@code BulkImportService}.
+	 *
+	 * @param jdbcTemplate         plantilla JDBC para la tabla temporal y las sentencias de carga
+	 * @param transactionTemplate  plantilla para ejecutar la carga completa en una transacción
+	 * @param objectMapper         lector JSON de la aplicación
+	 * @param validator            validador de las filas
+	 * @param nameSuggestService   servicio de autocompletado, que se reconstruye tras la carga
+	 * @param graphService         servicio del grafo de hospedadores, que se reconstruye tras la carga
+	 * @param entityManagerFactory factoría de la unidad de persistencia, para vaciar la caché de segundo nivel
+	 * @param maxReportedErrors    número máximo de filas rechazadas que se detallan en el resultado
+	 */
+	public BulkImportService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+			ObjectMapper objectMapper, Validator validator, NameSuggestService nameSuggestService,
+			HostParasiteGraphService graphService, EntityManagerFactory entityManagerFactory,
+			@Value("${import.max-reported-errors:1000}") int maxReportedErrors) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.objectMapper = objectMapper;
+		this.validator = validator;
+		this.nameSuggestService = nameSuggestService;
+		this.graphService = graphService;
+		this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+		this.maxReportedErrors = maxReportedErrors;
+	}
+
+	/////////////////////////////
+	//// MÉTODOS DE CREACIÓN ////
+	/////////////////////////////
+
+	/**
+	 * Carga peces desde un fichero. Los existentes se actualizan con los campos informados, los nuevos se
+	 * insertan y los parásitos que no existan se crean solo con su nombre.
+	 *
+	 * @param format Formato del fichero.
+	 * @param input  Contenido del fichero.
+	 * @param enrich Si los peces y parásitos nuevos se encolan para completarlos con WoRMS.
+	 * @return Resultado de la carga, con las filas rechazadas.
+	 * @throws UncheckedIOException si no se puede leer el fichero; en ese caso no se carga nada.
+	 */
+	public BulkImportResultDTO importFishes(CatalogFormat format, InputStream input, boolean enrich) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start importFishes ########");
+		}
+
+		BulkImportResultDTO result = importCatalog(FISH_IMPORT, format, input, enrich);
+
+		if (isTraceEnabled) {
+			log.trace("######## End importFishes ########");
+		}
+
+		return result;
+	}
+
+	/**
+	 * Carga parásitos desde un fichero. Los existentes se actualizan con los campos informados, los nuevos se
+	 * insertan y los peces hospedadores que no existan se crean solo con su nombre.
+	 *
+	 * @param format Formato del fichero.
+	 * @param input  Contenido del fichero.
+	 * @param enrich Si los parásitos y peces nuevos se encolan para completarlos con WoRMS.
+	 * @return Resultado de la carga, con las filas rechazadas.
+	 * @throws UncheckedIOException si no se puede leer el fichero; en ese caso no se carga nada.
+	 */
+	public BulkImportResultDTO importParasites(CatalogFormat format, InputStream input, boolean enrich) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start importParasites ########");
+		}
+
+		BulkImportResultDTO result = importCatalog(PARASITE_IMPORT, format, input, enrich);
+
+		if (isTraceEnabled) {
+			log.trace("######## End importParasites ########");
+		}
+
+		return result;
+	}
+
+	////////////////////////////
+	//// MÉTODOS AUXILIARES ////
+	////////////////////////////
+
+	/**
+	 * Ejecuta la carga en una transacción y, si ha cambiado algo, descarta lo que Hibernate y los índices en
+	 * memoria tenían de las tablas, ya que las sentencias SQL no pasan por sus listeners.
+	 */
+	private <D> BulkImportResultDTO importCatalog(ImportTarget<D> target, CatalogFormat format, InputStream input,
+			boolean enrich) {
+		ImportRun run = new ImportRun(maxReportedErrors);
+		BulkImportResultDTO result = transactionTemplate.execute(status -> {
+			jdbcTemplate.execute(stagingTableSql(target));
+			jdbcTemplate.execute("CREATE TEMP TABLE " + RELATED_STAGING_TABLE
+					+ " (scientific_name text PRIMARY KEY, line bigint NOT NULL, rn bigint) ON COMMIT DROP");
+			jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+				copyRows(target, format, input, connection.unwrap(PGConnection.class), run);
+				return null;
+			});
+			jdbcTemplate.execute("ANALYZE " + STAGING_TABLE);
+
+			LocalDateTime now = LocalDateTime.now();
+			int updated = jdbcTemplate.update(updateSql(target), now);
+			long[] inserted = insertNew(target.table(), STAGING_TABLE, target.columns(), enrich, now);
+
+			jdbcTemplate.update("INSERT INTO " + RELATED_STAGING_TABLE + " (scientific_name, line) "
+					+ "SELECT r.scientific_name, min(s.line) FROM " + STAGING_TABLE + " s "
+					+ "CROSS JOIN unnest(s.related) AS r(scientific_name) GROUP BY r.scientific_name");
+			long[] related = insertNew(target.related(), RELATED_STAGING_TABLE, List.of(), enrich, now);
+
+			int linked = jdbcTemplate.update("INSERT INTO parasite_fishes (parasite_id, fish_id) "
+					+ "SELECT DISTINCT " + target.linkColumns() + " FROM " + STAGING_TABLE + " s "
+					+ "JOIN " + target.table().name() + " m ON m.scientific_name = s.scientific_name "
+					+ "CROSS JOIN unnest(s.related) AS rel(scientific_name) "
+					+ "JOIN " + target.related().name() + " r ON r.scientific_name = rel.scientific_name "
+					+ "ON CONFLICT DO NOTHING");
+
+			return new BulkImportResultDTO(run.received, run.rejected, inserted[0], updated, related[0], linked,
+					inserted[1] + related[1], run.errors);
+		});
+
+		if (result.inserted() + result.updated() + result.relatedCreated() + result.linked() > 0) {
+			refreshInMemoryState();
+		}
+		log.info("Carga masiva de {}: {} filas, {} rechazadas, {} nuevas, {} actualizadas, {} relacionados creados, "
+				+ "{} relaciones", target.table().name(), result.received(), result.rejected(), result.inserted(),
+				result.updated(), result.relatedCreated(), result.linked());
+		return result;
+	}
+
+	/**
+	 * Lee el fichero, valida cada fila y envía las válidas a la tabla temporal con {@code COPY ... FROM STDIN}.
+	 * Las filas se escriben en el flujo de {@code COPY} a medida que se leen, sin acumularlas en memoria.
+	 */
+	private <D> void copyRows(ImportTarget<D> target, CatalogFormat format, InputStream input,
+			PGConnection connection, ImportRun run) throws SQLException {
+		String copySql = "COPY " + STAGING_TABLE + " (line, scientific_name, " + String.join(", ", target.columns())
+				+ ", related) FROM STDIN (FORMAT csv)";
+		BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+		try (Writer copy = new BufferedWriter(
+				new OutputStreamWriter(new PGCopyOutputStream(connection, copySql), StandardCharsets.UTF_8))) {
+			if (format == CatalogFormat.CSV) {
+				CsvRecordReader records = new CsvRecordReader(reader);
+				while (true) {
+					Map<String, String> record;
+					try {
+						record = records.next();
+					} catch (CsvRecordReader.MalformedRecordException e) {
+						run.received++;
+						run.reject(records.line(), null, e.getMessage());
+						break;
+					}
+					if (record == null) {
+						break;
+					}
+					run.received++;
+					ObjectNode node = objectMapper.createObjectNode();
+					record.forEach((property, value) -> {
+						if (value != null && !value.isBlank()) {
+							node.put(property, value.strip());
+						}
+					});
+					stageRow(target, records.line(), node, copy, run);
+				}
+			} else {
+				long lineNumber = 0;
+				String line;
+				while ((line = reader.readLine()) != null) {
+					lineNumber++;
+					if (line.isBlank()) {
+						continue;
+					}
+					run.received++;
+					JsonNode node;
+					try {
+						node = objectMapper.readTree(line);
+					} catch (JsonProcessingException e) {
+						run.reject(lineNumber, null, "JSON no válido: " + e.getOriginalMessage());
+						continue;
+					}
+					if (!(node instanceof ObjectNode object)) {
+						run.reject(lineNumber, null, "La fila no es un objeto JSON");
+						continue;
+					}
+					stageRow(target, lineNumber, object, copy, run);
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("No se pudo leer el fichero de la carga masiva", e);
+		}
+	}
+
+	/**
+	 * Convierte una fila al DTO de creación, la valida y, si es correcta, la escribe en el flujo de
+	 * {@code COPY}. Un nombre científico repetido en el fichero se rechaza en sus apariciones posteriores.
+	 */
+	private <D> void stageRow(ImportTarget<D> target, long line, ObjectNode node, Writer copy, ImportRun run)
+			throws IOException {
+		normalize(node, target.relatedProperty());
+		D dto;
+		try {
+			dto = objectMapper.treeToValue(node, target.dtoClass());
+		} catch (JsonProcessingException e) {
+			run.reject(line, node.path("scientificName").asText(null), "Fila no válida: " + e.getOriginalMessage());
+			return;
+		}
+		Set<ConstraintViolation<D>> violations = validator.validate(dto);
+		if (!violations.isEmpty()) {
+			run.reject(line, node.path("scientificName").asText(null), violations
+					.stream()
+					.map(ConstraintViolation::getMessage)
+					.sorted()
+					.collect(Collectors.joining("; ")));
+			return;
+		}
+		StagedRow row = target.stage().apply(dto);
+		String error = checkColumns(target, row);
+		if (error != null) {
+			run.reject(line, row.scientificName(), error);
+			return;
+		}
+		Long firstLine = run.lineByName.putIfAbsent(row.scientificName(), line);
+		if (firstLine != null) {
+			run.reject(line, row.scientificName(), "Nombre científico repetido; ya aparece en la línea " + firstLine);
+			return;
+		}
+		writeRow(copy, line, row);
+	}
+
+	/**
+	 * Pasa la taxonomía aplanada de la exportación a un objeto {@code taxonomy} y separa la lista de relacionados
+	 * cuando llega como texto, para que la fila tenga la forma del DTO de creación.
+	 */
+	private static void normalize(ObjectNode node, String relatedProperty) {
+		ObjectNode taxonomy = node.get("taxonomy") instanceof ObjectNode existing ? existing : null;
+		for (Map.Entry<String, String> property : FLAT_TAXONOMY_PROPERTIES.entrySet()) {
+			JsonNode value = node.remove(property.getKey());
+			if (value != null && !value.isNull()) {
+				if (taxonomy == null) {
+					taxonomy = node.putObject("taxonomy");
+				}
+				taxonomy.set(property.getValue(), value);
+			}
+		}
+		JsonNode related = node.get(relatedProperty);
+		if (related != null && related.isTextual()) {
+			ArrayNode names = node.putArray(relatedProperty);
+			Arrays.stream(related.asText().split(CSV_LIST_SEPARATOR)).forEach(names::add);
+		}
+	}
+
+	/**
+	 * Comprueba lo que la base de datos rechazaría y haría fallar el {@code COPY} completo: textos más largos
+	 * que su columna y caracteres nulos.
+	 *
+	 * @return Motivo del rechazo, o {@code null} si la fila es correcta.
+	 */
+	private static String checkColumns(ImportTarget<?> target, StagedRow row) {
+		if (row.scientificName().length() > MAX_VARCHAR_LENGTH) {
+			return "scientificName supera los " + MAX_VARCHAR_LENGTH + " caracteres";
+		}
+		for (int i = 0; i < target.columns().size(); i++) {
+			String column = target.columns().get(i);
+			if (row.values().get(i) instanceof String value) {
+				if (value.length() > MAX_VARCHAR_LENGTH && !TEXT_COLUMNS.contains(column)) {
+					return column + " supera los " + MAX_VARCHAR_LENGTH + " caracteres";
+				}
+				if (value.indexOf('\0') >= 0) {
+					return column + " contiene caracteres nulos";
+				}
+			}
+		}
+		for (String name : row.related()) {
+			if (name.length() > MAX_VARCHAR_LENGTH || name.indexOf('\0') >= 0) {
+				return "Nombre científico relacionado no válido: " + name;
+			}
+		}
+		return row.scientificName().indexOf('\0') >= 0 ? "scientificName contiene caracteres nulos" : null;
+	}
+
+	/**
+	 * Escribe una fila en formato CSV de {@code COPY}: los nulos como campo vacío sin comillas, los textos
+	 * siempre entre comillas y los relacionados como literal de array de PostgreSQL.
+	 */
+	private static void writeRow(Writer copy, long line, StagedRow row) throws IOException {
+		copy.write(Long.toString(line));
+		copy.write(',');
+		writeQuoted(copy, row.scientificName());
+		for (Object value : row.values()) {
+			copy.write(',');
+			if (value instanceof String text) {
+				writeQuoted(copy, text);
+			} else if (value != null) {
+				copy.write(value.toString());
+			}
+		}
+		copy.write(',');
+		writeQuoted(copy, row.related()
+				.stream()
+				.map(name -> '"' + name.replace("\\", "\\\\").replace("\"", "\\\"") + '"')
+				.collect(Collectors.joining(",", "{", "}")));
+		copy.write('\n');
+	}
+
+	private static void writeQuoted(Writer copy, String value) throws IOException {
+		copy.write('"');
+		copy.write(value.replace("\"", "\"\""));
+		copy.write('"');
+	}
+
+	/**
+	 * Inserta los registros de una tabla temporal que no existen en la tabla de destino y, si se pide, los
+	 * encola para enriquecerlos. Los IDs se toman de la misma secuencia que usa Hibernate, reservando bloques
+	 * completos con {@code nextval}, de modo que no coinciden con los que Hibernate tenga ya reservados.
+	 *
+	 * @return Número de registros insertados y de tareas encoladas.
+	 */
+	private long[] insertNew(CatalogTable table, String source, List<String> columns, boolean enrich,
+			LocalDateTime now) {
+		int pending = jdbcTemplate.update("UPDATE " + source + " s SET rn = n.rn FROM ("
+				+ "SELECT c.scientific_name, row_number() OVER (ORDER BY c.line, c.scientific_name) AS rn "
+				+ "FROM " + source + " c WHERE NOT EXISTS (SELECT 1 FROM " + table.name()
+				+ " t WHERE t.scientific_name = c.scientific_name)) n WHERE s.scientific_name = n.scientific_name");
+		if (pending == 0) {
+			return new long[] { 0, 0 };
+		}
+
+		String columnList = columns.stream().map(column -> ", " + column).collect(Collectors.joining());
+		String sourceColumns = columns.stream().map(column -> ", s." + column).collect(Collectors.joining());
+		String sql = """
+				WITH inserted AS (
+				    INSERT INTO %1$s (%2$s, scientific_name%3$s, enrichment_status, created_at)
+				    SELECT b.hi - %5$d + 1 + (s.rn - 1) %% %5$d, s.scientific_name%4$s, CAST(? AS varchar), ?
+				    FROM %6$s s
+				    JOIN unnest(CAST(? AS bigint[])) WITH ORDINALITY AS b(hi, block) ON b.block = (s.rn - 1) / %5$d + 1
+				    WHERE s.rn IS NOT NULL
+				    ON CONFLICT (scientific_name) DO NOTHING
+				    RETURNING %2$s, scientific_name
+				), queued AS (
+				    INSERT INTO enrichment_tasks (target_type, target_id, scientific_name, status, attempts,
+				                                  available_at, created_at, updated_at)
+				    SELECT ?, i.%2$s, i.scientific_name, ?, 0, ?, ?, ?
+				    FROM inserted i
+				    WHERE ?
+				    RETURNING 1
+				)
+				SELECT (SELECT count(*) FROM inserted), (SELECT count(*) FROM queued)
+				""".formatted(table.name(), table.idColumn(), columnList, sourceColumns, ALLOCATION_SIZE, source);
+
+		return jdbcTemplate.queryForObject(sql,
+				(rs, rowNum) -> new long[] { rs.getLong(1), rs.getLong(2) },
+				enrich ? EnrichmentStatus.PENDING.name() : null, now, allocateIdBlocks(table, pending),
+				table.targetType().name(), EnrichmentTask.Status.PENDING.name(), now, now, now, enrich);
+	}
+
+	/**
+	 * Reserva los bloques de IDs necesarios para {@code count} registros. Cada valor {@code hi} de la secuencia
+	 * reserva los IDs de {@code hi - 49} a {@code hi}; los valores iniciales menores que el incremento se
+	 * descartan porque Hibernate los trata de otra forma.
+	 *
+	 * @return Valor más alto de cada bloque.
+	 */
+	private Long[] allocateIdBlocks(CatalogTable table, int count) {
+		int blocks = (count + ALLOCATION_SIZE - 1) / ALLOCATION_SIZE;
+		List<Long> his = new ArrayList<>(blocks);
+		while (his.size() < blocks) {
+			jdbcTemplate.queryForList("SELECT nextval(CAST(? AS regclass)) FROM generate_series(1, ?)", Long.class,
+					table.sequence(), blocks - his.size())
+					.stream()
+					.filter(hi -> hi >= ALLOCATION_SIZE)
+					.forEach(his::add);
+		}
+		return his.toArray(Long[]::new);
+	}
+
+	/**
+	 * Tabla temporal con una fila por registro del fichero. Se elimina al terminar la transacción.
+	 */
+	private static String stagingTableSql(ImportTarget<?> target) {
+		String columns = target
+				.columns()
+				.stream()
+				.map(column -> column + (INTEGER_COLUMN.equals(column) ? " integer" : " text"))
+				.collect(Collectors.joining(", "));
+		return "CREATE TEMP TABLE " + STAGING_TABLE + " (line bigint NOT NULL, scientific_name text NOT NULL, "
+				+ columns + ", related text[] NOT NULL, rn bigint) ON COMMIT DROP";
+	}
+
+	/**
+	 * Actualiza los registros existentes con los campos informados en el fichero; los vacíos conservan su
+	 * valor. Solo se modifican las filas en las que cambia algo. Como en una edición, si cambia la taxonomía se
+	 * anula {@code taxonomy_fetched_at} para que el refresco periódico no la sustituya por la de WoRMS.
+	 */
+	private static String updateSql(ImportTarget<?> target) {
+		List<String> columns = target.columns();
+		String assignments = columns
+				.stream()
+				.map(column -> column + " = coalesce(s." + column + ", t." + column + ")")
+				.collect(Collectors.joining(", "));
+		String taxonomyChanged = "(" + merged(TAXONOMY_COLUMNS) + ") IS DISTINCT FROM (" + current(TAXONOMY_COLUMNS)
+				+ ")";
+		return "UPDATE " + target.table().name() + " t SET " + assignments + ", taxonomy_fetched_at = CASE WHEN "
+				+ taxonomyChanged + " THEN NULL ELSE t.taxonomy_fetched_at END, updated_at = ? FROM " + STAGING_TABLE
+				+ " s WHERE t.scientific_name = s.scientific_name AND (" + merged(columns) + ") IS DISTINCT FROM ("
+				+ current(columns) + ")";
+	}
+
+	/**
+	 * Valores de las columnas tras aplicar el fichero: los del fichero o, si están vacíos, los actuales.
+	 */
+	private static String merged(List<String> columns) {
+		return columns
+				.stream()
+				.map(column -> "coalesce(s." + column + ", t." + column + ")")
+				.collect(Collectors.joining(", "));
+	}
+
+	/**
+	 * Valores actuales de las columnas.
+	 */
+	private static String current(List<String> columns) {
+		return columns.stream().map(column -> "t." + column).collect(Collectors.joining(", "));
+	}
+
+	/**
+	 * Descarta la caché de segundo nivel de peces y parásitos y reconstruye el autocompletado y el grafo de
+	 * hospedadores, que los listeners de Hibernate mantienen al día pero no ven las sentencias SQL.
+	 */
+	private void refreshInMemoryState() {
+		CacheImplementor cache = sessionFactory.getCache();
+		cache.evictEntityData(Fish.class);
+		cache.evictEntityData(Parasite.class);
+		cache.evictNaturalIdData(Fish.class);
+		cache.evictNaturalIdData(Parasite.class);
+		cache.evictCollectionData(Fish.class.getName() + ".parasites");
+		cache.evictCollectionData(Parasite.class.getName() + ".fishes");
+		nameSuggestService.rebuild();
+		graphService.rebuild();
+	}
+
+	/**
+	 * Valores de las columnas en el orden de {@link ImportTarget#columns()}: nombre común, taxonomía y el resto.
+	 */
+	private static List<Object> values(String commonName, Taxonomy taxonomy, String... rest) {
+		Taxonomy t = taxonomy != null ? taxonomy : new Taxonomy();
+		List<Object> values = new ArrayList<>(Arrays.asList(commonName, t.getAphiaID(), t.getKingdom(),
+				t.getPhylum(), t.getClassName(), t.getOrderName(), t.getFamily(), t.getGenus(), t.getSpecies(),
+				t.getUrl()));
+		values.addAll(Arrays.asList(rest));
+		return values;
+	}
+
+	/**
+	 * Tabla de peces o parásitos.
+	 */
+	private record CatalogTable(String name, String idColumn, String sequence, EnrichmentTask.TargetType targetType) {
+	}
+
+	/**
+	 * Descripción de la carga de un tipo de registro.
+	 *
+	 * @param dtoClass        DTO de creación con el que se lee y valida cada fila.
+	 * @param table           Tabla de los registros.
+	 * @param related         Tabla de los registros relacionados.
+	 * @param relatedProperty Propiedad del DTO con los nombres de los relacionados.
+	 * @param linkColumns     Expresión de {@code parasite_id, fish_id} a partir del registro {@code m} y el
+	 *                        relacionado {@code r}.
+	 * @param columns         Columnas de la tabla que se cargan, además del nombre científico.
+	 * @param stage           Conversión del DTO a los valores de esas columnas.
+	 */
+	private record ImportTarget<D>(Class<D> dtoClass, CatalogTable table, CatalogTable related,
+			String relatedProperty, String linkColumns, List<String> columns, Function<D, StagedRow> stage) {
+	}
+
+	/**
+	 * Fila lista para la tabla temporal, con los nombres sin espacios sobrantes ni relacionados repetidos.
+	 */
+	private record StagedRow(String scientificName, List<Object> values, List<String> related) {
+
+		private StagedRow {
+			scientificName = scientificName.strip();
+			related = related == null ? List.of()
+					: related.stream()
+							.filter(Objects::nonNull)
+							.map(String::strip)
+							.filter(name -> !name.isEmpty())
+							.distinct()
+							.toList();
+		}
+	}
+
+	/**
+	 * Estado de una carga: filas leídas, rechazadas y nombres ya vistos para detectar repetidos.
+	 */
+	private static final class ImportRun {
+
+		private final int maxReportedErrors;
+		private final List<BulkImportErrorDTO> errors = new ArrayList<>();
+		private final Map<String, Long> lineByName = new HashMap<>();
+		private long received;
+		private long rejected;
+
+		private ImportRun(int maxReportedErrors) {
+			this.maxReportedErrors = maxReportedErrors;
+		}
+
+		private void reject(long line, String scientificName, String message) {
+			rejected++;
+			if (errors.size() < maxReportedErrors) {
+				errors.add(new BulkImportErrorDTO(line, scientificName, message));
+			}
+		}
+	}
+}
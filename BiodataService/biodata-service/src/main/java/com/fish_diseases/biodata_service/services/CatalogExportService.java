@@ -0,0 +1,159 @@
+package com.fish_diseases.biodata_service.services;
+
+import java.io.OutputStream;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.fish_diseases.biodata_service.utils.CatalogExportWriter;
+import com.fish_diseases.biodata_service.utils.CatalogFormat;
+
+/**
+ * Servicio de exportación completa del catálogo de peces y parásitos.
+ *
+ * <p>Las filas se leen con un cursor JDBC de solo avance y se escriben en la respuesta a medida que llegan, con
+ * la taxonomía aplanada en columnas y los nombres de los peces o parásitos relacionados en un array. No se
+ * crean entidades, por lo que el contexto de persistencia no crece, y el controlador de PostgreSQL solo trae
+ * {@code export.fetch-size} filas en cada viaje, de modo que la memoria usada no depende del tamaño del
+ * catálogo.</p>
+ */
+@Service
+public class CatalogExportService {
+
+	private static final Logger log = LoggerFactory.getLogger(CatalogExportService.class);
+	private final boolean isTraceEnabled = log.isTraceEnabled();
+
+	/**
+	 * Filas de peces con la forma de la exportación, sin ordenar. También las usa el feed de cambios.
+	 */
+	static final String FISH_ROWS = """
+			SELECT f.fish_id AS "id", f.scientific_name AS "scientificName", f.common_name AS "commonName",
+			       f.aphiaid AS "aphiaID", f.kingdom AS "kingdom", f.phylum AS "phylum", f.class_name AS "className",
+			       f.order_name AS "orderName", f.family AS "family", f.genus AS "genus", f.species AS "species",
+			       f.taxonomy_url AS "taxonomyUrl", f.fao_distribution AS "faoDistribution",
+			       f.enrichment_status AS "enrichmentStatus", f.taxonomy_fetched_at AS "taxonomyFetchedAt",
+			       f.created_at AS "createdAt", f.updated_at AS "updatedAt",
+			       ARRAY(SELECT p.scientific_name FROM parasite_fishes pf JOIN parasites p ON p.parasite_id = pf.parasite_id
+			             WHERE pf.fish_id = f.fish_id ORDER BY p.scientific_name) AS "parasites"
+			FROM fishes f
+			""";
+
+	private static final String EXPORT_FISHES = FISH_ROWS + "ORDER BY f.fish_id";
+
+	/**
+	 * Filas de parásitos con la forma de la exportación, sin ordenar. También las usa el feed de cambios.
+	 */
+	static final String PARASITE_ROWS = """
+			SELECT p.parasite_id AS "id", p.scientific_name AS "scientificName", p.common_name AS "commonName",
+			       p.aphiaid AS "aphiaID", p.kingdom AS "kingdom", p.phylum AS "phylum", p.class_name AS "className",
+			       p.order_name AS "orderName", p.family AS "family", p.genus AS "genus", p.species AS "species",
+			       p.taxonomy_url AS "taxonomyUrl", p.diagnostic_features AS "diagnosticFeatures", p.size AS "size",
+			       p.geographical_distribution AS "geographicalDistribution", p.biological_cycle AS "biologicalCycle",
+			       p.host_specificity AS "hostSpecificity", p.location_on_host AS "locationOnHost",
+			       p.damages_on_host AS "damagesOnHost", p.detection AS "detection",
+			       p.enrichment_status AS "enrichmentStatus", p.taxonomy_fetched_at AS "taxonomyFetchedAt",
+			       p.created_at AS "createdAt", p.updated_at AS "updatedAt",
+			       ARRAY(SELECT f.scientific_name FROM parasite_fishes pf JOIN fishes f ON f.fish_id = pf.fish_id
+			             WHERE pf.parasite_id = p.parasite_id ORDER BY f.scientific_name) AS "fishes"
+			FROM parasites p
+			""";
+
+	private static final String EXPORT_PARASITES = PARASITE_ROWS + "ORDER BY p.parasite_id";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final ObjectMapper objectMapper;
+	private final int fetchSize;
+
+	/**
+	 * Constructor de {@code CatalogExportService}.
+	 *
+	 * @param jdbcTemplate plantilla JDBC para leer el catálogo
+	 * @param objectMapper serializador JSON de la aplicación
+	 * @param fetchSize    filas que trae el cursor en cada viaje a la base de datos
+	 */
+	public CatalogExportService(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+			@Value("${export.fetch-size:1000}") int fetchSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.objectMapper = objectMapper;
+		this.fetchSize = fetchSize;
+	}
+
+	/////////////////////////////
+	//// MÉTODOS DE CONSULTA ////
+	/////////////////////////////
+
+	/**
+	 * Escribe todos los peces, con la taxonomía aplanada y los nombres de sus parásitos.
+	 *
+	 * <p>Se ejecuta en una transacción de solo lectura porque el controlador de PostgreSQL solo usa un cursor
+	 * con el autocommit desactivado; sin ella cargaría todas las filas de golpe.</p>
+	 *
+	 * @param format Formato de salida.
+	 * @param out    Flujo de la respuesta.
+	 * @return Número de peces exportados.
+	 */
+	@Transactional(readOnly = true)
+	public long exportFishes(CatalogFormat format, OutputStream out) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start exportFishes ########");
+		}
+
+		long rows = export(EXPORT_FISHES, format, out);
+		log.info("Exportados {} peces en {}", rows, format.extension());
+
+		if (isTraceEnabled) {
+			log.trace("######## End exportFishes ########");
+		}
+
+		return rows;
+	}
+
+	/**
+	 * Escribe todos los parásitos, con la taxonomía aplanada y los nombres de sus peces hospedadores.
+	 *
+	 * @param format Formato de salida.
+	 * @param out    Flujo de la respuesta.
+	 * @return Número de parásitos exportados.
+	 * @see #exportFishes(CatalogFormat, OutputStream)
+	 */
+	@Transactional(readOnly = true)
+	public long exportParasites(CatalogFormat format, OutputStream out) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start exportParasites ########");
+		}
+
+		long rows = export(EXPORT_PARASITES, format, out);
+		log.info("Exportados {} parásitos en {}", rows, format.extension());
+
+		if (isTraceEnabled) {
+			log.trace("######## End exportParasites ########");
+		}
+
+		return rows;
+	}
+
+	////////////////////////////
+	//// MÉTODOS AUXILIARES ////
+	////////////////////////////
+
+	private long export(String sql, CatalogFormat format, OutputStream out) {
+		PreparedStatementCreator forwardOnlyCursor = connection -> {
+			PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+					ResultSet.CONCUR_READ_ONLY);
+			statement.setFetchSize(fetchSize);
+			return statement;
+		};
+		return jdbcTemplate.query(forwardOnlyCursor, new CatalogExportWriter(format, out, objectMapper));
+	}
+}
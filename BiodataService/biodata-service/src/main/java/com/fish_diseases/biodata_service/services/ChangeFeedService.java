@@ -0,0 +1,187 @@
+package com.fish_diseases.biodata_service.services;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fish_diseases.biodata_service.dtos.ChangeDTO;
+import com.fish_diseases.biodata_service.dtos.ChangeFeedDTO;
+import com.fish_diseases.biodata_service.exceptions.InvalidChangeFeedQueryException;
+import com.fish_diseases.biodata_service.init.ChangeLogInitializer;
+import com.fish_diseases.biodata_service.utils.ChangeCursor;
+
+/**
+ * Servicio del feed de cambios de peces y parásitos, para que los sistemas externos sincronicen su copia del
+ * catálogo sin volver a descargarlo.
+ *
+ * <p>Los cambios se leen de {@code change_log}, que mantienen los triggers de {@link ChangeLogInitializer}, por
+ * su clave primaria {@code (tx_id, change_id)}: cada página es un recorrido del índice desde el cursor, con un
+ * coste que no depende del tamaño del catálogo. Solo se entregan las transacciones anteriores a la más antigua
+ * en curso ({@code pg_snapshot_xmin}), así que una transacción larga retrasa el feed pero nunca hace que el
+ * consumidor se salte sus cambios.</p>
+ *
+ * <p>Cada página se compacta a un cambio por registro, con su estado actual en la forma de la exportación, de
+ * modo que un consumidor puede cargar primero la exportación y seguir después con el feed.</p>
+ */
+@Service
+public class ChangeFeedService {
+
+	private static final Logger log = LoggerFactory.getLogger(ChangeFeedService.class);
+	private final boolean isTraceEnabled = log.isTraceEnabled();
+
+	private static final int MAX_LIMIT = 1000;
+
+	private static final String FIND_CHANGES = """
+			SELECT CAST(tx_id AS text) AS tx_id, change_id, entity, entity_id, scientific_name, operation, changed_at
+			FROM change_log
+			WHERE (tx_id, change_id) > (CAST(? AS xid8), ?)
+			  AND tx_id < pg_snapshot_xmin(pg_current_snapshot())
+			ORDER BY tx_id, change_id
+			LIMIT ?
+			""";
+
+	private static final String FIND_FISHES = CatalogExportService.FISH_ROWS
+			+ "WHERE f.fish_id = ANY(CAST(? AS bigint[]))";
+
+	private static final String FIND_PARASITES = CatalogExportService.PARASITE_ROWS
+			+ "WHERE p.parasite_id = ANY(CAST(? AS bigint[]))";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Constructor de {@code ChangeFeedService}.
+	 *
+	 * @param jdbcTemplate plantilla JDBC para leer el registro de cambios y el estado de los registros
+	 */
+	public ChangeFeedService(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/////////////////////////////
+	//// MÉTODOS DE CONSULTA ////
+	/////////////////////////////
+
+	/**
+	 * Cambios posteriores a un cursor.
+	 *
+	 * @param since Cursor devuelto por la página anterior, o {@code null} para empezar desde el principio.
+	 * @param limit Número máximo de cambios del registro que se leen.
+	 * @return Página del feed con el cursor siguiente.
+	 * @throws InvalidChangeFeedQueryException si el cursor no es válido o {@code limit} está fuera de rango.
+	 */
+	@Transactional(readOnly = true)
+	public ChangeFeedDTO getChanges(String since, int limit) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start getChanges ########");
+		}
+
+		if (limit < 1 || limit > MAX_LIMIT) {
+			throw new InvalidChangeFeedQueryException();
+		}
+		ChangeCursor cursor = ChangeCursor.decode(since);
+
+		List<LogEntry> entries = jdbcTemplate.query(FIND_CHANGES, (rs, rowNum) -> new LogEntry(
+				new ChangeCursor(Long.parseUnsignedLong(rs.getString("tx_id")), rs.getLong("change_id")),
+				rs.getString("entity"),
+				rs.getLong("entity_id"),
+				rs.getString("scientific_name"),
+				rs.getString("operation"),
+				rs.getTimestamp("changed_at").toLocalDateTime()),
+				cursor.txIdText(), cursor.changeId(), limit + 1);
+		boolean hasMore = entries.size() > limit;
+		if (hasMore) {
+			entries = entries.subList(0, limit);
+		}
+		ChangeCursor next = entries.isEmpty() ? cursor : entries.get(entries.size() - 1).cursor();
+
+		Map<String, LogEntry> latest = new LinkedHashMap<>();
+		for (LogEntry entry : entries) {
+			String key = entry.entity() + ":" + entry.id();
+			latest.remove(key);
+			latest.put(key, entry);
+		}
+		Map<Long, Map<String, Object>> fishes = findRows(FIND_FISHES, latest.values(), ChangeLogInitializer.FISH);
+		Map<Long, Map<String, Object>> parasites = findRows(FIND_PARASITES, latest.values(),
+				ChangeLogInitializer.PARASITE);
+
+		List<ChangeDTO> changes = latest
+				.values()
+				.stream()
+				.map(entry -> new ChangeDTO(entry.entity(), entry.id(), entry.scientificName(), entry.operation(),
+						entry.changedAt(), ChangeLogInitializer.DELETED.equals(entry.operation()) ? null
+								: (ChangeLogInitializer.FISH.equals(entry.entity()) ? fishes : parasites).get(entry.id())))
+				.toList();
+
+		if (isTraceEnabled) {
+			log.trace("######## End getChanges ########");
+		}
+
+		return new ChangeFeedDTO(changes, next.encode(), hasMore);
+	}
+
+	////////////////////////////
+	//// MÉTODOS AUXILIARES ////
+	////////////////////////////
+
+	/**
+	 * Estado actual de los registros de una entidad que siguen vivos en la página, por ID.
+	 */
+	private Map<Long, Map<String, Object>> findRows(String sql, Iterable<LogEntry> entries, String entity) {
+		List<Long> ids = new ArrayList<>();
+		for (LogEntry entry : entries) {
+			if (entity.equals(entry.entity()) && !ChangeLogInitializer.DELETED.equals(entry.operation())) {
+				ids.add(entry.id());
+			}
+		}
+		Map<Long, Map<String, Object>> rows = new HashMap<>();
+		if (!ids.isEmpty()) {
+			for (Map<String, Object> row : jdbcTemplate.query(sql, ChangeFeedService::mapRow,
+					(Object) ids.toArray(Long[]::new))) {
+				rows.put(((Number) row.get("id")).longValue(), row);
+			}
+		}
+		return rows;
+	}
+
+	/**
+	 * Convierte una fila en un mapa serializable a JSON: las fechas como {@link LocalDateTime} y los arrays
+	 * como listas.
+	 */
+	private static Map<String, Object> mapRow(ResultSet rs, int rowNum) throws SQLException {
+		ResultSetMetaData metaData = rs.getMetaData();
+		Map<String, Object> row = new LinkedHashMap<>();
+		for (int i = 1; i <= metaData.getColumnCount(); i++) {
+			Object value = rs.getObject(i);
+			if (value instanceof Timestamp timestamp) {
+				value = timestamp.toLocalDateTime();
+			} else if (value instanceof Array array) {
+				value = Arrays.asList((Object[]) array.getArray());
+			}
+			row.put(metaData.getColumnLabel(i), value);
+		}
+		return row;
+	}
+
+	/**
+	 * Fila de {@code change_log}.
+	 */
+	private record LogEntry(ChangeCursor cursor, String entity, long id, String scientificName, String operation,
+			LocalDateTime changedAt) {
+	}
+}
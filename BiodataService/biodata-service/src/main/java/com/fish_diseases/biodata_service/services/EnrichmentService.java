@@ -0,0 +1,208 @@
+package com.fish_diseases.biodata_service.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fish_diseases.biodata_service.entities.EnrichmentStatus;
+import com.fish_diseases.biodata_service.entities.EnrichmentTask;
+import com.fish_diseases.biodata_service.exceptions.EnrichmentTaskNotFoundException;
+import com.fish_diseases.biodata_service.repositories.EnrichmentTaskRepository;
+import com.fish_diseases.biodata_service.repositories.FishRepository;
+import com.fish_diseases.biodata_service.repositories.ParasiteRepository;
+
+/**
+ * Servicio que gestiona la cola persistente de tareas de enriquecimiento con WoRMS.
+ * Permite encolar tareas, consultar su estado y registrar el resultado de su procesamiento.
+ * Las tareas fallidas se reintentan con una espera exponencial hasta agotar los intentos.
+ */
+@Service
+public class EnrichmentService {
+
+	private static final Logger log = LoggerFactory.getLogger(EnrichmentService.class);
+	private final boolean isTraceEnabled = log.isTraceEnabled();
+
+	private final EnrichmentTaskRepository taskRepository;
+	private final ParasiteRepository parasiteRepository;
+	private final FishRepository fishRepository;
+	private final Duration lease;
+	private final int maxAttempts;
+	private final Duration backoff;
+
+	/**
+	 * Constructor de {@code EnrichmentService}.
+	 *
+	 * @param taskRepository     repositorio de tareas de enriquecimiento
+	 * @param parasiteRepository repositorio para acceder a datos de parásitos
+	 * @param fishRepository     repositorio para acceder a datos de peces
+	 * @param lease              tiempo tras el cual una tarea en curso se considera abandonada
+	 * @param maxAttempts        número máximo de intentos por tarea
+	 * @param backoff            espera antes del primer reintento; se duplica en cada intento
+	 */
+	public EnrichmentService(EnrichmentTaskRepository taskRepository, ParasiteRepository parasiteRepository,
+			FishRepository fishRepository,
+			@Value("${worms.enrichment.lease:5m}") Duration lease,
+			@Value("${worms.enrichment.max-attempts:5}") int maxAttempts,
+			@Value("${worms.enrichment.backoff:30s}") Duration backoff) {
+		this.taskRepository = taskRepository;
+		this.parasiteRepository = parasiteRepository;
+		this.fishRepository = fishRepository;
+		this.lease = lease;
+		this.maxAttempts = maxAttempts;
+		this.backoff = backoff;
+	}
+
+	/////////////////////////////
+	//// MÉTODOS DE CONSULTA ////
+	/////////////////////////////
+
+	/**
+	 * Recupera una tarea de enriquecimiento por su identificador.
+	 *
+	 * @param taskId ID de la tarea.
+	 * @return Entidad EnrichmentTask correspondiente.
+	 * @throws EnrichmentTaskNotFoundException si la tarea no existe.
+	 */
+	@Transactional(readOnly = true)
+	public EnrichmentTask findTask(Long taskId) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start findTask Enrichment ########");
+		}
+
+		EnrichmentTask task = taskRepository
+				.findById(taskId)
+				.orElseThrow(EnrichmentTaskNotFoundException::new);
+
+		if (isTraceEnabled) {
+			log.trace("######## End findTask Enrichment ########");
+		}
+
+		return task;
+	}
+
+	/**
+	 * Recupera la última tarea de enriquecimiento de un pez o parásito.
+	 *
+	 * @param targetType Tipo de registro.
+	 * @param targetId   ID del registro.
+	 * @return Optional con la última tarea, o vacío si el registro no tiene tareas.
+	 */
+	@Transactional(readOnly = true)
+	public Optional<EnrichmentTask> findLatestTask(EnrichmentTask.TargetType targetType, Long targetId) {
+		return taskRepository.findFirstByTargetTypeAndTargetIdOrderByIdDesc(targetType, targetId);
+	}
+
+	////////////////////////////
+	//// MÉTODOS DE LA COLA ////
+	////////////////////////////
+
+	/**
+	 * Encola una tarea para completar un pez o parásito con los datos de WoRMS.
+	 *
+	 * @param targetType     Tipo de registro.
+	 * @param targetId       ID del registro.
+	 * @param scientificName Nombre científico del registro.
+	 * @return Tarea encolada.
+	 */
+	@Transactional
+	public EnrichmentTask enqueue(EnrichmentTask.TargetType targetType, Long targetId, String scientificName) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start enqueue Enrichment ########");
+		}
+
+		EnrichmentTask task = taskRepository.save(EnrichmentTask
+				.builder()
+				.targetType(targetType)
+				.targetId(targetId)
+				.scientificName(scientificName)
+				.status(EnrichmentTask.Status.PENDING)
+				.build());
+
+		if (isTraceEnabled) {
+			log.trace("######## End enqueue Enrichment ########");
+		}
+
+		return task;
+	}
+
+	/**
+	 * Reclama hasta {@code limit} tareas disponibles y las marca como en curso. También se reclaman
+	 * las tareas en curso cuyo plazo ha vencido, para recuperar las de trabajadores caídos.
+	 *
+	 * @param limit Número máximo de tareas a reclamar.
+	 * @return Tareas reclamadas.
+	 */
+	@Transactional
+	public List<EnrichmentTask> claim(int limit) {
+		LocalDateTime now = LocalDateTime.now();
+		return taskRepository.claimAvailable(now, now.minus(lease), limit);
+	}
+
+	/**
+	 * Marca una tarea como completada.
+	 *
+	 * @param taskId ID de la tarea.
+	 */
+	@Transactional
+	public void complete(Long taskId) {
+		taskRepository.findById(taskId).ifPresent(task -> {
+			task.setStatus(EnrichmentTask.Status.COMPLETED);
+			task.setLastError(null);
+		});
+	}
+
+	/**
+	 * Registra el fallo de una tarea. Si quedan intentos, la tarea vuelve a la cola y estará
+	 * disponible tras una espera que se duplica en cada intento; si no, se marca como fallida
+	 * junto con el registro que debía completar.
+	 *
+	 * @param taskId ID de la tarea.
+	 * @param error  Error producido al procesarla.
+	 */
+	@Transactional
+	public void fail(Long taskId, Exception error) {
+		taskRepository.findById(taskId).ifPresent(task -> {
+			task.setLastError(String.valueOf(error.getMessage()));
+
+			if (task.getAttempts() >= maxAttempts) {
+				log.warn("Tarea de enriquecimiento {} de {} fallida tras {} intentos: {}", task.getId(),
+						task.getScientificName(), task.getAttempts(), error.getMessage());
+				task.setStatus(EnrichmentTask.Status.FAILED);
+				markTargetFailed(task);
+			} else {
+				Duration delay = backoff.multipliedBy(1L << Math.min(task.getAttempts() - 1, 16));
+				task.setStatus(EnrichmentTask.Status.PENDING);
+				task.setAvailableAt(LocalDateTime.now().plus(delay));
+			}
+		});
+	}
+
+	////////////////////////////
+	//// MÉTODOS AUXILIARES ////
+	////////////////////////////
+
+	/**
+	 * Marca como fallido el enriquecimiento del pez o parásito de una tarea, si aún existe.
+	 *
+	 * @param task Tarea fallida.
+	 */
+	private void markTargetFailed(EnrichmentTask task) {
+		switch (task.getTargetType()) {
+		case PARASITE -> parasiteRepository
+				.findById(task.getTargetId())
+				.ifPresent(parasite -> parasite.setEnrichmentStatus(EnrichmentStatus.FAILED));
+		case FISH -> fishRepository
+				.findById(task.getTargetId())
+				.ifPresent(fish -> fish.setEnrichmentStatus(EnrichmentStatus.FAILED));
+		}
+	}
+}
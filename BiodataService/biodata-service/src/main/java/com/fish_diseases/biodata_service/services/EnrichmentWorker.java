@@ -0,0 +1,106 @@
+package com.fish_diseases.biodata_service.services;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.fish_diseases.biodata_service.entities.EnrichmentTask;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Trabajador que procesa la cola de enriquecimiento con WoRMS en segundo plano.
+ *
+ * <p>Consulta periódicamente la cola y reclama tantas tareas como hilos libres tenga su pool,
+ * de modo que nunca retiene tareas que no puede procesar. Cada tarea consulta WoRMS fuera de
+ * cualquier transacción y solo ocupa una conexión de la base de datos durante la escritura.</p>
+ */
+@Component
+public class EnrichmentWorker {
+
+	private static final Logger log = LoggerFactory.getLogger(EnrichmentWorker.class);
+
+	private final EnrichmentService enrichmentService;
+	private final ParasiteService parasiteService;
+	private final FishService fishService;
+	private final int workers;
+	private final int batchSize;
+	private final ExecutorService executor;
+	private final AtomicInteger running = new AtomicInteger();
+
+	/**
+	 * Constructor de {@code EnrichmentWorker}.
+	 *
+	 * @param enrichmentService servicio de la cola de enriquecimiento
+	 * @param parasiteService   servicio de parásitos, que completa los parásitos pendientes
+	 * @param fishService       servicio de peces, que completa los peces pendientes
+	 * @param workers           número de hilos que procesan tareas
+	 * @param batchSize         número máximo de tareas reclamadas en cada consulta a la cola
+	 */
+	public EnrichmentWorker(EnrichmentService enrichmentService, ParasiteService parasiteService,
+			FishService fishService,
+			@Value("${worms.enrichment.workers:4}") int workers,
+			@Value("${worms.enrichment.batch-size:10}") int batchSize) {
+		this.enrichmentService = enrichmentService;
+		this.parasiteService = parasiteService;
+		this.fishService = fishService;
+		this.workers = workers;
+		this.batchSize = batchSize;
+		this.executor = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("worms-enrichment-"));
+	}
+
+	/**
+	 * Reclama las tareas disponibles que caben en los hilos libres y las envía al pool.
+	 */
+	@Scheduled(fixedDelayString = "${worms.enrichment.poll-interval:PT2S}")
+	public void poll() {
+		int capacity = Math.min(batchSize, workers - running.get());
+		if (capacity <= 0) {
+			return;
+		}
+
+		List<EnrichmentTask> tasks = enrichmentService.claim(capacity);
+		for (EnrichmentTask task : tasks) {
+			running.incrementAndGet();
+			executor.execute(() -> process(task));
+		}
+	}
+
+	/**
+	 * Procesa una tarea y registra su resultado en la cola.
+	 *
+	 * @param task Tarea reclamada.
+	 */
+	private void process(EnrichmentTask task) {
+		try {
+			switch (task.getTargetType()) {
+			case PARASITE -> parasiteService.enrichParasite(task.getTargetId());
+			case FISH -> fishService.enrichFish(task.getTargetId());
+			}
+			enrichmentService.complete(task.getId());
+		} catch (RuntimeException e) {
+			log.warn("Error al enriquecer {} (intento {}): {}", task.getScientificName(), task.getAttempts(),
+					e.getMessage());
+			enrichmentService.fail(task.getId(), e);
+		} finally {
+			running.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Detiene el pool al cerrar la aplicación. Las tareas en curso que no terminen se reclamarán
+	 * de nuevo cuando venza su plazo.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+}
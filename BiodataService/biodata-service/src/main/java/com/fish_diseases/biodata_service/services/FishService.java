@@ -1,36 +1,47 @@
 package com.fish_diseases.biodata_service.services;
 
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.fish_diseases.biodata_service.client.BioDataClient;
-import com.fish_diseases.biodata_service.dtos.ApiParasiteDTO;
 import com.fish_diseases.biodata_service.dtos.ApiTaxonomyDTO;
+import com.fish_diseases.biodata_service.dtos.BatchFetchResultDTO;
 import com.fish_diseases.biodata_service.dtos.CreateFishDTO;
+import com.fish_diseases.biodata_service.dtos.FishDetailDTO;
+import com.fish_diseases.biodata_service.dtos.FishSummaryDTO;
+import com.fish_diseases.biodata_service.dtos.ResourceVersionDTO;
 import com.fish_diseases.biodata_service.dtos.UpdateFishDTO;
+import com.fish_diseases.biodata_service.entities.EnrichmentStatus;
+import com.fish_diseases.biodata_service.entities.EnrichmentTask;
 import com.fish_diseases.biodata_service.entities.Fish;
 import com.fish_diseases.biodata_service.entities.Parasite;
-import com.fish_diseases.biodata_service.entities.Taxonomy;
 import com.fish_diseases.biodata_service.exceptions.FishNotFoundException;
+import com.fish_diseases.biodata_service.exceptions.InvalidPaginationException;
 import com.fish_diseases.biodata_service.mapper.FishMapper;
 import com.fish_diseases.biodata_service.mapper.ParasiteMapper;
 import com.fish_diseases.biodata_service.mapper.TaxonomyMapper;
 import com.fish_diseases.biodata_service.repositories.FishRepository;
 import com.fish_diseases.biodata_service.repositories.ParasiteRepository;
+import com.fish_diseases.biodata_service.utils.KeysetCursor;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
@@ -53,6 +64,9 @@ public class FishService {
 	private ParasiteMapper parasiteMapper;
 	private TaxonomyMapper taxonomyMapper;
 	private Validator validator;
+	private EnrichmentService enrichmentService;
+	private TransactionTemplate transactionTemplate;
+	private BatchFetchPipeline batchFetchPipeline;
 
 	/**
 	 * Constructor de {@code FishService} que inicializa todas las dependencias requeridas.
@@ -64,10 +78,14 @@ public class FishService {
 	 * @param parasiteMapper mapper para transformar entidades de parásitos y sus DTOs
 	 * @param taxonomyMapper mapper para convertir información taxonómica
 	 * @param validator validador para aplicar reglas de validación a los datos
+	 * @param enrichmentService servicio de la cola de enriquecimiento con WoRMS
+	 * @param transactionTemplate plantilla para delimitar las transacciones de escritura
+	 * @param batchFetchPipeline canalización de las importaciones por lotes desde WoRMS
 	 */
 	public FishService(FishRepository fishRepository, ParasiteRepository parasiteRepository,
 			BioDataClient bioDataClient, FishMapper fishMapper, ParasiteMapper parasiteMapper,
-			TaxonomyMapper taxonomyMapper, Validator validator) {
+			TaxonomyMapper taxonomyMapper, Validator validator, EnrichmentService enrichmentService,
+			TransactionTemplate transactionTemplate, BatchFetchPipeline batchFetchPipeline) {
 		super();
 		this.fishRepository = fishRepository;
 		this.parasiteRepository = parasiteRepository;
@@ -76,6 +94,9 @@ public class FishService {
 		this.parasiteMapper = parasiteMapper;
 		this.taxonomyMapper = taxonomyMapper;
 		this.validator = validator;
+		this.enrichmentService = enrichmentService;
+		this.transactionTemplate = transactionTemplate;
+		this.batchFetchPipeline = batchFetchPipeline;
 	}
 
 	/////////////////////////////
@@ -83,24 +104,63 @@ public class FishService {
 	/////////////////////////////
 
 	/**
-	 * Recupera todos los peces registrados en la base de datos.
+	 * Recupera una página de peces con paginación por desplazamiento. Devuelve también el número total
+	 * de peces, por lo que el coste crece con la posición de la página; para recorrer el catálogo completo
+	 * se debe usar {@link #findAllAfter(KeysetCursor, int)}.
 	 *
-	 * @return Lista de entidades {@link Fish}.
+	 * @param pageable Página, tamaño y ordenación solicitados.
+	 * @return Página de peces en su vista resumida.
+	 * @throws InvalidPaginationException si se ordena por una propiedad no admitida.
 	 */
 	@Transactional(readOnly = true)
-	public List<Fish> findAll() {
+	public Page<FishSummaryDTO> findAll(Pageable pageable) {
 
 		if (isTraceEnabled) {
 			log.trace("######## Start findAll Fish ########");
 		}
 
-		List<Fish> allFishes = fishRepository.findAll();
+		Page<FishSummaryDTO> page = fishRepository.findSummaries(KeysetCursor.stableOrder(pageable));
 
 		if (isTraceEnabled) {
 			log.trace("######## End findAll Fish ########");
 		}
 
-		return allFishes;
+		return page;
+	}
+
+	/**
+	 * Recupera la página de peces siguiente a la indicada por el cursor (paginación por clave). La consulta
+	 * usa el índice de la propiedad del cursor, por lo que su coste solo depende del tamaño de la página.
+	 *
+	 * @param cursor Cursor con la ordenación y el último elemento de la página anterior.
+	 * @param size   Tamaño de la página.
+	 * @return Lista de peces en su vista resumida.
+	 */
+	@Transactional(readOnly = true)
+	public List<FishSummaryDTO> findAllAfter(KeysetCursor cursor, int size) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start findAllAfter Fish ########");
+		}
+
+		Limit limit = Limit.of(size);
+		boolean ascending = cursor.direction().isAscending();
+		List<FishSummaryDTO> page;
+		if (KeysetCursor.ID.equals(cursor.property())) {
+			page = ascending
+					? fishRepository.findSummariesAfterId(cursor.idValue(), limit)
+					: fishRepository.findSummariesBeforeId(cursor.idValue(), limit);
+		} else {
+			page = ascending
+					? fishRepository.findSummariesAfterScientificName(cursor.value(), limit)
+					: fishRepository.findSummariesBeforeScientificName(cursor.value(), limit);
+		}
+
+		if (isTraceEnabled) {
+			log.trace("######## End findAllAfter Fish ########");
+		}
+
+		return page;
 	}
 
 	/**
@@ -154,10 +214,134 @@ public class FishService {
 	}
 
 	/**
-	 * Recupera los parásitos asociados a un pez identificado por su nombre científico.
+	 * Recupera la vista completa de un pez por su identificador único, con sus parásitos
+	 * en una única consulta.
+	 *
+	 * @param id ID del pez.
+	 * @return Vista completa del pez.
+	 * @throws FishNotFoundException si no se encuentra el pez.
+	 */
+	@Transactional(readOnly = true)
+	public FishDetailDTO findDetailById(Long id) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start findDetailById Fish ########");
+		}
+
+		FishDetailDTO detail = fishRepository
+				.findWithParasitesById(id)
+				.map(fishMapper::convertFishToFishDetailDto)
+				.orElseThrow(FishNotFoundException::new);
+
+		if (isTraceEnabled) {
+			log.trace("######## End findDetailById Fish ########");
+		}
+
+		return detail;
+	}
+
+	/**
+	 * Recupera la vista completa de un pez por su nombre científico, con sus parásitos
+	 * en una única consulta.
+	 *
+	 * @param scientificName Nombre científico del pez.
+	 * @return Vista completa del pez.
+	 * @throws FishNotFoundException si no se encuentra el pez.
+	 */
+	@Transactional(readOnly = true)
+	public FishDetailDTO findDetailByScientificName(String scientificName) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start findDetailByScientificName Fish ########");
+		}
+
+		FishDetailDTO detail = fishRepository
+				.findWithParasitesByScientificName(scientificName)
+				.map(fishMapper::convertFishToFishDetailDto)
+				.orElseThrow(FishNotFoundException::new);
+
+		if (isTraceEnabled) {
+			log.trace("######## End findDetailByScientificName Fish ########");
+		}
+
+		return detail;
+	}
+
+	/**
+	 * Versión del listado de peces, para responder a las peticiones condicionales sin cargarlo.
+	 *
+	 * @return Versión del listado.
+	 */
+	@Transactional(readOnly = true)
+	public ResourceVersionDTO getCatalogVersion() {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start getCatalogVersion Fish ########");
+		}
+
+		ResourceVersionDTO version = fishRepository.findCatalogVersion();
+
+		if (isTraceEnabled) {
+			log.trace("######## End getCatalogVersion Fish ########");
+		}
+
+		return version;
+	}
+
+	/**
+	 * Versión de la vista completa de un pez, con la de sus parásitos, para responder a las
+	 * peticiones condicionales sin cargarla.
+	 *
+	 * @param id ID del pez.
+	 * @return Versión de la vista, vacía si el pez no existe.
+	 */
+	@Transactional(readOnly = true)
+	public Optional<ResourceVersionDTO> getDetailVersionById(Long id) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start getDetailVersionById Fish ########");
+		}
+
+		Optional<ResourceVersionDTO> version = fishRepository.findDetailVersionById(id);
+
+		if (isTraceEnabled) {
+			log.trace("######## End getDetailVersionById Fish ########");
+		}
+
+		return version;
+	}
+
+	/**
+	 * Versión de la vista completa de un pez por su nombre científico, para responder a las
+	 * peticiones condicionales sin cargarla.
+	 *
+	 * @param scientificName Nombre científico del pez.
+	 * @return Versión de la vista, vacía si el pez no existe.
+	 */
+	@Transactional(readOnly = true)
+	public Optional<ResourceVersionDTO> getDetailVersionByScientificName(String scientificName) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start getDetailVersionByScientificName Fish ########");
+		}
+
+		Optional<ResourceVersionDTO> version = fishRepository.findDetailVersionByScientificName(scientificName);
+
+		if (isTraceEnabled) {
+			log.trace("######## End getDetailVersionByScientificName Fish ########");
+		}
+
+		return version;
+	}
+
+	/**
+	 * Recupera los parásitos asociados a un pez identificado por su nombre científico, con sus peces
+	 * hospedadores ya cargados, en una única consulta. Solo si no hay parásitos se comprueba además
+	 * que el pez exista.
 	 *
 	 * @param fishScientificName Nombre científico del pez.
 	 * @return Lista de entidades {@link Parasite} asociadas al pez.
+	 * @throws FishNotFoundException si no se encuentra el pez.
 	 */
 	@Transactional(readOnly = true)
 	public List<Parasite> getParasitesByFishScientificName(String fishScientificName) {
@@ -166,17 +350,13 @@ public class FishService {
 			log.trace("######## Start getParasitesByFishScientificName ########");
 		}
 
-		Fish fish = findByScientificName(fishScientificName);
-		
-		List<String> parasiteScientificNames = fish
-				.getParasites()
-				.stream()
-				.map(Parasite::getScientificName)
-				.collect(Collectors.toList());
-		List<Parasite> listParasiteByFish = parasiteRepository.findByScientificNameIn(parasiteScientificNames);
+		List<Parasite> listParasiteByFish = parasiteRepository.findParasitesOfFish(fishScientificName);
+		if (listParasiteByFish.isEmpty() && !fishRepository.existsByScientificName(fishScientificName)) {
+			throw new FishNotFoundException();
+		}
 
 		if (isTraceEnabled) {
-			log.trace("######## Start getParasitesByFishScientificName ########");
+			log.trace("######## End getParasitesByFishScientificName ########");
 		}
 
 		return listParasiteByFish;
@@ -189,12 +369,12 @@ public class FishService {
 	/**
 	 * Busca un pez en la base de datos por nombre científico. Si no existe, obtiene datos
 	 * de WoRMS, crea el pez con su información taxonómica y parásitos asociados,
-	 * lo guarda y lo retorna.
+	 * lo guarda y lo retorna. Las consultas a WoRMS se hacen antes de abrir la transacción,
+	 * que solo abarca la escritura.
 	 *
 	 * @param scientificName Nombre científico del pez.
 	 * @return {@link Optional} con el pez creado o encontrado.
 	 */
-	@Transactional
 	public Optional<Fish> findOrFetchAndPrepareFish(String scientificName) {
 
 		if (isTraceEnabled) {
@@ -204,73 +384,158 @@ public class FishService {
 		Optional<Fish> optFish = fishRepository.findByScientificName(scientificName);
 		if (optFish.isPresent()) {
 			return optFish;
-		} else {
-			Optional<ApiTaxonomyDTO> taxonomyOpt = bioDataClient.fetchFromWoRMS(scientificName);
-			if (taxonomyOpt.isPresent()) {
-				ApiTaxonomyDTO taxonomyDto = taxonomyOpt.get();
+		}
 
-				Taxonomy taxonomy = taxonomyMapper.convertApiTaxonomyDtoToTaxonomy(taxonomyDto);
+		Optional<Fish> saved = fetchEnrichment(scientificName).map(enrichment -> transactionTemplate.execute(status -> {
+			Fish fish = Fish.builder().scientificName(scientificName).build();
+			applyEnrichment(fish, enrichment);
+			return fishRepository.save(fish);
+		}));
 
-				Fish fish = Fish
-						.builder()
-						.scientificName(scientificName)
-						.taxonomy(taxonomy)
-						.build();
+		if (isTraceEnabled) {
+			log.trace("######## End findOrFetchAndPrepareFish ########");
+		}
 
-				List<String> parasiteIds = bioDataClient
-						.fetchBiodataIdsByAphiaID(String.valueOf(taxonomyDto.getAphiaID()), "Host/prey");
+		return saved;
+	}
 
-				Set<Parasite> parasites = parasiteIds
-						.stream()
-						.distinct()
-						.map(id -> {
-							ResponseEntity<String> response = bioDataClient.getScientificNameByAphiaID(id);
-							if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-								return getOrCreateParasite(response.getBody());
-							}
-							return null;
-						})
-						.filter(Objects::nonNull)
-						.collect(Collectors.toSet());
+	/**
+	 * Registra un pez para completarlo en segundo plano con los datos de WoRMS.
+	 * Si no existe, se guarda con el enriquecimiento pendiente y se encola una tarea; si su
+	 * enriquecimiento falló, se vuelve a encolar. No hace ninguna llamada a WoRMS.
+	 *
+	 * @param scientificName Nombre científico del pez.
+	 * @return {@link Optional} con la tarea de enriquecimiento en curso, o vacío si el pez ya existe
+	 *         y no está pendiente de enriquecer.
+	 */
+	@Transactional
+	public Optional<EnrichmentTask> requestFishEnrichment(String scientificName) {
 
-				fish.setParasites(parasites);
+		if (isTraceEnabled) {
+			log.trace("######## Start requestFishEnrichment ########");
+		}
 
-				Fish saved = fishRepository.save(fish);
+		Optional<Fish> optFish = fishRepository.findByScientificName(scientificName);
+		Optional<EnrichmentTask> task;
+		if (optFish.isEmpty()) {
+			Fish fish = fishRepository.save(Fish
+					.builder()
+					.scientificName(scientificName)
+					.enrichmentStatus(EnrichmentStatus.PENDING)
+					.build());
+			task = Optional.of(enrichmentService.enqueue(EnrichmentTask.TargetType.FISH, fish.getId(), scientificName));
+		} else if (optFish.get().getEnrichmentStatus() == EnrichmentStatus.FAILED) {
+			Fish fish = optFish.get();
+			fish.setEnrichmentStatus(EnrichmentStatus.PENDING);
+			task = Optional.of(enrichmentService.enqueue(EnrichmentTask.TargetType.FISH, fish.getId(), scientificName));
+		} else if (optFish.get().getEnrichmentStatus() == EnrichmentStatus.PENDING) {
+			task = enrichmentService.findLatestTask(EnrichmentTask.TargetType.FISH, optFish.get().getId());
+		} else {
+			task = Optional.empty();
+		}
 
-				if (isTraceEnabled) {
-					log.trace("######## End findOrFetchAndPrepareFish ########");
-				}
+		if (isTraceEnabled) {
+			log.trace("######## End requestFishEnrichment ########");
+		}
 
-				return Optional.of(saved);
+		return task;
+	}
+
+	/**
+	 * Completa un pez pendiente con su taxonomía y sus parásitos de WoRMS. Lo invoca el
+	 * trabajador de la cola de enriquecimiento; si el pez se ha eliminado, no hace nada.
+	 *
+	 * @param fishId ID del pez.
+	 */
+	public void enrichFish(Long fishId) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start enrichFish ########");
+		}
+
+		Optional<String> scientificName = fishRepository.findById(fishId).map(Fish::getScientificName);
+		if (scientificName.isEmpty()) {
+			return;
+		}
+
+		Optional<WormsEnrichment> enrichment = fetchEnrichment(scientificName.get());
+
+		transactionTemplate.executeWithoutResult(status -> fishRepository.findById(fishId).ifPresent(fish -> {
+			if (enrichment.isPresent()) {
+				applyEnrichment(fish, enrichment.get());
 			} else {
-				return Optional.empty();
+				fish.setEnrichmentStatus(EnrichmentStatus.NOT_FOUND);
 			}
+			fishRepository.save(fish);
+		}));
+
+		if (isTraceEnabled) {
+			log.trace("######## End enrichFish ########");
+		}
+	}
+
+	/**
+	 * Importa varios peces desde WoRMS. Los existentes se resuelven con una única consulta y solo
+	 * los que faltan se consultan a WoRMS, sin repetir nombres, y se guardan por bloques. Las consultas
+	 * a WoRMS se hacen fuera de las transacciones de guardado.
+	 *
+	 * @param scientificNames Nombres científicos de los peces.
+	 * @param onResult        Recibe el resultado de cada nombre en cuanto se conoce.
+	 */
+	public void fetchAndPrepareFishes(List<String> scientificNames, Consumer<BatchFetchResultDTO> onResult) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start fetchAndPrepareFishes ########");
+		}
+
+		List<String> names = scientificNames
+				.stream()
+				.filter(Objects::nonNull)
+				.map(String::trim)
+				.filter(name -> !name.isEmpty())
+				.distinct()
+				.toList();
+
+		Set<String> existingNames = new HashSet<>();
+		for (Fish fish : fishRepository.findByScientificNameIn(names)) {
+			existingNames.add(fish.getScientificName());
+			onResult.accept(BatchFetchResultDTO
+					.builder()
+					.scientificName(fish.getScientificName())
+					.outcome(BatchFetchResultDTO.Outcome.EXISTING)
+					.id(fish.getId())
+					.build());
+		}
+
+		List<String> missingNames = names.stream().filter(name -> !existingNames.contains(name)).toList();
+
+		batchFetchPipeline.run(missingNames, this::fetchParasiteNames, this::saveFetchedFishes, onResult);
+
+		if (isTraceEnabled) {
+			log.trace("######## End fetchAndPrepareFishes ########");
 		}
 	}
 
 	/**
 	 * Guarda un nuevo pez en la base de datos con los parásitos asociados, si existen.
+	 * La taxonomía de los parásitos nuevos se consulta a WoRMS antes de abrir la transacción.
 	 *
 	 * @param createFishDTO DTO con los datos necesarios para crear el pez.
 	 * @return El {@link Fish} guardado.
 	 */
-	@Transactional
 	public Fish saveFish(CreateFishDTO createFishDTO) {
 
 		if (isTraceEnabled) {
 			log.trace("######## Start save Fish ########");
 		}
 
-		Set<Parasite> parasites = createFishDTO
-				.getParasites()
-				.stream()
-				.map(this::getOrCreateParasite)
-				.collect(Collectors.toSet());
+		Map<String, ApiTaxonomyDTO> parasiteTaxonomies = fetchMissingParasiteTaxonomies(createFishDTO.getParasites());
 
-		Fish fish = fishMapper.convertCreateFishDtoToFishEntity(createFishDTO);
-		fish.setParasites(parasites);
-		
-		Fish savedFish = fishRepository.save(fish);
+		Fish savedFish = transactionTemplate.execute(status -> {
+			Fish fish = fishMapper.convertCreateFishDtoToFishEntity(createFishDTO);
+			fish.setParasites(getOrCreateParasites(createFishDTO.getParasites(), parasiteTaxonomies));
+			return fishRepository.save(fish);
+		});
 
 		if (isTraceEnabled) {
 			log.trace("######## End save Fish ########");
@@ -292,13 +557,39 @@ public class FishService {
 	 * @return {@link Optional} con el pez actualizado.
 	 * @throws FishNotFoundException si no se encuentra el pez.
 	 */
-	@Transactional
 	public Optional<Fish> updateFish(String scientificName, UpdateFishDTO updateFishDTO) {
 
 		if (isTraceEnabled) {
 			log.trace("######## Start update Fish ########");
 		}
 
+		List<String> parasiteNames = updateFishDTO.getParasites();
+		Map<String, ApiTaxonomyDTO> parasiteTaxonomies = parasiteNames != null && !parasiteNames.isEmpty()
+				? fetchMissingParasiteTaxonomies(parasiteNames)
+				: Map.of();
+
+		Fish savedFish = transactionTemplate.execute(status -> applyUpdate(scientificName, updateFishDTO,
+				parasiteTaxonomies));
+
+		if (isTraceEnabled) {
+			log.trace("######## End update Fish ########");
+		}
+
+		return Optional.of(savedFish);
+	}
+
+	/**
+	 * Aplica los cambios de un pez dentro de la transacción de {@link #updateFish(String, UpdateFishDTO)}.
+	 *
+	 * @param scientificName     Nombre científico del pez a actualizar.
+	 * @param updateFishDTO      DTO con los nuevos datos del pez.
+	 * @param parasiteTaxonomies Taxonomía de los parásitos nuevos, obtenida previamente de WoRMS.
+	 * @return Pez actualizado.
+	 * @throws FishNotFoundException si no se encuentra el pez.
+	 */
+	private Fish applyUpdate(String scientificName, UpdateFishDTO updateFishDTO,
+			Map<String, ApiTaxonomyDTO> parasiteTaxonomies) {
+
 		Fish fishDb = fishRepository
 				.findByScientificName(scientificName)
 				.orElseThrow(FishNotFoundException::new);
@@ -316,26 +607,18 @@ public class FishService {
 
 		if (updateFishDTO.getTaxonomy() != null && !Objects.equals(updateFishDTO.getTaxonomy(), fishDb.getTaxonomy())) {
 			fishDb.setTaxonomy(updateFishDTO.getTaxonomy());
+			// La taxonomía editada a mano deja de refrescarse desde WoRMS
+			fishDb.setTaxonomyFetchedAt(null);
 			isUpdated.set(true);
 		}
 
 		if (updateFishDTO.getParasites() != null && !updateFishDTO.getParasites().isEmpty()) {
-			Set<Parasite> updatedParasites = updateFishDTO
-					.getParasites()
-					.stream()
-					.map(this::getOrCreateParasite)
-					.collect(Collectors.toSet());
+			Set<Parasite> updatedParasites = getOrCreateParasites(updateFishDTO.getParasites(), parasiteTaxonomies);
 			fishDb.setParasites(updatedParasites);
 			isUpdated.set(true);
 		}
 
-		Fish savedFish = fishRepository.save(fishDb);
-
-		if (isTraceEnabled) {
-			log.trace("######## End update Fish ########");
-		}
-
-		return Optional.of(savedFish);
+		return fishRepository.save(fishDb);
 	}
 
 	////////////////////////////////
@@ -399,44 +682,184 @@ public class FishService {
 	}
 
 	/**
-	 * Busca un parásito por nombre científico. Si no existe, lo crea utilizando datos externos.
-	 * Si es posible, se le asocia una entidad {@link Taxonomy}.
+	 * Obtiene de WoRMS la taxonomía y los parásitos de un pez, junto con la taxonomía
+	 * de los parásitos que aún no existen. No abre ninguna transacción.
+	 *
+	 * @param scientificName Nombre científico del pez.
+	 * @return {@link Optional} con los datos obtenidos, o vacío si WoRMS no contiene el pez.
+	 */
+	private Optional<WormsEnrichment> fetchEnrichment(String scientificName) {
+		return bioDataClient.fetchFromWoRMS(scientificName).map(taxonomyDto -> {
+			List<String> parasiteNames = fetchParasiteNames(taxonomyDto);
+			return new WormsEnrichment(taxonomyDto, parasiteNames, fetchMissingParasiteTaxonomies(parasiteNames));
+		});
+	}
+
+	/**
+	 * Obtiene de WoRMS los nombres científicos de los parásitos de un pez.
+	 *
+	 * @param taxonomyDto Taxonomía del pez.
+	 * @return Nombres científicos de los parásitos.
+	 */
+	private List<String> fetchParasiteNames(ApiTaxonomyDTO taxonomyDto) {
+		List<String> parasiteIds = bioDataClient
+				.fetchBiodataIdsByAphiaID(String.valueOf(taxonomyDto.getAphiaID()), "Host/prey");
+
+		return bioDataClient.getScientificNamesByAphiaIDs(parasiteIds);
+	}
+
+	/**
+	 * Completa un pez con los datos obtenidos de WoRMS y marca su enriquecimiento como completado.
+	 * Debe invocarse dentro de una transacción.
+	 *
+	 * @param fish       Pez a completar.
+	 * @param enrichment Datos obtenidos de WoRMS.
+	 */
+	private void applyEnrichment(Fish fish, WormsEnrichment enrichment) {
+		fish.setTaxonomy(taxonomyMapper.convertApiTaxonomyDtoToTaxonomy(enrichment.taxonomy()));
+		fish.setTaxonomyFetchedAt(LocalDateTime.now());
+		Set<Parasite> parasites = getOrCreateParasites(enrichment.relatedNames(), enrichment.relatedTaxonomies());
+		fish
+				.getParasites()
+				.stream()
+				.filter(parasite -> !parasites.contains(parasite))
+				.forEach(parasite -> parasite.getFishes().remove(fish));
+		linkParasites(fish, parasites);
+		fish.setEnrichmentStatus(EnrichmentStatus.COMPLETED);
+	}
+
+	/**
+	 * Guarda en una transacción un bloque de peces resueltos en WoRMS junto con sus parásitos.
+	 * La taxonomía de los parásitos nuevos se consulta antes de abrir la transacción, una sola vez
+	 * para todo el bloque.
+	 *
+	 * @param resolved Peces resueltos en WoRMS.
+	 * @return Mapa de nombre científico a ID de los peces creados.
+	 */
+	private Map<String, Long> saveFetchedFishes(List<BatchFetchPipeline.Resolved> resolved) {
+		List<String> parasiteNames = resolved
+				.stream()
+				.flatMap(item -> item.relatedNames().stream())
+				.distinct()
+				.toList();
+		Map<String, ApiTaxonomyDTO> parasiteTaxonomies = fetchMissingParasiteTaxonomies(parasiteNames);
+
+		return transactionTemplate.execute(status -> {
+			Map<String, Parasite> parasites = getOrCreateParasites(parasiteNames, parasiteTaxonomies)
+					.stream()
+					.collect(Collectors.toMap(Parasite::getScientificName, Function.identity()));
+
+			List<Fish> fishes = fishRepository.saveAll(resolved
+					.stream()
+					.map(item -> Fish
+							.builder()
+							.scientificName(item.scientificName())
+							.taxonomy(taxonomyMapper.convertApiTaxonomyDtoToTaxonomy(item.taxonomy()))
+							.taxonomyFetchedAt(LocalDateTime.now())
+							.enrichmentStatus(EnrichmentStatus.COMPLETED)
+							.build())
+					.toList());
+
+			for (int i = 0; i < fishes.size(); i++) {
+				linkParasites(fishes.get(i), resolved
+						.get(i)
+						.relatedNames()
+						.stream()
+						.map(parasites::get)
+						.filter(Objects::nonNull)
+						.collect(Collectors.toSet()));
+			}
+
+			return fishes.stream().collect(Collectors.toMap(Fish::getScientificName, Fish::getId));
+		});
+	}
+
+	/**
+	 * Asocia un pez a sus parásitos por ambos lados de la relación. Los vínculos solo se escriben en
+	 * {@code parasite_fishes} desde {@link Parasite#getFishes()}, que es el lado propietario. Debe
+	 * invocarse dentro de una transacción en la que el pez se persista.
+	 *
+	 * @param fish      Pez a asociar.
+	 * @param parasites Parásitos del pez.
+	 */
+	private void linkParasites(Fish fish, Set<Parasite> parasites) {
+		parasites.forEach(parasite -> parasite.getFishes().add(fish));
+		fish.setParasites(parasites);
+	}
+
+	/**
+	 * Solicita a WoRMS, en paralelo, la taxonomía de los parásitos que aún no existen en la base de datos.
 	 *
-	 * @param scientificName Nombre científico del parásito.
-	 * @return Instancia persistida de {@link Parasite}.
+	 * @param scientificNames Nombres científicos de los parásitos.
+	 * @return Mapa de nombre científico a taxonomía de los parásitos que no existen y que WoRMS contiene.
 	 */
-	private Parasite getOrCreateParasite(String scientificName) {
+	private Map<String, ApiTaxonomyDTO> fetchMissingParasiteTaxonomies(List<String> scientificNames) {
+		List<String> missingNames = findMissingParasiteNames(
+				new HashSet<>(parasiteRepository.findByScientificNameIn(scientificNames)), scientificNames);
+
+		return missingNames.isEmpty() ? Map.of() : bioDataClient.fetchFromWoRMS(missingNames);
+	}
+
+	/**
+	 * Recupera los parásitos con los nombres científicos indicados y crea los que no existan.
+	 * Los existentes se obtienen con una única consulta y los nuevos se guardan todos juntos,
+	 * con la taxonomía obtenida previamente de WoRMS. No hace llamadas remotas, de modo que
+	 * puede invocarse dentro de una transacción.
+	 *
+	 * @param scientificNames Nombres científicos de los parásitos.
+	 * @param taxonomies      Taxonomía de los parásitos nuevos, por nombre científico.
+	 * @return Conjunto de instancias persistidas de {@link Parasite}.
+	 */
+	private Set<Parasite> getOrCreateParasites(List<String> scientificNames, Map<String, ApiTaxonomyDTO> taxonomies) {
 
 		if (isTraceEnabled) {
-			log.trace("######## Start getOrCreateParasite Fish ########");
+			log.trace("######## Start getOrCreateParasites Fish ########");
 		}
 
-		return parasiteRepository
-				.findByScientificName(scientificName)
-				.orElseGet(() -> {
-					Optional<ApiParasiteDTO> apiParasiteOpt = bioDataClient
-							.fetchBioData(scientificName)
-							.map(data -> parasiteMapper.convertMapToApiParasiteDto(data));
-					
-					Parasite parasite;
-					
-					if (apiParasiteOpt.isPresent()) {
-						parasite = parasiteMapper.convertApiParasiteDtoToParasiteEntity(apiParasiteOpt.get());
-					} else {
-							parasite = Parasite.builder().scientificName(scientificName).build();
-					}
-					
-					Optional<ApiTaxonomyDTO> taxonomyOpt = bioDataClient.fetchFromWoRMS(scientificName);
-		            taxonomyOpt.ifPresent(taxonomyDto -> {
-						Taxonomy taxonomy = taxonomyMapper.convertApiTaxonomyDtoToTaxonomy(taxonomyOpt.get());
-						parasite.setTaxonomy(taxonomy);
-		            });
-
-					if (isTraceEnabled) {
-						log.trace("######## End getOrCreateParasite Fish ########");
-					}
-
-					return parasiteRepository.save(parasite);
-				});
+		Set<Parasite> parasites = new HashSet<>(parasiteRepository.findByScientificNameIn(scientificNames));
+
+		List<String> missingNames = findMissingParasiteNames(parasites, scientificNames);
+
+		if (!missingNames.isEmpty()) {
+			List<Parasite> newParasites = missingNames
+					.stream()
+					.map(name -> {
+						Parasite parasite = Parasite.builder().scientificName(name).build();
+						Optional.ofNullable(taxonomies.get(name)).ifPresent(taxonomyDto -> {
+							parasite.setTaxonomy(taxonomyMapper.convertApiTaxonomyDtoToTaxonomy(taxonomyDto));
+							parasite.setTaxonomyFetchedAt(LocalDateTime.now());
+						});
+						return parasite;
+					})
+					.toList();
+
+			parasites.addAll(parasiteRepository.saveAll(newParasites));
+		}
+
+		if (isTraceEnabled) {
+			log.trace("######## End getOrCreateParasites Fish ########");
+		}
+
+		return parasites;
+	}
+
+	/**
+	 * Obtiene los nombres científicos, sin repetir, que no corresponden a ninguno de los parásitos indicados.
+	 *
+	 * @param existing        Parásitos existentes.
+	 * @param scientificNames Nombres científicos buscados.
+	 * @return Nombres científicos sin parásito existente.
+	 */
+	private static List<String> findMissingParasiteNames(Set<Parasite> existing, List<String> scientificNames) {
+		Set<String> existingNames = existing
+				.stream()
+				.map(Parasite::getScientificName)
+				.collect(Collectors.toSet());
+
+		return scientificNames
+				.stream()
+				.distinct()
+				.filter(name -> !existingNames.contains(name))
+				.toList();
 	}
 }
@@ -0,0 +1,172 @@
+package com.fish_diseases.biodata_service.services;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.fish_diseases.biodata_service.dtos.GraphNodeDTO;
+import com.fish_diseases.biodata_service.dtos.HostParasiteEdgeDTO;
+import com.fish_diseases.biodata_service.dtos.SharedNeighboursDTO;
+import com.fish_diseases.biodata_service.exceptions.InvalidGraphQueryException;
+import com.fish_diseases.biodata_service.repositories.ParasiteRepository;
+import com.fish_diseases.biodata_service.utils.HostParasiteGraph;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Servicio de consultas sobre el grafo de peces y parásitos hospedadores.
+ *
+ * <p>Las consultas se resuelven sobre un {@link HostParasiteGraph} en memoria, sin acceder a la base de datos.
+ * El grafo se construye al arrancar desde {@code parasite_fishes} y se sustituye por uno nuevo con cada cambio
+ * confirmado de los hospedadores de un parásito, que notifica
+ * {@link com.fish_diseases.biodata_service.config.HostParasiteGraphUpdater}. Las consultas en curso siguen
+ * usando el grafo anterior.</p>
+ */
+@Service
+public class HostParasiteGraphService {
+
+	private static final Logger log = LoggerFactory.getLogger(HostParasiteGraphService.class);
+	private final boolean isTraceEnabled = log.isTraceEnabled();
+
+	private static final int MAX_HOPS = 4;
+
+	private final ParasiteRepository parasiteRepository;
+	private volatile HostParasiteGraph graph = HostParasiteGraph.of(List.of());
+
+	/**
+	 * Constructor de {@code HostParasiteGraphService}.
+	 *
+	 * @param parasiteRepository repositorio para acceder a datos de parásitos
+	 */
+	public HostParasiteGraphService(ParasiteRepository parasiteRepository) {
+		this.parasiteRepository = parasiteRepository;
+	}
+
+	/////////////////////////////
+	//// MÉTODOS DE CONSULTA ////
+	/////////////////////////////
+
+	/**
+	 * Parásitos de un pez.
+	 *
+	 * @param fishScientificName Nombre científico del pez.
+	 * @return Parásitos del pez.
+	 */
+	public List<GraphNodeDTO> getParasitesOfFish(String fishScientificName) {
+		return graph.parasitesOf(fishScientificName);
+	}
+
+	/**
+	 * Peces hospedadores de un parásito.
+	 *
+	 * @param parasiteScientificName Nombre científico del parásito.
+	 * @return Hospedadores del parásito.
+	 */
+	public List<GraphNodeDTO> getHostsOfParasite(String parasiteScientificName) {
+		return graph.hostsOf(parasiteScientificName);
+	}
+
+	/**
+	 * Peces que comparten al menos {@code minShared} parásitos con el indicado.
+	 *
+	 * @param fishScientificName Nombre científico del pez.
+	 * @param minShared          Número mínimo de parásitos comunes.
+	 * @return Peces relacionados, de más a menos parásitos comunes.
+	 * @throws InvalidGraphQueryException si {@code minShared} es menor que 1.
+	 */
+	public List<SharedNeighboursDTO> getFishesSharingParasites(String fishScientificName, int minShared) {
+		validateMinShared(minShared);
+		return graph.fishesSharingParasites(fishScientificName, minShared);
+	}
+
+	/**
+	 * Parásitos que comparten al menos {@code minShared} hospedadores con el indicado.
+	 *
+	 * @param parasiteScientificName Nombre científico del parásito.
+	 * @param minShared              Número mínimo de hospedadores comunes.
+	 * @return Parásitos relacionados, de más a menos hospedadores comunes.
+	 * @throws InvalidGraphQueryException si {@code minShared} es menor que 1.
+	 */
+	public List<SharedNeighboursDTO> getParasitesSharingHosts(String parasiteScientificName, int minShared) {
+		validateMinShared(minShared);
+		return graph.parasitesSharingHosts(parasiteScientificName, minShared);
+	}
+
+	/**
+	 * Peces y parásitos a como mucho {@code hops} saltos de un pez.
+	 *
+	 * @param fishScientificName Nombre científico del pez.
+	 * @param hops               Número máximo de saltos.
+	 * @return Nodos alcanzados, ordenados por distancia.
+	 * @throws InvalidGraphQueryException si {@code hops} está fuera de rango.
+	 */
+	public List<GraphNodeDTO> getWithinHopsOfFish(String fishScientificName, int hops) {
+		validateHops(hops);
+		return graph.withinHopsOfFish(fishScientificName, hops);
+	}
+
+	/**
+	 * Peces y parásitos a como mucho {@code hops} saltos de un parásito.
+	 *
+	 * @param parasiteScientificName Nombre científico del parásito.
+	 * @param hops                   Número máximo de saltos.
+	 * @return Nodos alcanzados, ordenados por distancia.
+	 * @throws InvalidGraphQueryException si {@code hops} está fuera de rango.
+	 */
+	public List<GraphNodeDTO> getWithinHopsOfParasite(String parasiteScientificName, int hops) {
+		validateHops(hops);
+		return graph.withinHopsOfParasite(parasiteScientificName, hops);
+	}
+
+	//////////////////////////////////
+	//// MÉTODOS DE ACTUALIZACIÓN ////
+	//////////////////////////////////
+
+	/**
+	 * Reconstruye el grafo completo a partir de {@code parasite_fishes}.
+	 */
+	@PostConstruct
+	public synchronized void rebuild() {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start rebuild HostParasiteGraphService ########");
+		}
+
+		graph = HostParasiteGraph.of(parasiteRepository.findAllHostEdges());
+		log.info("Grafo de hospedadores construido: {} relaciones", graph.edgeCount());
+
+		if (isTraceEnabled) {
+			log.trace("######## End rebuild HostParasiteGraphService ########");
+		}
+	}
+
+	/**
+	 * Sustituye los hospedadores de los parásitos indicados.
+	 *
+	 * @param parasiteIds IDs de los parásitos cuyos hospedadores han cambiado.
+	 * @param edges       Relaciones actuales de esos parásitos.
+	 */
+	public synchronized void replaceParasiteHosts(Set<Long> parasiteIds, Collection<HostParasiteEdgeDTO> edges) {
+		graph = graph.withParasiteHosts(parasiteIds, edges);
+	}
+
+	////////////////////////////
+	//// MÉTODOS AUXILIARES ////
+	////////////////////////////
+
+	private void validateMinShared(int minShared) {
+		if (minShared < 1) {
+			throw new InvalidGraphQueryException();
+		}
+	}
+
+	private void validateHops(int hops) {
+		if (hops < 1 || hops > MAX_HOPS) {
+			throw new InvalidGraphQueryException();
+		}
+	}
+}
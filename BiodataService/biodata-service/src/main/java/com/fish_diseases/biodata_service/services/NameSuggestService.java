@@ -0,0 +1,153 @@
+package com.fish_diseases.biodata_service.services;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.fish_diseases.biodata_service.dtos.NameSuggestionDTO;
+import com.fish_diseases.biodata_service.exceptions.InvalidSearchQueryException;
+import com.fish_diseases.biodata_service.repositories.FishRepository;
+import com.fish_diseases.biodata_service.repositories.ParasiteRepository;
+import com.fish_diseases.biodata_service.utils.NameSuggestIndex;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Servicio de autocompletado de nombres científicos y comunes de peces y parásitos.
+ *
+ * <p>Las sugerencias se sirven desde un {@link NameSuggestIndex} en memoria por cada catálogo, sin acceder
+ * a la base de datos. Los índices se construyen al arrancar y se mantienen al día con los cambios confirmados
+ * que notifica {@link com.fish_diseases.biodata_service.config.NameSuggestIndexUpdater}.</p>
+ */
+@Service
+public class NameSuggestService {
+
+	private static final Logger log = LoggerFactory.getLogger(NameSuggestService.class);
+	private final boolean isTraceEnabled = log.isTraceEnabled();
+
+	private static final int MAX_PREFIX_LENGTH = 200;
+	private static final int MAX_SUGGESTIONS = 100;
+
+	private final FishRepository fishRepository;
+	private final ParasiteRepository parasiteRepository;
+	private final NameSuggestIndex fishIndex = new NameSuggestIndex();
+	private final NameSuggestIndex parasiteIndex = new NameSuggestIndex();
+
+	/**
+	 * Constructor de {@code NameSuggestService}.
+	 *
+	 * @param fishRepository repositorio para acceder a datos de peces
+	 * @param parasiteRepository repositorio para acceder a datos de parásitos
+	 */
+	public NameSuggestService(FishRepository fishRepository, ParasiteRepository parasiteRepository) {
+		this.fishRepository = fishRepository;
+		this.parasiteRepository = parasiteRepository;
+	}
+
+	/////////////////////////////
+	//// MÉTODOS DE CONSULTA ////
+	/////////////////////////////
+
+	/**
+	 * Sugiere peces cuyo nombre científico o común empieza por el prefijo indicado, sin distinguir
+	 * mayúsculas ni tildes.
+	 *
+	 * @param prefix Prefijo escrito por el usuario.
+	 * @param size   Número máximo de sugerencias.
+	 * @return Peces sugeridos en orden alfabético.
+	 * @throws InvalidSearchQueryException si el prefijo está vacío, es demasiado largo o el tamaño está fuera de rango.
+	 */
+	public List<NameSuggestionDTO> suggestFishes(String prefix, int size) {
+		return suggest(fishIndex, prefix, size);
+	}
+
+	/**
+	 * Sugiere parásitos cuyo nombre científico o común empieza por el prefijo indicado, sin distinguir
+	 * mayúsculas ni tildes.
+	 *
+	 * @param prefix Prefijo escrito por el usuario.
+	 * @param size   Número máximo de sugerencias.
+	 * @return Parásitos sugeridos en orden alfabético.
+	 * @throws InvalidSearchQueryException si el prefijo está vacío, es demasiado largo o el tamaño está fuera de rango.
+	 */
+	public List<NameSuggestionDTO> suggestParasites(String prefix, int size) {
+		return suggest(parasiteIndex, prefix, size);
+	}
+
+	//////////////////////////////////
+	//// MÉTODOS DE ACTUALIZACIÓN ////
+	//////////////////////////////////
+
+	/**
+	 * Reconstruye los índices de peces y parásitos a partir de la base de datos.
+	 */
+	@PostConstruct
+	public void rebuild() {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start rebuild NameSuggestService ########");
+		}
+
+		fishIndex.replaceAll(fishRepository.findAllNames());
+		parasiteIndex.replaceAll(parasiteRepository.findAllNames());
+		log.info("Índices de autocompletado construidos: {} peces, {} parásitos", fishIndex.size(), parasiteIndex.size());
+
+		if (isTraceEnabled) {
+			log.trace("######## End rebuild NameSuggestService ########");
+		}
+	}
+
+	/**
+	 * Añade o actualiza un pez en el índice.
+	 *
+	 * @param fish ID y nombres del pez guardado.
+	 */
+	public void indexFish(NameSuggestionDTO fish) {
+		fishIndex.put(fish);
+	}
+
+	/**
+	 * Añade o actualiza un parásito en el índice.
+	 *
+	 * @param parasite ID y nombres del parásito guardado.
+	 */
+	public void indexParasite(NameSuggestionDTO parasite) {
+		parasiteIndex.put(parasite);
+	}
+
+	////////////////////////////////
+	//// MÉTODOS DE ELIMINACIÓN ////
+	////////////////////////////////
+
+	/**
+	 * Elimina un pez del índice.
+	 *
+	 * @param id ID del pez eliminado.
+	 */
+	public void removeFish(Long id) {
+		fishIndex.remove(id);
+	}
+
+	/**
+	 * Elimina un parásito del índice.
+	 *
+	 * @param id ID del parásito eliminado.
+	 */
+	public void removeParasite(Long id) {
+		parasiteIndex.remove(id);
+	}
+
+	////////////////////////////
+	//// MÉTODOS AUXILIARES ////
+	////////////////////////////
+
+	private List<NameSuggestionDTO> suggest(NameSuggestIndex index, String prefix, int size) {
+		if (prefix == null || prefix.length() > MAX_PREFIX_LENGTH || NameSuggestIndex.normalize(prefix).isEmpty()
+				|| size < 1 || size > MAX_SUGGESTIONS) {
+			throw new InvalidSearchQueryException();
+		}
+		return index.suggest(prefix, size);
+	}
+}
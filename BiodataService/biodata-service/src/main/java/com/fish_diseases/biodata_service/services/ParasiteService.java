@@ -1,36 +1,50 @@
 package com.fish_diseases.biodata_service.services;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.fish_diseases.biodata_service.client.BioDataClient;
-import com.fish_diseases.biodata_service.dtos.ApiFishDTO;
 import com.fish_diseases.biodata_service.dtos.ApiTaxonomyDTO;
+import com.fish_diseases.biodata_service.dtos.BatchFetchResultDTO;
 import com.fish_diseases.biodata_service.dtos.CreateParasiteDTO;
+import com.fish_diseases.biodata_service.dtos.ParasiteDetailDTO;
+import com.fish_diseases.biodata_service.dtos.ParasiteSearchResultDTO;
+import com.fish_diseases.biodata_service.dtos.ParasiteSummaryDTO;
+import com.fish_diseases.biodata_service.dtos.ResourceVersionDTO;
 import com.fish_diseases.biodata_service.dtos.UpdateParasiteDTO;
+import com.fish_diseases.biodata_service.entities.EnrichmentStatus;
+import com.fish_diseases.biodata_service.entities.EnrichmentTask;
 import com.fish_diseases.biodata_service.entities.Fish;
 import com.fish_diseases.biodata_service.entities.Parasite;
-import com.fish_diseases.biodata_service.entities.Taxonomy;
 import com.fish_diseases.biodata_service.exceptions.ParasiteNotFoundException;
+import com.fish_diseases.biodata_service.exceptions.InvalidPaginationException;
+import com.fish_diseases.biodata_service.exceptions.InvalidSearchQueryException;
 import com.fish_diseases.biodata_service.mapper.FishMapper;
 import com.fish_diseases.biodata_service.mapper.ParasiteMapper;
 import com.fish_diseases.biodata_service.mapper.TaxonomyMapper;
 import com.fish_diseases.biodata_service.repositories.FishRepository;
 import com.fish_diseases.biodata_service.repositories.ParasiteRepository;
+import com.fish_diseases.biodata_service.utils.KeysetCursor;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
@@ -46,6 +60,9 @@ public class ParasiteService {
 	private static final Logger log = LoggerFactory.getLogger(ParasiteService.class);
 	private final boolean isTraceEnabled = log.isTraceEnabled();
 
+	private static final int MAX_SEARCH_QUERY_LENGTH = 200;
+	private static final int MAX_SEARCH_RESULTS = 100;
+
 	private final ParasiteRepository parasiteRepository;
 	private final FishRepository fishRepository;
 	private final BioDataClient bioDataClient;
@@ -53,6 +70,9 @@ public class ParasiteService {
 	private final ParasiteMapper parasiteMapper;
 	private final TaxonomyMapper taxonomyMapper;
 	private final Validator validator;
+	private final EnrichmentService enrichmentService;
+	private final TransactionTemplate transactionTemplate;
+	private final BatchFetchPipeline batchFetchPipeline;
 
 	/**
 	 * Constructor de {@code ParasiteService} que inicializa todas las dependencias requeridas.
@@ -64,10 +84,14 @@ public class ParasiteService {
 	 * @param parasiteMapper mapper para transformar entidades de parásitos y sus DTOs
 	 * @param taxonomyMapper mapper para convertir información taxonómica
 	 * @param validator validador para aplicar reglas de validación a los datos
+	 * @param enrichmentService servicio de la cola de enriquecimiento con WoRMS
+	 * @param transactionTemplate plantilla para delimitar las transacciones de escritura
+	 * @param batchFetchPipeline canalización de las importaciones por lotes desde WoRMS
 	 */
 	public ParasiteService(ParasiteRepository parasiteRepository, FishRepository fishRepository,
 			BioDataClient bioDataClient, FishMapper fishMapper, ParasiteMapper parasiteMapper,
-			TaxonomyMapper taxonomyMapper, Validator validator) {
+			TaxonomyMapper taxonomyMapper, Validator validator, EnrichmentService enrichmentService,
+			TransactionTemplate transactionTemplate, BatchFetchPipeline batchFetchPipeline) {
 		this.parasiteRepository = parasiteRepository;
 		this.fishRepository = fishRepository;
 		this.bioDataClient = bioDataClient;
@@ -75,6 +99,9 @@ public class ParasiteService {
 		this.parasiteMapper = parasiteMapper;
 		this.taxonomyMapper = taxonomyMapper;
 		this.validator = validator;
+		this.enrichmentService = enrichmentService;
+		this.transactionTemplate = transactionTemplate;
+		this.batchFetchPipeline = batchFetchPipeline;
 	}
 
 	/////////////////////////////
@@ -82,24 +109,93 @@ public class ParasiteService {
 	/////////////////////////////
 
 	/**
-	 * Recupera todos los parásitos registrados en el sistema.
+	 * Recupera una página de parásitos con paginación por desplazamiento. Devuelve también el número total
+	 * de parásitos, por lo que el coste crece con la posición de la página; para recorrer el catálogo completo
+	 * se debe usar {@link #findAllAfter(KeysetCursor, int)}.
 	 *
-	 * @return Lista de entidades Parasite.
+	 * @param pageable Página, tamaño y ordenación solicitados.
+	 * @return Página de parásitos en su vista resumida.
+	 * @throws InvalidPaginationException si se ordena por una propiedad no admitida.
 	 */
 	@Transactional(readOnly = true)
-	public List<Parasite> findAll() {
+	public Page<ParasiteSummaryDTO> findAll(Pageable pageable) {
 
 		if (isTraceEnabled) {
 			log.trace("######## Start findAll Parasite ########");
 		}
 
-		List<Parasite> allParasites = parasiteRepository.findAll();
+		Page<ParasiteSummaryDTO> page = parasiteRepository.findSummaries(KeysetCursor.stableOrder(pageable));
 
 		if (isTraceEnabled) {
 			log.trace("######## End findAll Parasite ########");
 		}
 
-		return allParasites;
+		return page;
+	}
+
+	/**
+	 * Recupera la página de parásitos siguiente a la indicada por el cursor (paginación por clave). La consulta
+	 * usa el índice de la propiedad del cursor, por lo que su coste solo depende del tamaño de la página.
+	 *
+	 * @param cursor Cursor con la ordenación y el último elemento de la página anterior.
+	 * @param size   Tamaño de la página.
+	 * @return Lista de parásitos en su vista resumida.
+	 */
+	@Transactional(readOnly = true)
+	public List<ParasiteSummaryDTO> findAllAfter(KeysetCursor cursor, int size) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start findAllAfter Parasite ########");
+		}
+
+		Limit limit = Limit.of(size);
+		boolean ascending = cursor.direction().isAscending();
+		List<ParasiteSummaryDTO> page;
+		if (KeysetCursor.ID.equals(cursor.property())) {
+			page = ascending
+					? parasiteRepository.findSummariesAfterId(cursor.idValue(), limit)
+					: parasiteRepository.findSummariesBeforeId(cursor.idValue(), limit);
+		} else {
+			page = ascending
+					? parasiteRepository.findSummariesAfterScientificName(cursor.value(), limit)
+					: parasiteRepository.findSummariesBeforeScientificName(cursor.value(), limit);
+		}
+
+		if (isTraceEnabled) {
+			log.trace("######## End findAllAfter Parasite ########");
+		}
+
+		return page;
+	}
+
+	/**
+	 * Busca parásitos por texto libre en sus nombres y campos descriptivos (características diagnósticas,
+	 * daños, localización en el hospedador, distribución geográfica y detección), en español y en inglés.
+	 *
+	 * @param query Texto de la búsqueda, con la sintaxis de búsqueda web de PostgreSQL.
+	 * @param size  Número máximo de resultados.
+	 * @return Parásitos encontrados, ordenados por relevancia, con los fragmentos que contienen los términos.
+	 * @throws InvalidSearchQueryException si la búsqueda está vacía, es demasiado larga o el tamaño está fuera de rango.
+	 */
+	@Transactional(readOnly = true)
+	public List<ParasiteSearchResultDTO> search(String query, int size) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start search Parasite ########");
+		}
+
+		if (query == null || query.isBlank() || query.length() > MAX_SEARCH_QUERY_LENGTH
+				|| size < 1 || size > MAX_SEARCH_RESULTS) {
+			throw new InvalidSearchQueryException();
+		}
+
+		List<ParasiteSearchResultDTO> results = parasiteRepository.search(query.strip(), size);
+
+		if (isTraceEnabled) {
+			log.trace("######## End search Parasite ########");
+		}
+
+		return results;
 	}
 
 	/**
@@ -153,10 +249,134 @@ public class ParasiteService {
 	}
 
 	/**
-	 * Obtiene una lista de peces hospedadores de un parásito, a partir del nombre científico del mismo.
+	 * Recupera la vista completa de un parásito por su identificador único, con sus peces hospedadores
+	 * en una única consulta.
+	 *
+	 * @param id ID del parásito.
+	 * @return Vista completa del parásito.
+	 * @throws ParasiteNotFoundException si no se encuentra el parásito.
+	 */
+	@Transactional(readOnly = true)
+	public ParasiteDetailDTO findDetailById(Long id) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start findDetailById Parasite ########");
+		}
+
+		ParasiteDetailDTO detail = parasiteRepository
+				.findWithFishesById(id)
+				.map(parasiteMapper::convertParasiteToParasiteDetailDto)
+				.orElseThrow(ParasiteNotFoundException::new);
+
+		if (isTraceEnabled) {
+			log.trace("######## End findDetailById Parasite ########");
+		}
+
+		return detail;
+	}
+
+	/**
+	 * Recupera la vista completa de un parásito por su nombre científico, con sus peces hospedadores
+	 * en una única consulta.
+	 *
+	 * @param scientificName Nombre científico del parásito.
+	 * @return Vista completa del parásito.
+	 * @throws ParasiteNotFoundException si no se encuentra el parásito.
+	 */
+	@Transactional(readOnly = true)
+	public ParasiteDetailDTO findDetailByScientificName(String scientificName) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start findDetailByScientificName Parasite ########");
+		}
+
+		ParasiteDetailDTO detail = parasiteRepository
+				.findWithFishesByScientificName(scientificName)
+				.map(parasiteMapper::convertParasiteToParasiteDetailDto)
+				.orElseThrow(ParasiteNotFoundException::new);
+
+		if (isTraceEnabled) {
+			log.trace("######## End findDetailByScientificName Parasite ########");
+		}
+
+		return detail;
+	}
+
+	/**
+	 * Versión del listado de parásitos, para responder a las peticiones condicionales sin cargarlo.
+	 *
+	 * @return Versión del listado.
+	 */
+	@Transactional(readOnly = true)
+	public ResourceVersionDTO getCatalogVersion() {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start getCatalogVersion Parasite ########");
+		}
+
+		ResourceVersionDTO version = parasiteRepository.findCatalogVersion();
+
+		if (isTraceEnabled) {
+			log.trace("######## End getCatalogVersion Parasite ########");
+		}
+
+		return version;
+	}
+
+	/**
+	 * Versión de la vista completa de un parásito, con la de sus hospedadores, para responder a las
+	 * peticiones condicionales sin cargarla.
+	 *
+	 * @param id ID del parásito.
+	 * @return Versión de la vista, vacía si el parásito no existe.
+	 */
+	@Transactional(readOnly = true)
+	public Optional<ResourceVersionDTO> getDetailVersionById(Long id) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start getDetailVersionById Parasite ########");
+		}
+
+		Optional<ResourceVersionDTO> version = parasiteRepository.findDetailVersionById(id);
+
+		if (isTraceEnabled) {
+			log.trace("######## End getDetailVersionById Parasite ########");
+		}
+
+		return version;
+	}
+
+	/**
+	 * Versión de la vista completa de un parásito por su nombre científico, para responder a las
+	 * peticiones condicionales sin cargarla.
+	 *
+	 * @param scientificName Nombre científico del parásito.
+	 * @return Versión de la vista, vacía si el parásito no existe.
+	 */
+	@Transactional(readOnly = true)
+	public Optional<ResourceVersionDTO> getDetailVersionByScientificName(String scientificName) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start getDetailVersionByScientificName Parasite ########");
+		}
+
+		Optional<ResourceVersionDTO> version = parasiteRepository.findDetailVersionByScientificName(scientificName);
+
+		if (isTraceEnabled) {
+			log.trace("######## End getDetailVersionByScientificName Parasite ########");
+		}
+
+		return version;
+	}
+
+	/**
+	 * Obtiene una lista de peces hospedadores de un parásito, a partir del nombre científico del mismo,
+	 * con sus parásitos ya cargados, en una única consulta. Solo si no hay hospedadores se comprueba
+	 * además que el parásito exista.
 	 *
 	 * @param parasiteScientificName Nombre científico del parásito.
 	 * @return Lista de entidades Fish asociadas al parásito.
+	 * @throws ParasiteNotFoundException si el parásito no existe.
 	 */
 	@Transactional(readOnly = true)
 	public List<Fish> getFishesByParasiteScientificName(String parasiteScientificName) {
@@ -165,15 +385,10 @@ public class ParasiteService {
 			log.trace("######## Start getFishesByParasiteScientificName ########");
 		}
 
-		Parasite parasite = findByScientificName(parasiteScientificName);
-
-		List<String> fishScientificNames = parasite
-				.getFishes()
-				.stream()
-				.map(Fish::getScientificName)
-				.collect(Collectors.toList());
-
-		List<Fish> listFishByParasite = fishRepository.findByScientificNameIn(fishScientificNames);
+		List<Fish> listFishByParasite = fishRepository.findHostsOfParasite(parasiteScientificName);
+		if (listFishByParasite.isEmpty() && !parasiteRepository.existsByScientificName(parasiteScientificName)) {
+			throw new ParasiteNotFoundException();
+		}
 
 		if (isTraceEnabled) {
 			log.trace("######## End getFishesByParasiteScientificName ########");
@@ -189,11 +404,11 @@ public class ParasiteService {
 	/**
 	 * Busca un parásito en la base de datos o, si no existe, consulta WoRMS para obtener su información taxonómica
 	 * y los hospedadores asociados. Luego lo guarda y lo retorna.
+	 * Las consultas a WoRMS se hacen antes de abrir la transacción, que solo abarca la escritura.
 	 *
 	 * @param scientificName Nombre científico del parásito.
 	 * @return Optional que contiene el parásito guardado si se pudo obtener desde WoRMS.
 	 */
-	@Transactional
 	public Optional<Parasite> findOrFetchAndPrepareParasite(String scientificName) {
 
 		if (isTraceEnabled) {
@@ -203,74 +418,160 @@ public class ParasiteService {
 		Optional<Parasite> optParasite = parasiteRepository.findByScientificName(scientificName);
 		if (optParasite.isPresent()) {
 			return optParasite;
+		}
+
+		Optional<Parasite> saved = fetchEnrichment(scientificName).map(enrichment -> transactionTemplate.execute(status -> {
+			Parasite parasite = Parasite.builder().scientificName(scientificName).build();
+			applyEnrichment(parasite, enrichment);
+			return parasiteRepository.save(parasite);
+		}));
+
+		if (isTraceEnabled) {
+			log.trace("######## End findOrFetchAndPrepareParasite ########");
+		}
+
+		return saved;
+	}
+
+	/**
+	 * Registra un parásito para completarlo en segundo plano con los datos de WoRMS.
+	 * Si no existe, se guarda con el enriquecimiento pendiente y se encola una tarea; si su
+	 * enriquecimiento falló, se vuelve a encolar. No hace ninguna llamada a WoRMS.
+	 *
+	 * @param scientificName Nombre científico del parásito.
+	 * @return Optional con la tarea de enriquecimiento en curso, o vacío si el parásito ya existe
+	 *         y no está pendiente de enriquecer.
+	 */
+	@Transactional
+	public Optional<EnrichmentTask> requestParasiteEnrichment(String scientificName) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start requestParasiteEnrichment ########");
+		}
+
+		Optional<Parasite> optParasite = parasiteRepository.findByScientificName(scientificName);
+		Optional<EnrichmentTask> task;
+		if (optParasite.isEmpty()) {
+			Parasite parasite = parasiteRepository.save(Parasite
+					.builder()
+					.scientificName(scientificName)
+					.enrichmentStatus(EnrichmentStatus.PENDING)
+					.build());
+			task = Optional.of(enrichmentService.enqueue(EnrichmentTask.TargetType.PARASITE, parasite.getId(),
+					scientificName));
+		} else if (optParasite.get().getEnrichmentStatus() == EnrichmentStatus.FAILED) {
+			Parasite parasite = optParasite.get();
+			parasite.setEnrichmentStatus(EnrichmentStatus.PENDING);
+			task = Optional.of(enrichmentService.enqueue(EnrichmentTask.TargetType.PARASITE, parasite.getId(),
+					scientificName));
+		} else if (optParasite.get().getEnrichmentStatus() == EnrichmentStatus.PENDING) {
+			task = enrichmentService.findLatestTask(EnrichmentTask.TargetType.PARASITE, optParasite.get().getId());
 		} else {
-			log.trace("Llamando a WoRMS con nombre científico: {}", scientificName);
-			Optional<ApiTaxonomyDTO> taxonomyOpt = bioDataClient.fetchFromWoRMS(scientificName);
-			log.trace("Respuesta de WoRMS: {}", taxonomyOpt);
-			if (taxonomyOpt.isPresent()) {
-				ApiTaxonomyDTO taxonomyDto = taxonomyOpt.get();
-
-				Taxonomy taxonomy = taxonomyMapper.convertApiTaxonomyDtoToTaxonomy(taxonomyDto);
-
-				Parasite parasite = Parasite
-						.builder()
-						.scientificName(scientificName)
-						.taxonomy(taxonomy)
-						.build();
-
-				List<String> hostIds = bioDataClient
-						.fetchBiodataIdsByAphiaID(String.valueOf(taxonomyDto.getAphiaID()), "Host/prey");
-
-				Set<Fish> hosts = hostIds
-						.stream()
-						.distinct()
-						.map(id -> {
-							ResponseEntity<String> response = bioDataClient.getScientificNameByAphiaID(id);
-							if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-								return getOrCreateFish(response.getBody());
-							}
-							return null;
-						})
-						.filter(Objects::nonNull)
-						.collect(Collectors.toSet());
-				parasite.setFishes(hosts);
-
-				Parasite saved = parasiteRepository.save(parasite);
-
-				if (isTraceEnabled) {
-					log.trace("######## End findOrFetchAndPrepareParasite ########");
-				}
-
-				return Optional.of(saved);
+			task = Optional.empty();
+		}
+
+		if (isTraceEnabled) {
+			log.trace("######## End requestParasiteEnrichment ########");
+		}
+
+		return task;
+	}
+
+	/**
+	 * Completa un parásito pendiente con su taxonomía y sus hospedadores de WoRMS. Lo invoca el
+	 * trabajador de la cola de enriquecimiento; si el parásito se ha eliminado, no hace nada.
+	 *
+	 * @param parasiteId ID del parásito.
+	 */
+	public void enrichParasite(Long parasiteId) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start enrichParasite ########");
+		}
+
+		Optional<String> scientificName = parasiteRepository.findById(parasiteId).map(Parasite::getScientificName);
+		if (scientificName.isEmpty()) {
+			return;
+		}
+
+		Optional<WormsEnrichment> enrichment = fetchEnrichment(scientificName.get());
+
+		transactionTemplate.executeWithoutResult(status -> parasiteRepository.findById(parasiteId).ifPresent(parasite -> {
+			if (enrichment.isPresent()) {
+				applyEnrichment(parasite, enrichment.get());
 			} else {
-				return Optional.empty();
+				parasite.setEnrichmentStatus(EnrichmentStatus.NOT_FOUND);
 			}
+			parasiteRepository.save(parasite);
+		}));
+
+		if (isTraceEnabled) {
+			log.trace("######## End enrichParasite ########");
+		}
+	}
+
+	/**
+	 * Importa varios parásitos desde WoRMS. Los existentes se resuelven con una única consulta y solo
+	 * los que faltan se consultan a WoRMS, sin repetir nombres, y se guardan por bloques. Las consultas
+	 * a WoRMS se hacen fuera de las transacciones de guardado.
+	 *
+	 * @param scientificNames Nombres científicos de los parásitos.
+	 * @param onResult        Recibe el resultado de cada nombre en cuanto se conoce.
+	 */
+	public void fetchAndPrepareParasites(List<String> scientificNames, Consumer<BatchFetchResultDTO> onResult) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start fetchAndPrepareParasites ########");
+		}
+
+		List<String> names = scientificNames
+				.stream()
+				.filter(Objects::nonNull)
+				.map(String::trim)
+				.filter(name -> !name.isEmpty())
+				.distinct()
+				.toList();
+
+		Set<String> existingNames = new HashSet<>();
+		for (Parasite parasite : parasiteRepository.findByScientificNameIn(names)) {
+			existingNames.add(parasite.getScientificName());
+			onResult.accept(BatchFetchResultDTO
+					.builder()
+					.scientificName(parasite.getScientificName())
+					.outcome(BatchFetchResultDTO.Outcome.EXISTING)
+					.id(parasite.getId())
+					.build());
+		}
+
+		List<String> missingNames = names.stream().filter(name -> !existingNames.contains(name)).toList();
+
+		batchFetchPipeline.run(missingNames, this::fetchHostNames, this::saveFetchedParasites, onResult);
+
+		if (isTraceEnabled) {
+			log.trace("######## End fetchAndPrepareParasites ########");
 		}
 	}
 
 	/**
 	 * Guarda un nuevo parásito en la base de datos con los datos proporcionados.
+	 * La taxonomía de los peces nuevos se consulta a WoRMS antes de abrir la transacción.
 	 *
 	 * @param createParasiteDTO DTO con la información del nuevo parásito.
 	 * @return Entidad Parasite guardada.
 	 */
-	@Transactional
 	public Parasite saveParasite(CreateParasiteDTO createParasiteDTO) {
 
 		if (isTraceEnabled) {
 			log.trace("######## Start save Parasite ########");
 		}
 
-		Set<Fish> fishes = createParasiteDTO
-				.getFishes()
-				.stream()
-				.map(this::getOrCreateFish)
-				.collect(Collectors.toSet());
-
-		Parasite parasite = parasiteMapper.convertCreateParasiteDtoToParasiteEntity(createParasiteDTO);
-		parasite.setFishes(fishes);
+		Map<String, ApiTaxonomyDTO> fishTaxonomies = fetchMissingFishTaxonomies(createParasiteDTO.getFishes());
 
-	    Parasite savedParasite = parasiteRepository.save(parasite);
+		Parasite savedParasite = transactionTemplate.execute(status -> {
+			Parasite parasite = parasiteMapper.convertCreateParasiteDtoToParasiteEntity(createParasiteDTO);
+			parasite.setFishes(getOrCreateFishes(createParasiteDTO.getFishes(), fishTaxonomies));
+			return parasiteRepository.save(parasite);
+		});
 
 		if (isTraceEnabled) {
 			log.trace("######## End save Parasite ########");
@@ -291,13 +592,38 @@ public class ParasiteService {
 	 * @param updateParasiteDTO DTO con los nuevos valores para el parásito.
 	 * @return Optional que contiene el parásito actualizado.
 	 */
-	@Transactional
 	public Optional<Parasite> updateParasite(String scientificName, UpdateParasiteDTO updateParasiteDTO) {
 
 		if (isTraceEnabled) {
 			log.trace("######## Start update Parasite ########");
 		}
 
+		List<String> fishNames = updateParasiteDTO.getFishes();
+		Map<String, ApiTaxonomyDTO> fishTaxonomies = fishNames != null && !fishNames.isEmpty()
+				? fetchMissingFishTaxonomies(fishNames)
+				: Map.of();
+
+		Parasite savedParasite = transactionTemplate.execute(status -> applyUpdate(scientificName,
+				updateParasiteDTO, fishTaxonomies));
+
+		if (isTraceEnabled) {
+			log.trace("######## End update Parasite ########");
+		}
+
+		return Optional.of(savedParasite);
+	}
+
+	/**
+	 * Aplica los cambios de un parásito dentro de la transacción de {@link #updateParasite(String, UpdateParasiteDTO)}.
+	 *
+	 * @param scientificName    Nombre científico del parásito a actualizar.
+	 * @param updateParasiteDTO DTO con los nuevos valores para el parásito.
+	 * @param fishTaxonomies    Taxonomía de los peces nuevos, obtenida previamente de WoRMS.
+	 * @return Parásito actualizado.
+	 */
+	private Parasite applyUpdate(String scientificName, UpdateParasiteDTO updateParasiteDTO,
+			Map<String, ApiTaxonomyDTO> fishTaxonomies) {
+
 		Parasite parasiteDb = parasiteRepository
 				.findByScientificName(scientificName)
 				.orElseThrow(NoSuchElementException::new);
@@ -330,26 +656,18 @@ public class ParasiteService {
 		if (updateParasiteDTO.getTaxonomy() != null
 				&& !Objects.equals(updateParasiteDTO.getTaxonomy(), parasiteDb.getTaxonomy())) {
 			parasiteDb.setTaxonomy(updateParasiteDTO.getTaxonomy());
+			// La taxonomía editada a mano deja de refrescarse desde WoRMS
+			parasiteDb.setTaxonomyFetchedAt(null);
 			updated.set(true);
 		}
 
 		if (updateParasiteDTO.getFishes() != null && !updateParasiteDTO.getFishes().isEmpty()) {
-			Set<Fish> updatedFishes = updateParasiteDTO
-					.getFishes()
-					.stream()
-					.map(this::getOrCreateFish)
-					.collect(Collectors.toSet());
+			Set<Fish> updatedFishes = getOrCreateFishes(updateParasiteDTO.getFishes(), fishTaxonomies);
 			parasiteDb.setFishes(updatedFishes);
 			updated.set(true);
 		}
 
-		Parasite savedParasite = parasiteRepository.save(parasiteDb);
-
-		if (isTraceEnabled) {
-			log.trace("######## End update Parasite ########");
-		}
-
-		return Optional.of(savedParasite);
+		return parasiteRepository.save(parasiteDb);
 	}
 
 	////////////////////////////////
@@ -412,45 +730,172 @@ public class ParasiteService {
 	}
 
 	/**
-	 * Recupera un pez por su nombre científico, y si no existe lo crea, enriqueciendo sus datos
-	 * con información obtenida de fuentes externas como WoRMS.
+	 * Obtiene de WoRMS la taxonomía y los hospedadores de un parásito, junto con la taxonomía
+	 * de los hospedadores que aún no existen. No abre ninguna transacción.
+	 *
+	 * @param scientificName Nombre científico del parásito.
+	 * @return Optional con los datos obtenidos, o vacío si WoRMS no contiene el parásito.
+	 */
+	private Optional<WormsEnrichment> fetchEnrichment(String scientificName) {
+		log.trace("Llamando a WoRMS con nombre científico: {}", scientificName);
+		Optional<ApiTaxonomyDTO> taxonomyOpt = bioDataClient.fetchFromWoRMS(scientificName);
+		log.trace("Respuesta de WoRMS: {}", taxonomyOpt);
+
+		return taxonomyOpt.map(taxonomyDto -> {
+			List<String> hostNames = fetchHostNames(taxonomyDto);
+			return new WormsEnrichment(taxonomyDto, hostNames, fetchMissingFishTaxonomies(hostNames));
+		});
+	}
+
+	/**
+	 * Obtiene de WoRMS los nombres científicos de los hospedadores de un parásito.
+	 *
+	 * @param taxonomyDto Taxonomía del parásito.
+	 * @return Nombres científicos de los hospedadores.
+	 */
+	private List<String> fetchHostNames(ApiTaxonomyDTO taxonomyDto) {
+		List<String> hostIds = bioDataClient
+				.fetchBiodataIdsByAphiaID(String.valueOf(taxonomyDto.getAphiaID()), "Host/prey");
+
+		return bioDataClient.getScientificNamesByAphiaIDs(hostIds);
+	}
+
+	/**
+	 * Completa un parásito con los datos obtenidos de WoRMS y marca su enriquecimiento como completado.
+	 * Debe invocarse dentro de una transacción.
+	 *
+	 * @param parasite   Parásito a completar.
+	 * @param enrichment Datos obtenidos de WoRMS.
+	 */
+	private void applyEnrichment(Parasite parasite, WormsEnrichment enrichment) {
+		parasite.setTaxonomy(taxonomyMapper.convertApiTaxonomyDtoToTaxonomy(enrichment.taxonomy()));
+		parasite.setTaxonomyFetchedAt(LocalDateTime.now());
+		parasite.setFishes(getOrCreateFishes(enrichment.relatedNames(), enrichment.relatedTaxonomies()));
+		parasite.setEnrichmentStatus(EnrichmentStatus.COMPLETED);
+	}
+
+	/**
+	 * Guarda en una transacción un bloque de parásitos resueltos en WoRMS junto con sus hospedadores.
+	 * La taxonomía de los hospedadores nuevos se consulta antes de abrir la transacción, una sola vez
+	 * para todo el bloque.
 	 *
-	 * @param scientificName Nombre científico del pez.
-	 * @return Entidad Fish existente o creada.
+	 * @param resolved Parásitos resueltos en WoRMS.
+	 * @return Mapa de nombre científico a ID de los parásitos creados.
 	 */
-	private Fish getOrCreateFish(String scientificName) {
+	private Map<String, Long> saveFetchedParasites(List<BatchFetchPipeline.Resolved> resolved) {
+		List<String> hostNames = resolved
+				.stream()
+				.flatMap(item -> item.relatedNames().stream())
+				.distinct()
+				.toList();
+		Map<String, ApiTaxonomyDTO> hostTaxonomies = fetchMissingFishTaxonomies(hostNames);
+
+		return transactionTemplate.execute(status -> {
+			Map<String, Fish> fishes = getOrCreateFishes(hostNames, hostTaxonomies)
+					.stream()
+					.collect(Collectors.toMap(Fish::getScientificName, Function.identity()));
+
+			List<Parasite> parasites = resolved
+					.stream()
+					.map(item -> {
+						Parasite parasite = Parasite
+								.builder()
+								.scientificName(item.scientificName())
+								.taxonomy(taxonomyMapper.convertApiTaxonomyDtoToTaxonomy(item.taxonomy()))
+								.taxonomyFetchedAt(LocalDateTime.now())
+								.enrichmentStatus(EnrichmentStatus.COMPLETED)
+								.build();
+						parasite.setFishes(item
+								.relatedNames()
+								.stream()
+								.map(fishes::get)
+								.filter(Objects::nonNull)
+								.collect(Collectors.toSet()));
+						return parasite;
+					})
+					.toList();
+
+			return parasiteRepository
+					.saveAll(parasites)
+					.stream()
+					.collect(Collectors.toMap(Parasite::getScientificName, Parasite::getId));
+		});
+	}
+
+	/**
+	 * Solicita a WoRMS, en paralelo, la taxonomía de los peces que aún no existen en la base de datos.
+	 *
+	 * @param scientificNames Nombres científicos de los peces.
+	 * @return Mapa de nombre científico a taxonomía de los peces que no existen y que WoRMS contiene.
+	 */
+	private Map<String, ApiTaxonomyDTO> fetchMissingFishTaxonomies(List<String> scientificNames) {
+		List<String> missingNames = findMissingFishNames(
+				new HashSet<>(fishRepository.findByScientificNameIn(scientificNames)), scientificNames);
+
+		return missingNames.isEmpty() ? Map.of() : bioDataClient.fetchFromWoRMS(missingNames);
+	}
+
+	/**
+	 * Recupera los peces con los nombres científicos indicados y crea los que no existan.
+	 * Los existentes se obtienen con una única consulta y los nuevos se guardan todos juntos,
+	 * con la taxonomía obtenida previamente de WoRMS. No hace llamadas remotas, de modo que
+	 * puede invocarse dentro de una transacción.
+	 *
+	 * @param scientificNames Nombres científicos de los peces.
+	 * @param taxonomies      Taxonomía de los peces nuevos, por nombre científico.
+	 * @return Conjunto de entidades Fish existentes o creadas.
+	 */
+	private Set<Fish> getOrCreateFishes(List<String> scientificNames, Map<String, ApiTaxonomyDTO> taxonomies) {
 
 		if (isTraceEnabled) {
-			log.trace("######## Start getOrCreateFish Parasite ########");
+			log.trace("######## Start getOrCreateFishes Parasite ########");
 		}
 
-		return fishRepository
-				.findByScientificName(scientificName)
-				.orElseGet(() -> {
-			Optional<ApiFishDTO> apiFishOpt = bioDataClient
-					.fetchBioData(scientificName)
-					.map(data -> fishMapper.convertMapToApiFishDto(data));
-
-			Fish fish;
-			
-			if (apiFishOpt.isPresent()) {
-				fish = fishMapper.convertApiFishDtoToFishEntity(apiFishOpt.get());
-			} else {
-				fish = Fish.builder().scientificName(scientificName).build();
-			}
+		Set<Fish> fishes = new HashSet<>(fishRepository.findByScientificNameIn(scientificNames));
 
-			Optional<ApiTaxonomyDTO> taxonomyOpt = bioDataClient.fetchFromWoRMS(scientificName);
-            taxonomyOpt.ifPresent(taxonomyDto -> {
-				Taxonomy taxonomy = taxonomyMapper.convertApiTaxonomyDtoToTaxonomy(taxonomyOpt.get());
-				fish.setTaxonomy(taxonomy);
-            });
+		List<String> missingNames = findMissingFishNames(fishes, scientificNames);
 
-			if (isTraceEnabled) {
-				log.trace("######## End getOrCreateFish Parasite ########");
-			}
+		if (!missingNames.isEmpty()) {
+			List<Fish> newFishes = missingNames
+					.stream()
+					.map(name -> {
+						Fish fish = Fish.builder().scientificName(name).build();
+						Optional.ofNullable(taxonomies.get(name)).ifPresent(taxonomyDto -> {
+							fish.setTaxonomy(taxonomyMapper.convertApiTaxonomyDtoToTaxonomy(taxonomyDto));
+							fish.setTaxonomyFetchedAt(LocalDateTime.now());
+						});
+						return fish;
+					})
+					.toList();
+
+			fishes.addAll(fishRepository.saveAll(newFishes));
+		}
 
-			return fishRepository.save(fish);
-		});
+		if (isTraceEnabled) {
+			log.trace("######## End getOrCreateFishes Parasite ########");
+		}
+
+		return fishes;
+	}
+
+	/**
+	 * Obtiene los nombres científicos, sin repetir, que no corresponden a ninguno de los peces indicados.
+	 *
+	 * @param existing        Peces existentes.
+	 * @param scientificNames Nombres científicos buscados.
+	 * @return Nombres científicos sin pez existente.
+	 */
+	private static List<String> findMissingFishNames(Set<Fish> existing, List<String> scientificNames) {
+		Set<String> existingNames = existing
+				.stream()
+				.map(Fish::getScientificName)
+				.collect(Collectors.toSet());
+
+		return scientificNames
+				.stream()
+				.distinct()
+				.filter(name -> !existingNames.contains(name))
+				.toList();
 	}
 
-}
+}
\ No newline at end of file
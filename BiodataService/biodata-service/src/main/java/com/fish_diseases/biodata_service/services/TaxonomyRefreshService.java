@@ -0,0 +1,319 @@
+package com.fish_diseases.biodata_service.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fish_diseases.biodata_service.client.BioDataClient;
+import com.fish_diseases.biodata_service.client.WormsResiliencePolicy;
+import com.fish_diseases.biodata_service.dtos.ApiTaxonomyDTO;
+import com.fish_diseases.biodata_service.entities.Fish;
+import com.fish_diseases.biodata_service.entities.Parasite;
+import com.fish_diseases.biodata_service.entities.Taxonomy;
+import com.fish_diseases.biodata_service.mapper.TaxonomyMapper;
+import com.fish_diseases.biodata_service.repositories.FishRepository;
+import com.fish_diseases.biodata_service.repositories.ParasiteRepository;
+
+import jakarta.annotation.PreDestroy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Servicio que refresca en segundo plano la taxonomía de los peces y parásitos obtenida de WoRMS.
+ *
+ * <p>En cada ejecución toma los registros cuya taxonomía es más antigua que {@code worms.refresh.max-age},
+ * empezando por los más antiguos, y vuelve a consultarla en lotes. Solo se reescriben los registros
+ * cuya taxonomía ha cambiado; en el resto solo se actualiza la fecha de obtención con una única sentencia.
+ * Las escrituras comprueban de nuevo la fecha de obtención, de modo que los registros editados a mano
+ * durante el refresco (fecha nula) conservan la edición.</p>
+ *
+ * <p>Para no competir con el tráfico interactivo, las consultas se hacen en hilos de prioridad mínima,
+ * con un número máximo de lotes simultáneos y una pausa entre lotes, y la ejecución se interrumpe
+ * en cuanto el circuit breaker de WoRMS no está cerrado o el bulkhead no tiene más capacidad libre que
+ * la reservada. Los registros pendientes se refrescan en la siguiente ejecución.</p>
+ */
+@Service
+public class TaxonomyRefreshService {
+
+	private static final Logger log = LoggerFactory.getLogger(TaxonomyRefreshService.class);
+	private final boolean isTraceEnabled = log.isTraceEnabled();
+
+	private final ParasiteRepository parasiteRepository;
+	private final FishRepository fishRepository;
+	private final BioDataClient bioDataClient;
+	private final WormsResiliencePolicy resilience;
+	private final TaxonomyMapper taxonomyMapper;
+	private final TransactionTemplate transactionTemplate;
+	private final boolean enabled;
+	private final Duration maxAge;
+	private final int maxRows;
+	private final int batchSize;
+	private final int concurrency;
+	private final Duration pause;
+	private final int reservedCalls;
+	private final ExecutorService executor;
+	private final Scheduler scheduler;
+	private final AtomicBoolean running = new AtomicBoolean();
+
+	/**
+	 * Constructor de {@code TaxonomyRefreshService}.
+	 *
+	 * @param parasiteRepository  repositorio para acceder a datos de parásitos
+	 * @param fishRepository      repositorio para acceder a datos de peces
+	 * @param bioDataClient       cliente para comunicarse con WoRMS
+	 * @param resilience          políticas de resiliencia de WoRMS, para comprobar su capacidad libre
+	 * @param taxonomyMapper      mapper para convertir información taxonómica
+	 * @param transactionTemplate plantilla para delimitar las transacciones de escritura
+	 * @param enabled             si el refresco está activado
+	 * @param maxAge              antigüedad a partir de la cual se refresca una taxonomía
+	 * @param maxRows             número máximo de peces y de parásitos refrescados en cada ejecución
+	 * @param batchSize           número de nombres por consulta a WoRMS
+	 * @param concurrency         número máximo de consultas simultáneas a WoRMS
+	 * @param pause               pausa entre consultas a WoRMS
+	 * @param reservedCalls       peticiones simultáneas a WoRMS reservadas para el tráfico interactivo
+	 */
+	public TaxonomyRefreshService(ParasiteRepository parasiteRepository, FishRepository fishRepository,
+			BioDataClient bioDataClient, WormsResiliencePolicy resilience, TaxonomyMapper taxonomyMapper,
+			TransactionTemplate transactionTemplate,
+			@Value("${worms.refresh.enabled:true}") boolean enabled,
+			@Value("${worms.refresh.max-age:30d}") Duration maxAge,
+			@Value("${worms.refresh.max-rows:500}") int maxRows,
+			@Value("${worms.refresh.batch-size:50}") int batchSize,
+			@Value("${worms.refresh.concurrency:1}") int concurrency,
+			@Value("${worms.refresh.pause:1s}") Duration pause,
+			@Value("${worms.refresh.reserved-calls:8}") int reservedCalls) {
+		this.parasiteRepository = parasiteRepository;
+		this.fishRepository = fishRepository;
+		this.bioDataClient = bioDataClient;
+		this.resilience = resilience;
+		this.taxonomyMapper = taxonomyMapper;
+		this.transactionTemplate = transactionTemplate;
+		this.enabled = enabled;
+		this.maxAge = maxAge;
+		this.maxRows = maxRows;
+		this.batchSize = batchSize;
+		this.concurrency = concurrency;
+		this.pause = pause;
+		this.reservedCalls = reservedCalls;
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("taxonomy-refresh-");
+		threadFactory.setThreadPriority(Thread.MIN_PRIORITY);
+		threadFactory.setDaemon(true);
+		this.executor = Executors.newSingleThreadExecutor(threadFactory);
+		this.scheduler = Schedulers.fromExecutorService(Executors.newScheduledThreadPool(concurrency, threadFactory));
+	}
+
+	/**
+	 * Lanza periódicamente el refresco en su propio hilo, de modo que no ocupa el hilo de las tareas
+	 * programadas. Si la ejecución anterior no ha terminado, se omite.
+	 */
+	@Scheduled(fixedDelayString = "${worms.refresh.interval:PT15M}", initialDelayString = "${worms.refresh.initial-delay:PT5M}")
+	public void scheduleRefresh() {
+		if (enabled && running.compareAndSet(false, true)) {
+			executor.execute(() -> {
+				try {
+					refreshStaleTaxonomies();
+				} catch (RuntimeException e) {
+					log.warn("Error al refrescar las taxonomías: {}", e.getMessage(), e);
+				} finally {
+					running.set(false);
+				}
+			});
+		}
+	}
+
+	/**
+	 * Refresca la taxonomía de los parásitos y peces más antiguos.
+	 */
+	public void refreshStaleTaxonomies() {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start refreshStaleTaxonomies ########");
+		}
+
+		LocalDateTime staleBefore = LocalDateTime.now().minus(maxAge);
+		int parasites = refreshParasites(staleBefore);
+		int fishes = refreshFishes(staleBefore);
+
+		if (parasites + fishes > 0) {
+			log.info("Taxonomías refrescadas desde WoRMS: {} parásitos y {} peces modificados", parasites, fishes);
+		}
+
+		if (isTraceEnabled) {
+			log.trace("######## End refreshStaleTaxonomies ########");
+		}
+	}
+
+	////////////////////////////
+	//// MÉTODOS AUXILIARES ////
+	////////////////////////////
+
+	/**
+	 * Refresca la taxonomía de los parásitos más antiguos.
+	 *
+	 * @param staleBefore Fecha a partir de la cual la taxonomía se considera actual.
+	 * @return Número de parásitos cuya taxonomía ha cambiado.
+	 */
+	private int refreshParasites(LocalDateTime staleBefore) {
+		List<Parasite> stale = parasiteRepository
+				.findByTaxonomyFetchedAtBeforeOrderByTaxonomyFetchedAtAsc(staleBefore, PageRequest.of(0, maxRows));
+		Map<String, Optional<ApiTaxonomyDTO>> fetched = fetchTaxonomies(
+				stale.stream().map(Parasite::getScientificName).distinct().toList());
+
+		Map<Long, Taxonomy> changed = new HashMap<>();
+		List<Long> unchanged = new ArrayList<>();
+		Map<Long, LocalDateTime> readFetchedAt = new HashMap<>();
+		for (Parasite parasite : stale) {
+			readFetchedAt.put(parasite.getId(), parasite.getTaxonomyFetchedAt());
+			classify(parasite.getId(), parasite.getTaxonomy(), fetched.get(parasite.getScientificName()), changed, unchanged);
+		}
+
+		LocalDateTime fetchedAt = LocalDateTime.now();
+		Integer updated = transactionTemplate.execute(status -> {
+			int applied = 0;
+			if (!changed.isEmpty()) {
+				for (Parasite parasite : parasiteRepository.findAllByIdForUpdate(changed.keySet())) {
+					if (isStillFromWorms(parasite.getTaxonomyFetchedAt(), readFetchedAt.get(parasite.getId()))) {
+						parasite.setTaxonomy(changed.get(parasite.getId()));
+						parasite.setTaxonomyFetchedAt(fetchedAt);
+						applied++;
+					}
+				}
+			}
+			if (!unchanged.isEmpty()) {
+				parasiteRepository.updateTaxonomyFetchedAt(unchanged, staleBefore, fetchedAt);
+			}
+			return applied;
+		});
+		return updated != null ? updated : 0;
+	}
+
+	/**
+	 * Refresca la taxonomía de los peces más antiguos.
+	 *
+	 * @param staleBefore Fecha a partir de la cual la taxonomía se considera actual.
+	 * @return Número de peces cuya taxonomía ha cambiado.
+	 */
+	private int refreshFishes(LocalDateTime staleBefore) {
+		List<Fish> stale = fishRepository
+				.findByTaxonomyFetchedAtBeforeOrderByTaxonomyFetchedAtAsc(staleBefore, PageRequest.of(0, maxRows));
+		Map<String, Optional<ApiTaxonomyDTO>> fetched = fetchTaxonomies(
+				stale.stream().map(Fish::getScientificName).distinct().toList());
+
+		Map<Long, Taxonomy> changed = new HashMap<>();
+		List<Long> unchanged = new ArrayList<>();
+		Map<Long, LocalDateTime> readFetchedAt = new HashMap<>();
+		for (Fish fish : stale) {
+			readFetchedAt.put(fish.getId(), fish.getTaxonomyFetchedAt());
+			classify(fish.getId(), fish.getTaxonomy(), fetched.get(fish.getScientificName()), changed, unchanged);
+		}
+
+		LocalDateTime fetchedAt = LocalDateTime.now();
+		Integer updated = transactionTemplate.execute(status -> {
+			int applied = 0;
+			if (!changed.isEmpty()) {
+				for (Fish fish : fishRepository.findAllByIdForUpdate(changed.keySet())) {
+					if (isStillFromWorms(fish.getTaxonomyFetchedAt(), readFetchedAt.get(fish.getId()))) {
+						fish.setTaxonomy(changed.get(fish.getId()));
+						fish.setTaxonomyFetchedAt(fetchedAt);
+						applied++;
+					}
+				}
+			}
+			if (!unchanged.isEmpty()) {
+				fishRepository.updateTaxonomyFetchedAt(unchanged, staleBefore, fetchedAt);
+			}
+			return applied;
+		});
+		return updated != null ? updated : 0;
+	}
+
+	/**
+	 * Indica si la taxonomía de un registro sigue siendo la leída de WoRMS al empezar el refresco. Si se ha
+	 * editado desde entonces (la edición anula la fecha de obtención) o se ha vuelto a obtener, no se sobrescribe.
+	 *
+	 * @param current Fecha de obtención actual, leída con la fila bloqueada.
+	 * @param read    Fecha de obtención leída al seleccionar los registros a refrescar.
+	 * @return {@code true} si se puede aplicar la taxonomía refrescada.
+	 */
+	private static boolean isStillFromWorms(LocalDateTime current, LocalDateTime read) {
+		return current != null && current.equals(read);
+	}
+
+	/**
+	 * Clasifica un registro según el resultado de la consulta a WoRMS. Los registros que no se han
+	 * llegado a consultar no se clasifican; los que WoRMS ya no contiene conservan su taxonomía.
+	 *
+	 * @param id        ID del registro.
+	 * @param current   Taxonomía actual del registro.
+	 * @param fetched   Resultado de la consulta, o {@code null} si no se ha consultado.
+	 * @param changed   Registros cuya taxonomía ha cambiado, con la nueva taxonomía.
+	 * @param unchanged Registros cuya taxonomía no ha cambiado.
+	 */
+	private void classify(Long id, Taxonomy current, Optional<ApiTaxonomyDTO> fetched, Map<Long, Taxonomy> changed,
+			List<Long> unchanged) {
+		if (fetched == null) {
+			return;
+		}
+		Optional<Taxonomy> taxonomy = fetched.map(taxonomyMapper::convertApiTaxonomyDtoToTaxonomy);
+		if (taxonomy.isPresent() && !taxonomy.get().equals(current)) {
+			changed.put(id, taxonomy.get());
+		} else {
+			unchanged.add(id);
+		}
+	}
+
+	/**
+	 * Consulta a WoRMS la taxonomía de los nombres indicados, por lotes, con el número máximo de lotes
+	 * simultáneos y la pausa configurados. Deja de lanzar lotes en cuanto WoRMS no tiene capacidad libre;
+	 * los lotes que fallan se descartan.
+	 *
+	 * @param scientificNames Nombres científicos a consultar.
+	 * @return Mapa de nombre científico a taxonomía, vacía si WoRMS no lo contiene, solo con los nombres consultados.
+	 */
+	private Map<String, Optional<ApiTaxonomyDTO>> fetchTaxonomies(List<String> scientificNames) {
+		Map<String, Optional<ApiTaxonomyDTO>> fetched = new ConcurrentHashMap<>();
+		Flux.fromIterable(scientificNames)
+				.buffer(batchSize)
+				.delayElements(pause, scheduler)
+				.takeWhile(batch -> resilience.hasSpareCapacity(reservedCalls))
+				.flatMap(batch -> Mono
+						.fromCallable(() -> bioDataClient.fetchFromWoRMS(batch))
+						.subscribeOn(scheduler)
+						.doOnNext(taxonomies -> batch.forEach(name -> fetched.put(name, Optional.ofNullable(taxonomies.get(name)))))
+						.onErrorResume(e -> {
+							log.warn("No se pudo refrescar la taxonomía de un lote de {} nombres: {}", batch.size(), e.getMessage());
+							return Mono.empty();
+						}), concurrency)
+				.blockLast();
+		return fetched;
+	}
+
+	/**
+	 * Detiene los hilos del refresco al cerrar la aplicación.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+		scheduler.dispose();
+	}
+}
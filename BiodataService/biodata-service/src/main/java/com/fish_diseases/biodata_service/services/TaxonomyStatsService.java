@@ -0,0 +1,93 @@
+package com.fish_diseases.biodata_service.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fish_diseases.biodata_service.dtos.TaxonomyCountDTO;
+import com.fish_diseases.biodata_service.exceptions.InvalidTaxonomyQueryException;
+import com.fish_diseases.biodata_service.init.TaxonomyCountsInitializer;
+import com.fish_diseases.biodata_service.utils.TaxonomyRank;
+
+/**
+ * Servicio de recuentos de peces y parásitos por rango taxonómico.
+ *
+ * <p>Los recuentos se leen de {@code taxonomy_counts}, que los triggers creados por
+ * {@link TaxonomyCountsInitializer} mantienen en cada alta, baja o cambio de taxonomía. Cada consulta agrega
+ * como mucho una fila por género distinto, por lo que su coste no depende del número de peces o parásitos.</p>
+ */
+@Service
+public class TaxonomyStatsService {
+
+	private static final Logger log = LoggerFactory.getLogger(TaxonomyStatsService.class);
+	private final boolean isTraceEnabled = log.isTraceEnabled();
+
+	private static final Set<String> ENTITIES = Set.of(TaxonomyCountsInitializer.FISH, TaxonomyCountsInitializer.PARASITE);
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Constructor de {@code TaxonomyStatsService}.
+	 *
+	 * @param jdbcTemplate plantilla JDBC para consultar los recuentos
+	 */
+	public TaxonomyStatsService(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/////////////////////////////
+	//// MÉTODOS DE CONSULTA ////
+	/////////////////////////////
+
+	/**
+	 * Cuenta los peces o parásitos por cada valor de un rango taxonómico, opcionalmente dentro de un taxón de
+	 * rango superior (por ejemplo, las familias de un orden).
+	 *
+	 * @param entity  Tipo de entidad: {@code fish} o {@code parasite}.
+	 * @param rank    Rango por el que se agrega, con el nombre de la propiedad de {@code Taxonomy}.
+	 * @param filters Valores de rangos superiores por los que se filtra.
+	 * @return Recuentos ordenados de mayor a menor.
+	 * @throws InvalidTaxonomyQueryException si la entidad o el rango no existen, o si algún filtro no es de un
+	 *                                       rango superior.
+	 */
+	@Transactional(readOnly = true)
+	public List<TaxonomyCountDTO> countByRank(String entity, String rank, Map<TaxonomyRank, String> filters) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start countByRank ########");
+		}
+
+		TaxonomyRank groupRank = TaxonomyRank.fromProperty(rank).orElseThrow(InvalidTaxonomyQueryException::new);
+		if (!ENTITIES.contains(entity)
+				|| filters.keySet().stream().anyMatch(filterRank -> filterRank.compareTo(groupRank) >= 0)) {
+			throw new InvalidTaxonomyQueryException();
+		}
+
+		StringBuilder sql = new StringBuilder("SELECT ").append(groupRank.column())
+				.append(", sum(total) FROM taxonomy_counts WHERE entity = ?");
+		List<Object> args = new ArrayList<>();
+		args.add(entity);
+		filters.forEach((filterRank, value) -> {
+			sql.append(" AND ").append(filterRank.column()).append(" = ?");
+			args.add(value);
+		});
+		sql.append(" GROUP BY 1 HAVING sum(total) > 0 ORDER BY 2 DESC, 1");
+
+		List<TaxonomyCountDTO> counts = jdbcTemplate.query(sql.toString(),
+				(rs, rowNum) -> new TaxonomyCountDTO(rs.getString(1).isEmpty() ? null : rs.getString(1), rs.getLong(2)),
+				args.toArray());
+
+		if (isTraceEnabled) {
+			log.trace("######## End countByRank ########");
+		}
+
+		return counts;
+	}
+}
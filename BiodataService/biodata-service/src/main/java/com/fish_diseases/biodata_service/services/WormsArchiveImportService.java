@@ -0,0 +1,358 @@
+package com.fish_diseases.biodata_service.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Servicio que importa un Darwin Core Archive de WoRMS a la réplica local de taxonomía.
+ *
+ * <p>Lee los ficheros {@code taxon.txt} y {@code measurementorfact.txt}, ya sea desde el
+ * fichero ZIP del archive o desde un directorio con su contenido descomprimido. Ambos ficheros
+ * se procesan línea a línea, sin cargarlos en memoria, y se insertan en lotes mediante JDBC.
+ * Las columnas se localizan por nombre a partir de la cabecera de cada fichero.</p>
+ *
+ * <p>Cada tipo de medición importado se registra en {@code worms_attribute_imports} en la misma
+ * transacción que sus atributos. El registro se borra al empezar la importación, por lo que la
+ * réplica no responde por los atributos hasta que la importación termina.</p>
+ */
+@Service
+public class WormsArchiveImportService {
+
+	private static final Logger log = LoggerFactory.getLogger(WormsArchiveImportService.class);
+	private final boolean isTraceEnabled = log.isTraceEnabled();
+
+	private static final String TAXON_FILE = "taxon.txt";
+	private static final String MEASUREMENT_FILE = "measurementorfact.txt";
+
+	private static final String UPSERT_TAXON_SQL = "INSERT INTO worms_taxa "
+			+ "(aphia_id, scientific_name, kingdom, phylum, class_name, order_name, family, genus, url, accepted) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+			+ "ON CONFLICT (aphia_id) DO UPDATE SET scientific_name = EXCLUDED.scientific_name, "
+			+ "kingdom = EXCLUDED.kingdom, phylum = EXCLUDED.phylum, class_name = EXCLUDED.class_name, "
+			+ "order_name = EXCLUDED.order_name, family = EXCLUDED.family, genus = EXCLUDED.genus, "
+			+ "url = EXCLUDED.url, accepted = EXCLUDED.accepted";
+
+	private static final String INSERT_ATTRIBUTE_SQL = "INSERT INTO worms_taxon_attributes "
+			+ "(aphia_id, measurement_type, measurement_value) VALUES (?, ?, ?)";
+
+	private static final String INSERT_ATTRIBUTE_IMPORT_SQL = "INSERT INTO worms_attribute_imports "
+			+ "(measurement_type, imported_at) VALUES (?, CURRENT_TIMESTAMP)";
+
+	private static final String TAXON_URL = "https://www.marinespecies.org/aphia.php?p=taxdetails&id=";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final int batchSize;
+	private final Set<String> measurementTypes;
+
+	/**
+	 * Constructor de {@code WormsArchiveImportService}.
+	 *
+	 * @param jdbcTemplate        plantilla JDBC para las inserciones por lotes
+	 * @param transactionTemplate plantilla para ejecutar el reemplazo de los atributos en una transacción
+	 * @param batchSize           número de filas por lote de inserción
+	 * @param measurementTypes    tipos de medición que se importan (por ejemplo, "Host/prey")
+	 */
+	public WormsArchiveImportService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+			@Value("${worms.archive.batch-size:5000}") int batchSize,
+			@Value("${worms.archive.measurement-types:Host/prey}") Set<String> measurementTypes) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.batchSize = batchSize;
+		this.measurementTypes = measurementTypes
+				.stream()
+				.map(type -> type.trim().toLowerCase(Locale.ROOT))
+				.collect(Collectors.toSet());
+	}
+
+	/**
+	 * Importa el archive indicado. Los taxones se insertan o actualizan por AphiaID; los atributos
+	 * se reemplazan por completo, ya que el archive no les asigna un identificador estable.
+	 *
+	 * @param archivePath Ruta al fichero ZIP del archive o al directorio con su contenido.
+	 * @throws UncheckedIOException si no se puede leer el archive.
+	 */
+	public void importArchive(Path archivePath) {
+		if (isTraceEnabled) {
+			log.trace("######## Start importArchive ########");
+		}
+
+		// Hasta que terminen los atributos, la réplica no responde por ellos
+		jdbcTemplate.update("DELETE FROM worms_attribute_imports");
+
+		try {
+			if (Files.isDirectory(archivePath)) {
+				try (InputStream taxa = Files.newInputStream(archivePath.resolve(TAXON_FILE))) {
+					importTaxa(taxa);
+				}
+				try (InputStream attributes = Files.newInputStream(archivePath.resolve(MEASUREMENT_FILE))) {
+					importAttributes(attributes);
+				}
+			} else {
+				try (ZipFile zip = new ZipFile(archivePath.toFile(), StandardCharsets.UTF_8)) {
+					try (InputStream taxa = zip.getInputStream(findEntry(zip, TAXON_FILE))) {
+						importTaxa(taxa);
+					}
+					try (InputStream attributes = zip.getInputStream(findEntry(zip, MEASUREMENT_FILE))) {
+						importAttributes(attributes);
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("No se pudo leer el archive de WoRMS " + archivePath, e);
+		}
+
+		if (isTraceEnabled) {
+			log.trace("######## End importArchive ########");
+		}
+	}
+
+	/**
+	 * Importa los taxones del fichero {@code taxon.txt}.
+	 *
+	 * @param input Contenido del fichero.
+	 * @throws IOException si no se puede leer el fichero.
+	 */
+	private void importTaxa(InputStream input) throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+		Map<String, Integer> columns = readHeader(reader, TAXON_FILE);
+		int idColumn = requireColumn(columns, TAXON_FILE, "taxonid", "id");
+		int nameColumn = requireColumn(columns, TAXON_FILE, "scientificname");
+
+		List<Object[]> batch = new ArrayList<>(batchSize);
+		long imported = 0;
+		String line;
+		while ((line = reader.readLine()) != null) {
+			String[] fields = line.split("\t", -1);
+			Integer aphiaId = parseAphiaId(field(fields, idColumn));
+			String scientificName = field(fields, nameColumn);
+			if (aphiaId == null || scientificName == null) {
+				continue;
+			}
+
+			String references = field(fields, columns.get("references"));
+			String status = field(fields, columns.get("taxonomicstatus"));
+			batch.add(new Object[] {
+					aphiaId,
+					scientificName,
+					field(fields, columns.get("kingdom")),
+					field(fields, columns.get("phylum")),
+					field(fields, columns.get("class")),
+					field(fields, columns.get("order")),
+					field(fields, columns.get("family")),
+					field(fields, columns.get("genus")),
+					references != null ? references : TAXON_URL + aphiaId,
+					"accepted".equalsIgnoreCase(status) });
+
+			if (batch.size() == batchSize) {
+				imported += flush(UPSERT_TAXON_SQL, batch);
+			}
+		}
+		imported += flush(UPSERT_TAXON_SQL, batch);
+
+		log.info("Taxones de WoRMS importados: {}", imported);
+	}
+
+	/**
+	 * Importa los atributos del fichero {@code measurementorfact.txt}, solo de los tipos configurados.
+	 * Los atributos anteriores se reemplazan en una única transacción, que también registra los tipos
+	 * importados como completos, de modo que los atributos solo se usan si la importación termina.
+	 *
+	 * @param input Contenido del fichero.
+	 * @throws IOException si no se puede leer el fichero.
+	 */
+	private void importAttributes(InputStream input) throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+		Map<String, Integer> columns = readHeader(reader, MEASUREMENT_FILE);
+		int idColumn = requireColumn(columns, MEASUREMENT_FILE, "id", "coreid", "taxonid");
+		int typeColumn = requireColumn(columns, MEASUREMENT_FILE, "measurementtype");
+		int valueColumn = requireColumn(columns, MEASUREMENT_FILE, "measurementvalue");
+
+		Long imported = transactionTemplate.execute(status -> {
+			jdbcTemplate.update("DELETE FROM worms_taxon_attributes");
+			long inserted;
+			try {
+				inserted = insertAttributes(reader, idColumn, typeColumn, valueColumn);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			jdbcTemplate.batchUpdate(INSERT_ATTRIBUTE_IMPORT_SQL,
+					measurementTypes.stream().map(type -> new Object[] { type }).toList());
+			return inserted;
+		});
+
+		log.info("Atributos de WoRMS importados: {}", imported);
+	}
+
+	/**
+	 * Inserta en lotes los atributos de los tipos configurados.
+	 *
+	 * @param reader      Lector del fichero, situado tras la cabecera.
+	 * @param idColumn    Posición de la columna del identificador del taxón.
+	 * @param typeColumn  Posición de la columna del tipo de medición.
+	 * @param valueColumn Posición de la columna del valor de la medición.
+	 * @return Número de atributos insertados.
+	 * @throws IOException si no se puede leer el fichero.
+	 */
+	private long insertAttributes(BufferedReader reader, int idColumn, int typeColumn, int valueColumn)
+			throws IOException {
+		List<Object[]> batch = new ArrayList<>(batchSize);
+		long imported = 0;
+		String line;
+		while ((line = reader.readLine()) != null) {
+			String[] fields = line.split("\t", -1);
+			String type = field(fields, typeColumn);
+			if (type == null || !measurementTypes.contains(type.toLowerCase(Locale.ROOT))) {
+				continue;
+			}
+			Integer aphiaId = parseAphiaId(field(fields, idColumn));
+			if (aphiaId == null) {
+				continue;
+			}
+
+			batch.add(new Object[] { aphiaId, type, field(fields, valueColumn) });
+
+			if (batch.size() == batchSize) {
+				imported += flush(INSERT_ATTRIBUTE_SQL, batch);
+			}
+		}
+		imported += flush(INSERT_ATTRIBUTE_SQL, batch);
+		return imported;
+	}
+
+	/**
+	 * Inserta un lote de filas y lo vacía.
+	 *
+	 * @param sql   Sentencia de inserción.
+	 * @param batch Filas del lote.
+	 * @return Número de filas enviadas.
+	 */
+	private int flush(String sql, List<Object[]> batch) {
+		int size = batch.size();
+		if (size > 0) {
+			jdbcTemplate.batchUpdate(sql, batch);
+			batch.clear();
+		}
+		return size;
+	}
+
+	/**
+	 * Busca un fichero del archive por nombre, sin distinguir mayúsculas ni el directorio que lo contiene.
+	 *
+	 * @param zip      Archive abierto.
+	 * @param fileName Nombre del fichero.
+	 * @return La entrada del fichero.
+	 * @throws IOException si el archive no contiene el fichero.
+	 */
+	private static ZipEntry findEntry(ZipFile zip, String fileName) throws IOException {
+		return zip
+				.stream()
+				.filter(entry -> !entry.isDirectory())
+				.filter(entry -> {
+					String name = entry.getName().toLowerCase(Locale.ROOT);
+					return name.equals(fileName) || name.endsWith("/" + fileName);
+				})
+				.findFirst()
+				.orElseThrow(() -> new IOException("El archive no contiene " + fileName));
+	}
+
+	/**
+	 * Lee la cabecera de un fichero del archive y devuelve la posición de cada columna,
+	 * con el nombre en minúsculas.
+	 *
+	 * @param reader   Lector del fichero.
+	 * @param fileName Nombre del fichero, para los mensajes de error.
+	 * @return Mapa de nombre de columna a posición.
+	 * @throws IOException si el fichero está vacío o no se puede leer.
+	 */
+	private static Map<String, Integer> readHeader(BufferedReader reader, String fileName) throws IOException {
+		String header = reader.readLine();
+		if (header == null) {
+			throw new IOException("El fichero " + fileName + " está vacío");
+		}
+		if (header.startsWith("\uFEFF")) {
+			header = header.substring(1);
+		}
+
+		Map<String, Integer> columns = new HashMap<>();
+		String[] names = header.split("\t", -1);
+		for (int i = 0; i < names.length; i++) {
+			columns.putIfAbsent(names[i].trim().toLowerCase(Locale.ROOT), i);
+		}
+		return columns;
+	}
+
+	/**
+	 * Devuelve la posición de la primera columna existente entre las indicadas.
+	 *
+	 * @param columns  Columnas del fichero.
+	 * @param fileName Nombre del fichero, para los mensajes de error.
+	 * @param names    Nombres aceptados para la columna, en orden de preferencia.
+	 * @return Posición de la columna.
+	 * @throws IOException si el fichero no contiene ninguna de las columnas.
+	 */
+	private static int requireColumn(Map<String, Integer> columns, String fileName, String... names) throws IOException {
+		for (String name : names) {
+			Integer index = columns.get(name);
+			if (index != null) {
+				return index;
+			}
+		}
+		throw new IOException("El fichero " + fileName + " no contiene la columna " + names[0]);
+	}
+
+	/**
+	 * Obtiene el valor de una columna, o {@code null} si la columna no existe o está vacía.
+	 *
+	 * @param fields Campos de la línea.
+	 * @param index  Posición de la columna, o {@code null} si el fichero no la contiene.
+	 * @return Valor de la columna.
+	 */
+	private static String field(String[] fields, Integer index) {
+		if (index == null || index >= fields.length) {
+			return null;
+		}
+		String value = fields[index].trim();
+		return value.isEmpty() ? null : value;
+	}
+
+	/**
+	 * Extrae el AphiaID de un identificador del archive, que puede ser un LSID
+	 * ({@code urn:lsid:marinespecies.org:taxname:127160}) o directamente el número.
+	 *
+	 * @param id Identificador del taxón.
+	 * @return El AphiaID, o {@code null} si el identificador no es válido.
+	 */
+	private static Integer parseAphiaId(String id) {
+		if (id == null) {
+			return null;
+		}
+		try {
+			return Integer.valueOf(id.substring(id.lastIndexOf(':') + 1));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package com.fish_diseases.biodata_service.services;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fish_diseases.biodata_service.dtos.ApiTaxonomyDTO;
+
+/**
+ * Datos de WoRMS obtenidos para completar un pez o parásito: su taxonomía, los nombres científicos
+ * de los organismos relacionados (hospedadores o parásitos) y la taxonomía de los relacionados que
+ * aún no existen en la base de datos.
+ *
+ * <p>Se obtienen antes de abrir la transacción, de modo que la escritura posterior no hace
+ * llamadas remotas.</p>
+ *
+ * @param taxonomy           Taxonomía del organismo.
+ * @param relatedNames       Nombres científicos de los organismos relacionados.
+ * @param relatedTaxonomies  Taxonomía de los organismos relacionados que no existían, por nombre científico.
+ */
+record WormsEnrichment(ApiTaxonomyDTO taxonomy, List<String> relatedNames,
+		Map<String, ApiTaxonomyDTO> relatedTaxonomies) {
+}
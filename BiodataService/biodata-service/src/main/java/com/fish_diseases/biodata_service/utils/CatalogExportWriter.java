@@ -0,0 +1,177 @@
+package com.fish_diseases.biodata_service.utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Escribe las filas de una consulta de exportación en NDJSON o CSV a medida que se leen del cursor.
+ *
+ * <p>Cada columna de la consulta es un campo del registro exportado, con la etiqueta de la columna como nombre.
+ * Las columnas de tipo array (los nombres de los peces o parásitos relacionados) se escriben como un array
+ * JSON o, en CSV, separadas por {@code |}. Solo se mantiene en memoria la fila actual y el buffer de salida.</p>
+ */
+public final class CatalogExportWriter implements ResultSetExtractor<Long> {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final String CSV_ARRAY_SEPARATOR = "|";
+
+	private final CatalogFormat format;
+	private final OutputStream out;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * Constructor de la clase {@link CatalogExportWriter}.
+	 *
+	 * @param format       Formato de salida.
+	 * @param out          Flujo de la respuesta; no se cierra al terminar.
+	 * @param objectMapper Serializador JSON de la aplicación.
+	 */
+	public CatalogExportWriter(CatalogFormat format, OutputStream out, ObjectMapper objectMapper) {
+		this.format = format;
+		this.out = out;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Recorre el cursor y escribe cada fila.
+	 *
+	 * @param rs Resultado de la consulta de exportación.
+	 * @return Número de filas escritas.
+	 */
+	@Override
+	public Long extractData(ResultSet rs) throws SQLException {
+		try {
+			return format == CatalogFormat.CSV ? writeCsv(rs) : writeNdjson(rs);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private long writeNdjson(ResultSet rs) throws SQLException, IOException {
+		ResultSetMetaData metaData = rs.getMetaData();
+		long rows = 0;
+		try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+			json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			json.setRootValueSeparator(null);
+			while (rs.next()) {
+				json.writeStartObject();
+				for (int column = 1; column <= metaData.getColumnCount(); column++) {
+					json.writeFieldName(metaData.getColumnLabel(column));
+					writeJsonValue(json, rs, column, metaData.getColumnType(column));
+				}
+				json.writeEndObject();
+				json.writeRaw('\n');
+				rows++;
+			}
+		}
+		return rows;
+	}
+
+	private static void writeJsonValue(JsonGenerator json, ResultSet rs, int column, int type)
+			throws SQLException, IOException {
+		switch (type) {
+			case Types.BIGINT, Types.INTEGER, Types.SMALLINT -> {
+				long value = rs.getLong(column);
+				if (rs.wasNull()) {
+					json.writeNull();
+				} else {
+					json.writeNumber(value);
+				}
+			}
+			case Types.ARRAY -> {
+				json.writeStartArray();
+				for (Object element : readArray(rs, column)) {
+					json.writeString(String.valueOf(element));
+				}
+				json.writeEndArray();
+			}
+			default -> {
+				String value = readText(rs, column, type);
+				if (value == null) {
+					json.writeNull();
+				} else {
+					json.writeString(value);
+				}
+			}
+		}
+	}
+
+	private long writeCsv(ResultSet rs) throws SQLException, IOException {
+		ResultSetMetaData metaData = rs.getMetaData();
+		Writer csv = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+		for (int column = 1; column <= metaData.getColumnCount(); column++) {
+			if (column > 1) {
+				csv.write(',');
+			}
+			writeCsvField(csv, metaData.getColumnLabel(column));
+		}
+		csv.write("\r\n");
+		long rows = 0;
+		while (rs.next()) {
+			for (int column = 1; column <= metaData.getColumnCount(); column++) {
+				if (column > 1) {
+					csv.write(',');
+				}
+				int type = metaData.getColumnType(column);
+				String value = type == Types.ARRAY
+						? String.join(CSV_ARRAY_SEPARATOR, Arrays.stream(readArray(rs, column)).map(String::valueOf).toList())
+						: readText(rs, column, type);
+				writeCsvField(csv, value);
+			}
+			csv.write("\r\n");
+			rows++;
+		}
+		csv.flush();
+		return rows;
+	}
+
+	private static void writeCsvField(Writer csv, String value) throws IOException {
+		if (value == null) {
+			return;
+		}
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+			csv.write(value);
+			return;
+		}
+		csv.write('"');
+		csv.write(value.replace("\"", "\"\""));
+		csv.write('"');
+	}
+
+	private static String readText(ResultSet rs, int column, int type) throws SQLException {
+		if (type == Types.TIMESTAMP) {
+			LocalDateTime value = rs.getObject(column, LocalDateTime.class);
+			return value == null ? null : value.toString();
+		}
+		return rs.getString(column);
+	}
+
+	private static Object[] readArray(ResultSet rs, int column) throws SQLException {
+		Array array = rs.getArray(column);
+		if (array == null) {
+			return new Object[0];
+		}
+		try {
+			return (Object[]) array.getArray();
+		} finally {
+			array.free();
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package com.fish_diseases.biodata_service.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Formatos de la exportación e importación masiva del catálogo. Cada formato se identifica en la API por su extensión.
+ */
+public enum CatalogFormat {
+
+	NDJSON("ndjson", MediaType.APPLICATION_NDJSON),
+	CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8));
+
+	private final String extension;
+	private final MediaType mediaType;
+
+	CatalogFormat(String extension, MediaType mediaType) {
+		this.extension = extension;
+		this.mediaType = mediaType;
+	}
+
+	/**
+	 * Extensión del fichero, que es también el nombre del formato en la API.
+	 *
+	 * @return Extensión sin punto.
+	 */
+	public String extension() {
+		return extension;
+	}
+
+	/**
+	 * Tipo de contenido de la respuesta.
+	 *
+	 * @return Tipo MIME del formato.
+	 */
+	public MediaType mediaType() {
+		return mediaType;
+	}
+
+	/**
+	 * Busca un formato por su extensión, sin distinguir mayúsculas.
+	 *
+	 * @param extension Extensión indicada en la petición.
+	 * @return {@link Optional} con el formato, vacío si no existe.
+	 */
+	public static Optional<CatalogFormat> fromExtension(String extension) {
+		return Arrays.stream(values()).filter(format -> format.extension.equalsIgnoreCase(extension)).findFirst();
+	}
+}
@@ -0,0 +1,158 @@
+package com.fish_diseases.biodata_service.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lector de ficheros CSV (RFC 4180) registro a registro, sin cargar el fichero en memoria.
+ *
+ * <p>Los campos pueden ir entre comillas dobles, con comillas duplicadas, comas y saltos de línea en su
+ * interior. La primera línea es la cabecera y cada registro se devuelve como un mapa de nombre de columna a
+ * valor, con {@code null} para los campos vacíos.</p>
+ */
+public final class CsvRecordReader {
+
+	private final Reader reader;
+	private List<String> header;
+	private long line = 1;
+	private long recordLine;
+	private int next = -2;
+
+	/**
+	 * Constructor de la clase {@link CsvRecordReader}.
+	 *
+	 * @param reader Contenido del fichero; se recomienda un lector con buffer.
+	 */
+	public CsvRecordReader(Reader reader) {
+		this.reader = reader;
+	}
+
+	/**
+	 * Lee el siguiente registro.
+	 *
+	 * @return Mapa de columna a valor, o {@code null} si no quedan registros.
+	 * @throws MalformedRecordException si un campo entre comillas no se cierra.
+	 * @throws IOException              si no se puede leer el fichero.
+	 */
+	public Map<String, String> next() throws IOException {
+		if (header == null) {
+			List<String> names = readFields();
+			if (names == null) {
+				return null;
+			}
+			if (!names.isEmpty() && names.get(0) != null && names.get(0).startsWith("\uFEFF")) {
+				names.set(0, names.get(0).substring(1));
+			}
+			header = names;
+		}
+		List<String> fields;
+		do {
+			fields = readFields();
+		} while (fields != null && fields.size() == 1 && fields.get(0) == null);
+		if (fields == null) {
+			return null;
+		}
+		Map<String, String> record = new HashMap<>();
+		for (int i = 0; i < header.size() && i < fields.size(); i++) {
+			if (header.get(i) != null) {
+				record.put(header.get(i).trim(), fields.get(i));
+			}
+		}
+		return record;
+	}
+
+	/**
+	 * Número de línea del fichero en el que empieza el último registro leído.
+	 *
+	 * @return Línea del registro, empezando en 1 por la cabecera.
+	 */
+	public long line() {
+		return recordLine;
+	}
+
+	private List<String> readFields() throws IOException {
+		int c = read();
+		if (c == -1) {
+			return null;
+		}
+		recordLine = line;
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		while (true) {
+			if (quoted) {
+				if (c == -1) {
+					throw new MalformedRecordException("Comillas sin cerrar en el registro de la línea " + recordLine);
+				}
+				if (c == '"') {
+					int following = read();
+					if (following == '"') {
+						field.append('"');
+					} else {
+						quoted = false;
+						c = following;
+						continue;
+					}
+				} else {
+					if (c == '\n') {
+						line++;
+					}
+					field.append((char) c);
+				}
+			} else if (c == '"' && field.isEmpty()) {
+				quoted = true;
+			} else if (c == ',') {
+				fields.add(value(field));
+				field.setLength(0);
+			} else if (c == '\r' || c == '\n' || c == -1) {
+				if (c == '\r') {
+					int following = read();
+					if (following != '\n') {
+						unread(following);
+					}
+				}
+				if (c != -1) {
+					line++;
+				}
+				fields.add(value(field));
+				return fields;
+			} else {
+				field.append((char) c);
+			}
+			c = read();
+		}
+	}
+
+	private static String value(StringBuilder field) {
+		return field.isEmpty() ? null : field.toString();
+	}
+
+	private int read() throws IOException {
+		if (next != -2) {
+			int c = next;
+			next = -2;
+			return c;
+		}
+		return reader.read();
+	}
+
+	private void unread(int c) {
+		next = c;
+	}
+
+	/**
+	 * Error de formato del fichero, a diferencia de un fallo al leerlo. Tras él no se pueden leer más registros.
+	 */
+	public static final class MalformedRecordException extends IOException {
+
+		private static final long serialVersionUID = 1L;
+
+		private MalformedRecordException(String message) {
+			super(message);
+		}
+	}
+}
@@ -0,0 +1,312 @@
+package com.fish_diseases.biodata_service.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fish_diseases.biodata_service.dtos.GraphNodeDTO;
+import com.fish_diseases.biodata_service.dtos.HostParasiteEdgeDTO;
+import com.fish_diseases.biodata_service.dtos.SharedNeighboursDTO;
+
+/**
+ * Grafo bipartito e inmutable de peces y parásitos, construido a partir de {@code parasite_fishes}.
+ *
+ * <p>Cada lado numera sus nodos con enteros consecutivos y guarda la adyacencia en formato CSR: un array
+ * {@code offsets} con el inicio de los vecinos de cada nodo y un array {@code adjacency} con los índices de los
+ * vecinos, ordenados. Recorrer los vecinos de un nodo es leer un tramo contiguo de un {@code int[]}, sin objetos
+ * intermedios ni accesos a la base de datos.</p>
+ *
+ * <p>Solo contiene los peces y parásitos con alguna relación. Al ser inmutable, se puede consultar desde
+ * cualquier hilo; los cambios producen un grafo nuevo con {@link #withParasiteHosts(Set, Collection)}.</p>
+ */
+public final class HostParasiteGraph {
+
+	public static final String FISH = "fish";
+	public static final String PARASITE = "parasite";
+
+	private final Side fishes;
+	private final Side parasites;
+
+	private HostParasiteGraph(Side fishes, Side parasites) {
+		this.fishes = fishes;
+		this.parasites = parasites;
+	}
+
+	/**
+	 * Construye el grafo a partir de sus relaciones.
+	 *
+	 * @param edges Relaciones entre parásitos y peces, sin repetir.
+	 * @return Grafo con los nodos de las relaciones.
+	 */
+	public static HostParasiteGraph of(Collection<HostParasiteEdgeDTO> edges) {
+		NodeTable fishNodes = new NodeTable(FISH);
+		NodeTable parasiteNodes = new NodeTable(PARASITE);
+		int[] edgeFishes = new int[edges.size()];
+		int[] edgeParasites = new int[edges.size()];
+		int edge = 0;
+		for (HostParasiteEdgeDTO dto : edges) {
+			edgeFishes[edge] = fishNodes.indexOf(dto.fishId(), dto.fishScientificName());
+			edgeParasites[edge] = parasiteNodes.indexOf(dto.parasiteId(), dto.parasiteScientificName());
+			edge++;
+		}
+		Side fishes = fishNodes.toSide(edgeFishes, edgeParasites);
+		Side parasites = parasiteNodes.toSide(edgeParasites, edgeFishes);
+		fishes.other = parasites;
+		parasites.other = fishes;
+		return new HostParasiteGraph(fishes, parasites);
+	}
+
+	/**
+	 * Devuelve un grafo nuevo en el que los hospedadores de los parásitos indicados se sustituyen por los de las
+	 * relaciones recibidas. Un parásito sin relaciones nuevas queda fuera del grafo.
+	 *
+	 * @param parasiteIds IDs de los parásitos cuyos hospedadores han cambiado.
+	 * @param edges       Relaciones actuales de esos parásitos.
+	 * @return Grafo actualizado.
+	 */
+	public HostParasiteGraph withParasiteHosts(Set<Long> parasiteIds, Collection<HostParasiteEdgeDTO> edges) {
+		List<HostParasiteEdgeDTO> merged = new ArrayList<>(parasites.adjacency.length + edges.size());
+		for (int parasite = 0; parasite < parasites.size(); parasite++) {
+			if (parasiteIds.contains(parasites.ids[parasite])) {
+				continue;
+			}
+			for (int i = parasites.offsets[parasite]; i < parasites.offsets[parasite + 1]; i++) {
+				int fish = parasites.adjacency[i];
+				merged.add(new HostParasiteEdgeDTO(parasites.ids[parasite], parasites.names[parasite], fishes.ids[fish],
+						fishes.names[fish]));
+			}
+		}
+		merged.addAll(edges);
+		return of(merged);
+	}
+
+	/**
+	 * Número de relaciones del grafo.
+	 *
+	 * @return Número de aristas.
+	 */
+	public int edgeCount() {
+		return parasites.adjacency.length;
+	}
+
+	/**
+	 * Parásitos de un pez.
+	 *
+	 * @param fishScientificName Nombre científico del pez.
+	 * @return Parásitos del pez, vacío si no tiene.
+	 */
+	public List<GraphNodeDTO> parasitesOf(String fishScientificName) {
+		return neighbours(fishes, fishScientificName);
+	}
+
+	/**
+	 * Peces hospedadores de un parásito.
+	 *
+	 * @param parasiteScientificName Nombre científico del parásito.
+	 * @return Hospedadores del parásito, vacío si no tiene.
+	 */
+	public List<GraphNodeDTO> hostsOf(String parasiteScientificName) {
+		return neighbours(parasites, parasiteScientificName);
+	}
+
+	/**
+	 * Peces que comparten al menos {@code minShared} parásitos con el indicado.
+	 *
+	 * @param fishScientificName Nombre científico del pez.
+	 * @param minShared          Número mínimo de parásitos comunes.
+	 * @return Peces relacionados, de más a menos parásitos comunes.
+	 */
+	public List<SharedNeighboursDTO> fishesSharingParasites(String fishScientificName, int minShared) {
+		return sharingNeighbours(fishes, fishScientificName, minShared);
+	}
+
+	/**
+	 * Parásitos que comparten al menos {@code minShared} hospedadores con el indicado.
+	 *
+	 * @param parasiteScientificName Nombre científico del parásito.
+	 * @param minShared              Número mínimo de hospedadores comunes.
+	 * @return Parásitos relacionados, de más a menos hospedadores comunes.
+	 */
+	public List<SharedNeighboursDTO> parasitesSharingHosts(String parasiteScientificName, int minShared) {
+		return sharingNeighbours(parasites, parasiteScientificName, minShared);
+	}
+
+	/**
+	 * Peces y parásitos a como mucho {@code maxHops} saltos de un pez.
+	 *
+	 * @param fishScientificName Nombre científico del pez.
+	 * @param maxHops            Número máximo de saltos.
+	 * @return Nodos alcanzados, ordenados por distancia.
+	 */
+	public List<GraphNodeDTO> withinHopsOfFish(String fishScientificName, int maxHops) {
+		return withinHops(fishes, fishScientificName, maxHops);
+	}
+
+	/**
+	 * Peces y parásitos a como mucho {@code maxHops} saltos de un parásito.
+	 *
+	 * @param parasiteScientificName Nombre científico del parásito.
+	 * @param maxHops                Número máximo de saltos.
+	 * @return Nodos alcanzados, ordenados por distancia.
+	 */
+	public List<GraphNodeDTO> withinHopsOfParasite(String parasiteScientificName, int maxHops) {
+		return withinHops(parasites, parasiteScientificName, maxHops);
+	}
+
+	private static List<GraphNodeDTO> neighbours(Side side, String scientificName) {
+		Integer node = side.indexByName.get(scientificName);
+		if (node == null) {
+			return List.of();
+		}
+		List<GraphNodeDTO> neighbours = new ArrayList<>(side.offsets[node + 1] - side.offsets[node]);
+		for (int i = side.offsets[node]; i < side.offsets[node + 1]; i++) {
+			neighbours.add(side.other.node(side.adjacency[i], 1));
+		}
+		return neighbours;
+	}
+
+	private static List<SharedNeighboursDTO> sharingNeighbours(Side side, String scientificName, int minShared) {
+		Integer node = side.indexByName.get(scientificName);
+		if (node == null) {
+			return List.of();
+		}
+		Map<Integer, Integer> shared = new HashMap<>();
+		Side other = side.other;
+		for (int i = side.offsets[node]; i < side.offsets[node + 1]; i++) {
+			int neighbour = side.adjacency[i];
+			for (int j = other.offsets[neighbour]; j < other.offsets[neighbour + 1]; j++) {
+				if (other.adjacency[j] != node) {
+					shared.merge(other.adjacency[j], 1, Integer::sum);
+				}
+			}
+		}
+		return shared.entrySet().stream()
+				.filter(entry -> entry.getValue() >= minShared)
+				.map(entry -> new SharedNeighboursDTO(side.ids[entry.getKey()], side.names[entry.getKey()], entry.getValue()))
+				.sorted(Comparator.comparingInt(SharedNeighboursDTO::shared).reversed()
+						.thenComparing(SharedNeighboursDTO::scientificName))
+				.toList();
+	}
+
+	private static List<GraphNodeDTO> withinHops(Side start, String scientificName, int maxHops) {
+		Integer node = start.indexByName.get(scientificName);
+		if (node == null) {
+			return List.of();
+		}
+		BitSet visitedStart = new BitSet(start.size());
+		BitSet visitedOther = new BitSet(start.other.size());
+		visitedStart.set(node);
+		List<GraphNodeDTO> reached = new ArrayList<>();
+		int[] frontier = { node };
+		Side side = start;
+		for (int hop = 1; hop <= maxHops && frontier.length > 0; hop++) {
+			Side next = side.other;
+			BitSet visited = next == start ? visitedStart : visitedOther;
+			int[] nextFrontier = new int[0];
+			int size = 0;
+			for (int current : frontier) {
+				for (int i = side.offsets[current]; i < side.offsets[current + 1]; i++) {
+					int neighbour = side.adjacency[i];
+					if (!visited.get(neighbour)) {
+						visited.set(neighbour);
+						reached.add(next.node(neighbour, hop));
+						if (size == nextFrontier.length) {
+							nextFrontier = Arrays.copyOf(nextFrontier, Math.max(16, size * 2));
+						}
+						nextFrontier[size++] = neighbour;
+					}
+				}
+			}
+			frontier = Arrays.copyOf(nextFrontier, size);
+			side = next;
+		}
+		return reached;
+	}
+
+	/**
+	 * Nodos de un lado del grafo con su adyacencia CSR.
+	 */
+	private static final class Side {
+
+		private final String type;
+		private final long[] ids;
+		private final String[] names;
+		private final Map<String, Integer> indexByName;
+		private final int[] offsets;
+		private final int[] adjacency;
+		private Side other;
+
+		private Side(String type, long[] ids, String[] names, Map<String, Integer> indexByName, int[] offsets,
+				int[] adjacency) {
+			this.type = type;
+			this.ids = ids;
+			this.names = names;
+			this.indexByName = indexByName;
+			this.offsets = offsets;
+			this.adjacency = adjacency;
+		}
+
+		private int size() {
+			return ids.length;
+		}
+
+		private GraphNodeDTO node(int index, int distance) {
+			return new GraphNodeDTO(type, ids[index], names[index], distance);
+		}
+	}
+
+	/**
+	 * Asignación de índices consecutivos a los nodos de un lado durante la construcción.
+	 */
+	private static final class NodeTable {
+
+		private final String type;
+		private final Map<Long, Integer> indexById = new HashMap<>();
+		private final List<Long> ids = new ArrayList<>();
+		private final List<String> names = new ArrayList<>();
+
+		private NodeTable(String type) {
+			this.type = type;
+		}
+
+		private int indexOf(Long id, String name) {
+			return indexById.computeIfAbsent(id, key -> {
+				ids.add(id);
+				names.add(name);
+				return ids.size() - 1;
+			});
+		}
+
+		private Side toSide(int[] edgeSources, int[] edgeTargets) {
+			int size = ids.size();
+			int[] offsets = new int[size + 1];
+			for (int source : edgeSources) {
+				offsets[source + 1]++;
+			}
+			for (int node = 0; node < size; node++) {
+				offsets[node + 1] += offsets[node];
+			}
+			int[] adjacency = new int[edgeSources.length];
+			int[] cursor = Arrays.copyOf(offsets, size);
+			for (int edge = 0; edge < edgeSources.length; edge++) {
+				adjacency[cursor[edgeSources[edge]]++] = edgeTargets[edge];
+			}
+			for (int node = 0; node < size; node++) {
+				Arrays.sort(adjacency, offsets[node], offsets[node + 1]);
+			}
+			long[] idArray = ids.stream().mapToLong(Long::longValue).toArray();
+			String[] nameArray = names.toArray(String[]::new);
+			Map<String, Integer> indexByName = new HashMap<>(size * 2);
+			for (int node = 0; node < size; node++) {
+				indexByName.put(nameArray[node], node);
+			}
+			return new Side(type, idArray, nameArray, indexByName, offsets, adjacency);
+		}
+	}
+}
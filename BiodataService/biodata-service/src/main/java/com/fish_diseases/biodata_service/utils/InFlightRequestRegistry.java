@@ -0,0 +1,89 @@
+package com.fish_diseases.biodata_service.utils;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fish_diseases.biodata_service.exceptions.WormsUnavailableException;
+
+/**
+ * Registro de peticiones en curso que agrupa las llamadas concurrentes con la misma clave.
+ *
+ * La primera llamada para una clave ejecuta la tarea; las que llegan mientras sigue en curso
+ * esperan a que termine y reciben su mismo resultado (o su misma excepción), en lugar de repetir
+ * el trabajo. Cuando la tarea termina, la clave se libera y la siguiente llamada vuelve a ejecutarla.
+ * Las llamadas que esperan lo hacen como máximo {@code worms.in-flight.max-wait}; si la tarea no ha
+ * terminado para entonces se responde que WoRMS no está disponible, sin cancelar la tarea en curso.
+ */
+@Component
+public class InFlightRequestRegistry {
+
+	private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+	private final Duration maxWait;
+
+	public InFlightRequestRegistry(@Value("${worms.in-flight.max-wait:60s}") Duration maxWait) {
+		this.maxWait = maxWait;
+	}
+
+    /**
+     * Ejecuta la tarea asociada a la clave, o espera el resultado de la ejecución en curso si ya
+     * hay una para la misma clave.
+     *
+     * @param key Clave que identifica la petición (por ejemplo, el tipo de entidad y su nombre científico).
+     * @param task Tarea a ejecutar si no hay ninguna en curso para la clave.
+     * @return Resultado de la tarea, compartido por todas las llamadas concurrentes con la misma clave.
+     */
+	@SuppressWarnings("unchecked")
+	public <T> T execute(String key, Supplier<T> task) {
+		CompletableFuture<Object> future = new CompletableFuture<>();
+		CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+		if (existing != null) {
+			return (T) await(existing);
+		}
+
+		try {
+			T result = task.get();
+			future.complete(result);
+			return result;
+		} catch (Throwable e) {
+			// Cualquier fallo (incluidos los Error) completa el futuro para no dejar bloqueadas las esperas
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, future);
+		}
+	}
+
+    /**
+     * Espera el resultado de una ejecución en curso, relanzando la excepción original si falló.
+     *
+     * @param future Ejecución en curso.
+     * @return Resultado de la ejecución.
+     * @throws WormsUnavailableException si la ejecución no termina dentro del tiempo máximo de espera.
+     */
+	private Object await(CompletableFuture<Object> future) {
+		try {
+			// Se espera sobre una copia para que el plazo de esta llamada no afecte a las demás
+			return future.copy().orTimeout(maxWait.toMillis(), TimeUnit.MILLISECONDS).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof TimeoutException) {
+				throw new WormsUnavailableException();
+			}
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package com.fish_diseases.biodata_service.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.fish_diseases.biodata_service.exceptions.InvalidPaginationException;
+
+/**
+ * Cursor opaco de la paginación por clave (keyset) de los listados de peces y parásitos.
+ *
+ * <p>Guarda la propiedad de ordenación, su dirección y el valor del último elemento devuelto, de modo
+ * que la página siguiente se obtiene con {@code WHERE propiedad > valor ORDER BY propiedad LIMIT n}
+ * sobre un índice único. El coste de cada página depende solo de su tamaño y no de su posición, y el
+ * resultado no se desplaza aunque se inserten o eliminen filas entre dos peticiones.</p>
+ *
+ * <p>Se transmite como Base64 URL-safe de {@code propiedad\ndirección\nvalor}.</p>
+ *
+ * @param property  Propiedad de ordenación ({@code id} o {@code scientificName}).
+ * @param direction Dirección de la ordenación.
+ * @param value     Valor de la propiedad en el último elemento de la página anterior.
+ */
+public record KeysetCursor(String property, Sort.Direction direction, String value) {
+
+	public static final String ID = "id";
+	public static final String SCIENTIFIC_NAME = "scientificName";
+
+	/**
+	 * Propiedades por las que se puede ordenar un listado. Solo se admiten columnas únicas e indexadas,
+	 * para que las páginas profundas no obliguen a ordenar la tabla completa.
+	 */
+	public static final Set<String> SORTABLE_PROPERTIES = Set.of(ID, SCIENTIFIC_NAME);
+
+	/**
+	 * Decodifica un cursor recibido en la petición.
+	 *
+	 * @param token Cursor codificado.
+	 * @return Cursor decodificado.
+	 * @throws InvalidPaginationException si el cursor no es válido.
+	 */
+	public static KeysetCursor decode(String token) {
+		try {
+			String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\n", 3);
+			if (parts.length != 3 || !SORTABLE_PROPERTIES.contains(parts[0])) {
+				throw new InvalidPaginationException();
+			}
+			KeysetCursor cursor = new KeysetCursor(parts[0], Sort.Direction.fromString(parts[1]), parts[2]);
+			if (ID.equals(cursor.property())) {
+				cursor.idValue();
+			}
+			return cursor;
+		} catch (IllegalArgumentException e) {
+			throw new InvalidPaginationException();
+		}
+	}
+
+	/**
+	 * Codifica el cursor para devolverlo al cliente.
+	 *
+	 * @return Cursor codificado.
+	 */
+	public String encode() {
+		String raw = property + "\n" + direction.name() + "\n" + value;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Devuelve el valor del cursor como ID.
+	 *
+	 * @return ID del último elemento de la página anterior.
+	 * @throws InvalidPaginationException si el valor no es un ID.
+	 */
+	public Long idValue() {
+		try {
+			return Long.valueOf(value);
+		} catch (NumberFormatException e) {
+			throw new InvalidPaginationException();
+		}
+	}
+
+	/**
+	 * Comprueba la ordenación solicitada y añade el ID como criterio de desempate, para que el orden
+	 * sea estable entre páginas.
+	 *
+	 * @param pageable Paginación solicitada.
+	 * @return Paginación con la ordenación completa; por defecto, por nombre científico.
+	 * @throws InvalidPaginationException si se ordena por una propiedad no admitida.
+	 */
+	public static Pageable stableOrder(Pageable pageable) {
+		Sort sort = pageable.getSort().isSorted() ? pageable.getSort() : Sort.by(SCIENTIFIC_NAME);
+		for (Sort.Order order : sort) {
+			if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+				throw new InvalidPaginationException();
+			}
+		}
+		if (sort.getOrderFor(ID) == null) {
+			sort = sort.and(Sort.by(ID));
+		}
+		return pageable.isPaged()
+				? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort)
+				: Pageable.unpaged(sort);
+	}
+
+	/**
+	 * Construye el cursor de la página siguiente a partir del último elemento de una página completa.
+	 *
+	 * @param sort               Ordenación de la página.
+	 * @param pageSize           Tamaño de página solicitado.
+	 * @param returned           Número de elementos devueltos.
+	 * @param lastId             ID del último elemento.
+	 * @param lastScientificName Nombre científico del último elemento.
+	 * @return Cursor de la página siguiente, o vacío si la página no está completa.
+	 */
+	public static Optional<KeysetCursor> next(Sort sort, int pageSize, int returned, Long lastId,
+			String lastScientificName) {
+		if (returned == 0 || returned < pageSize) {
+			return Optional.empty();
+		}
+		Sort.Order primary = sort.iterator().next();
+		String value = ID.equals(primary.getProperty()) ? String.valueOf(lastId) : lastScientificName;
+		return Optional.of(new KeysetCursor(primary.getProperty(), primary.getDirection(), value));
+	}
+
+	/**
+	 * Devuelve la ordenación que representa el cursor.
+	 *
+	 * @return Ordenación por la propiedad del cursor.
+	 */
+	public Sort sort() {
+		return Sort.by(direction, property);
+	}
+}
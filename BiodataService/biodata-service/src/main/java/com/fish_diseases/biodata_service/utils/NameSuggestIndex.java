@@ -0,0 +1,129 @@
+package com.fish_diseases.biodata_service.utils;
+
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import com.fish_diseases.biodata_service.dtos.NameSuggestionDTO;
+
+/**
+ * Índice en memoria de nombres científicos y comunes para el autocompletado por prefijo.
+ *
+ * <p>Cada nombre se guarda normalizado (minúsculas, sin tildes ni diacríticos y con los espacios
+ * colapsados) en un mapa ordenado, con el ID como desempate para admitir nombres comunes repetidos. Una
+ * búsqueda recorre solo las claves que empiezan por el prefijo, por lo que su coste depende del número de
+ * sugerencias pedidas y no del tamaño del catálogo.</p>
+ *
+ * <p>Las lecturas no se bloquean. Las escrituras se serializan entre sí, de modo que las claves de un
+ * elemento se sustituyen de forma consistente al actualizarlo.</p>
+ */
+public class NameSuggestIndex {
+
+	private static final char KEY_SEPARATOR = '\u0000';
+	private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private volatile NavigableMap<String, NameSuggestionDTO> names = new ConcurrentSkipListMap<>();
+	private volatile Map<Long, List<String>> keysById = new HashMap<>();
+
+	/**
+	 * Normaliza un nombre o prefijo para compararlo sin distinguir mayúsculas ni tildes.
+	 *
+	 * @param text Texto original.
+	 * @return Texto normalizado.
+	 */
+	public static String normalize(String text) {
+		String withoutMarks = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+		return WHITESPACE.matcher(withoutMarks.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+	}
+
+	/**
+	 * Devuelve los elementos con algún nombre que empieza por el prefijo, en orden alfabético del nombre
+	 * coincidente y sin repetir elementos.
+	 *
+	 * @param prefix Prefijo buscado.
+	 * @param limit  Número máximo de sugerencias.
+	 * @return Sugerencias encontradas.
+	 */
+	public List<NameSuggestionDTO> suggest(String prefix, int limit) {
+		String normalizedPrefix = normalize(prefix);
+		Map<Long, NameSuggestionDTO> suggestions = new LinkedHashMap<>();
+		for (Map.Entry<String, NameSuggestionDTO> entry : names.tailMap(normalizedPrefix, true).entrySet()) {
+			if (!entry.getKey().startsWith(normalizedPrefix) || suggestions.size() == limit) {
+				break;
+			}
+			suggestions.putIfAbsent(entry.getValue().id(), entry.getValue());
+		}
+		return List.copyOf(suggestions.values());
+	}
+
+	/**
+	 * Añade un elemento al índice o sustituye sus nombres si ya estaba.
+	 *
+	 * @param suggestion Elemento con sus nombres.
+	 */
+	public synchronized void put(NameSuggestionDTO suggestion) {
+		put(names, keysById, suggestion);
+	}
+
+	/**
+	 * Elimina un elemento del índice.
+	 *
+	 * @param id ID del elemento.
+	 */
+	public synchronized void remove(Long id) {
+		List<String> keys = keysById.remove(id);
+		if (keys != null) {
+			keys.forEach(names::remove);
+		}
+	}
+
+	/**
+	 * Sustituye el contenido completo del índice. El índice nuevo se construye aparte y se publica de una vez,
+	 * así que las búsquedas concurrentes ven el contenido anterior hasta que termina.
+	 *
+	 * @param suggestions Elementos con sus nombres.
+	 */
+	public synchronized void replaceAll(Collection<NameSuggestionDTO> suggestions) {
+		NavigableMap<String, NameSuggestionDTO> newNames = new ConcurrentSkipListMap<>();
+		Map<Long, List<String>> newKeysById = new HashMap<>();
+		suggestions.forEach(suggestion -> put(newNames, newKeysById, suggestion));
+		keysById = newKeysById;
+		names = newNames;
+	}
+
+	/**
+	 * Número de elementos del índice.
+	 *
+	 * @return Número de elementos indexados.
+	 */
+	public int size() {
+		return keysById.size();
+	}
+
+	private static void put(NavigableMap<String, NameSuggestionDTO> names, Map<Long, List<String>> keysById,
+			NameSuggestionDTO suggestion) {
+		List<String> oldKeys = keysById.remove(suggestion.id());
+		if (oldKeys != null) {
+			oldKeys.forEach(names::remove);
+		}
+		List<String> keys = Stream.of(suggestion.scientificName(), suggestion.commonName())
+				.filter(Objects::nonNull)
+				.map(NameSuggestIndex::normalize)
+				.filter(name -> !name.isEmpty())
+				.distinct()
+				.map(name -> name + KEY_SEPARATOR + suggestion.id())
+				.toList();
+		keys.forEach(key -> names.put(key, suggestion));
+		keysById.put(suggestion.id(), keys);
+	}
+}
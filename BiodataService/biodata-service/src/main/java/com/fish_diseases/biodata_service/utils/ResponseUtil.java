@@ -1,15 +1,33 @@
 package com.fish_diseases.biodata_service.utils;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.fish_diseases.biodata_service.dtos.ResourceVersionDTO;
+import com.fish_diseases.biodata_service.entities.EnrichmentTask;
 
 /**
  * Utilidad para construir respuestas HTTP personalizadas con mensajes internacionales.
@@ -23,9 +41,15 @@ import org.springframework.stereotype.Component;
 @Component
 public class ResponseUtil {
 
+	public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+	public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
 	@Autowired
 	private MessageSource messageSource;
 
+	@Autowired
+	private ObjectMapper objectMapper;
+
     /**
      * Construye una respuesta de éxito con un mensaje personalizado.
      * 
@@ -39,6 +63,103 @@ public class ResponseUtil {
         return ResponseEntity.status(status).body(response);
     }
 
+    /**
+     * Construye una respuesta 202 (ACCEPTED) para una tarea de enriquecimiento en segundo plano,
+     * con la URL de consulta de su estado en la cabecera {@code Location}.
+     * 
+     * @param task Tarea de enriquecimiento encolada.
+     * @return ResponseEntity con la tarea y el código de estado 202 (ACCEPTED).
+     */
+    public ResponseEntity<EnrichmentTask> accepted(EnrichmentTask task) {
+        URI statusUri = ServletUriComponentsBuilder
+                .fromCurrentContextPath()
+                .path("/enrichment/{taskId}")
+                .buildAndExpand(task.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(statusUri).body(task);
+    }
+
+    /**
+     * Construye la respuesta de una página de un listado: 204 (NO_CONTENT) si la página está vacía y
+     * 200 (OK) con sus elementos en otro caso. La cabecera {@code X-Total-Count} lleva el número total
+     * de elementos, cuando se conoce, y {@code X-Next-Cursor} el cursor de la página siguiente, cuando existe.
+     * 
+     * @param content    Elementos de la página.
+     * @param totalCount Número total de elementos, o null si no se ha calculado.
+     * @param nextCursor Cursor de la página siguiente, si existe.
+     * @return ResponseEntity con los elementos de la página y las cabeceras de paginación.
+     */
+    public <T> ResponseEntity<List<T>> page(List<T> content, Long totalCount, Optional<KeysetCursor> nextCursor) {
+        HttpHeaders headers = new HttpHeaders();
+        if (totalCount != null) {
+            headers.set(TOTAL_COUNT_HEADER, String.valueOf(totalCount));
+        }
+        nextCursor.ifPresent(cursor -> headers.set(NEXT_CURSOR_HEADER, cursor.encode()));
+        if (content.isEmpty()) {
+            return ResponseEntity.noContent().headers(headers).build();
+        }
+        return ResponseEntity.ok().headers(headers).body(content);
+    }
+
+    /**
+     * Resuelve una petición condicional a partir de la versión del recurso, antes de cargarlo. Calcula un
+     * {@code ETag} fuerte con el recurso y su versión, lo compara con {@code If-None-Match} y lo añade a la
+     * respuesta. No se usa {@code Last-Modified} ni se atiende {@code If-Modified-Since}: las bajas de registros
+     * y de relaciones no cambian ninguna fecha, solo el número de filas y la suma de sus IDs que recoge el
+     * {@code ETag}, por lo que una fecha respondería 304 con datos obsoletos.
+     * 
+     * @param request  Petición en curso.
+     * @param resource Identificador del recurso y de los parámetros que cambian su contenido.
+     * @param version  Versión del recurso, vacía si no existe.
+     * @return true si la respuesta ya es 304 (NOT_MODIFIED) y no hay que generar el cuerpo.
+     */
+    public boolean notModified(WebRequest request, String resource, Optional<ResourceVersionDTO> version) {
+        if (version.isEmpty()) {
+            return false;
+        }
+        ResourceVersionDTO current = version.get();
+        String etag = "\"" + DigestUtils.md5DigestAsHex((resource + ':' + current).getBytes(StandardCharsets.UTF_8)) + "\"";
+        return request.checkNotModified(etag);
+    }
+
+    /**
+     * Construye una respuesta 200 (OK) en formato NDJSON que se envía a medida que se genera.
+     * El productor se ejecuta fuera del hilo de la petición y escribe cada elemento como una línea
+     * JSON, que se envía al cliente inmediatamente.
+     * 
+     * @param producer Productor que recibe la función con la que emitir cada elemento.
+     * @return ResponseEntity con el cuerpo en streaming.
+     */
+    public <T> ResponseEntity<StreamingResponseBody> ndjson(Consumer<Consumer<T>> producer) {
+        StreamingResponseBody body = out -> producer.accept(item -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(item));
+                out.write('\n');
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Construye una respuesta 200 (OK) con una exportación que se descarga como fichero y se escribe
+     * a medida que se genera, fuera del hilo de la petición.
+     * 
+     * @param name   Nombre del fichero, sin extensión.
+     * @param format Formato de la exportación.
+     * @param body   Escritor del contenido en el flujo de la respuesta.
+     * @return ResponseEntity con el cuerpo en streaming.
+     */
+    public ResponseEntity<StreamingResponseBody> export(String name, CatalogFormat format, StreamingResponseBody body) {
+        ContentDisposition attachment = ContentDisposition.attachment().filename(name + "." + format.extension()).build();
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, attachment.toString())
+                .body(body);
+    }
+
     /**
      * Construye una respuesta de error general con un mensaje personalizado.
      * 
@@ -0,0 +1,55 @@
+package com.fish_diseases.biodata_service.utils;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Rangos taxonómicos por los que se pueden agregar los recuentos de {@code taxonomy_counts}, de mayor a menor.
+ * Cada rango se identifica en la API con el nombre de la propiedad de {@code Taxonomy} y se corresponde con
+ * una columna de la tabla.
+ */
+public enum TaxonomyRank {
+
+	KINGDOM("kingdom", "kingdom"),
+	PHYLUM("phylum", "phylum"),
+	CLASS("className", "class_name"),
+	ORDER("orderName", "order_name"),
+	FAMILY("family", "family"),
+	GENUS("genus", "genus");
+
+	private final String property;
+	private final String column;
+
+	TaxonomyRank(String property, String column) {
+		this.property = property;
+		this.column = column;
+	}
+
+	/**
+	 * Nombre del rango en la API, igual que la propiedad de {@code Taxonomy}.
+	 *
+	 * @return Nombre de la propiedad.
+	 */
+	public String property() {
+		return property;
+	}
+
+	/**
+	 * Columna del rango en {@code taxonomy_counts}.
+	 *
+	 * @return Nombre de la columna.
+	 */
+	public String column() {
+		return column;
+	}
+
+	/**
+	 * Busca un rango por el nombre de su propiedad.
+	 *
+	 * @param property Nombre de la propiedad.
+	 * @return {@link Optional} con el rango, vacío si no existe.
+	 */
+	public static Optional<TaxonomyRank> fromProperty(String property) {
+		return Arrays.stream(values()).filter(rank -> rank.property.equals(property)).findFirst();
+	}
+}
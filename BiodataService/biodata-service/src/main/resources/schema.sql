@@ -0,0 +1,41 @@
+-- Tablas que se conservan entre reinicios. Hibernate no las crea ni las elimina
+-- (ver DurableTablesSchemaFilterProvider), por lo que se definen aquí de forma idempotente.
+
+-- Caché persistente de respuestas de WoRMS
+CREATE TABLE IF NOT EXISTS worms_cache (
+    cache_key VARCHAR(512) PRIMARY KEY,
+    payload TEXT,
+    expires_at TIMESTAMP(6) NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_worms_cache_expires_at ON worms_cache (expires_at);
+
+-- Réplica local de la taxonomía de WoRMS (importada desde un Darwin Core Archive)
+CREATE TABLE IF NOT EXISTS worms_taxa (
+    aphia_id INTEGER PRIMARY KEY,
+    scientific_name VARCHAR(255) NOT NULL,
+    kingdom VARCHAR(255),
+    phylum VARCHAR(255),
+    class_name VARCHAR(255),
+    order_name VARCHAR(255),
+    family VARCHAR(255),
+    genus VARCHAR(255),
+    url TEXT,
+    accepted BOOLEAN NOT NULL DEFAULT FALSE
+);
+CREATE INDEX IF NOT EXISTS idx_worms_taxa_scientific_name ON worms_taxa (scientific_name);
+
+-- Réplica local de los atributos de WoRMS (por ejemplo, Host/prey)
+CREATE TABLE IF NOT EXISTS worms_taxon_attributes (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    aphia_id INTEGER NOT NULL,
+    measurement_type VARCHAR(255) NOT NULL,
+    measurement_value VARCHAR(255)
+);
+CREATE INDEX IF NOT EXISTS idx_worms_taxon_attributes_aphia_type ON worms_taxon_attributes (aphia_id, measurement_type);
+
+-- Tipos de medición cuya última importación de atributos terminó. La réplica solo responde
+-- por los atributos de los tipos registrados aquí
+CREATE TABLE IF NOT EXISTS worms_attribute_imports (
+    measurement_type VARCHAR(255) PRIMARY KEY,
+    imported_at TIMESTAMP(6) NOT NULL
+);
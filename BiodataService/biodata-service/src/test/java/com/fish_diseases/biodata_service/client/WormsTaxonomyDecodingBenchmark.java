@@ -0,0 +1,110 @@
+package com.fish_diseases.biodata_service.client;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fish_diseases.biodata_service.dtos.ApiFishDTO;
+import com.fish_diseases.biodata_service.dtos.ApiTaxonomyDTO;
+
+/**
+ * Benchmark JMH que compara el coste de convertir una respuesta de AphiaRecordsByName en un
+ * {@link ApiFishDTO} con la decodificación tipada directa frente al camino anterior basado en
+ * {@code Map<String, Object>} (decodificación genérica, conversión a DTO, vuelta a mapas anidados
+ * y nueva conversión a DTO).
+ *
+ * <p>Se ejecuta desde el IDE con {@link #main(String[])}, que activa el perfilador de GC para
+ * mostrar los bytes asignados por operación ({@code gc.alloc.rate.norm}).</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WormsTaxonomyDecodingBenchmark {
+
+	private static final TypeReference<Map<String, Object>[]> MAP_ARRAY_TYPE = new TypeReference<>() {};
+
+	private static final byte[] RESPONSE = """
+			[{"AphiaID":127160,"url":"https://www.marinespecies.org/aphia.php?p=taxdetails&id=127160",
+			"scientificname":"Solea solea","authority":"(Linnaeus, 1758)","status":"accepted",
+			"unacceptreason":null,"taxonRankID":220,"rank":"Species","valid_AphiaID":127160,
+			"valid_name":"Solea solea","valid_authority":"(Linnaeus, 1758)","parentNameUsageID":126132,
+			"kingdom":"Animalia","phylum":"Chordata","class":"Teleostei","order":"Pleuronectiformes",
+			"family":"Soleidae","genus":"Solea","citation":"Froese, R. and D. Pauly. Editors. (2024). FishBase.",
+			"lsid":"urn:lsid:marinespecies.org:taxname:127160","isMarine":1,"isBrackish":1,"isFreshwater":0,
+			"isTerrestrial":0,"isExtinct":null,"match_type":"exact","modified":"2023-01-11T07:47:34.937Z"}]
+			""".getBytes(StandardCharsets.UTF_8);
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	/**
+	 * Camino tipado: la respuesta se decodifica directamente en {@link ApiTaxonomyDTO}.
+	 */
+	@Benchmark
+	public ApiFishDTO typedDecode() throws Exception {
+		ApiTaxonomyDTO taxonomy = objectMapper.readValue(RESPONSE, ApiTaxonomyDTO[].class)[0];
+		return ApiFishDTO.builder().scientificName(taxonomy.getScientificName()).taxonomy(taxonomy).build();
+	}
+
+	/**
+	 * Camino anterior: mapas genéricos, conversión manual a DTO, mapas anidados y nueva conversión.
+	 */
+	@Benchmark
+	@SuppressWarnings("unchecked")
+	public ApiFishDTO mapRoundTrip() throws Exception {
+		ApiTaxonomyDTO taxonomy = mapToTaxonomy(objectMapper.readValue(RESPONSE, MAP_ARRAY_TYPE)[0]);
+
+		Map<String, Object> fishData = Map.of("scientificName", taxonomy.getScientificName(), "taxonomy",
+				Map.of("AphiaID", taxonomy.getAphiaID(), "scientificname", taxonomy.getScientificName(),
+						"kingdom", taxonomy.getKingdom(), "phylum", taxonomy.getPhylum(),
+						"class", taxonomy.getClassName(), "order", taxonomy.getOrderName(),
+						"family", taxonomy.getFamily(), "genus", taxonomy.getGenus()));
+
+		return ApiFishDTO
+				.builder()
+				.scientificName(fishData.get("scientificName").toString())
+				.taxonomy(mapToTaxonomy((Map<String, Object>) fishData.get("taxonomy")))
+				.build();
+	}
+
+	private static ApiTaxonomyDTO mapToTaxonomy(Map<String, Object> data) {
+		return ApiTaxonomyDTO
+				.builder()
+				.aphiaID((Integer) data.get("AphiaID"))
+				.scientificName((String) data.get("scientificname"))
+				.kingdom((String) data.get("kingdom"))
+				.phylum((String) data.get("phylum"))
+				.className((String) data.get("class"))
+				.orderName((String) data.get("order"))
+				.family((String) data.get("family"))
+				.genus((String) data.get("genus"))
+				.url((String) data.get("url"))
+				.build();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(WormsTaxonomyDecodingBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build())
+				.run();
+	}
+}
@@ -0,0 +1,56 @@
+package com.fish_diseases.biodata_service.config;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.fish_diseases.biodata_service.repositories.FishRepository;
+import com.fish_diseases.biodata_service.repositories.ParasiteRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Clase base para los tests de repositorios. Levanta una base de datos PostgreSQL desechable
+ * (Testcontainers), compartida por todas las clases de test, de modo que los tests nunca se
+ * ejecutan contra la base de datos configurada del servicio. Activa las estadísticas de
+ * Hibernate para poder contar las sentencias ejecutadas.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public abstract class BaseRepositoryTest {
+
+	@ServiceConnection
+	protected static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16.1");
+
+	static {
+		POSTGRES.start();
+	}
+
+	@Autowired
+	protected ParasiteRepository parasiteRepository;
+
+	@Autowired
+	protected FishRepository fishRepository;
+
+	@Autowired
+	protected EntityManager entityManager;
+
+	@Autowired
+	protected EntityManagerFactory entityManagerFactory;
+
+	/**
+	 * Devuelve las estadísticas de Hibernate, vacías a partir de este momento.
+	 *
+	 * @return Estadísticas de Hibernate.
+	 */
+	protected Statistics clearedStatistics() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		return statistics;
+	}
+}
@@ -0,0 +1,149 @@
+package com.fish_diseases.biodata_service.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fish_diseases.biodata_service.config.BaseRepositoryTest;
+import com.fish_diseases.biodata_service.entities.Fish;
+import com.fish_diseases.biodata_service.entities.Parasite;
+
+/**
+ * Benchmark de la creación masiva de hospedadores: crea 10.000 peces asociados a un parásito en una
+ * única transacción y registra el tiempo empleado y el número de sentencias de cada estrategia.
+ *
+ * <p>La referencia reproduce con JDBC lo que obligaban los IDs {@code IDENTITY}: cada pez se inserta con
+ * su propia sentencia para obtener su ID, y cada fila de la tabla de unión con otra. La estrategia actual
+ * guarda las entidades con IDs de secuencia reservados de 50 en 50 y {@code hibernate.jdbc.batch_size=50},
+ * y el test falla si deja de agrupar las inserciones en lotes.</p>
+ *
+ * <p>El benchmark lleva la etiqueta {@code benchmark} y no se ejecuta por defecto; para lanzarlo se usa
+ * {@code mvn test -Dbenchmark.excluded-groups= -Dtest=BulkHostInsertBenchmarkTest}. La comprobación del
+ * agrupamiento con pocos hospedadores sí forma parte de la batería habitual.</p>
+ */
+class BulkHostInsertBenchmarkTest extends BaseRepositoryTest {
+
+	private static final Logger log = LoggerFactory.getLogger(BulkHostInsertBenchmarkTest.class);
+
+	private static final int HOSTS = 10_000;
+
+	private static final int SMALL_HOSTS = 200;
+
+	@Test
+	void createsHostsInBatches() {
+		Statistics statistics = clearedStatistics();
+		createHosts(SMALL_HOSTS);
+
+		assertBatched(statistics, SMALL_HOSTS);
+	}
+
+	@Test
+	@Tag("benchmark")
+	void bulkCreatesHostsInBatches() {
+		long identityStatements = HOSTS * 2L + 1;
+		long identityMillis = insertRowByRow();
+
+		Statistics statistics = clearedStatistics();
+		long start = System.nanoTime();
+		createHosts(HOSTS);
+
+		long batchedMillis = (System.nanoTime() - start) / 1_000_000;
+		log.info("{} hospedadores creados fila a fila (IDENTITY) en {} ms con {} sentencias", HOSTS, identityMillis,
+				identityStatements);
+		log.info("{} hospedadores creados por lotes (secuencias) en {} ms con {} sentencias preparadas", HOSTS,
+				batchedMillis, statistics.getPrepareStatementCount());
+
+		assertBatched(statistics, HOSTS);
+	}
+
+	/**
+	 * Crea los hospedadores y un parásito asociado a todos ellos, y vuelca las inserciones.
+	 *
+	 * @param hosts Número de hospedadores.
+	 */
+	private void createHosts(int hosts) {
+		List<Fish> fishes = new ArrayList<>(hosts);
+		for (int i = 0; i < hosts; i++) {
+			fishes.add(Fish.builder().scientificName("Benchmark host " + i).build());
+		}
+
+		Parasite parasite = Parasite.builder().scientificName("Benchmark parasite").build();
+		parasite.getFishes().addAll(fishRepository.saveAll(fishes));
+		parasiteRepository.save(parasite);
+		entityManager.flush();
+	}
+
+	private static void assertBatched(Statistics statistics, int hosts) {
+		assertEquals(hosts + 1, statistics.getEntityInsertCount());
+		assertTrue(statistics.getPrepareStatementCount() < hosts / 10,
+				"Las inserciones deben agruparse en lotes: " + statistics.getPrepareStatementCount() + " sentencias");
+	}
+
+	/**
+	 * Inserta los mismos hospedadores en tablas temporales con IDs {@code IDENTITY}, fila a fila y
+	 * recuperando cada ID generado, como hacía Hibernate antes de usar secuencias.
+	 *
+	 * @return Tiempo empleado en milisegundos.
+	 */
+	private long insertRowByRow() {
+		return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+			try (Statement ddl = connection.createStatement()) {
+				ddl.execute("CREATE TEMPORARY TABLE identity_fishes (id BIGINT GENERATED BY DEFAULT AS IDENTITY "
+						+ "PRIMARY KEY, scientific_name VARCHAR(255) NOT NULL) ON COMMIT DROP");
+				ddl.execute("CREATE TEMPORARY TABLE identity_parasites (id BIGINT GENERATED BY DEFAULT AS IDENTITY "
+						+ "PRIMARY KEY, scientific_name VARCHAR(255) NOT NULL) ON COMMIT DROP");
+				ddl.execute("CREATE TEMPORARY TABLE identity_parasite_fishes (parasite_id BIGINT NOT NULL, "
+						+ "fish_id BIGINT NOT NULL) ON COMMIT DROP");
+			}
+
+			long start = System.nanoTime();
+			List<Long> fishIds = new ArrayList<>(HOSTS);
+			try (PreparedStatement insertFish = connection.prepareStatement(
+					"INSERT INTO identity_fishes (scientific_name) VALUES (?)", Statement.RETURN_GENERATED_KEYS)) {
+				for (int i = 0; i < HOSTS; i++) {
+					insertFish.setString(1, "Benchmark host " + i);
+					insertFish.executeUpdate();
+					fishIds.add(generatedId(insertFish));
+				}
+			}
+
+			long parasiteId;
+			try (PreparedStatement insertParasite = connection.prepareStatement(
+					"INSERT INTO identity_parasites (scientific_name) VALUES (?)", Statement.RETURN_GENERATED_KEYS)) {
+				insertParasite.setString(1, "Benchmark parasite");
+				insertParasite.executeUpdate();
+				parasiteId = generatedId(insertParasite);
+			}
+
+			try (PreparedStatement insertLink = connection.prepareStatement(
+					"INSERT INTO identity_parasite_fishes (parasite_id, fish_id) VALUES (?, ?)")) {
+				for (Long fishId : fishIds) {
+					insertLink.setLong(1, parasiteId);
+					insertLink.setLong(2, fishId);
+					insertLink.executeUpdate();
+				}
+			}
+			return (System.nanoTime() - start) / 1_000_000;
+		});
+	}
+
+	private static long generatedId(PreparedStatement statement) throws SQLException {
+		try (ResultSet keys = statement.getGeneratedKeys()) {
+			keys.next();
+			return keys.getLong(1);
+		}
+	}
+}
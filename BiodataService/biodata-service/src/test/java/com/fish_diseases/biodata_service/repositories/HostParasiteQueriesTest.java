@@ -0,0 +1,63 @@
+package com.fish_diseases.biodata_service.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fish_diseases.biodata_service.config.BaseRepositoryTest;
+import com.fish_diseases.biodata_service.entities.Fish;
+import com.fish_diseases.biodata_service.entities.Parasite;
+
+/**
+ * Comprueba que los listados de parásitos de un pez y de hospedadores de un parásito se resuelven
+ * con una única sentencia SQL, incluida la carga de las colecciones que se serializan en la respuesta.
+ */
+class HostParasiteQueriesTest extends BaseRepositoryTest {
+
+	private static final String FISH_A = "Test fish A";
+	private static final String FISH_B = "Test fish B";
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		Fish fishA = fishRepository.save(Fish.builder().scientificName(FISH_A).build());
+		Fish fishB = fishRepository.save(Fish.builder().scientificName(FISH_B).build());
+		for (int i = 0; i < 5; i++) {
+			Parasite parasite = Parasite.builder().scientificName("Test parasite " + i).build();
+			parasite.getFishes().add(fishA);
+			if (i % 2 == 0) {
+				parasite.getFishes().add(fishB);
+			}
+			parasiteRepository.save(parasite);
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		statistics = clearedStatistics();
+	}
+
+	@Test
+	void parasitesOfFishAreLoadedWithTheirHostsInOneStatement() {
+		List<Parasite> parasites = parasiteRepository.findParasitesOfFish(FISH_A);
+
+		assertEquals(5, parasites.size());
+		int hosts = parasites.stream().mapToInt(parasite -> parasite.getFishes().size()).sum();
+		assertEquals(8, hosts);
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	void hostsOfParasiteAreLoadedWithTheirParasitesInOneStatement() {
+		List<Fish> fishes = fishRepository.findHostsOfParasite("Test parasite 0");
+
+		assertEquals(List.of(FISH_A, FISH_B), fishes.stream().map(Fish::getScientificName).toList());
+		int parasites = fishes.stream().mapToInt(fish -> fish.getParasites().size()).sum();
+		assertEquals(8, parasites);
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+}
@@ -0,0 +1,63 @@
+package com.fish_diseases.biodata_service.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fish_diseases.biodata_service.config.BaseRepositoryTest;
+import com.fish_diseases.biodata_service.entities.Fish;
+import com.fish_diseases.biodata_service.entities.Parasite;
+
+/**
+ * Comprueba que la relación entre peces y parásitos solo se escribe en {@code parasite_fishes} desde
+ * {@link Parasite#getFishes()}, el lado propietario, tal como la guardan la creación masiva y el
+ * enriquecimiento de peces.
+ */
+class ParasiteFishLinkTest extends BaseRepositoryTest {
+
+	private static final String PARASITE = "Test parasite";
+
+	@BeforeEach
+	void setUp() {
+		parasiteRepository.save(Parasite.builder().scientificName(PARASITE).build());
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	void linksAreWrittenFromTheOwningSide() {
+		Parasite parasite = parasiteRepository.findByScientificNameIn(List.of(PARASITE)).get(0);
+		List<Fish> fishes = fishRepository.saveAll(List.of(Fish.builder().scientificName("Test fish A").build(),
+				Fish.builder().scientificName("Test fish B").build()));
+		for (Fish fish : fishes) {
+			parasite.getFishes().add(fish);
+			fish.setParasites(Set.of(parasite));
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		assertEquals(2, countLinks());
+		assertEquals(2, fishRepository.findHostsOfParasite(PARASITE).size());
+	}
+
+	@Test
+	void linksAreNotWrittenFromTheInverseSide() {
+		Parasite parasite = parasiteRepository.findByScientificNameIn(List.of(PARASITE)).get(0);
+		Fish fish = Fish.builder().scientificName("Test fish A").build();
+		fish.setParasites(Set.of(parasite));
+		fishRepository.save(fish);
+		entityManager.flush();
+
+		assertEquals(0, countLinks());
+	}
+
+	private long countLinks() {
+		return ((Number) entityManager
+				.createNativeQuery("SELECT COUNT(*) FROM parasite_fishes")
+				.getSingleResult()).longValue();
+	}
+}
@@ -14,6 +14,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import com.fish_diseases.treatment_service.exceptions.InvalidChangeFeedQueryException;
 import com.fish_diseases.treatment_service.exceptions.LaboratoryMethodNotFoundException;
 import com.fish_diseases.treatment_service.exceptions.TreatmentNotFoundException;
 import com.fish_diseases.treatment_service.utils.ResponseUtil;
@@ -52,6 +53,15 @@ public class GlobalExceptionHandler {
 		return responseUtil.error("error.laboratoryMethodNotFound", HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Maneja excepciones de tipo {@link InvalidChangeFeedQueryException}.
+     * Devuelve un mensaje de error con código 400 (BAD_REQUEST).
+     */
+    @ExceptionHandler(InvalidChangeFeedQueryException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidChangeFeedQueryException() {
+		return responseUtil.error("error.invalidChangeFeedQuery", HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * Maneja violaciones de integridad de datos (por ejemplo, intentos de insertar registros duplicados).
      * Devuelve un mensaje de error con código 409 (CONFLICT).
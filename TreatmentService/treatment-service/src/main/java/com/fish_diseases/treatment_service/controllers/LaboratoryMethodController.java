@@ -10,12 +10,15 @@ import static com.fish_diseases.treatment_service.featurehelper.SwaggerConstants
 import static com.fish_diseases.treatment_service.featurehelper.SwaggerConstants.INTERNAL_SERVER_ERROR_DESCRIPTION;
 import static com.fish_diseases.treatment_service.featurehelper.SwaggerConstants.NOT_FOUND_CODE;
 import static com.fish_diseases.treatment_service.featurehelper.SwaggerConstants.NOT_FOUND_DESCRIPTION;
+import static com.fish_diseases.treatment_service.featurehelper.SwaggerConstants.NOT_MODIFIED_CODE;
+import static com.fish_diseases.treatment_service.featurehelper.SwaggerConstants.NOT_MODIFIED_DESCRIPTION;
 import static com.fish_diseases.treatment_service.featurehelper.SwaggerConstants.NO_CONTENT_CODE;
 import static com.fish_diseases.treatment_service.featurehelper.SwaggerConstants.NO_CONTENT_DESCRIPTION;
 import static com.fish_diseases.treatment_service.featurehelper.SwaggerConstants.OK_CODE;
 import static com.fish_diseases.treatment_service.featurehelper.SwaggerConstants.OK_DESCRIPTION;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -29,6 +32,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.fish_diseases.treatment_service.dtos.CreateLaboratoryMethodDTO;
 import com.fish_diseases.treatment_service.dtos.UpdateLaboratoryMethodDTO;
@@ -63,15 +67,20 @@ public class LaboratoryMethodController {
 	/**
 	 * Devuelve todos los métodos de laboratorio
 	 * 
+	 * @param request
 	 * @return ResponseEntity
 	 */
 	@ApiResponses({
 			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(array = @ArraySchema(schema = @Schema(implementation = LaboratoryMethod.class)), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = NOT_MODIFIED_CODE, description = NOT_MODIFIED_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = NO_CONTENT_CODE, description = NO_CONTENT_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = NOT_FOUND_CODE, description = NOT_FOUND_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = INTERNAL_SERVER_ERROR_CODE, description = INTERNAL_SERVER_ERROR_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))) })
 	@GetMapping
-	public ResponseEntity<?> list() {
+	public ResponseEntity<?> list(WebRequest request) {
+		if (responseUtil.notModified(request, "laboratory-methods", Optional.of(laboratoryMethodService.getCatalogVersion()))) {
+			return null;
+		}
 		List<LaboratoryMethod> laboratoryMethods = laboratoryMethodService.findAll();
 		if (laboratoryMethods.isEmpty()) {
 			return ResponseEntity.noContent().build();
@@ -83,15 +92,20 @@ public class LaboratoryMethodController {
 	 * Devuelve métodos de laboratorio por Id
 	 * 
 	 * @param id
+	 * @param request
 	 * @return ResponseEntity
 	 */
 	@ApiResponses({
 			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(array = @ArraySchema(schema = @Schema(implementation = LaboratoryMethod.class)), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = NOT_MODIFIED_CODE, description = NOT_MODIFIED_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = NO_CONTENT_CODE, description = NO_CONTENT_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = NOT_FOUND_CODE, description = NOT_FOUND_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = INTERNAL_SERVER_ERROR_CODE, description = INTERNAL_SERVER_ERROR_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))) })
 	@GetMapping("/{id}")
-	public ResponseEntity<?> getLaboratoryMethodById(@PathVariable int id) {
+	public ResponseEntity<?> getLaboratoryMethodById(@PathVariable int id, WebRequest request) {
+		if (responseUtil.notModified(request, "laboratoryMethod:" + id, laboratoryMethodService.getVersionById(id))) {
+			return null;
+		}
 		LaboratoryMethod laboratoryMethod = laboratoryMethodService.findById(id);
 		return ResponseEntity.ok(laboratoryMethod);
 	}
@@ -100,15 +114,20 @@ public class LaboratoryMethodController {
 	 * Devuelve métodos de laboratorio por nombre
 	 * 
 	 * @param laboratoryMethodName
+	 * @param request
 	 * @return ResponseEntity
 	 */
 	@ApiResponses({
 			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(array = @ArraySchema(schema = @Schema(implementation = LaboratoryMethod.class)), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = NOT_MODIFIED_CODE, description = NOT_MODIFIED_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = NO_CONTENT_CODE, description = NO_CONTENT_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = NOT_FOUND_CODE, description = NOT_FOUND_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = INTERNAL_SERVER_ERROR_CODE, description = INTERNAL_SERVER_ERROR_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))) })
 	@GetMapping("/name/{laboratoryMethodName}")
-	public ResponseEntity<?> getLaboratoryMethodByName(@PathVariable String laboratoryMethodName) {
+	public ResponseEntity<?> getLaboratoryMethodByName(@PathVariable String laboratoryMethodName, WebRequest request) {
+		if (responseUtil.notModified(request, "laboratoryMethod:" + laboratoryMethodName, laboratoryMethodService.getVersionByName(laboratoryMethodName))) {
+			return null;
+		}
 		LaboratoryMethod laboratoryMethod = laboratoryMethodService.findByName(laboratoryMethodName);
 		return ResponseEntity.ok(laboratoryMethod);
 	}
@@ -10,12 +10,15 @@ import static com.fish_diseases.treatment_service.featurehelper.SwaggerConstants
 import static com.fish_diseases.treatment_service.featurehelper.SwaggerConstants.INTERNAL_SERVER_ERROR_DESCRIPTION;
 import static com.fish_diseases.treatment_service.featurehelper.SwaggerConstants.NOT_FOUND_CODE;
 import static com.fish_diseases.treatment_service.featurehelper.SwaggerConstants.NOT_FOUND_DESCRIPTION;
+import static com.fish_diseases.treatment_service.featurehelper.SwaggerConstants.NOT_MODIFIED_CODE;
+import static com.fish_diseases.treatment_service.featurehelper.SwaggerConstants.NOT_MODIFIED_DESCRIPTION;
 import static com.fish_diseases.treatment_service.featurehelper.SwaggerConstants.NO_CONTENT_CODE;
 import static com.fish_diseases.treatment_service.featurehelper.SwaggerConstants.NO_CONTENT_DESCRIPTION;
 import static com.fish_diseases.treatment_service.featurehelper.SwaggerConstants.OK_CODE;
 import static com.fish_diseases.treatment_service.featurehelper.SwaggerConstants.OK_DESCRIPTION;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -29,6 +32,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.fish_diseases.treatment_service.dtos.CreateTreatmentDTO;
 import com.fish_diseases.treatment_service.dtos.UpdateTreatmentDTO;
@@ -63,15 +67,20 @@ public class TreatmentController {
 	/**
 	 * Devuelve todos los tratamientos
 	 * 
+	 * @param request
 	 * @return ResponseEntity
 	 */
 	@ApiResponses({
 			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(array = @ArraySchema(schema = @Schema(implementation = Treatment.class)), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = NOT_MODIFIED_CODE, description = NOT_MODIFIED_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = NO_CONTENT_CODE, description = NO_CONTENT_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = NOT_FOUND_CODE, description = NOT_FOUND_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = INTERNAL_SERVER_ERROR_CODE, description = INTERNAL_SERVER_ERROR_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))) })
 	@GetMapping
-	public ResponseEntity<?> list() {
+	public ResponseEntity<?> list(WebRequest request) {
+		if (responseUtil.notModified(request, "treatments", Optional.of(treatmentService.getCatalogVersion()))) {
+			return null;
+		}
 		List<Treatment> treatments = treatmentService.findAll();
 		if (treatments.isEmpty()) {
 			return ResponseEntity.noContent().build();
@@ -83,15 +92,20 @@ public class TreatmentController {
 	 * Devuelve tratamiento por Id
 	 * 
 	 * @param id
+	 * @param request
 	 * @return ResponseEntity
 	 */
 	@ApiResponses({
 			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(array = @ArraySchema(schema = @Schema(implementation = Treatment.class)), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = NOT_MODIFIED_CODE, description = NOT_MODIFIED_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = NO_CONTENT_CODE, description = NO_CONTENT_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = NOT_FOUND_CODE, description = NOT_FOUND_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = INTERNAL_SERVER_ERROR_CODE, description = INTERNAL_SERVER_ERROR_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))) })
 	@GetMapping("/{id}")
-	public ResponseEntity<?> getTreatmentById(@PathVariable int id) {
+	public ResponseEntity<?> getTreatmentById(@PathVariable int id, WebRequest request) {
+		if (responseUtil.notModified(request, "treatment:" + id, treatmentService.getVersionById(id))) {
+			return null;
+		}
 		Treatment treatment = treatmentService.findById(id);
 		return ResponseEntity.ok(treatment);
 	}
@@ -100,15 +114,20 @@ public class TreatmentController {
 	 * Devuelve tratamiento por nombre
 	 * 
 	 * @param treatmentName
+	 * @param request
 	 * @return ResponseEntity
 	 */
 	@ApiResponses({
 			@ApiResponse(responseCode = OK_CODE, description = OK_DESCRIPTION, content = @Content(array = @ArraySchema(schema = @Schema(implementation = Treatment.class)), mediaType = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)),
+			@ApiResponse(responseCode = NOT_MODIFIED_CODE, description = NOT_MODIFIED_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = NO_CONTENT_CODE, description = NO_CONTENT_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = NOT_FOUND_CODE, description = NOT_FOUND_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = INTERNAL_SERVER_ERROR_CODE, description = INTERNAL_SERVER_ERROR_DESCRIPTION, content = @Content(schema = @Schema(hidden = true))) })
 	@GetMapping("/name/{treatmentName}")
-	public ResponseEntity<?> getTreatmentByName(@PathVariable String treatmentName) {
+	public ResponseEntity<?> getTreatmentByName(@PathVariable String treatmentName, WebRequest request) {
+		if (responseUtil.notModified(request, "treatment:" + treatmentName, treatmentService.getVersionByName(treatmentName))) {
+			return null;
+		}
 		Treatment treatment = treatmentService.findByName(treatmentName);
 		return ResponseEntity.ok(treatment);
 	}
@@ -0,0 +1,19 @@
+package com.fish_diseases.treatment_service.dtos;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Cambio de un tratamiento o método de laboratorio en el feed de sincronización.
+ *
+ * @param entity    {@code treatment} o {@code laboratoryMethod}.
+ * @param id        ID del registro.
+ * @param name      Nombre del registro.
+ * @param operation {@code CREATED}, {@code UPDATED} o {@code DELETED}.
+ * @param changedAt Fecha de la transacción que hizo el cambio.
+ * @param data      Estado actual del registro; null en las bajas o si el registro ya no existe, en cuyo caso su
+ *                  baja llega más adelante en el feed.
+ */
+public record ChangeDTO(String entity, Long id, String name, String operation, LocalDateTime changedAt,
+		Map<String, Object> data) {
+}
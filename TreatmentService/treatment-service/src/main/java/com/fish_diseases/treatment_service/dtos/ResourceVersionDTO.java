@@ -0,0 +1,17 @@
+package com.fish_diseases.treatment_service.dtos;
+
+import java.time.LocalDateTime;
+
+/**
+ * Versión de un recurso para las peticiones condicionales (a partir de la cual se calcula su {@code ETag}). Se obtiene
+ * con una consulta de agregación, sin cargar las entidades.
+ *
+ * <p>Para un listado describe la tabla completa, de modo que cualquier alta, baja o modificación cambia la
+ * versión; para un único registro, solo ese registro.</p>
+ *
+ * @param lastModified Fecha de la última modificación (o de creación, si no se ha modificado).
+ * @param count        Número de filas.
+ * @param idSum        Suma de los IDs de esas filas, o null si no hay ninguna.
+ */
+public record ResourceVersionDTO(LocalDateTime lastModified, Long count, Long idSum) {
+}
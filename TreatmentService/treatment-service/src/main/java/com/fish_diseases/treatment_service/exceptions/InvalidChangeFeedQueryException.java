@@ -0,0 +1,19 @@
+package com.fish_diseases.treatment_service.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Excepción lanzada cuando los parámetros de una consulta del feed de cambios no son válidos.
+ *
+ * Se lanza típicamente cuando el cursor no es uno devuelto por el feed o el número de cambios
+ * pedido está fuera de rango. Esta excepción retorna un código de estado HTTP 400 (BAD REQUEST).
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidChangeFeedQueryException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public InvalidChangeFeedQueryException() {
+	}
+}
@@ -26,6 +26,10 @@ public class SwaggerConstants {
 	
 	public static final String BAD_REQUEST_DESCRIPTION = "Error de validación";
 
+	public static final String NOT_MODIFIED_CODE = "304";
+	
+	public static final String NOT_MODIFIED_DESCRIPTION = "Sin cambios desde la versión del cliente";
+	
 	public static final String NOT_FOUND_CODE = "404";
 	
 	public static final String NOT_FOUND_DESCRIPTION = "No encontrado";
@@ -0,0 +1,140 @@
+package com.fish_diseases.treatment_service.init;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Crea el registro de cambios {@code change_log} del que se sirve el feed de sincronización, con una fila por
+ * cada alta, modificación o baja de un tratamiento o método de laboratorio.
+ *
+ * <p>Las filas las escriben triggers de PostgreSQL por sentencia, con tablas de transición. Cada fila guarda el
+ * identificador de la transacción ({@code pg_current_xact_id()}) y un número de secuencia; las bajas quedan como
+ * lápidas con el ID y el nombre del registro eliminado.</p>
+ *
+ * <p>La tabla se conserva entre reinicios, pero Hibernate recrea {@code treatments} y {@code lab_methods}
+ * ({@code ddl-auto=create}) sin ejecutar los triggers. Por eso, tras volver a crearlos, se concilia el registro
+ * con las tablas: se añade una baja por cada registro vivo en el registro que ya no existe y un alta por cada
+ * fila que el registro no conoce.</p>
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class ChangeLogInitializer {
+
+	private static final Logger log = LoggerFactory.getLogger(ChangeLogInitializer.class);
+
+	public static final String TREATMENT = "treatment";
+	public static final String LABORATORY_METHOD = "laboratoryMethod";
+
+	public static final String CREATED = "CREATED";
+	public static final String UPDATED = "UPDATED";
+	public static final String DELETED = "DELETED";
+
+	private static final String CREATE_TABLE = """
+			CREATE TABLE IF NOT EXISTS change_log (
+			    tx_id XID8 NOT NULL DEFAULT pg_current_xact_id(),
+			    change_id BIGINT GENERATED ALWAYS AS IDENTITY,
+			    entity VARCHAR(16) NOT NULL,
+			    entity_id BIGINT NOT NULL,
+			    name VARCHAR(255),
+			    operation VARCHAR(8) NOT NULL,
+			    changed_at TIMESTAMP(6) NOT NULL DEFAULT localtimestamp,
+			    PRIMARY KEY (tx_id, change_id)
+			)
+			""";
+
+	/**
+	 * Registra las filas de la tabla de transición {@code changed_rows}. Los argumentos son la entidad y la
+	 * operación; en las modificaciones se descartan las filas que no cambian.
+	 */
+	private static final String CREATE_ROWS_FUNCTION = """
+			CREATE OR REPLACE FUNCTION change_log_rows() RETURNS TRIGGER AS $$
+			BEGIN
+			    IF TG_OP = 'UPDATE' THEN
+			        INSERT INTO change_log (entity, entity_id, name, operation)
+			        SELECT TG_ARGV[0], n.id, n.name, TG_ARGV[1] FROM changed_rows n
+			        JOIN previous_rows o ON o.id = n.id WHERE o IS DISTINCT FROM n ORDER BY n.id;
+			    ELSE
+			        INSERT INTO change_log (entity, entity_id, name, operation)
+			        SELECT TG_ARGV[0], id, name, TG_ARGV[1] FROM changed_rows ORDER BY id;
+			    END IF;
+			    RETURN NULL;
+			END;
+			$$ LANGUAGE plpgsql
+			""";
+
+	/**
+	 * Última operación registrada de cada registro de una entidad.
+	 */
+	private static final String LATEST = "SELECT DISTINCT ON (entity_id) entity_id, name, operation "
+			+ "FROM change_log WHERE entity = ? ORDER BY entity_id, tx_id DESC, change_id DESC";
+
+	private static final String LOG_MISSING_AS_DELETED = "INSERT INTO change_log (entity, entity_id, name, operation) "
+			+ "SELECT ?, l.entity_id, l.name, '" + DELETED + "' FROM (" + LATEST + ") l "
+			+ "WHERE l.operation <> '" + DELETED + "' AND NOT EXISTS (SELECT 1 FROM %s t "
+			+ "WHERE t.id = l.entity_id AND t.name IS NOT DISTINCT FROM l.name) ORDER BY l.entity_id";
+
+	private static final String LOG_UNKNOWN_AS_CREATED = "INSERT INTO change_log (entity, entity_id, name, operation) "
+			+ "SELECT ?, t.id, t.name, '" + CREATED + "' FROM %s t WHERE NOT EXISTS (SELECT 1 FROM (" + LATEST
+			+ ") l WHERE l.entity_id = t.id AND l.name IS NOT DISTINCT FROM t.name AND l.operation <> '" + DELETED
+			+ "') ORDER BY t.id";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	/**
+	 * Constructor de la clase {@link ChangeLogInitializer}.
+	 *
+	 * @param jdbcTemplate        Plantilla JDBC para ejecutar las sentencias.
+	 * @param transactionTemplate Plantilla para conciliar el registro en una única transacción.
+	 */
+	public ChangeLogInitializer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+	}
+
+	/**
+	 * Crea la tabla, la función y los triggers, y concilia el registro con las tablas.
+	 */
+	@PostConstruct
+	void createChangeLog() {
+		jdbcTemplate.execute(CREATE_TABLE);
+		jdbcTemplate.execute(CREATE_ROWS_FUNCTION);
+		createTriggers("treatments", TREATMENT);
+		createTriggers("lab_methods", LABORATORY_METHOD);
+		transactionTemplate.executeWithoutResult(status -> {
+			reconcile("treatments", TREATMENT);
+			reconcile("lab_methods", LABORATORY_METHOD);
+		});
+		log.info("Registro de cambios preparado");
+	}
+
+	private void createTriggers(String table, String entity) {
+		createTrigger(table, "insert", "AFTER INSERT", "NEW TABLE AS changed_rows", entity, CREATED);
+		createTrigger(table, "update", "AFTER UPDATE", "OLD TABLE AS previous_rows NEW TABLE AS changed_rows",
+				entity, UPDATED);
+		createTrigger(table, "delete", "AFTER DELETE", "OLD TABLE AS changed_rows", entity, DELETED);
+	}
+
+	private void createTrigger(String table, String suffix, String event, String transitionTables, String entity,
+			String operation) {
+		String trigger = "trg_" + table + "_change_log_" + suffix;
+		jdbcTemplate.execute("DROP TRIGGER IF EXISTS " + trigger + " ON " + table);
+		jdbcTemplate.execute("CREATE TRIGGER " + trigger + " " + event + " ON " + table + " REFERENCING "
+				+ transitionTables + " FOR EACH STATEMENT EXECUTE FUNCTION change_log_rows('" + entity + "', '"
+				+ operation + "')");
+	}
+
+	private void reconcile(String table, String entity) {
+		int deleted = jdbcTemplate.update(LOG_MISSING_AS_DELETED.formatted(table), entity, entity);
+		int created = jdbcTemplate.update(LOG_UNKNOWN_AS_CREATED.formatted(table), entity, entity);
+		if (deleted + created > 0) {
+			log.info("Registro de cambios de {} conciliado: {} bajas y {} altas", table, deleted, created);
+		}
+	}
+}
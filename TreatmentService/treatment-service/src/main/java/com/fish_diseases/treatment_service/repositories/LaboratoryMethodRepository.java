@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.fish_diseases.treatment_service.dtos.ResourceVersionDTO;
 import com.fish_diseases.treatment_service.entities.LaboratoryMethod;
 
 import jakarta.transaction.Transactional;
@@ -38,5 +39,35 @@ public interface LaboratoryMethodRepository extends JpaRepository<LaboratoryMeth
 	@Modifying
 	@Query("UPDATE LaboratoryMethod l SET l.updatedAt = :updatedAt WHERE l.id = :id")
 	void updateUpdatedAt(@Param("id") int id, @Param("updatedAt") LocalDateTime updatedAt);
-	
+
+    /**
+     * Versión del listado de métodos de laboratorio: fecha de la última modificación, número de filas y suma de sus IDs.
+     * Solo lee la tabla, sin cargar entidades.
+     *
+     * @return Versión del listado.
+     */
+	@Query("SELECT new com.fish_diseases.treatment_service.dtos.ResourceVersionDTO(max(coalesce(m.updatedAt, m.createdAt)), count(m), sum(m.id)) "
+			+ "FROM LaboratoryMethod m")
+	ResourceVersionDTO findCatalogVersion();
+
+    /**
+     * Versión de un método de laboratorio por su ID.
+     *
+     * @param id ID del método de laboratorio.
+     * @return {@link Optional} conteniendo la versión si el método de laboratorio existe.
+     */
+	@Query("SELECT new com.fish_diseases.treatment_service.dtos.ResourceVersionDTO(coalesce(m.updatedAt, m.createdAt), count(m), sum(m.id)) "
+			+ "FROM LaboratoryMethod m WHERE m.id = :id GROUP BY m.id, m.updatedAt, m.createdAt")
+	Optional<ResourceVersionDTO> findVersionById(@Param("id") int id);
+
+    /**
+     * Versión de un método de laboratorio por su nombre.
+     *
+     * @param laboratoryMethodName Nombre del método de laboratorio.
+     * @return {@link Optional} conteniendo la versión si el método de laboratorio existe.
+     */
+	@Query("SELECT new com.fish_diseases.treatment_service.dtos.ResourceVersionDTO(coalesce(m.updatedAt, m.createdAt), count(m), sum(m.id)) "
+			+ "FROM LaboratoryMethod m WHERE m.name = :name GROUP BY m.id, m.updatedAt, m.createdAt")
+	Optional<ResourceVersionDTO> findVersionByName(@Param("name") String laboratoryMethodName);
+
 }
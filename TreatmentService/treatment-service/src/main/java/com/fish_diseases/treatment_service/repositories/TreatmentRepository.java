@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.fish_diseases.treatment_service.dtos.ResourceVersionDTO;
 import com.fish_diseases.treatment_service.entities.Treatment;
 
 import jakarta.transaction.Transactional;
@@ -38,5 +39,35 @@ public interface TreatmentRepository extends JpaRepository<Treatment, Integer> {
 	@Modifying
 	@Query("UPDATE Treatment t SET t.updatedAt = :updatedAt WHERE t.id = :id")
 	void updateUpdatedAt(@Param("id") int id, @Param("updatedAt") LocalDateTime updatedAt);
-	
+
+    /**
+     * Versión del listado de tratamientos: fecha de la última modificación, número de filas y suma de sus IDs.
+     * Solo lee la tabla, sin cargar entidades.
+     *
+     * @return Versión del listado.
+     */
+	@Query("SELECT new com.fish_diseases.treatment_service.dtos.ResourceVersionDTO(max(coalesce(t.updatedAt, t.createdAt)), count(t), sum(t.id)) "
+			+ "FROM Treatment t")
+	ResourceVersionDTO findCatalogVersion();
+
+    /**
+     * Versión de un tratamiento por su ID.
+     *
+     * @param id ID del tratamiento.
+     * @return {@link Optional} conteniendo la versión si el tratamiento existe.
+     */
+	@Query("SELECT new com.fish_diseases.treatment_service.dtos.ResourceVersionDTO(coalesce(t.updatedAt, t.createdAt), count(t), sum(t.id)) "
+			+ "FROM Treatment t WHERE t.id = :id GROUP BY t.id, t.updatedAt, t.createdAt")
+	Optional<ResourceVersionDTO> findVersionById(@Param("id") int id);
+
+    /**
+     * Versión de un tratamiento por su nombre.
+     *
+     * @param treatmentName Nombre del tratamiento.
+     * @return {@link Optional} conteniendo la versión si el tratamiento existe.
+     */
+	@Query("SELECT new com.fish_diseases.treatment_service.dtos.ResourceVersionDTO(coalesce(t.updatedAt, t.createdAt), count(t), sum(t.id)) "
+			+ "FROM Treatment t WHERE t.name = :name GROUP BY t.id, t.updatedAt, t.createdAt")
+	Optional<ResourceVersionDTO> findVersionByName(@Param("name") String treatmentName);
+
 }
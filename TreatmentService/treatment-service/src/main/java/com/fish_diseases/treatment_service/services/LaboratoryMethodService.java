@@ -15,6 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fish_diseases.treatment_service.dtos.CreateLaboratoryMethodDTO;
+import com.fish_diseases.treatment_service.dtos.ResourceVersionDTO;
 import com.fish_diseases.treatment_service.dtos.UpdateLaboratoryMethodDTO;
 import com.fish_diseases.treatment_service.entities.LaboratoryMethod;
 import com.fish_diseases.treatment_service.entities.Treatment;
@@ -129,6 +130,74 @@ public class LaboratoryMethodService {
 		return laboratoryMethod;
 	}
 
+	/**
+	 * Obtiene la versión del listado de métodos de laboratorio, para responder a las peticiones condicionales
+	 * sin cargarlo.
+	 *
+	 * @return versión del listado
+	 */
+	@Transactional(readOnly = true)
+	public ResourceVersionDTO getCatalogVersion() {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start getCatalogVersion LaboratoryMethod ########");
+		}
+
+		ResourceVersionDTO version = laboratoryMethodRepository.findCatalogVersion();
+
+		if (isTraceEnabled) {
+			log.trace("######## End getCatalogVersion LaboratoryMethod ########");
+		}
+
+		return version;
+	}
+
+	/**
+	 * Obtiene la versión de un método de laboratorio por su ID, para responder a las peticiones condicionales
+	 * sin cargarlo.
+	 *
+	 * @param id identificador del método de laboratorio
+	 * @return versión del método de laboratorio, vacía si no existe
+	 */
+	@Transactional(readOnly = true)
+	public Optional<ResourceVersionDTO> getVersionById(int id) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start getVersionById LaboratoryMethod ########");
+		}
+
+		Optional<ResourceVersionDTO> version = laboratoryMethodRepository.findVersionById(id);
+
+		if (isTraceEnabled) {
+			log.trace("######## End getVersionById LaboratoryMethod ########");
+		}
+
+		return version;
+	}
+
+	/**
+	 * Obtiene la versión de un método de laboratorio por su nombre, para responder a las peticiones
+	 * condicionales sin cargarlo.
+	 *
+	 * @param laboratoryMethodName nombre del método de laboratorio
+	 * @return versión del método de laboratorio, vacía si no existe
+	 */
+	@Transactional(readOnly = true)
+	public Optional<ResourceVersionDTO> getVersionByName(String laboratoryMethodName) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start getVersionByName LaboratoryMethod ########");
+		}
+
+		Optional<ResourceVersionDTO> version = laboratoryMethodRepository.findVersionByName(laboratoryMethodName);
+
+		if (isTraceEnabled) {
+			log.trace("######## End getVersionByName LaboratoryMethod ########");
+		}
+
+		return version;
+	}
+
 	/////////////////////////////
 	//// MÉTODOS DE CREACIÓN ////
 	/////////////////////////////
@@ -15,6 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fish_diseases.treatment_service.dtos.CreateTreatmentDTO;
+import com.fish_diseases.treatment_service.dtos.ResourceVersionDTO;
 import com.fish_diseases.treatment_service.dtos.UpdateTreatmentDTO;
 import com.fish_diseases.treatment_service.entities.Treatment;
 import com.fish_diseases.treatment_service.exceptions.TreatmentNotFoundException;
@@ -127,6 +128,74 @@ public class TreatmentService {
 		return treatment;
 	}
 
+	/**
+	 * Obtiene la versión del listado de tratamientos, para responder a las peticiones condicionales
+	 * sin cargarlo.
+	 *
+	 * @return versión del listado
+	 */
+	@Transactional(readOnly = true)
+	public ResourceVersionDTO getCatalogVersion() {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start getCatalogVersion Treatment ########");
+		}
+
+		ResourceVersionDTO version = treatmentRepository.findCatalogVersion();
+
+		if (isTraceEnabled) {
+			log.trace("######## End getCatalogVersion Treatment ########");
+		}
+
+		return version;
+	}
+
+	/**
+	 * Obtiene la versión de un tratamiento por su ID, para responder a las peticiones condicionales
+	 * sin cargarlo.
+	 *
+	 * @param id identificador del tratamiento
+	 * @return versión del tratamiento, vacía si no existe
+	 */
+	@Transactional(readOnly = true)
+	public Optional<ResourceVersionDTO> getVersionById(int id) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start getVersionById Treatment ########");
+		}
+
+		Optional<ResourceVersionDTO> version = treatmentRepository.findVersionById(id);
+
+		if (isTraceEnabled) {
+			log.trace("######## End getVersionById Treatment ########");
+		}
+
+		return version;
+	}
+
+	/**
+	 * Obtiene la versión de un tratamiento por su nombre, para responder a las peticiones
+	 * condicionales sin cargarlo.
+	 *
+	 * @param treatmentName nombre del tratamiento
+	 * @return versión del tratamiento, vacía si no existe
+	 */
+	@Transactional(readOnly = true)
+	public Optional<ResourceVersionDTO> getVersionByName(String treatmentName) {
+
+		if (isTraceEnabled) {
+			log.trace("######## Start getVersionByName Treatment ########");
+		}
+
+		Optional<ResourceVersionDTO> version = treatmentRepository.findVersionByName(treatmentName);
+
+		if (isTraceEnabled) {
+			log.trace("######## End getVersionByName Treatment ########");
+		}
+
+		return version;
+	}
+
 	/////////////////////////////
 	//// MÉTODOS DE CREACIÓN ////
 	/////////////////////////////
@@ -0,0 +1,72 @@
+package com.fish_diseases.treatment_service.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.fish_diseases.treatment_service.exceptions.InvalidChangeFeedQueryException;
+
+/**
+ * Cursor opaco del feed de cambios: posición del último cambio entregado en {@code change_log}.
+ *
+ * <p>Los cambios se ordenan por la transacción que los hizo y, dentro de ella, por su número de secuencia. El
+ * feed solo entrega transacciones anteriores a la más antigua que sigue en curso, de modo que una transacción
+ * que confirma más tarde nunca queda por detrás de un cursor ya entregado y el consumidor puede reanudar desde
+ * él sin perder cambios.</p>
+ *
+ * <p>Se transmite como Base64 URL-safe de {@code transacción:secuencia}.</p>
+ *
+ * @param txId     Identificador de la transacción ({@code xid8}) del último cambio.
+ * @param changeId Número de secuencia del último cambio.
+ */
+public record ChangeCursor(long txId, long changeId) {
+
+	/**
+	 * Cursor anterior a cualquier cambio, para empezar desde el principio.
+	 */
+	public static final ChangeCursor START = new ChangeCursor(0, 0);
+
+	/**
+	 * Decodifica un cursor recibido en la petición.
+	 *
+	 * @param token Cursor codificado, o {@code null} para empezar desde el principio.
+	 * @return Cursor decodificado.
+	 * @throws InvalidChangeFeedQueryException si el cursor no es válido.
+	 */
+	public static ChangeCursor decode(String token) {
+		if (token == null || token.isEmpty()) {
+			return START;
+		}
+		try {
+			String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":", 2);
+			if (parts.length != 2) {
+				throw new InvalidChangeFeedQueryException();
+			}
+			ChangeCursor cursor = new ChangeCursor(Long.parseUnsignedLong(parts[0]), Long.parseLong(parts[1]));
+			if (cursor.changeId() < 0) {
+				throw new InvalidChangeFeedQueryException();
+			}
+			return cursor;
+		} catch (IllegalArgumentException e) {
+			throw new InvalidChangeFeedQueryException();
+		}
+	}
+
+	/**
+	 * Codifica el cursor para devolverlo al cliente.
+	 *
+	 * @return Cursor codificado.
+	 */
+	public String encode() {
+		String raw = Long.toUnsignedString(txId) + ":" + changeId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Identificador de la transacción como texto, para compararlo con {@code CAST(? AS xid8)}.
+	 *
+	 * @return Transacción en decimal sin signo.
+	 */
+	public String txIdText() {
+		return Long.toUnsignedString(txId);
+	}
+}
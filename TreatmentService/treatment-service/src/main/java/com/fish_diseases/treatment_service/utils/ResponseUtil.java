@@ -1,15 +1,21 @@
 package com.fish_diseases.treatment_service.utils;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import com.fish_diseases.treatment_service.dtos.ResourceVersionDTO;
 
 /**
  * Utilidad para construir respuestas HTTP personalizadas con mensajes internacionales.
@@ -39,6 +45,26 @@ public class ResponseUtil {
         return ResponseEntity.status(status).body(response);
     }
 
+    /**
+     * Resuelve una petición condicional a partir de la versión del recurso, antes de cargarlo. Calcula un
+     * {@code ETag} fuerte con el recurso y su versión, lo compara con {@code If-None-Match} y lo añade a la
+     * respuesta. No se atiende {@code If-Modified-Since}, ya que una baja no cambia la fecha de modificación
+     * del listado y se respondería 304 con datos obsoletos.
+     * 
+     * @param request  Petición en curso.
+     * @param resource Identificador del recurso.
+     * @param version  Versión del recurso, vacía si no existe.
+     * @return true si la respuesta ya es 304 (NOT_MODIFIED) y no hay que generar el cuerpo.
+     */
+    public boolean notModified(WebRequest request, String resource, Optional<ResourceVersionDTO> version) {
+        if (version.isEmpty()) {
+            return false;
+        }
+        ResourceVersionDTO current = version.get();
+        String etag = "\"" + DigestUtils.md5DigestAsHex((resource + ':' + current).getBytes(StandardCharsets.UTF_8)) + "\"";
+        return request.checkNotModified(etag);
+    }
+
     /**
      * Construye una respuesta de error general con un mensaje personalizado.
      * 